@@ -0,0 +1,103 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.benchmark.support.BenchmarkSupport;
+import ro.isdc.wro.benchmark.support.Corpus;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.SupportedResourceType;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
+
+
+/**
+ * Measures the time spent by a single processor (identified by its alias) to process a corpus matching its supported
+ * resource type.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractProcessorBenchmark {
+  private ProcessorDecorator processor;
+  private Resource resource;
+  private String content;
+
+  @Setup
+  public void setUp() {
+    BenchmarkSupport.setWebContext(new WroConfiguration(), BenchmarkSupport.AGGREGATED_FOLDER_PATH + "all.css");
+    final String alias = getAlias();
+    final ResourcePreProcessor found = getProcessor(alias);
+    if (found == null) {
+      throw new WroRuntimeException("No processor found for alias: " + alias);
+    }
+    processor = new ProcessorDecorator(found);
+    BenchmarkSupport.createInjector().inject(processor);
+    final Corpus corpus = getCorpus(alias, processor.getSupportedResourceType());
+    resource = corpus.toResource();
+    content = corpus.getContent();
+  }
+
+  @TearDown
+  public void tearDown() {
+    Context.unset();
+  }
+
+  /**
+   * @return the processed content, returned in order to avoid dead code elimination.
+   */
+  protected final String process()
+      throws IOException {
+    final StringWriter writer = new StringWriter(content.length());
+    processor.process(resource, new StringReader(content), writer);
+    return writer.toString();
+  }
+
+  /**
+   * @return the alias of the benchmarked processor.
+   */
+  protected abstract String getAlias();
+
+  /**
+   * @return the processor associated with the provided alias.
+   */
+  protected abstract ResourcePreProcessor getProcessor(final String alias);
+
+  /**
+   * @param alias
+   *          the alias of the benchmarked processor.
+   * @param supportedType
+   *          the type supported by the processor, can be null if the processor supports any type.
+   * @return the {@link Corpus} to process. By default bootstrap is used for css processors and jQuery for all others.
+   */
+  protected Corpus getCorpus(final String alias, final SupportedResourceType supportedType) {
+    return supportedType != null && supportedType.value() == ResourceType.CSS ? Corpus.BOOTSTRAP_CSS
+        : Corpus.JQUERY_JS;
+  }
+}
@@ -0,0 +1,137 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ro.isdc.wro.benchmark.support.BenchmarkSupport;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.DefaultSynchronizedCacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+
+/**
+ * Measures the {@link DefaultSynchronizedCacheStrategyDecorator} used by the manager when accessed concurrently.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheStrategyBenchmark {
+  private static final int GROUPS_COUNT = 16;
+  private final WroConfiguration config = new WroConfiguration();
+  private WroManagerFactory managerFactory;
+  private CacheStrategy<CacheKey, CacheValue> cacheStrategy;
+  private CacheKey[] keys;
+
+  /**
+   * Holds the {@link Context} of each benchmark thread.
+   */
+  @State(Scope.Thread)
+  public static class ThreadState {
+    private int index;
+
+    @Setup
+    public void setUp() {
+      Context.set(Context.standaloneContext(), new WroConfiguration());
+    }
+
+    @TearDown
+    public void tearDown() {
+      Context.unset();
+    }
+
+    int nextIndex() {
+      return index++ % GROUPS_COUNT;
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    managerFactory = BenchmarkSupport.createManagerFactory(BenchmarkSupport.createModel(GROUPS_COUNT));
+    keys = new CacheKey[GROUPS_COUNT];
+    for (int i = 0; i < GROUPS_COUNT; i++) {
+      keys[i] = new CacheKey("group" + i, i % 2 == 0 ? ResourceType.CSS : ResourceType.JS, true);
+    }
+    cacheStrategy = BenchmarkSupport.withStandaloneContext(config, new Callable<CacheStrategy<CacheKey, CacheValue>>() {
+      public CacheStrategy<CacheKey, CacheValue> call() {
+        final CacheStrategy<CacheKey, CacheValue> cacheStrategy = managerFactory.create().getCacheStrategy();
+        // warm up the cache
+        for (final CacheKey key : keys) {
+          cacheStrategy.get(key);
+        }
+        return cacheStrategy;
+      }
+    });
+  }
+
+  @TearDown
+  public void tearDown() {
+    managerFactory.destroy();
+  }
+
+  /**
+   * All threads are reading the same cached entry.
+   */
+  @Benchmark
+  @Threads(8)
+  public CacheValue getSameKey(final ThreadState state) {
+    return cacheStrategy.get(keys[0]);
+  }
+
+  /**
+   * Threads are reading different cached entries.
+   */
+  @Benchmark
+  @Threads(8)
+  public CacheValue getDistinctKeys(final ThreadState state) {
+    return cacheStrategy.get(keys[state.nextIndex()]);
+  }
+
+  /**
+   * Readers competing with a thread reloading the cache (similar to what happens when cacheUpdatePeriod is configured).
+   */
+  @Benchmark
+  @Group("reload")
+  @GroupThreads(7)
+  public CacheValue readDuringReload(final ThreadState state) {
+    return cacheStrategy.get(keys[state.nextIndex()]);
+  }
+
+  @Benchmark
+  @Group("reload")
+  @GroupThreads(1)
+  public void reload(final ThreadState state) {
+    cacheStrategy.clear();
+    // leave some time for the readers to rebuild the entries
+    Blackhole.consumeCPU(100000);
+  }
+}
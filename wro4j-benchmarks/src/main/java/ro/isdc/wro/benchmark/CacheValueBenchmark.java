@@ -0,0 +1,78 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ro.isdc.wro.benchmark.support.BenchmarkSupport;
+import ro.isdc.wro.benchmark.support.Corpus;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+
+
+/**
+ * Measures the creation of {@link CacheValue} and the computation of its gzipped content.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueBenchmark {
+  @Param({
+    "BOOTSTRAP_CSS", "JQUERY_JS"
+  })
+  public Corpus corpus;
+  /**
+   * The value of {@link WroConfiguration#isCacheGzippedContent()}.
+   */
+  @Param({
+    "true", "false"
+  })
+  public boolean cacheGzippedContent;
+  private String content;
+  private CacheValue cacheValue;
+
+  @Setup
+  public void setUp() {
+    final WroConfiguration config = new WroConfiguration();
+    config.setCacheGzippedContent(cacheGzippedContent);
+    BenchmarkSupport.setStandaloneContext(config);
+    content = corpus.getContent();
+    cacheValue = CacheValue.valueOf(content, "hash");
+  }
+
+  @TearDown
+  public void tearDown() {
+    Context.unset();
+  }
+
+  @Benchmark
+  public CacheValue valueOf() {
+    return CacheValue.valueOf(content, "hash");
+  }
+
+  @Benchmark
+  public byte[] getGzippedContent() {
+    return cacheValue.getGzippedContent();
+  }
+}
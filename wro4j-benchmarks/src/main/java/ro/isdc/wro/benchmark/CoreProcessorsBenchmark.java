@@ -0,0 +1,79 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import ro.isdc.wro.benchmark.support.Corpus;
+import ro.isdc.wro.model.resource.SupportedResourceType;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.MultiLineCommentStripperProcessor;
+import ro.isdc.wro.model.resource.processor.impl.SingleLineCommentStripperProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.ConformColorsCssProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssCompressorProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssDataUriPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssImportPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssMinProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssUrlAuthorizationProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssUrlRewritingProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssVariablesProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.DuplicatesAwareCssDataUriPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.FallbackCssDataUriProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.FastCssCompressorProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.JawrCssMinifierProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.LessCssImportPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.VariablizeColorsCssProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.ConsoleStripperProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.SemicolonAppenderPreProcessor;
+import ro.isdc.wro.model.resource.processor.support.DefaultProcessorProvider;
+
+
+/**
+ * Benchmarks all processors contributed by the core module.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class CoreProcessorsBenchmark
+    extends AbstractProcessorBenchmark {
+  @Param({
+    CssUrlRewritingProcessor.ALIAS, CssImportPreProcessor.ALIAS, LessCssImportPreProcessor.ALIAS,
+    CssVariablesProcessor.ALIAS, CssCompressorProcessor.ALIAS, FastCssCompressorProcessor.ALIAS,
+    SemicolonAppenderPreProcessor.ALIAS, CssDataUriPreProcessor.ALIAS, FallbackCssDataUriProcessor.ALIAS,
+    DuplicatesAwareCssDataUriPreProcessor.ALIAS_DUPLICATE,
+    JawrCssMinifierProcessor.ALIAS, CssMinProcessor.ALIAS, JSMinProcessor.ALIAS, VariablizeColorsCssProcessor.ALIAS,
+    ConformColorsCssProcessor.ALIAS, SingleLineCommentStripperProcessor.ALIAS, MultiLineCommentStripperProcessor.ALIAS,
+    ConsoleStripperProcessor.ALIAS, CssUrlAuthorizationProcessor.ALIAS
+  })
+  public String alias;
+
+  @Benchmark
+  public String processCorpus()
+      throws IOException {
+    return process();
+  }
+
+  @Override
+  protected String getAlias() {
+    return alias;
+  }
+
+  @Override
+  protected ResourcePreProcessor getProcessor(final String alias) {
+    return new DefaultProcessorProvider().providePreProcessors().get(alias);
+  }
+
+  @Override
+  protected Corpus getCorpus(final String alias, final SupportedResourceType supportedType) {
+    // url & import aware processors are more relevant on a stylesheet full of such declarations
+    if (CssUrlRewritingProcessor.ALIAS.equals(alias) || CssUrlAuthorizationProcessor.ALIAS.equals(alias)) {
+      return Corpus.URLS_AND_IMPORTS_CSS;
+    }
+    return super.getCorpus(alias, supportedType);
+  }
+}
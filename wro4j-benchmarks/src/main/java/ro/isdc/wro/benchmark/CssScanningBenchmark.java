@@ -0,0 +1,73 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ro.isdc.wro.benchmark.support.Corpus;
+import ro.isdc.wro.model.resource.processor.support.CssImportInspector;
+import ro.isdc.wro.model.resource.processor.support.CssUrlInspector;
+import ro.isdc.wro.model.resource.processor.support.CssUrlInspector.ItemHandler;
+
+
+/**
+ * Measures the detection of @import statements and url declarations in css content.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CssScanningBenchmark {
+  private static final ItemHandler IDENTITY_HANDLER = new ItemHandler() {
+    public String replace(final String originalDeclaration, final String originalUrl) {
+      // declarations can contain '$' or '\' characters which have special meaning in a replacement string
+      return Matcher.quoteReplacement(originalDeclaration);
+    }
+  };
+  @Param({
+    "URLS_AND_IMPORTS_CSS", "BOOTSTRAP_CSS"
+  })
+  public Corpus corpus;
+  private final CssUrlInspector urlInspector = new CssUrlInspector();
+  private String content;
+
+  @Setup
+  public void setUp() {
+    content = corpus.getContent();
+  }
+
+  @Benchmark
+  public List<String> findImports() {
+    return new CssImportInspector(content).findImports();
+  }
+
+  @Benchmark
+  public String removeImportStatements() {
+    return new CssImportInspector(content).removeImportStatements();
+  }
+
+  @Benchmark
+  public String findAndReplaceUrls() {
+    return urlInspector.findAndReplace(content, IDENTITY_HANDLER);
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import ro.isdc.wro.benchmark.support.Corpus;
+import ro.isdc.wro.extensions.processor.support.DefaultProcessorProvider;
+import ro.isdc.wro.model.resource.SupportedResourceType;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+
+
+/**
+ * Benchmarks all processors contributed by the extensions module. The processors depending on external tools (node
+ * based processors) are not included, since they cannot run in a self contained environment.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class ExtensionProcessorsBenchmark
+    extends AbstractProcessorBenchmark {
+  private static final Map<String, Corpus> CORPUS_BY_ALIAS = new HashMap<String, Corpus>();
+  static {
+    register(Corpus.LESS, "lessCss", "rhinoLessCss", "less4j");
+    register(Corpus.SASS, "sassCss", "rubySassCss", "bourbonCss");
+    register(Corpus.COFFEE_SCRIPT, "coffeeScript", "rhinoCoffeeScript", "literateCoffeeScript",
+        "rhinoLiterateCoffeeScript");
+    register(Corpus.TYPE_SCRIPT, "typeScript", "rhinoTypeScript");
+    register(Corpus.TEMPLATE, "dustJs", "hoganJs", "handlebarsJs", "emberJs");
+    register(Corpus.JSON, "cjson-pack", "cjson-unpack", "jsonh-pack", "jsonh-unpack");
+    register(Corpus.ANGULAR_JS, "ngMin", "ngAnnotate");
+  }
+
+  @Param({
+    "yuiCssMin", "cssLint", "lessCss", "rhinoLessCss", "less4j", "sassCss", "rubySassCss", "bourbonCss",
+    "dojoShrinksafe", "uglifyJs", "beautifyJs", "packerJs", "googleClosureSimple", "googleClosureAdvanced",
+    "googleClosureWhitespace", "coffeeScript", "rhinoCoffeeScript", "literateCoffeeScript",
+    "rhinoLiterateCoffeeScript", "cjson-pack", "cjson-unpack", "jsonh-pack", "jsonh-unpack", "jsHint", "jsLint",
+    "dustJs", "hoganJs", "handlebarsJs", "emberJs", "typeScript", "rhinoTypeScript", "ngMin", "ngAnnotate",
+    "requireJsExtract"
+  })
+  public String alias;
+
+  private static void register(final Corpus corpus, final String... aliases) {
+    for (final String alias : aliases) {
+      CORPUS_BY_ALIAS.put(alias, corpus);
+    }
+  }
+
+  @Benchmark
+  public String processCorpus()
+      throws IOException {
+    return process();
+  }
+
+  @Override
+  protected String getAlias() {
+    return alias;
+  }
+
+  @Override
+  protected ResourcePreProcessor getProcessor(final String alias) {
+    return new DefaultProcessorProvider().providePreProcessors().get(alias);
+  }
+
+  @Override
+  protected Corpus getCorpus(final String alias, final SupportedResourceType supportedType) {
+    final Corpus corpus = CORPUS_BY_ALIAS.get(alias);
+    return corpus != null ? corpus : super.getCorpus(alias, supportedType);
+  }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ro.isdc.wro.benchmark.support.Corpus;
+import ro.isdc.wro.model.resource.support.hash.CRC32HashStrategy;
+import ro.isdc.wro.model.resource.support.hash.DefaultHashStrategyProvider;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+import ro.isdc.wro.model.resource.support.hash.MD5HashStrategy;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
+
+
+/**
+ * Compares the {@link HashStrategy} implementations provided by wro4j.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashStrategyBenchmark {
+  @Param({
+    SHA1HashStrategy.ALIAS, MD5HashStrategy.ALIAS, CRC32HashStrategy.ALIAS
+  })
+  public String alias;
+  private HashStrategy hashStrategy;
+  private byte[] content;
+
+  @Setup
+  public void setUp()
+      throws Exception {
+    hashStrategy = new DefaultHashStrategyProvider().provideHashStrategies().get(alias);
+    content = Corpus.JQUERY_JS.getContent().getBytes("UTF-8");
+  }
+
+  @Benchmark
+  public String getHash()
+      throws IOException {
+    return hashStrategy.getHash(new ByteArrayInputStream(content));
+  }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ro.isdc.wro.benchmark.support.BenchmarkSupport;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.model.group.processor.Injector;
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.decorator.DefaultProcessorDecorator;
+import ro.isdc.wro.model.resource.processor.impl.css.CssUrlRewritingProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
+
+
+/**
+ * Measures the cost of injecting a freshly decorated processor, which is what happens each time a processor chain is
+ * decorated.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InjectorBenchmark {
+  private Injector injector;
+
+  @Setup
+  public void setUp() {
+    BenchmarkSupport.setStandaloneContext(new WroConfiguration());
+    injector = BenchmarkSupport.createInjector();
+  }
+
+  @TearDown
+  public void tearDown() {
+    Context.unset();
+  }
+
+  /**
+   * A processor without any injected field of its own: measures the decorators chain only.
+   */
+  @Benchmark
+  public ResourcePreProcessor injectDecoratedJsMin() {
+    return injector.inject(new DefaultProcessorDecorator(new JSMinProcessor(), true));
+  }
+
+  /**
+   * A processor having several injected fields.
+   */
+  @Benchmark
+  public ResourcePreProcessor injectDecoratedCssUrlRewriting() {
+    return injector.inject(new DefaultProcessorDecorator(new CssUrlRewritingProcessor(), true));
+  }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ro.isdc.wro.benchmark.support.BenchmarkSupport;
+import ro.isdc.wro.benchmark.support.ServletStubs;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.support.HttpHeader;
+import ro.isdc.wro.manager.ResourceBundleProcessor;
+import ro.isdc.wro.manager.WroManager;
+import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.model.resource.ResourceType;
+
+
+/**
+ * End-to-end measurement of serving a bundle through {@link WroManager#process()} (which delegates to
+ * {@link ResourceBundleProcessor}), once the bundle is cached.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceBundleProcessorBenchmark {
+  private static final String CONTEXT_PATH = "/app";
+  private static final String GROUP_NAME = "group0";
+  @Param({
+    "CSS", "JS"
+  })
+  public ResourceType type;
+  @Param({
+    "true", "false"
+  })
+  public boolean gzip;
+  private WroManagerFactory managerFactory;
+  private String etag;
+
+  private HttpServletRequest request;
+  private HttpServletRequest conditionalRequest;
+
+  @Setup
+  public void setUp() {
+    managerFactory = BenchmarkSupport.createManagerFactory(BenchmarkSupport.createModel(1));
+    etag = BenchmarkSupport.withStandaloneContext(newConfig(), new Callable<String>() {
+      public String call() {
+        return managerFactory.create().getCacheStrategy().get(new CacheKey(GROUP_NAME, type, true)).getHash();
+      }
+    });
+    final Map<String, String> headers = new HashMap<String, String>();
+    if (gzip) {
+      headers.put("Accept-Encoding", "gzip, deflate");
+    }
+    final String requestUri = CONTEXT_PATH + "/wro/" + GROUP_NAME + "." + type.name().toLowerCase();
+    request = ServletStubs.request(CONTEXT_PATH, requestUri, headers);
+    final Map<String, String> conditionalHeaders = new HashMap<String, String>(headers);
+    conditionalHeaders.put(HttpHeader.IF_NONE_MATCH.toString(), String.format("\"%s\"", etag));
+    conditionalRequest = ServletStubs.request(CONTEXT_PATH, requestUri, conditionalHeaders);
+  }
+
+  @TearDown
+  public void tearDown() {
+    managerFactory.destroy();
+  }
+
+  private WroConfiguration newConfig() {
+    final WroConfiguration config = new WroConfiguration();
+    config.setGzipEnabled(gzip);
+    return config;
+  }
+
+  private void process(final HttpServletRequest request)
+      throws IOException {
+    // the context is set for each request, the same way WroFilter does
+    Context.set(Context.webContext(request, ServletStubs.response(new NullOutputStream()), null), newConfig());
+    try {
+      managerFactory.create().process();
+    } finally {
+      Context.unset();
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void serveBundle()
+      throws IOException {
+    process(request);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void serveNotModified()
+      throws IOException {
+    process(conditionalRequest);
+  }
+}
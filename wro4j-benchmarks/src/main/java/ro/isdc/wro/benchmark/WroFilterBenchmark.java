@@ -0,0 +1,115 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ro.isdc.wro.benchmark.support.BenchmarkSupport;
+import ro.isdc.wro.benchmark.support.ServletStubs;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.WroFilter;
+import ro.isdc.wro.http.handler.MetricsRequestHandler;
+import ro.isdc.wro.util.ObjectFactory;
+
+
+/**
+ * Measures the throughput of {@link WroFilter} for the main kinds of requests it routes: requests ignored by the filter,
+ * requests served by a request handler and requests for a cached bundle.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WroFilterBenchmark {
+  private static final String CONTEXT_PATH = "/app";
+  private WroFilter filter;
+  private FilterChain chain;
+  private HttpServletRequest minimizedResourceRequest;
+  private HttpServletRequest handlerRequest;
+  private HttpServletRequest bundleRequest;
+
+  @Setup
+  public void setUp()
+      throws Exception {
+    final WroConfiguration config = new WroConfiguration();
+    config.setJmxEnabled(false);
+    config.setMetricsEnabled(true);
+    filter = new WroFilter();
+    filter.setWroConfigurationFactory(new ObjectFactory<WroConfiguration>() {
+      public WroConfiguration create() {
+        return config;
+      }
+    });
+    filter.setWroManagerFactory(BenchmarkSupport.createManagerFactory(BenchmarkSupport.createModel(10)));
+    filter.init(ServletStubs.filterConfig());
+    chain = ServletStubs.emptyChain();
+    minimizedResourceRequest = request("/js/jquery.min.js");
+    handlerRequest = request("/" + MetricsRequestHandler.ENDPOINT_URI);
+    bundleRequest = request("/wro/group5.js");
+    // populate the cache
+    doFilter(bundleRequest);
+  }
+
+  private HttpServletRequest request(final String path) {
+    return ServletStubs.request(CONTEXT_PATH, CONTEXT_PATH + path, Collections.<String, String> emptyMap());
+  }
+
+  @TearDown
+  public void tearDown() {
+    filter.destroy();
+  }
+
+  private void doFilter(final HttpServletRequest request)
+      throws IOException, ServletException {
+    final HttpServletResponse response = ServletStubs.response(new NullOutputStream());
+    filter.doFilter(request, response, chain);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void passMinimizedResource()
+      throws IOException, ServletException {
+    doFilter(minimizedResourceRequest);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void serveRequestHandler()
+      throws IOException, ServletException {
+    doFilter(handlerRequest);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void serveBundle()
+      throws IOException, ServletException {
+    doFilter(bundleRequest);
+  }
+}
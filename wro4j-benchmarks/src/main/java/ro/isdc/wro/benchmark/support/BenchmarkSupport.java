@@ -0,0 +1,120 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark.support;
+
+import java.util.Collections;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.io.output.NullOutputStream;
+
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.group.processor.Injector;
+import ro.isdc.wro.model.group.processor.InjectorBuilder;
+import ro.isdc.wro.model.resource.processor.factory.SimpleProcessorsFactory;
+import ro.isdc.wro.model.resource.processor.impl.css.CssMinProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssUrlRewritingProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
+
+
+/**
+ * Helpers shared by benchmarks.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public final class BenchmarkSupport {
+  /**
+   * The folder used to compute the rewritten url's of css resources.
+   */
+  public static final String AGGREGATED_FOLDER_PATH = "/wro/";
+
+  private BenchmarkSupport() {
+  }
+
+  /**
+   * Associates a standalone {@link Context} with the current thread.
+   */
+  public static void setStandaloneContext(final WroConfiguration config) {
+    Context.set(Context.standaloneContext(), config);
+    Context.get().setAggregatedFolderPath(AGGREGATED_FOLDER_PATH);
+  }
+
+  /**
+   * Associates with the current thread a web {@link Context} built from stubs, as if a bundle of the provided group
+   * would be requested. Required by processors relying on the current request (ex: css url rewriting).
+   */
+  public static void setWebContext(final WroConfiguration config, final String requestUri) {
+    Context.set(
+        Context.webContext(ServletStubs.request("", requestUri, Collections.<String, String> emptyMap()),
+            ServletStubs.response(new NullOutputStream()), null), config);
+    Context.get().setAggregatedFolderPath(AGGREGATED_FOLDER_PATH);
+  }
+
+  /**
+   * Runs the provided callable with a standalone {@link Context} associated with current thread. Useful for setting
+   * up benchmark scoped states.
+   */
+  public static <T> T withStandaloneContext(final WroConfiguration config, final Callable<T> callable) {
+    setStandaloneContext(config);
+    try {
+      return callable.call();
+    } catch (final Exception e) {
+      throw WroRuntimeException.wrap(e);
+    } finally {
+      Context.unset();
+    }
+  }
+
+  /**
+   * @return an {@link Injector} backed by the default managerFactory.
+   */
+  public static Injector createInjector() {
+    return InjectorBuilder.create(new BaseWroManagerFactory()).build();
+  }
+
+  /**
+   * @param groupsCount
+   *          number of groups to create.
+   * @return a model with groupsCount groups named "group0", "group1"... each containing the bootstrap stylesheet and
+   *         jQuery.
+   */
+  public static WroModel createModel(final int groupsCount) {
+    final WroModel model = new WroModel();
+    for (int i = 0; i < groupsCount; i++) {
+      final Group group = new Group("group" + i);
+      group.addResource(Corpus.BOOTSTRAP_CSS.toResource());
+      group.addResource(Corpus.JQUERY_JS.toResource());
+      model.addGroup(group);
+    }
+    return model;
+  }
+
+  /**
+   * @return a managerFactory using the provided model and a typical set of processors.
+   */
+  public static BaseWroManagerFactory createManagerFactory(final WroModel model) {
+    final BaseWroManagerFactory managerFactory = new BaseWroManagerFactory();
+    managerFactory.setModelFactory(new WroModelFactory() {
+      public WroModel create() {
+        return model;
+      }
+
+      public void destroy() {
+      }
+
+      public boolean isExpired() {
+        return false;
+      }
+    });
+    managerFactory.setProcessorsFactory(new SimpleProcessorsFactory().addPreProcessor(new CssUrlRewritingProcessor()).addPostProcessor(
+        new CssMinProcessor()).addPostProcessor(new JSMinProcessor()));
+    return managerFactory;
+  }
+}
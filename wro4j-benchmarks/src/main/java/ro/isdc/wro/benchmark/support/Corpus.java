@@ -0,0 +1,85 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.locator.ClasspathUriLocator;
+
+
+/**
+ * The inputs used by benchmarks. All of them are bundled with this module, so that no benchmark requires network
+ * access.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public enum Corpus {
+  /**
+   * Twitter bootstrap stylesheet.
+   */
+  BOOTSTRAP_CSS("bootstrap.css", ResourceType.CSS),
+  /**
+   * A stylesheet with many url and @import declarations.
+   */
+  URLS_AND_IMPORTS_CSS("urlsAndImports.css", ResourceType.CSS),
+  /**
+   * jQuery 1.5.2 (not minimized).
+   */
+  JQUERY_JS("jquery.js", ResourceType.JS),
+  LESS("bigFile.less", ResourceType.CSS),
+  SASS("functions.scss", ResourceType.CSS),
+  COFFEE_SCRIPT("overview.coffee", ResourceType.JS),
+  TYPE_SCRIPT("raytracer.ts", ResourceType.JS),
+  TEMPLATE("todoApp.handlebars", ResourceType.JS),
+  JSON("jsonArray.json", ResourceType.JS),
+  ANGULAR_JS("angular.js", ResourceType.JS);
+
+  private static final String BASE_PATH = "ro/isdc/wro/benchmark/corpus/";
+  private final String fileName;
+  private final ResourceType type;
+
+  private Corpus(final String fileName, final ResourceType type) {
+    this.fileName = fileName;
+    this.type = type;
+  }
+
+  /**
+   * @return the uri which can be used to build a {@link Resource} pointing to this corpus.
+   */
+  public String getUri() {
+    return ClasspathUriLocator.PREFIX + BASE_PATH + fileName;
+  }
+
+  public ResourceType getType() {
+    return type;
+  }
+
+  public Resource toResource() {
+    return Resource.create(getUri(), type);
+  }
+
+  /**
+   * @return the content of the corpus.
+   */
+  public String getContent() {
+    final InputStream is = Corpus.class.getClassLoader().getResourceAsStream(BASE_PATH + fileName);
+    if (is == null) {
+      throw new WroRuntimeException("Missing corpus: " + fileName);
+    }
+    try {
+      return IOUtils.toString(is, "UTF-8");
+    } catch (final IOException e) {
+      throw WroRuntimeException.wrap(e);
+    } finally {
+      IOUtils.closeQuietly(is);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.benchmark.support;
+
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import ro.isdc.wro.http.support.DelegatingServletOutputStream;
+
+
+/**
+ * Lightweight servlet stubs used by end-to-end benchmarks. Mocking libraries are avoided on purpose, since they record
+ * each invocation and would distort (and eventually exhaust the memory of) long running benchmarks.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public final class ServletStubs {
+  private ServletStubs() {
+  }
+
+  /**
+   * @param contextPath
+   *          the context path of the application.
+   * @param requestUri
+   *          the requested uri (including the context path).
+   * @param headers
+   *          request headers.
+   * @return a {@link HttpServletRequest} stub.
+   */
+  public static HttpServletRequest request(final String contextPath, final String requestUri,
+      final Map<String, String> headers) {
+    final Map<String, Object> answers = new HashMap<String, Object>();
+    answers.put("getContextPath", contextPath);
+    answers.put("getRequestURI", requestUri);
+    answers.put("getServletPath", requestUri.substring(contextPath.length()));
+    answers.put("getMethod", "GET");
+    return stub(HttpServletRequest.class, answers, new Answer() {
+      public Object answer(final Method method, final Object[] args) {
+        if ("getHeader".equals(method.getName())) {
+          return headers.get(args[0]);
+        }
+        if ("getHeaderNames".equals(method.getName())) {
+          return Collections.enumeration(headers.keySet());
+        }
+        if ("getRequestURL".equals(method.getName())) {
+          return new StringBuffer("http://localhost").append(requestUri);
+        }
+        return null;
+      }
+    });
+  }
+
+  /**
+   * @param outputStream
+   *          where the body of the response is written.
+   * @return a {@link HttpServletResponse} stub.
+   */
+  public static HttpServletResponse response(final OutputStream outputStream) {
+    final Map<String, Object> answers = new HashMap<String, Object>();
+    answers.put("getOutputStream", new DelegatingServletOutputStream(outputStream));
+    return stub(HttpServletResponse.class, answers, null);
+  }
+
+  /**
+   * @return a {@link FilterConfig} stub without init parameters, backed by a {@link ServletContext} without attributes.
+   */
+  public static FilterConfig filterConfig() {
+    final Map<String, Object> answers = new HashMap<String, Object>();
+    answers.put("getServletContext", stub(ServletContext.class, Collections.<String, Object> emptyMap(), null));
+    return stub(FilterConfig.class, answers, null);
+  }
+
+  /**
+   * @return a {@link FilterChain} which does nothing.
+   */
+  public static FilterChain emptyChain() {
+    return new FilterChain() {
+      public void doFilter(final ServletRequest request, final ServletResponse response) {
+      }
+    };
+  }
+
+  private static <T> T stub(final Class<T> type, final Map<String, Object> answers, final Answer fallback) {
+    return type.cast(Proxy.newProxyInstance(ServletStubs.class.getClassLoader(), new Class<?>[] {
+      type
+    }, new InvocationHandler() {
+      public Object invoke(final Object proxy, final Method method, final Object[] args) {
+        if (answers.containsKey(method.getName())) {
+          return answers.get(method.getName());
+        }
+        final Object answer = fallback != null ? fallback.answer(method, args) : null;
+        return answer != null ? answer : defaultValue(method.getReturnType());
+      }
+    }));
+  }
+
+  private static Object defaultValue(final Class<?> returnType) {
+    if (returnType == boolean.class) {
+      return Boolean.FALSE;
+    }
+    if (returnType == int.class) {
+      return 0;
+    }
+    if (returnType == long.class) {
+      return 0L;
+    }
+    return null;
+  }
+
+  private static interface Answer {
+    Object answer(Method method, Object[] args);
+  }
+}
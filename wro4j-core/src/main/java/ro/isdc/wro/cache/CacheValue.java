@@ -9,6 +9,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.io.UnsupportedEncodingException;
 import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.IOUtils;
@@ -31,6 +32,23 @@ public final class CacheValue
   private String rawContent;
   private byte[] gzippedContent;
   private String hash;
+  /**
+   * The raw content encoded with the last requested charset, computed only when required (ex: for range requests).
+   */
+  private transient volatile EncodedContent encodedContent;
+
+  /**
+   * The bytes of the raw content, together with the charset used to encode them.
+   */
+  private static final class EncodedContent {
+    private final String encoding;
+    private final byte[] bytes;
+
+    EncodedContent(final String encoding, final byte[] bytes) {
+      this.encoding = encoding;
+      this.bytes = bytes;
+    }
+  }
 
   private CacheValue(final String rawContent, final String hash) {
     this.rawContent = rawContent;
@@ -77,6 +95,24 @@ public final class CacheValue
    */
   public void setRawContent(final String rawContent) {
     this.rawContent = rawContent;
+    this.encodedContent = null;
+  }
+
+  /**
+   * The bytes are computed once for the same encoding, thus the returned array must not be modified.
+   *
+   * @param encoding
+   *          the charset used to encode the raw content.
+   * @return the bytes of the raw content.
+   */
+  public byte[] getEncodedContent(final String encoding)
+      throws UnsupportedEncodingException {
+    EncodedContent result = encodedContent;
+    if (result == null || !result.encoding.equals(encoding)) {
+      result = new EncodedContent(encoding, rawContent.getBytes(encoding));
+      encodedContent = result;
+    }
+    return result.bytes;
   }
 
 
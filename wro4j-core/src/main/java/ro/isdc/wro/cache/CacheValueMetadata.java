@@ -0,0 +1,98 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.cache;
+
+import java.io.UnsupportedEncodingException;
+
+import ro.isdc.wro.WroRuntimeException;
+
+
+/**
+ * Lightweight description of a {@link CacheValue}: its hash, the length of each of its encodings and the moment when
+ * it was loaded. Used to answer conditional, HEAD and range requests without touching (or loading) the content.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public final class CacheValueMetadata {
+  /**
+   * Value returned by {@link #getGzippedLength()} when the gzipped content is not computed.
+   */
+  public static final long UNKNOWN_LENGTH = -1;
+  private final String hash;
+  private final long length;
+  private final long gzippedLength;
+  private final long lastModified;
+
+  private CacheValueMetadata(final String hash, final long length, final long gzippedLength, final long lastModified) {
+    this.hash = hash;
+    this.length = length;
+    this.gzippedLength = gzippedLength;
+    this.lastModified = lastModified;
+  }
+
+  /**
+   * Factory method.
+   *
+   * @param value
+   *          the described {@link CacheValue}.
+   * @param encoding
+   *          the encoding used to write the raw content.
+   * @param lastModified
+   *          the moment when the value was loaded.
+   * @return {@link CacheValueMetadata} describing the provided value.
+   */
+  public static CacheValueMetadata create(final CacheValue value, final String encoding, final long lastModified) {
+    try {
+      final String content = value.getRawContent();
+      final long length = content == null ? 0 : content.getBytes(encoding).length;
+      final byte[] gzippedContent = value.getGzippedContentInternal();
+      return new CacheValueMetadata(value.getHash(), length, gzippedContent == null ? UNKNOWN_LENGTH
+          : gzippedContent.length, lastModified);
+    } catch (final UnsupportedEncodingException e) {
+      throw WroRuntimeException.wrap(e, "Unsupported encoding: " + encoding);
+    }
+  }
+
+  /**
+   * @return true if this metadata describes a value with the same content as the provided one.
+   */
+  public boolean isDescribing(final CacheValue value) {
+    return hash == null ? value.getHash() == null : hash.equals(value.getHash());
+  }
+
+  public String getHash() {
+    return hash;
+  }
+
+  /**
+   * @return the hash enclosed in quotes, as required by the RFC for the ETag header value.
+   */
+  public String getEtag() {
+    return String.format("\"%s\"", hash);
+  }
+
+  /**
+   * @return the length in bytes of the raw content.
+   */
+  public long getLength() {
+    return length;
+  }
+
+  /**
+   * @return the length in bytes of the gzipped content or {@link #UNKNOWN_LENGTH} if it is not computed.
+   */
+  public long getGzippedLength() {
+    return gzippedLength;
+  }
+
+  public long getLastModified() {
+    return lastModified;
+  }
+
+  @Override
+  public String toString() {
+    return "hash: " + hash + ", length: " + length + ", gzippedLength: " + gzippedLength;
+  }
+}
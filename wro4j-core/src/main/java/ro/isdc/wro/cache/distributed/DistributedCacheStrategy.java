@@ -0,0 +1,318 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.cache.distributed;
+
+import static org.apache.commons.lang3.Validate.isTrue;
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.lang3.CharEncoding;
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.builder.ReflectionToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.MemoryCacheStrategy;
+import ro.isdc.wro.cache.support.CacheStrategyDecorator;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.resource.support.DefaultResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.MutableResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
+import ro.isdc.wro.util.ObjectFactory;
+
+
+/**
+ * A {@link CacheStrategy} which shares the processed bundles between the nodes of a cluster using a
+ * {@link SharedCacheStore}. The values are kept in a local cache as well, thus the shared store is accessed only on
+ * local cache miss.
+ * <p/>
+ * When a bundle is not available in the shared store, only the node holding its lease processes it (see
+ * {@link #load(CacheKey, ObjectFactory)}), while the other nodes wait for the result to be published. This way, a bundle
+ * is processed once for the entire cluster (ex: during a rolling deployment).
+ * <p/>
+ * Each published value has a unique publication version. Clearing the cache affects only the local node: the
+ * publications held locally are discarded, thus the next load of these keys processes them again (unless another node
+ * already published a newer version), while the leases held by the other nodes remain untouched.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class DistributedCacheStrategy
+    extends CacheStrategyDecorator<CacheKey, CacheValue> {
+  private static final Logger LOG = LoggerFactory.getLogger(DistributedCacheStrategy.class);
+  /**
+   * Default number of milliseconds after which a lease expires.
+   */
+  public static final long DEFAULT_LEASE_DURATION = 60000;
+  /**
+   * Default number of milliseconds to wait between two checks of a bundle processed by another node.
+   */
+  public static final long DEFAULT_POLL_INTERVAL = 100;
+  private final SharedCacheStore store;
+  /**
+   * Identifies this node when acquiring the leases.
+   */
+  private final String owner = UUID.randomUUID().toString();
+  private long leaseDuration = DEFAULT_LEASE_DURATION;
+  private long pollInterval = DEFAULT_POLL_INTERVAL;
+  /**
+   * The values received from the shared store by {@link #load(CacheKey, ObjectFactory)}, which are not published again
+   * when put in the cache.
+   */
+  private final ConcurrentMap<CacheKey, SharedEntry> receivedEntries = new ConcurrentHashMap<CacheKey, SharedEntry>();
+  /**
+   * The publication version of the values held by the local cache.
+   */
+  private final ConcurrentMap<CacheKey, String> localVersions = new ConcurrentHashMap<CacheKey, String>();
+  /**
+   * The publication versions held by the local cache when it was cleared, which must not be reused.
+   */
+  private final ConcurrentMap<CacheKey, String> discardedVersions = new ConcurrentHashMap<CacheKey, String>();
+  @Inject
+  private ResourceAuthorizationManager authorizationManager;
+
+  /**
+   * Uses a {@link MemoryCacheStrategy} as local cache.
+   */
+  public DistributedCacheStrategy(final SharedCacheStore store) {
+    this(new MemoryCacheStrategy<CacheKey, CacheValue>(), store);
+  }
+
+  public DistributedCacheStrategy(final CacheStrategy<CacheKey, CacheValue> localCache, final SharedCacheStore store) {
+    super(localCache);
+    notNull(store);
+    this.store = store;
+  }
+
+  /**
+   * Returns the value from the local cache or from the shared store. The value is never processed by this method.
+   */
+  @Override
+  public CacheValue get(final CacheKey key) {
+    CacheValue value = super.get(key);
+    if (value == null) {
+      final SharedEntry entry = getShared(key, null);
+      if (entry != null) {
+        value = entry.value;
+        super.put(key, value);
+        setLocalVersion(key, entry.version);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Publishes the value to the other nodes, releasing the lease acquired by {@link #load(CacheKey, ObjectFactory)}. A
+   * null value removes the key from the shared store as well.
+   */
+  @Override
+  public void put(final CacheKey key, final CacheValue value) {
+    super.put(key, value);
+    final SharedEntry receivedEntry = receivedEntries.get(key);
+    if (value != null && receivedEntry != null && receivedEntry.value.equals(value)
+        && receivedEntries.remove(key, receivedEntry)) {
+      setLocalVersion(key, receivedEntry.version);
+      return;
+    }
+    final String storeKey = toStoreKey(key);
+    try {
+      if (value == null) {
+        localVersions.remove(key);
+        store.remove(storeKey);
+      } else {
+        final SharedEntry entry = new SharedEntry(value, getAuthorizedResources());
+        store.put(storeKey, SerializationUtils.serialize(entry));
+        setLocalVersion(key, entry.version);
+        store.releaseLease(storeKey, owner);
+      }
+    } catch (final IOException e) {
+      LOG.warn("Cannot update the shared value of key: " + key, e);
+    }
+  }
+
+  /**
+   * Loads the value of the key, processing it only if no other node is doing it. The lease of the key is released when
+   * the processed value is {@link #put(CacheKey, CacheValue)} in the cache.
+   *
+   * @param key
+   *          the key to load.
+   * @param loader
+   *          processes the value of the key.
+   * @return the value published by another node or the value created by the loader.
+   */
+  public CacheValue load(final CacheKey key, final ObjectFactory<CacheValue> loader) {
+    // the publication held locally (if any) is the stale value being refreshed, thus it cannot be reused
+    final String staleVersion = super.get(key) != null ? localVersions.get(key) : null;
+    final String storeKey = toStoreKey(key);
+    try {
+      while (true) {
+        final SharedEntry sharedEntry = getShared(key, staleVersion);
+        if (sharedEntry != null) {
+          LOG.debug("using the value published for key: {}", key);
+          receivedEntries.put(key, sharedEntry);
+          return sharedEntry.value;
+        }
+        if (store.tryAcquireLease(storeKey, owner, leaseDuration)) {
+          return loadWithLease(storeKey, loader);
+        }
+        LOG.debug("waiting for key {} to be processed by another node", key);
+        Thread.sleep(pollInterval);
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.debug("Interrupted while waiting for key: {}", key);
+    } catch (final IOException e) {
+      LOG.warn("Cannot use the shared store for key: " + key + ". The value is processed locally.", e);
+    }
+    return loader.create();
+  }
+
+  private CacheValue loadWithLease(final String storeKey, final ObjectFactory<CacheValue> loader) {
+    try {
+      return loader.create();
+    } catch (final RuntimeException e) {
+      // allow another node to process the key
+      try {
+        store.releaseLease(storeKey, owner);
+      } catch (final IOException ex) {
+        LOG.debug("Cannot release the lease, it will expire", ex);
+      }
+      throw e;
+    }
+  }
+
+  private void setLocalVersion(final CacheKey key, final String version) {
+    localVersions.put(key, version);
+    discardedVersions.remove(key);
+  }
+
+  /**
+   * @param ignoredVersion
+   *          the publication version which must not be returned (ex: the version of a stale value), besides the
+   *          version discarded when the cache was cleared.
+   * @return the entry published in the shared store or null if there is no such (usable) entry.
+   */
+  private SharedEntry getShared(final CacheKey key, final String ignoredVersion) {
+    try {
+      final byte[] bytes = store.get(toStoreKey(key));
+      if (bytes == null) {
+        return null;
+      }
+      final SharedEntry entry = (SharedEntry) SerializationUtils.deserialize(bytes);
+      // the content hash is not compared, since a value processed again may have the same content
+      if (StringUtils.equals(ignoredVersion, entry.version)
+          || StringUtils.equals(discardedVersions.get(key), entry.version)) {
+        return null;
+      }
+      authorize(entry.authorizedResources);
+      return entry;
+    } catch (final IOException e) {
+      LOG.warn("Cannot read the shared value of key: " + key, e);
+    } catch (final SerializationException e) {
+      LOG.warn("Ignoring invalid shared value of key: " + key, e);
+    } catch (final ClassCastException e) {
+      LOG.warn("Ignoring invalid shared value of key: " + key, e);
+    }
+    return null;
+  }
+
+  /**
+   * @return the uri's authorized on this node, published together with the values. These are required by the other
+   *         nodes in order to serve the resources referred by the published bundles (ex: css images) through the
+   *         resource proxy.
+   */
+  private List<String> getAuthorizedResources() {
+    return authorizationManager instanceof DefaultResourceAuthorizationManager ? new ArrayList<String>(
+        ((DefaultResourceAuthorizationManager) authorizationManager).list()) : new ArrayList<String>();
+  }
+
+  private void authorize(final List<String> uris) {
+    if (authorizationManager instanceof MutableResourceAuthorizationManager) {
+      for (final String uri : uris) {
+        ((MutableResourceAuthorizationManager) authorizationManager).add(uri);
+      }
+    }
+  }
+
+  /**
+   * @return a representation of the key which is the same on all nodes and can be used as a file name.
+   */
+  private String toStoreKey(final CacheKey key) {
+    final String description = ReflectionToStringBuilder.toString(key, ToStringStyle.SHORT_PREFIX_STYLE);
+    try {
+      return new SHA1HashStrategy().getHash(new ByteArrayInputStream(description.getBytes(CharEncoding.UTF_8)));
+    } catch (final IOException e) {
+      throw WroRuntimeException.wrap(e, "Cannot compute the shared key of: " + key);
+    }
+  }
+
+  /**
+   * Clears the local cache only. The publications held locally are not reused, thus the bundles are processed again
+   * by this node, unless a newer version is published by another node meanwhile. The shared store is left untouched,
+   * since the other nodes may be processing (thus holding the leases of) some of the keys.
+   */
+  @Override
+  public void clear() {
+    super.clear();
+    receivedEntries.clear();
+    discardedVersions.putAll(localVersions);
+    localVersions.clear();
+  }
+
+  /**
+   * @param leaseDuration
+   *          the number of milliseconds after which a lease expires. Should be greater than the time required to
+   *          process the slowest bundle, otherwise the bundle may be processed by more than one node.
+   */
+  public DistributedCacheStrategy setLeaseDuration(final long leaseDuration) {
+    isTrue(leaseDuration > 0, "leaseDuration must be positive");
+    this.leaseDuration = leaseDuration;
+    return this;
+  }
+
+  /**
+   * @param pollInterval
+   *          the number of milliseconds to wait between two checks of a bundle processed by another node.
+   */
+  public DistributedCacheStrategy setPollInterval(final long pollInterval) {
+    isTrue(pollInterval > 0, "pollInterval must be positive");
+    this.pollInterval = pollInterval;
+    return this;
+  }
+
+  /**
+   * The content of the shared store for a key.
+   */
+  private static final class SharedEntry
+      implements Serializable {
+    private static final long serialVersionUID = 2L;
+    private final CacheValue value;
+    private final List<String> authorizedResources;
+    /**
+     * Uniquely identifies the publication.
+     */
+    private final String version = UUID.randomUUID().toString();
+
+    SharedEntry(final CacheValue value, final List<String> authorizedResources) {
+      this.value = value;
+      this.authorizedResources = authorizedResources;
+    }
+  }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.cache.distributed;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.CharEncoding;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * A {@link SharedCacheStore} using a directory shared by all nodes (ex: a network file system mount). Each value is
+ * written to a temporary file which is atomically renamed, thus a partially written value is never read. The leases
+ * are stored as files containing the owner and the expiration time, updated while holding an exclusive {@link
+ * java.nio.channels.FileLock} on a lock file.
+ * <p/>
+ * The directory should be specific to the deployed version of the application, since the stored bundles are not
+ * invalidated when the application is updated. The clocks of the nodes are expected to be synchronized.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class FileSystemSharedCacheStore
+    implements SharedCacheStore {
+  private static final Logger LOG = LoggerFactory.getLogger(FileSystemSharedCacheStore.class);
+  private static final String VALUE_EXTENSION = ".value";
+  private static final String LEASE_EXTENSION = ".lease";
+  private static final String TEMP_EXTENSION = ".tmp";
+  private static final String LOCK_FILE = "wro-cache.lock";
+  private static final String LEASE_SEPARATOR = " ";
+  /**
+   * A {@link java.nio.channels.FileLock} is held on behalf of the entire JVM, thus the lease operations performed by the
+   * same process (ex: multiple stores sharing the directory) are serialized.
+   */
+  private static final Object LEASE_MUTEX = new Object();
+  private final File directory;
+
+  public FileSystemSharedCacheStore(final File directory) {
+    notNull(directory);
+    this.directory = directory;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public byte[] get(final String key)
+      throws IOException {
+    try {
+      return FileUtils.readFileToByteArray(new File(directory, key + VALUE_EXTENSION));
+    } catch (final FileNotFoundException e) {
+      return null;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void put(final String key, final byte[] value)
+      throws IOException {
+    FileUtils.forceMkdir(directory);
+    final File tempFile = File.createTempFile(key, TEMP_EXTENSION, directory);
+    try {
+      FileUtils.writeByteArrayToFile(tempFile, value);
+      rename(tempFile, new File(directory, key + VALUE_EXTENSION));
+    } finally {
+      FileUtils.deleteQuietly(tempFile);
+    }
+  }
+
+  /**
+   * Renames the file, replacing the target (the replacement is atomic on POSIX file systems).
+   */
+  private void rename(final File source, final File target)
+      throws IOException {
+    if (!source.renameTo(target)) {
+      // some platforms (ex: Windows) cannot rename over an existing file
+      FileUtils.deleteQuietly(target);
+      if (!source.renameTo(target)) {
+        throw new IOException("Cannot rename " + source + " to " + target);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void remove(final String key)
+      throws IOException {
+    FileUtils.deleteQuietly(new File(directory, key + VALUE_EXTENSION));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void clear()
+      throws IOException {
+    final File[] files = directory.listFiles();
+    if (files != null) {
+      for (final File file : files) {
+        if (file.getName().endsWith(VALUE_EXTENSION)) {
+          FileUtils.deleteQuietly(file);
+        }
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean tryAcquireLease(final String key, final String owner, final long duration)
+      throws IOException {
+    synchronized (LEASE_MUTEX) {
+      final RandomAccessFile lockFile = openLockFile();
+      try {
+        lockFile.getChannel().lock();
+        final File leaseFile = new File(directory, key + LEASE_EXTENSION);
+        final String[] lease = readLease(leaseFile);
+        final long now = System.currentTimeMillis();
+        if (lease != null && !owner.equals(lease[0]) && Long.parseLong(lease[1]) > now) {
+          return false;
+        }
+        FileUtils.writeStringToFile(leaseFile, owner + LEASE_SEPARATOR + (now + duration), CharEncoding.UTF_8);
+        LOG.debug("lease of {} acquired by {}", key, owner);
+        return true;
+      } finally {
+        // releases the lock as well
+        lockFile.close();
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void releaseLease(final String key, final String owner)
+      throws IOException {
+    synchronized (LEASE_MUTEX) {
+      final RandomAccessFile lockFile = openLockFile();
+      try {
+        lockFile.getChannel().lock();
+        final File leaseFile = new File(directory, key + LEASE_EXTENSION);
+        final String[] lease = readLease(leaseFile);
+        if (lease != null && owner.equals(lease[0])) {
+          FileUtils.deleteQuietly(leaseFile);
+          LOG.debug("lease of {} released by {}", key, owner);
+        }
+      } finally {
+        lockFile.close();
+      }
+    }
+  }
+
+  private RandomAccessFile openLockFile()
+      throws IOException {
+    FileUtils.forceMkdir(directory);
+    return new RandomAccessFile(new File(directory, LOCK_FILE), "rw");
+  }
+
+  /**
+   * @return an array containing the owner and the expiration time of the lease or null if there is no valid lease.
+   */
+  private String[] readLease(final File leaseFile)
+      throws IOException {
+    if (!leaseFile.isFile()) {
+      return null;
+    }
+    final String[] lease = StringUtils.split(FileUtils.readFileToString(leaseFile, CharEncoding.UTF_8),
+        LEASE_SEPARATOR);
+    if (lease.length != 2 || !StringUtils.isNumeric(lease[1])) {
+      LOG.debug("Ignoring corrupted lease file: {}", leaseFile);
+      return null;
+    }
+    return lease;
+  }
+}
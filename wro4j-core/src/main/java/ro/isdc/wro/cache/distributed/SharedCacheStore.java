@@ -0,0 +1,67 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.cache.distributed;
+
+import java.io.IOException;
+
+
+/**
+ * A store shared by all nodes of a cluster, used by {@link DistributedCacheStrategy} to publish the processed bundles
+ * and to coordinate their processing. Implement this interface in order to use an external store (ex: a key-value
+ * database). The keys are safe to be used as file names.
+ * <p/>
+ * A lease grants a node the right to process a key. As long as the lease is valid, the other nodes wait for the value to
+ * be published instead of processing it themselves. An expired lease (ex: the owning node crashed) can be acquired by
+ * any node.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public interface SharedCacheStore {
+  /**
+   * @return the value stored for the key or null if there is no such value.
+   */
+  byte[] get(final String key)
+      throws IOException;
+
+  /**
+   * Stores the value of the key. The value must become visible to the other nodes atomically.
+   */
+  void put(final String key, final byte[] value)
+      throws IOException;
+
+  /**
+   * Removes the value stored for the key.
+   */
+  void remove(final String key)
+      throws IOException;
+
+  /**
+   * Removes all values, forcing all nodes to process the bundles again. The leases are left untouched, since they are
+   * held by nodes which may be processing some of the keys.
+   */
+  void clear()
+      throws IOException;
+
+  /**
+   * Acquires the lease of the key if it is not held by another owner (or if it is expired). A lease already held by the
+   * same owner is renewed.
+   *
+   * @param key
+   *          the key to be processed.
+   * @param owner
+   *          identifies the node acquiring the lease.
+   * @param duration
+   *          the number of milliseconds after which the lease expires.
+   * @return true if the lease was acquired.
+   */
+  boolean tryAcquireLease(final String key, final String owner, final long duration)
+      throws IOException;
+
+  /**
+   * Releases the lease of the key, if held by the provided owner.
+   */
+  void releaseLease(final String key, final String owner)
+      throws IOException;
+}
@@ -4,6 +4,10 @@ import static org.apache.commons.lang3.Validate.notNull;
 
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -11,6 +15,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.util.DestroyableLazyInitializer;
+import ro.isdc.wro.util.WroUtil;
 
 
 /**
@@ -25,7 +31,55 @@ import ro.isdc.wro.cache.CacheStrategy;
 public abstract class AbstractSynchronizedCacheStrategyDecorator<K, V>
     extends CacheStrategyDecorator<K, V> {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSynchronizedCacheStrategyDecorator.class);
+  /**
+   * Maximum number of stale entries revalidated at the same time.
+   */
+  private static final int REFRESH_CONCURRENCY = Runtime.getRuntime().availableProcessors();
   private final ConcurrentMap<K, ReadWriteLock> locks = new ConcurrentHashMap<K, ReadWriteLock>();
+  /**
+   * Incremented each time all entries are marked as stale.
+   */
+  private final AtomicLong generation = new AtomicLong();
+  /**
+   * The generation at the moment when the value of each key was loaded.
+   */
+  private final ConcurrentMap<K, Long> loadedGenerations = new ConcurrentHashMap<K, Long>();
+  private final Semaphore refreshPermits = new Semaphore(REFRESH_CONCURRENCY);
+  /**
+   * Keys being revalidated.
+   */
+  private final ConcurrentMap<K, Boolean> refreshingKeys = new ConcurrentHashMap<K, Boolean>();
+  /**
+   * Incremented each time the cache is cleared. A value loaded before the cache was cleared is discarded.
+   */
+  private final AtomicLong clearCount = new AtomicLong();
+  /**
+   * Prevents a revalidated value to be stored while the cache is cleared.
+   */
+  private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
+  /**
+   * Incremented each time cached values are invalidated.
+   */
+  private final AtomicLong version = new AtomicLong();
+  /**
+   * Runs the refresh of stale values. The number of pending refreshes is bounded by the refresh permits.
+   */
+  private final DestroyableLazyInitializer<ExecutorService> refreshExecutorInitializer =
+      new DestroyableLazyInitializer<ExecutorService>() {
+    @Override
+    protected ExecutorService initialize() {
+      return Executors.newFixedThreadPool(REFRESH_CONCURRENCY, WroUtil.createDaemonThreadFactory(
+          AbstractSynchronizedCacheStrategyDecorator.class.getSimpleName()));
+    }
+
+    @Override
+    public void destroy() {
+      if (isInitialized()) {
+        get().shutdownNow();
+      }
+      super.destroy();
+    }
+  };
 
   public AbstractSynchronizedCacheStrategyDecorator(final CacheStrategy<K, V> decorated) {
     super(decorated);
@@ -41,6 +95,7 @@ public abstract class AbstractSynchronizedCacheStrategyDecorator<K, V>
     final boolean isCacheExpired = isCacheExpired(key);
     final ReadWriteLock lock = getLockForKey(key);
     if (isCacheExpired) {
+      version.incrementAndGet();
       lock.readLock().lock();
       try {
         getDecoratedObject().put(key, null);
@@ -54,6 +109,9 @@ public abstract class AbstractSynchronizedCacheStrategyDecorator<K, V>
     } finally {
       lock.readLock().unlock();
     }
+    if (value != null && isStale(key)) {
+      value = revalidate(key, value);
+    }
     if (value == null) {
       lock.writeLock().lock();
       try {
@@ -61,8 +119,10 @@ public abstract class AbstractSynchronizedCacheStrategyDecorator<K, V>
         value = getDecoratedObject().get(key);
         if (value == null) {
           LOG.debug("Cache is empty. Loading new value...");
+          final long loadedGeneration = generation.get();
           value = loadValue(key);
           put(key, value);
+          loadedGenerations.put(key, loadedGeneration);
         }
       } finally {
         lock.writeLock().unlock();
@@ -71,6 +131,179 @@ public abstract class AbstractSynchronizedCacheStrategyDecorator<K, V>
     return value;
   }
 
+  /**
+   * Returns the value currently held for the key, without loading it. A stale value whose refresh is in progress is
+   * returned as well, while a value whose resources have expired is not.
+   *
+   * @return the value held for the key or null if no value is loaded.
+   */
+  public final V getIfPresent(final K key) {
+    notNull(key);
+    onBeforeGet(key);
+    if (isCacheExpired(key)) {
+      return null;
+    }
+    final ReadWriteLock lock = getLockForKey(key);
+    lock.readLock().lock();
+    try {
+      return getDecoratedObject().get(key);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * @return true if the value of the key was loaded before the last call of {@link #markStale()}.
+   */
+  private boolean isStale(final K key) {
+    final Long loadedGeneration = loadedGenerations.get(key);
+    return loadedGeneration != null && loadedGeneration.longValue() < generation.get();
+  }
+
+  /**
+   * Starts the refresh of a stale key in the background, without evicting the stale value. Only one refresh of a given
+   * key is in progress and at most {@link #REFRESH_CONCURRENCY} keys are refreshed at the same time. The stale value is
+   * served until the new value is stored.
+   *
+   * @return the value to serve.
+   */
+  private V revalidate(final K key, final V staleValue) {
+    final Long loadedGeneration = loadedGenerations.get(key);
+    if (loadedGeneration == null || refreshingKeys.putIfAbsent(key, Boolean.TRUE) != null) {
+      // not loaded or already revalidated by another caller
+      return staleValue;
+    }
+    if (!refreshPermits.tryAcquire()) {
+      refreshingKeys.remove(key);
+      return staleValue;
+    }
+    try {
+      submitRefresh(new Runnable() {
+        public void run() {
+          try {
+            refresh(key, loadedGeneration);
+          } finally {
+            refreshPermits.release();
+            refreshingKeys.remove(key);
+          }
+        }
+      });
+    } catch (final RuntimeException e) {
+      refreshPermits.release();
+      refreshingKeys.remove(key);
+      LOG.error("Could not start the refresh of key: " + key + ". The previous value is used instead.", e);
+    }
+    return staleValue;
+  }
+
+  /**
+   * Loads the new value without holding the lock of the key, thus the stale value is served meanwhile. The write lock
+   * is held only while the new value is stored. The key is marked as fresh only after the new value is stored, thus a
+   * failed load leaves the key stale and the next access retries.
+   */
+  private void refresh(final K key, final Long loadedGeneration) {
+    final long currentGeneration = generation.get();
+    final long currentClearCount = clearCount.get();
+    try {
+      if (!isRefreshRequired(key)) {
+        LOG.debug("No change detected for key: {}", key);
+        loadedGenerations.replace(key, loadedGeneration, currentGeneration);
+        return;
+      }
+      LOG.debug("Refreshing stale value of key: {}", key);
+      final V value = loadValue(key);
+      final ReadWriteLock lock = getLockForKey(key);
+      lock.writeLock().lock();
+      try {
+        clearLock.readLock().lock();
+        try {
+          // not stored when the key was cleared or loaded again meanwhile
+          if (clearCount.get() == currentClearCount && loadedGeneration.equals(loadedGenerations.get(key))) {
+            getDecoratedObject().put(key, value);
+            loadedGenerations.replace(key, loadedGeneration, currentGeneration);
+          }
+        } finally {
+          clearLock.readLock().unlock();
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    } catch (final RuntimeException e) {
+      LOG.error("Could not refresh the value of key: " + key + ". The previous value is used instead.", e);
+    }
+  }
+
+  /**
+   * Runs the refresh of a stale value in a background thread.
+   *
+   * @VisibleForTesting
+   * @param task
+   *          the refresh to run asynchronously.
+   */
+  void submitRefresh(final Runnable task) {
+    refreshExecutorInitializer.get().execute(decorateRefresh(task));
+  }
+
+  /**
+   * Allows the task refreshing a stale value to access the state of the caller (ex: the context of the request), since
+   * it is run by a background thread. The default implementation returns the task unchanged.
+   *
+   * @param task
+   *          the refresh to run in the background.
+   * @return the task to run.
+   */
+  protected Runnable decorateRefresh(final Runnable task) {
+    return task;
+  }
+
+  /**
+   * Marks all loaded entries as stale. Unlike {@link #clear()}, the entries are not evicted: each of them is refreshed in
+   * the background after its next access while the previous value is still served, which avoids the concurrent reload of
+   * all entries at the same time.
+   */
+  public void markStale() {
+    generation.incrementAndGet();
+    version.incrementAndGet();
+  }
+
+  /**
+   * Allows other caches holding data derived from the cached values to detect when they must be discarded.
+   *
+   * @return a number changed each time the cache is cleared, marked as stale or a value is removed.
+   */
+  public long getVersion() {
+    return version.get();
+  }
+
+  /**
+   * Invoked when a stale entry is accessed, in order to decide if its value must be loaded again.
+   *
+   * @return true if the value associated with the stale key must be loaded again. The default implementation always
+   *         returns true.
+   */
+  protected boolean isRefreshRequired(final K key) {
+    return true;
+  }
+
+  @Override
+  public void clear() {
+    clearLock.writeLock().lock();
+    try {
+      clearCount.incrementAndGet();
+      version.incrementAndGet();
+      loadedGenerations.clear();
+      super.clear();
+    } finally {
+      clearLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void destroy() {
+    super.destroy();
+    refreshExecutorInitializer.destroy();
+  }
+
   /**
    * Invoked just before the get method is invoked. Can be useful for checking if resources are stale and invalidating
    * the cache.
@@ -80,6 +313,9 @@ public abstract class AbstractSynchronizedCacheStrategyDecorator<K, V>
 
   @Override
   public final void put(final K key, final V value) {
+    if (value == null) {
+      version.incrementAndGet();
+    }
     final ReadWriteLock lock = getLockForKey(key);
     lock.writeLock().lock();
     try {
@@ -2,11 +2,18 @@ package ro.isdc.wro.cache.support;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+import javax.servlet.http.HttpServletRequest;
+
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,18 +21,28 @@ import org.slf4j.LoggerFactory;
 import ro.isdc.wro.cache.CacheKey;
 import ro.isdc.wro.cache.CacheStrategy;
 import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.CacheValueMetadata;
+import ro.isdc.wro.cache.distributed.DistributedCacheStrategy;
+import ro.isdc.wro.config.Context;
 import ro.isdc.wro.config.ReadOnlyContext;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.support.PreserveDetailsRequestWrapper;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.WroModel;
-import ro.isdc.wro.model.WroModelInspector;
 import ro.isdc.wro.model.factory.WroModelFactory;
 import ro.isdc.wro.model.group.Group;
 import ro.isdc.wro.model.group.Inject;
 import ro.isdc.wro.model.group.processor.GroupsProcessor;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
+import ro.isdc.wro.model.resource.support.DefaultResourceAuthorizationManager;
 import ro.isdc.wro.model.resource.support.MutableResourceAuthorizationManager;
 import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
 import ro.isdc.wro.model.resource.support.change.ResourceWatcher;
 import ro.isdc.wro.model.resource.support.hash.HashStrategy;
 import ro.isdc.wro.util.LazyInitializer;
+import ro.isdc.wro.util.ObjectFactory;
 import ro.isdc.wro.util.SchedulerHelper;
 
 
@@ -39,6 +56,10 @@ import ro.isdc.wro.util.SchedulerHelper;
 public class DefaultSynchronizedCacheStrategyDecorator
     extends AbstractSynchronizedCacheStrategyDecorator<CacheKey, CacheValue> {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultSynchronizedCacheStrategyDecorator.class);
+  /**
+   * Detects the references to other resources (imports, images) which can be inlined by processors.
+   */
+  private static final Pattern PATTERN_CSS_REFERENCE = Pattern.compile("@import|url\\s*\\(", Pattern.CASE_INSENSITIVE);
   @Inject
   private GroupsProcessor groupsProcessor;
   @Inject
@@ -51,12 +72,25 @@ public class DefaultSynchronizedCacheStrategyDecorator
   private ResourceWatcher resourceWatcher;
   @Inject
   private WroModelFactory modelFactory;
+  @Inject
+  private MetricsRegistry metricsRegistry;
+  @Inject
+  private UriLocatorFactory locatorFactory;
 
   /**
    * Holds the keys that were checked for change. As long as a key is contained in this set, it won't be checked again.
    */
   private final Set<CacheKey> checkedKeys = Collections.synchronizedSet(new HashSet<CacheKey>());
   private final SchedulerHelper resourceWatcherScheduler;
+  /**
+   * Fingerprints of the resources used to compute the value of each key. Computed only when cacheRefreshAhead is
+   * enabled.
+   */
+  private final ConcurrentMap<CacheKey, String> fingerprints = new ConcurrentHashMap<CacheKey, String>();
+  /**
+   * Metadata of the last value loaded for each key.
+   */
+  private final ConcurrentMap<CacheKey, CacheValueMetadata> metadata = new ConcurrentHashMap<CacheKey, CacheValueMetadata>();
 
   /**
    * Decorates the provided {@link CacheStrategy}. The provided {@link CacheStrategy} won't be decorated if the
@@ -104,11 +138,155 @@ public class DefaultSynchronizedCacheStrategyDecorator
   protected CacheValue loadValue(final CacheKey key) {
     resourceWatcherScheduler.scheduleWithPeriod(getResourceWatcherUpdatePeriod(), getTimeUnitForResourceWatcher());
     LOG.debug("load value in cache for key: {}", key);
-    final String content = groupsProcessor.process(key);
-    if (LOG.isDebugEnabled()) {
-      LOG.debug("found content: {}", StringUtils.abbreviate(content, 30));
+    fingerprints.remove(key);
+    final CacheStrategy<CacheKey, CacheValue> decorated = getDecoratedObject();
+    // when the cache is shared by the nodes of a cluster, the value is processed by a single node
+    final CacheValue value = decorated instanceof DistributedCacheStrategy ? ((DistributedCacheStrategy) decorated).load(
+        key, new ObjectFactory<CacheValue>() {
+          public CacheValue create() {
+            return processValue(key);
+          }
+        }) : processValue(key);
+    updateMetadata(key, value);
+    return value;
+  }
+
+  /**
+   * Processes the group identified by the key.
+   */
+  private CacheValue processValue(final CacheKey key) {
+    final long start = metricsRegistry.start();
+    boolean success = false;
+    try {
+      // computed before processing, in order to detect any change performed in the meantime
+      final String fingerprint = context.getConfig().isCacheRefreshAhead() ? computeFingerprint(key) : null;
+      final String content = groupsProcessor.process(key);
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("found content: {}", StringUtils.abbreviate(content, 30));
+      }
+      final CacheValue value = computeCacheValueByContent(content);
+      if (fingerprint != null) {
+        fingerprints.put(key, fingerprint);
+      }
+      success = true;
+      return value;
+    } finally {
+      metricsRegistry.stop(MetricsRegistry.CACHE_LOAD, start, success);
+    }
+  }
+
+  /**
+   * Returns the metadata of the value currently held for the key, without loading it. The metadata of a stale value is
+   * returned while its refresh is in progress, which allows the validation of the ETag during this time.
+   *
+   * @return the {@link CacheValueMetadata} of the loaded value or null if no value is loaded for the provided key.
+   */
+  public CacheValueMetadata getMetadata(final CacheKey key) {
+    final CacheValue value = getIfPresent(key);
+    return value == null ? null : getMetadata(key, value);
+  }
+
+  /**
+   * @return the {@link CacheValueMetadata} describing the provided value, loaded for the provided key.
+   */
+  public CacheValueMetadata getMetadata(final CacheKey key, final CacheValue value) {
+    final CacheValueMetadata result = metadata.get(key);
+    return result != null && result.isDescribing(value) ? result : updateMetadata(key, value);
+  }
+
+  /**
+   * Computes the metadata of a loaded value. The last modified timestamp of the previous metadata is preserved when the
+   * content didn't change.
+   */
+  private CacheValueMetadata updateMetadata(final CacheKey key, final CacheValue value) {
+    final CacheValueMetadata previous = metadata.get(key);
+    final long lastModified = previous != null && previous.isDescribing(value) ? previous.getLastModified()
+        : System.currentTimeMillis();
+    final CacheValueMetadata result = CacheValueMetadata.create(value, context.getConfig().getEncoding(), lastModified);
+    metadata.put(key, result);
+    return result;
+  }
+
+  /**
+   * The refresh is run with a copy of the current context, since the context of the request is removed once the request
+   * is served.
+   */
+  @Override
+  protected Runnable decorateRefresh(final Runnable task) {
+    if (!Context.isContextSet()) {
+      return task;
+    }
+    final Context requestContext = Context.get();
+    final HttpServletRequest request = requestContext.getRequest();
+    final Context refreshContext = request == null ? Context.standaloneContext() : Context.webContext(
+        new PreserveDetailsRequestWrapper(request), requestContext.getResponse(), requestContext.getFilterConfig());
+    final WroConfiguration config = requestContext.getConfig();
+    final String aggregatedFolderPath = requestContext.getAggregatedFolderPath();
+    return new Runnable() {
+      public void run() {
+        Context.set(refreshContext, config);
+        try {
+          Context.get().setAggregatedFolderPath(aggregatedFolderPath);
+          task.run();
+        } finally {
+          Context.unset();
+        }
+      }
+    };
+  }
+
+  /**
+   * The value of a stale key is loaded again only if the fingerprint of its resources changed.
+   */
+  @Override
+  protected boolean isRefreshRequired(final CacheKey key) {
+    final String fingerprint = fingerprints.get(key);
+    return fingerprint == null || !fingerprint.equals(computeFingerprint(key));
+  }
+
+  /**
+   * @return a fingerprint of the resources processed for the provided key, or null if the fingerprint cannot be used to
+   *         detect a change (stylesheets referencing other resources which can be inlined by processors).
+   */
+  private String computeFingerprint(final CacheKey key) {
+    final Group group = modelFactory.create().getInspector().getGroupByName(key.getGroupName());
+    if (group == null) {
+      return null;
+    }
+    final StringBuilder fingerprint = new StringBuilder();
+    try {
+      for (final Resource resource : group.collectResourcesOfType(key.getType()).getResources()) {
+        final byte[] content = readResource(resource);
+        if (isReferencingOtherResources(resource.getType(), new String(content, context.getConfig().getEncoding()))) {
+          return null;
+        }
+        fingerprint.append(resource.getUri()).append('=');
+        fingerprint.append(hashStrategy.getHash(new ByteArrayInputStream(content))).append(';');
+      }
+    } catch (final IOException e) {
+      LOG.debug("Cannot compute fingerprint of key: {}", key, e);
+      return null;
+    }
+    return fingerprint.toString();
+  }
+
+  /**
+   * @return true if the content of a resource of the provided type references other resources (imports, images) which
+   *         can be inlined by processors. A change of the processed content is not always detected by a fingerprint of
+   *         such content.
+   */
+  public static boolean isReferencingOtherResources(final ResourceType type, final String content) {
+    return type == ResourceType.CSS && PATTERN_CSS_REFERENCE.matcher(content).find();
+  }
+
+  private byte[] readResource(final Resource resource)
+      throws IOException {
+    final InputStream inputStream = locatorFactory.locate(resource.getUri());
+    try {
+      return IOUtils.toByteArray(inputStream);
+    } finally {
+      IOUtils.closeQuietly(inputStream);
     }
-    return computeCacheValueByContent(content);
   }
 
   private long getResourceWatcherUpdatePeriod() {
@@ -165,8 +343,13 @@ public class DefaultSynchronizedCacheStrategyDecorator
   @Override
   public void clear() {
     super.clear();
-    // reset authorization manager (clear any stored uri's).
-    if (authorizationManager instanceof MutableResourceAuthorizationManager) {
+    fingerprints.clear();
+    metadata.clear();
+    // reset authorization manager (clear any stored uri's). The default manager keeps authorizing the previously stored
+    // uri's until the resources are processed again, avoiding unauthorized proxy requests during reload.
+    if (authorizationManager instanceof DefaultResourceAuthorizationManager) {
+      ((DefaultResourceAuthorizationManager) authorizationManager).startGeneration();
+    } else if (authorizationManager instanceof MutableResourceAuthorizationManager) {
       ((MutableResourceAuthorizationManager) authorizationManager).clear();
     }
   }
@@ -192,7 +375,7 @@ public class DefaultSynchronizedCacheStrategyDecorator
     }
 
     final WroModel model = modelFactory.create();
-    Group group = new WroModelInspector(model).getGroupByName(key.getGroupName());
+    Group group = model.getInspector().getGroupByName(key.getGroupName());
 
     return null != group && group.containsExpiredResource();
   }
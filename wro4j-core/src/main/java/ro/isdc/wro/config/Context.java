@@ -5,11 +5,10 @@ package ro.isdc.wro.config;
 
 import static org.apache.commons.lang3.Validate.notNull;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.FilterConfig;
 import javax.servlet.ServletContext;
@@ -33,9 +32,10 @@ import ro.isdc.wro.http.WroFilter;
 public class Context
     implements ReadOnlyContext {
   /**
-   * Maps correlationId with a Context.
+   * Maps correlationId with a Context. A concurrent map is used, since it is accessed by each request (and by each
+   * thread processing a request) and the lookup should not be serialized on a global lock.
    */
-  private static final Map<String, Context> CONTEXT_MAP = Collections.synchronizedMap(new HashMap<String, Context>());
+  private static final Map<String, Context> CONTEXT_MAP = new ConcurrentHashMap<String, Context>();
   /**
    * Holds a correlationId, created in {@link WroFilter}. A correlationId will be associated with a {@link Context}
    * object.
@@ -104,16 +104,27 @@ public class Context
    * @return {@link Context} associated with CURRENT request cycle.
    */
   public static Context get() {
-    validateContext();
-    final String correlationId = CORRELATION_ID.get();
-    return CONTEXT_MAP.get(correlationId);
+    final Context context = getContextOrNull();
+    if (context == null) {
+      throw newNoContextException();
+    }
+    return context;
   }
 
   /**
    * @return true if the call is done during wro4j request cycle. In other words, if the context is set.
    */
   public static boolean isContextSet() {
-    return CORRELATION_ID.get() != null && CONTEXT_MAP.get(CORRELATION_ID.get()) != null;
+    return getContextOrNull() != null;
+  }
+
+  /**
+   * @return the {@link Context} associated with the correlationId of the current thread or null if there is no such
+   *         context.
+   */
+  private static Context getContextOrNull() {
+    final String correlationId = CORRELATION_ID.get();
+    return correlationId != null ? CONTEXT_MAP.get(correlationId) : null;
   }
 
   /**
@@ -121,10 +132,14 @@ public class Context
    */
   private static void validateContext() {
     if (!isContextSet()) {
-      throw new WroRuntimeException("No context associated with CURRENT request cycle!");
+      throw newNoContextException();
     }
   }
 
+  private static WroRuntimeException newNoContextException() {
+    return new WroRuntimeException("No context associated with CURRENT request cycle!");
+  }
+
   /**
    * Set a context with default configuration to current thread.
    */
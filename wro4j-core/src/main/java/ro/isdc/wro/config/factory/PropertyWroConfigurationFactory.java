@@ -61,6 +61,12 @@ public class PropertyWroConfigurationFactory
     config.setHeader(valueAsString(properties.get(ConfigConstants.header.name())));
     config.setCacheGzippedContent(valueAsBoolean(properties.get(ConfigConstants.cacheGzippedContent.name()), false));
     config.setParallelPreprocessing(valueAsBoolean(properties.get(ConfigConstants.parallelPreprocessing.name()), false));
+    config.setMetricsEnabled(valueAsBoolean(properties.get(ConfigConstants.metricsEnabled.name()), false));
+    config.setCacheRefreshAhead(valueAsBoolean(properties.get(ConfigConstants.cacheRefreshAhead.name()), false));
+    config.setAsyncEnabled(valueAsBoolean(properties.get(ConfigConstants.asyncEnabled.name()), false));
+    config.setAsyncTimeout(valueAsLong(properties.get(ConfigConstants.asyncTimeout.name()),
+        WroConfiguration.DEFAULT_ASYNC_TIMEOUT));
+    config.setExportDirectory(valueAsString(properties.get(ConfigConstants.exportDirectory.name())));
     config.setConnectionTimeout((int) valueAsLong(properties.get(ConfigConstants.connectionTimeout.name()),
         WroConfiguration.DEFAULT_CONNECTION_TIMEOUT));
     config.setUseURIAsGroupName(valueAsBoolean(properties.get(ConfigConstants.useURIAsGroupName.name()), false));
@@ -56,6 +56,34 @@ public enum ConfigConstants {
    * When true, will run in parallel pre processing of multiple resources. In theory this should improve the performance.
    */
   parallelPreprocessing,
+  /**
+   * When true, timing metrics of processors, groups, model creation, locators and cache load are collected and exposed
+   * through JMX and the metrics api request handler.
+   */
+  metricsEnabled,
+  /**
+   * When true, the cache entries are revalidated (instead of being cleared) each time the cacheUpdatePeriod elapses.
+   * The old content is served until the new one is computed and only the groups whose resources changed are processed
+   * again.
+   */
+  cacheRefreshAhead,
+  /**
+   * When true, the requests for bundles which are not cached yet are processed asynchronously, releasing the container
+   * thread during processing. Requires a Servlet 3.0 container and async-supported filter mapping, otherwise the
+   * requests are processed synchronously.
+   */
+  asyncEnabled,
+  /**
+   * Timeout (milliseconds) of the asynchronous processing. When it elapses, the request is answered with 503 (Service
+   * Unavailable) while the processing continues in background.
+   */
+  asyncTimeout,
+  /**
+   * The folder containing the exported bundles. When set, the bundles are served from this folder, falling back to
+   * runtime processing for the bundles which are not exported. When the folder doesn't contain an export yet, it is
+   * created when the first bundle is requested.
+   */
+  exportDirectory,
   /**
    * When this flag is enabled, the raw processed content will be gzipped only the first time and all subsequent
    * requests will use the cached gzipped content. Otherwise, the gzip operation will be performed for each request.
@@ -37,6 +37,10 @@ public final class WroConfiguration
    * Default value for connectionTimeout property.
    */
   public static int DEFAULT_CONNECTION_TIMEOUT = 2000;
+  /**
+   * Default value for asyncTimeout property.
+   */
+  public static final long DEFAULT_ASYNC_TIMEOUT = 30000;
   /**
    * How often to run a thread responsible for refreshing the cache.
    */
@@ -106,6 +110,30 @@ public final class WroConfiguration
    * By default this flag is false, because this feature is experimental.
    */
   private boolean parallelPreprocessing = false;
+  /**
+   * When true, timing metrics of processors, groups, model creation, locators and cache load are collected. Disabled by
+   * default.
+   */
+  private boolean metricsEnabled = false;
+  /**
+   * When true, the cache entries are not evicted when cacheUpdatePeriod elapses. Each entry is revalidated instead and
+   * the previous content is served until its replacement is computed.
+   */
+  private boolean cacheRefreshAhead = false;
+  /**
+   * When true, the requests for bundles which are not cached yet are processed asynchronously (Servlet 3.0 containers
+   * only), releasing the container thread during processing.
+   */
+  private boolean asyncEnabled = false;
+  /**
+   * Timeout (milliseconds) of the asynchronous processing of a request.
+   */
+  private long asyncTimeout = DEFAULT_ASYNC_TIMEOUT;
+  /**
+   * The folder containing the exported (pre-rendered) bundles. When set, the bundles are served from this folder and
+   * only the bundles which are not exported are processed at runtime.
+   */
+  private String exportDirectory;
   /**
    * When a group is empty and this flag is false, the processing will fail. This is useful for runtime solution to
    * allow filter chaining when there is nothing to process for a given request.
@@ -155,6 +183,11 @@ public final class WroConfiguration
       1);
   private final transient List<PropertyChangeListener> modelUpdatePeriodListeners = new ArrayList<PropertyChangeListener>(
       1);
+  /**
+   * Listeners for the change of metricsEnabled property.
+   */
+  private final transient List<PropertyChangeListener> metricsEnabledListeners = new ArrayList<PropertyChangeListener>(
+      1);
 
   /**
    * @return the name of the object used to register the MBean.
@@ -280,6 +313,16 @@ public final class WroConfiguration
     cacheUpdatePeriodListeners.add(listener);
   }
 
+  /**
+   * Register a listener which is notified when the metricsEnabled value is changed.
+   *
+   * @param listener
+   *          to add.
+   */
+  public void registerMetricsEnabledChangeListener(final PropertyChangeListener listener) {
+    metricsEnabledListeners.add(listener);
+  }
+
   /**
    * @return the debug
    */
@@ -347,6 +390,7 @@ public final class WroConfiguration
   public void destroy() {
     cacheUpdatePeriodListeners.clear();
     modelUpdatePeriodListeners.clear();
+    metricsEnabledListeners.clear();
   }
 
   /**
@@ -457,6 +501,84 @@ public final class WroConfiguration
     this.parallelPreprocessing = parallelPreprocessing;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  public boolean isMetricsEnabled() {
+    return metricsEnabled;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setMetricsEnabled(final boolean metricsEnabled) {
+    final boolean oldValue = this.metricsEnabled;
+    this.metricsEnabled = metricsEnabled;
+    if (oldValue != metricsEnabled) {
+      for (final PropertyChangeListener listener : metricsEnabledListeners) {
+        listener.propertyChange(new PropertyChangeEvent(this, "metricsEnabled", oldValue, metricsEnabled));
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean isCacheRefreshAhead() {
+    return cacheRefreshAhead;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setCacheRefreshAhead(final boolean cacheRefreshAhead) {
+    this.cacheRefreshAhead = cacheRefreshAhead;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public boolean isAsyncEnabled() {
+    return asyncEnabled;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setAsyncEnabled(final boolean asyncEnabled) {
+    this.asyncEnabled = asyncEnabled;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public long getAsyncTimeout() {
+    return asyncTimeout;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  public void setAsyncTimeout(final long asyncTimeout) {
+    this.asyncTimeout = asyncTimeout;
+  }
+
+  /**
+   * @return the path of the folder containing the exported bundles or null if the bundles are not exported.
+   */
+  public String getExportDirectory() {
+    return exportDirectory;
+  }
+
+  /**
+   * @param exportDirectory
+   *          the path of the folder where the bundles are exported (once, when the first bundle is requested) and served
+   *          from. An export found in this folder (ex: created at build time) is reused.
+   */
+  public void setExportDirectory(final String exportDirectory) {
+    this.exportDirectory = exportDirectory;
+  }
+
   /**
    * @return value of the flag responsible for handling empty group behavior.
    */
@@ -155,6 +155,52 @@ public interface WroConfigurationMBean {
    */
   boolean isMinimizeEnabled();
 
+  /**
+   * @param metricsEnabled
+   *          turns on/off the collection of timing metrics (exposed by the MetricsRegistry MBean).
+   */
+  void setMetricsEnabled(boolean metricsEnabled);
+
+  /**
+   * @return true if timing metrics are collected.
+   */
+  boolean isMetricsEnabled();
+
+  /**
+   * @param cacheRefreshAhead
+   *          when true, the cache entries are revalidated instead of being cleared when cacheUpdatePeriod elapses.
+   */
+  void setCacheRefreshAhead(boolean cacheRefreshAhead);
+
+  /**
+   * @return true if the cache entries are revalidated instead of being cleared.
+   */
+  boolean isCacheRefreshAhead();
+
+  /**
+   * @param asyncEnabled
+   *          when true, the requests for bundles which are not cached yet are processed asynchronously, if the servlet
+   *          container supports it.
+   */
+  void setAsyncEnabled(boolean asyncEnabled);
+
+  /**
+   * @return true if the requests for bundles which are not cached yet are processed asynchronously.
+   */
+  boolean isAsyncEnabled();
+
+  /**
+   * @param asyncTimeout
+   *          the number of milliseconds to wait for an asynchronously processed bundle before responding with the
+   *          fallback (503) response.
+   */
+  void setAsyncTimeout(long asyncTimeout);
+
+  /**
+   * @return the number of milliseconds to wait for an asynchronously processed bundle.
+   */
+  long getAsyncTimeout();
+
   /**
    * @param useURI
    *          set flag whether using request URI (start with "/") as group name
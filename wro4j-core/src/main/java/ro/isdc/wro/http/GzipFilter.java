@@ -1,9 +1,6 @@
 package ro.isdc.wro.http;
 
-import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
@@ -13,21 +10,22 @@ import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpServletResponseWrapper;
 
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.output.CountingOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import ro.isdc.wro.http.support.HttpHeader;
-import ro.isdc.wro.http.support.RedirectedStreamServletResponseWrapper;
+import ro.isdc.wro.http.support.GzipResponseWrapper;
 import ro.isdc.wro.model.resource.locator.support.DispatcherStreamLocator;
 import ro.isdc.wro.util.WroUtil;
+import ro.isdc.wro.util.io.DeflaterPool;
 
 
 /**
  * A filter responsible for gzipping all content served through this filter.
+ * <p/>
+ * Responses smaller than the bufferThreshold init parameter (in bytes) are gzipped in memory and sent with
+ * Content-Length. Bigger responses are gzipped while they are written, using chunked transfer. Already compressed
+ * content types are not gzipped.
  *
  * @author Alex Objelean
  * @created 11 Apr 2013
@@ -36,12 +34,32 @@ import ro.isdc.wro.util.WroUtil;
 public class GzipFilter
     implements Filter {
   private static final Logger LOG = LoggerFactory.getLogger(GzipFilter.class);
+  /**
+   * The name of the init parameter used to configure the maximum number of bytes buffered before the response is
+   * streamed.
+   */
+  public static final String PARAM_BUFFER_THRESHOLD = "bufferThreshold";
+  /**
+   * Default maximum number of bytes buffered before the response is streamed.
+   */
+  public static final int DEFAULT_BUFFER_THRESHOLD = 32 * 1024;
+  private int bufferThreshold = DEFAULT_BUFFER_THRESHOLD;
+  private final DeflaterPool deflaterPool = new DeflaterPool();
 
   /**
    * {@inheritDoc}
    */
   public void init(final FilterConfig filterConfig)
       throws ServletException {
+    final String threshold = filterConfig.getInitParameter(PARAM_BUFFER_THRESHOLD);
+    if (threshold != null) {
+      try {
+        bufferThreshold = Integer.parseInt(threshold.trim());
+      } catch (final NumberFormatException e) {
+        throw new ServletException("Invalid " + PARAM_BUFFER_THRESHOLD + " value: " + threshold, e);
+      }
+    }
+    LOG.debug("bufferThreshold: {}", bufferThreshold);
   }
 
   /**
@@ -56,6 +74,10 @@ public class GzipFilter
       doGzipResponse(request, response, chain);
     } else {
       LOG.debug("Gzip not allowed. Proceeding with chain.");
+      if (!DispatcherStreamLocator.isIncludedRequest(request)) {
+        // the content is not gzipped because of the Accept-Encoding header
+        GzipResponseWrapper.setVaryHeader(response);
+      }
       chain.doFilter(request, response);
     }
   }
@@ -66,21 +88,14 @@ public class GzipFilter
   private void doGzipResponse(final HttpServletRequest req, final HttpServletResponse response, final FilterChain chain)
       throws IOException, ServletException {
     LOG.debug("Applying gzip on resource: " + req.getRequestURI());
-    response.setHeader(HttpHeader.CONTENT_ENCODING.toString(), "gzip");
-    final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-    final CountingOutputStream countingStream = new CountingOutputStream(new GZIPOutputStream(new BufferedOutputStream(
-        baos)));
-    // final GZIPOutputStream gzout = new GZIPOutputStream(new BufferedOutputStream(baos));
-    // Perform gzip operation in-memory before sending response
-    final HttpServletResponseWrapper wrappedResponse = new RedirectedStreamServletResponseWrapper(countingStream,
-        response);
-    chain.doFilter(req, wrappedResponse);
-    // close underlying stream
-    countingStream.close();
-    response.setContentLength(countingStream.getCount());
-    // avoid NO CONTENT error thrown by jetty when gzipping empty response
-    if (countingStream.getCount() > 0) {
-      IOUtils.write(baos.toByteArray(), response.getOutputStream());
+    final GzipResponseWrapper wrappedResponse = new GzipResponseWrapper(response, bufferThreshold, deflaterPool);
+    try {
+      chain.doFilter(req, wrappedResponse);
+      // avoid NO CONTENT error thrown by jetty when gzipping empty response: nothing is written in that case
+      wrappedResponse.finish();
+    } finally {
+      // the deflater must be given back even if the chain failed while streaming gzipped content
+      wrappedResponse.release();
     }
   }
 
@@ -95,6 +110,7 @@ public class GzipFilter
    * {@inheritDoc}
    */
   public void destroy() {
+    deflaterPool.destroy();
   }
 
 }
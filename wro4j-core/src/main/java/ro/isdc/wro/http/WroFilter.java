@@ -10,6 +10,7 @@ import java.beans.PropertyChangeListener;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.management.JMException;
 import javax.management.MBeanServer;
@@ -22,6 +23,7 @@ import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.ServletResponseWrapper;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -36,14 +38,21 @@ import ro.isdc.wro.config.jmx.WroConfiguration;
 import ro.isdc.wro.http.handler.RequestHandler;
 import ro.isdc.wro.http.handler.factory.DefaultRequestHandlerFactory;
 import ro.isdc.wro.http.handler.factory.RequestHandlerFactory;
+import ro.isdc.wro.http.support.AsyncProcessor;
+import ro.isdc.wro.http.support.AsyncProcessor.AsyncTask;
+import ro.isdc.wro.http.support.DiscardingResponseWrapper;
+import ro.isdc.wro.http.support.GzipResponseWrapper;
 import ro.isdc.wro.http.support.ResponseHeadersConfigurer;
 import ro.isdc.wro.http.support.ServletContextAttributeHelper;
+import ro.isdc.wro.manager.WroManager;
 import ro.isdc.wro.manager.factory.DefaultWroManagerFactory;
 import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.group.processor.InjectorBuilder;
 import ro.isdc.wro.model.resource.locator.ServletContextUriLocator;
 import ro.isdc.wro.model.resource.locator.support.DispatcherStreamLocator;
+import ro.isdc.wro.util.LazyInitializer;
 import ro.isdc.wro.util.ObjectFactory;
 import ro.isdc.wro.util.WroUtil;
 
@@ -97,6 +106,19 @@ public class WroFilter
   private boolean enable = true;
   private Injector injector;
   private MBeanServer mbeanServer = null;
+  /**
+   * The {@link MetricsRegistry} currently exposed as MBean. Replaced when the manager (and its registry) is recreated.
+   */
+  private final AtomicReference<MetricsRegistry> registeredMetricsRegistry = new AtomicReference<MetricsRegistry>();
+  /**
+   * Processes the cache misses when asyncEnabled flag is true. Created on first usage.
+   */
+  private final LazyInitializer<AsyncProcessor> asyncProcessorInitializer = new LazyInitializer<AsyncProcessor>() {
+    @Override
+    protected AsyncProcessor initialize() {
+      return newAsyncProcessor();
+    }
+  };
 
   /**
    * @return true if the provided request contains an attribute indicating that it was handled through {@link WroFilter}
@@ -173,11 +195,37 @@ public class WroFilter
     }
   }
 
+  /**
+   * Expose the {@link MetricsRegistry} of the manager as MBean (only if jmxEnabled is true). When the manager is
+   * recreated, the MBean of the previous registry is replaced.
+   */
+  private void registerMetricsMBean(final MetricsRegistry metricsRegistry) {
+    if (mbeanServer != null && registeredMetricsRegistry.get() != metricsRegistry) {
+      synchronized (registeredMetricsRegistry) {
+        if (registeredMetricsRegistry.get() != metricsRegistry) {
+          try {
+            final ObjectName name = getMetricsMBeanObjectName();
+            if (mbeanServer.isRegistered(name)) {
+              mbeanServer.unregisterMBean(name);
+            }
+            mbeanServer.registerMBean(metricsRegistry, name);
+            registeredMetricsRegistry.set(metricsRegistry);
+          } catch (final JMException e) {
+            LOG.error("Exception occured while registering MBean", e);
+          }
+        }
+      }
+    }
+  }
+
   private void unregisterMBean() {
     try {
       if (mbeanServer != null && mbeanServer.isRegistered(getMBeanObjectName())) {
         mbeanServer.unregisterMBean(getMBeanObjectName());
       }
+      if (registeredMetricsRegistry.getAndSet(null) != null && mbeanServer.isRegistered(getMetricsMBeanObjectName())) {
+        mbeanServer.unregisterMBean(getMetricsMBeanObjectName());
+      }
     } catch (final JMException e) {
       LOG.error("Exception occured while registering MBean", e);
     }
@@ -188,6 +236,11 @@ public class WroFilter
     return new ObjectName(newMBeanName(), "type", WroConfiguration.class.getSimpleName());
   }
 
+  private ObjectName getMetricsMBeanObjectName()
+      throws MalformedObjectNameException {
+    return new ObjectName(newMBeanName(), "type", MetricsRegistry.class.getSimpleName());
+  }
+
   /**
    * @return the name of MBean to be used by JMX to configure wro4j.
    */
@@ -243,7 +296,16 @@ public class WroFilter
         wroManagerFactory.onModelPeriodChanged(valueAsLong(event.getNewValue()));
       }
     });
-    LOG.debug("Cache & Model change listeners were registered");
+    wroConfiguration.registerMetricsEnabledChangeListener(new PropertyChangeListener() {
+      public void propertyChange(final PropertyChangeEvent event) {
+        try {
+          wroManagerFactory.create().getMetricsRegistry().setEnabled(Boolean.TRUE.equals(event.getNewValue()));
+        } catch (final RuntimeException e) {
+          LOG.warn("[FAIL] Unable to change the metricsEnabled flag, probably because invoked outside of context");
+        }
+      }
+    });
+    LOG.debug("Cache, Model & Metrics change listeners were registered");
   }
 
   /**
@@ -285,7 +347,7 @@ public class WroFilter
         // add request, response & servletContext to thread local
         Context.set(Context.webContext(request, response, filterConfig), wroConfiguration);
         addPassThroughFilterAttribute(request);
-        if (!handledWithRequestHandler(request, response)) {
+        if (!handledWithRequestHandler(request, response) && !processedAsync(request, response, chain)) {
           processRequest(request, response);
           onRequestProcessed();
         }
@@ -332,7 +394,93 @@ public class WroFilter
       throws ServletException, IOException {
     setResponseHeaders(response);
     // process the uri using manager
-    wroManagerFactory.create().process();
+    final WroManager manager = wroManagerFactory.create();
+    registerMetricsMBean(manager.getMetricsRegistry());
+    manager.process();
+  }
+
+  /**
+   * The {@link GzipFilter} finishes the compressed stream as soon as the filter chain returns, thus before the response
+   * of an async request is written.
+   *
+   * @return true if the response is compressed by {@link GzipFilter}.
+   */
+  private boolean isGzipResponse(final ServletResponse response) {
+    ServletResponse current = response;
+    while (current instanceof ServletResponseWrapper) {
+      if (current instanceof GzipResponseWrapper) {
+        return true;
+      }
+      current = ((ServletResponseWrapper) current).getResponse();
+    }
+    return false;
+  }
+
+  /**
+   * Hands the request to the {@link AsyncProcessor} when the requested bundle is not cached yet, releasing the container
+   * thread during the processing. Nothing happens if the async mode is disabled or not supported by the container, or if
+   * the response is compressed by {@link GzipFilter}.
+   *
+   * @return true if the request is processed asynchronously.
+   */
+  private boolean processedAsync(final HttpServletRequest request, final HttpServletResponse response,
+      final FilterChain chain) {
+    if (!wroConfiguration.isAsyncEnabled() || !AsyncProcessor.isAsyncSupported(request) || isGzipResponse(response)
+        || wroManagerFactory.create().isRequestedBundleLoaded()) {
+      return false;
+    }
+    LOG.debug("processing asynchronously: {}", request.getRequestURI());
+    asyncProcessorInitializer.get().process(request, new AsyncTask() {
+      public void prepare()
+          throws Exception {
+        // populate the cache, without writing the response
+        final HttpServletResponse discardingResponse = new DiscardingResponseWrapper(response);
+        Context.set(Context.webContext(request, discardingResponse, filterConfig), wroConfiguration);
+        try {
+          processRequest(request, discardingResponse);
+        } finally {
+          Context.unset();
+        }
+      }
+
+      public void respond()
+          throws Exception {
+        Context.set(Context.webContext(request, response, filterConfig), wroConfiguration);
+        try {
+          processRequest(request, response);
+          onRequestProcessed();
+        } catch (final Exception e) {
+          onException(e, response, chain);
+        } finally {
+          Context.unset();
+        }
+      }
+
+      public void onTimeout()
+          throws Exception {
+        onAsyncTimeout(request, response);
+      }
+    }, wroConfiguration.getAsyncTimeout());
+    return true;
+  }
+
+  /**
+   * Invoked when the asynchronous processing of a request doesn't complete in time (asyncTimeout). The processing
+   * continues in background and its result will be cached. The default implementation responds with 503 (Service
+   * Unavailable) status code.
+   */
+  protected void onAsyncTimeout(final HttpServletRequest request, final HttpServletResponse response)
+      throws IOException {
+    LOG.warn("Processing of {} timed out", request.getRequestURI());
+    response.setHeader("Retry-After", "1");
+    response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+  }
+
+  /**
+   * @return the {@link AsyncProcessor} used to process the requests when asyncEnabled flag is true.
+   */
+  protected AsyncProcessor newAsyncProcessor() {
+    return new AsyncProcessor(Runtime.getRuntime().availableProcessors());
   }
 
   /**
@@ -342,7 +490,21 @@ public class WroFilter
     // prevent StackOverflowError by skipping the already included wro request
     return enable
            && !DispatcherStreamLocator.isIncludedRequest(request)
-           && !request.getRequestURI().matches(".+\\.min\\.(css|js)$");
+           && !isMinimizedResource(request.getRequestURI());
+  }
+
+  /**
+   * @return true if the uri points to an already minimized resource (ex: jquery.min.js), which must not be processed.
+   */
+  private boolean isMinimizedResource(final String requestUri) {
+    return endsWithSuffix(requestUri, ".min.css") || endsWithSuffix(requestUri, ".min.js");
+  }
+
+  /**
+   * @return true if the value ends with the suffix and has at least one more character before it.
+   */
+  private boolean endsWithSuffix(final String value, final String suffix) {
+    return value.length() > suffix.length() && value.endsWith(suffix);
   }
 
   /**
@@ -484,6 +646,9 @@ public class WroFilter
   public void destroy() {
     //Avoid memory leak by unregistering mBean on destroy
     unregisterMBean();
+    if (asyncProcessorInitializer.isInitialized()) {
+      asyncProcessorInitializer.get().destroy();
+    }
     if (wroManagerFactory != null) {
       wroManagerFactory.destroy();
     }
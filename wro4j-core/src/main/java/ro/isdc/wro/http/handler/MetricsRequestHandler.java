@@ -0,0 +1,57 @@
+package ro.isdc.wro.http.handler;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import ro.isdc.wro.config.ReadOnlyContext;
+import ro.isdc.wro.http.support.ResponseHeadersConfigurer;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.util.WroUtil;
+
+
+/**
+ * Exposes the metrics collected by {@link MetricsRegistry} as JSON on HTTP requests to "wroAPI/metrics".
+ * <p/>
+ * This handler is available only when the metricsEnabled configuration flag is true.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class MetricsRequestHandler
+    extends RequestHandlerSupport {
+  /**
+   * The alias of this {@link RequestHandler} used for configuration.
+   */
+  public static final String ALIAS = "metrics";
+  /**
+   * API - metrics method call
+   */
+  public static final String ENDPOINT_URI = PATH_API + "/metrics";
+  static final String CONTENT_TYPE = "application/json";
+  @Inject
+  private ReadOnlyContext context;
+  @Inject
+  private MetricsRegistry metricsRegistry;
+
+  @Override
+  public void handle(final HttpServletRequest request, final HttpServletResponse response)
+      throws IOException {
+    ResponseHeadersConfigurer.noCache().setHeaders(response);
+    response.setStatus(HttpServletResponse.SC_OK);
+    response.setContentType(CONTENT_TYPE);
+    response.getWriter().write(metricsRegistry.toJson());
+  }
+
+  @Override
+  public boolean accept(final HttpServletRequest request) {
+    return WroUtil.matchesUrl(request, ENDPOINT_URI);
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return super.isEnabled() && context.getConfig().isMetricsEnabled();
+  }
+}
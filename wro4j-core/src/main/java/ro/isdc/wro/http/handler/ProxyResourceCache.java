@@ -0,0 +1,166 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.http.handler;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * A bounded, least recently used cache of the resources served by {@link ResourceProxyRequestHandler}. Each entry
+ * holds the content of a proxied resource together with its ETag and (for compressible content types) its gzipped
+ * variant, all computed once when the resource is loaded. Neither the total size of cached content nor the number of
+ * entries exceed the configured maximum: least recently used entries are evicted first. All entries are discarded when
+ * the version of the cache changes (see {@link #get(String, long)}).
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+class ProxyResourceCache {
+  /**
+   * Default maximum size of a single cached resource.
+   */
+  static final int DEFAULT_MAX_ENTRY_SIZE = 512 * 1024;
+  /**
+   * Default maximum size of all cached resources.
+   */
+  static final long DEFAULT_MAX_SIZE = 16 * 1024 * 1024;
+  /**
+   * Default maximum number of entries (including the entries marking resources which are too large to be cached).
+   */
+  static final int DEFAULT_MAX_ENTRIES = 1024;
+  /**
+   * Default time to live of an entry, used when no cache update period is configured.
+   */
+  static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(1);
+  private final Map<String, ProxyResource> entries = new LinkedHashMap<String, ProxyResource>(16, 0.75f, true);
+  private final long maxSize;
+  private final int maxEntrySize;
+  private final int maxEntries;
+  private long size;
+  private long version;
+
+  ProxyResourceCache() {
+    this(DEFAULT_MAX_SIZE, DEFAULT_MAX_ENTRY_SIZE, DEFAULT_MAX_ENTRIES);
+  }
+
+  ProxyResourceCache(final long maxSize, final int maxEntrySize, final int maxEntries) {
+    this.maxSize = maxSize;
+    this.maxEntrySize = maxEntrySize;
+    this.maxEntries = maxEntries;
+  }
+
+  /**
+   * @param version
+   *          the current version of the data the entries are derived from. When it differs from the version of the
+   *          previous call, all entries are discarded.
+   * @return the cached resource or null if there is no entry for the provided uri.
+   */
+  public synchronized ProxyResource get(final String uri, final long version) {
+    if (this.version != version) {
+      clear();
+      this.version = version;
+    }
+    return entries.get(uri);
+  }
+
+  /**
+   * Stores the resource, evicting the least recently used entries if the maximum size or number of entries is exceeded.
+   */
+  public synchronized void put(final String uri, final ProxyResource resource) {
+    final ProxyResource previous = entries.put(uri, resource);
+    if (previous != null) {
+      size -= previous.getSize();
+    }
+    size += resource.getSize();
+    final Iterator<ProxyResource> iterator = entries.values().iterator();
+    while ((size > maxSize || entries.size() > maxEntries) && iterator.hasNext()) {
+      size -= iterator.next().getSize();
+      iterator.remove();
+    }
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    size = 0;
+  }
+
+  /**
+   * @return the total size of the cached content.
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  /**
+   * @return the number of entries.
+   */
+  public synchronized int getCount() {
+    return entries.size();
+  }
+
+  /**
+   * @return the maximum size of a resource which can be cached. Larger resources are streamed on each request.
+   */
+  public int getMaxEntrySize() {
+    return maxEntrySize;
+  }
+
+  /**
+   * The cached representation of a proxied resource.
+   */
+  static final class ProxyResource {
+    private final byte[] content;
+    private final byte[] gzippedContent;
+    private final String etag;
+    private final long created = System.currentTimeMillis();
+
+    /**
+     * @param content
+     *          the content of the resource or null if the resource is too large to be cached.
+     * @param gzippedContent
+     *          the gzipped content or null if the content is not worth compressing.
+     * @param etag
+     *          the quoted ETag value computed from the content.
+     */
+    ProxyResource(final byte[] content, final byte[] gzippedContent, final String etag) {
+      this.content = content;
+      this.gzippedContent = gzippedContent;
+      this.etag = etag;
+    }
+
+    /**
+     * @return an entry marking a resource which is too large to be cached.
+     */
+    static ProxyResource uncacheable() {
+      return new ProxyResource(null, null, null);
+    }
+
+    public boolean isCached() {
+      return content != null;
+    }
+
+    public byte[] getContent() {
+      return content;
+    }
+
+    public byte[] getGzippedContent() {
+      return gzippedContent;
+    }
+
+    public String getEtag() {
+      return etag;
+    }
+
+    public long getCreated() {
+      return created;
+    }
+
+    long getSize() {
+      return (content == null ? 0 : content.length) + (gzippedContent == null ? 0 : gzippedContent.length);
+    }
+  }
+}
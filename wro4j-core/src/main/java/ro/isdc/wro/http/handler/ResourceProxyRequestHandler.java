@@ -2,27 +2,46 @@ package ro.isdc.wro.http.handler;
 
 import static org.apache.commons.lang3.Validate.notNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.AutoCloseInputStream;
+import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.AbstractSynchronizedCacheStrategyDecorator;
 import ro.isdc.wro.config.ReadOnlyContext;
 import ro.isdc.wro.http.WroFilter;
+import ro.isdc.wro.http.handler.ProxyResourceCache.ProxyResource;
 import ro.isdc.wro.http.support.ContentTypeResolver;
+import ro.isdc.wro.http.support.GzipResponseWrapper;
 import ro.isdc.wro.http.support.HttpHeader;
 import ro.isdc.wro.http.support.ResponseHeadersConfigurer;
 import ro.isdc.wro.http.support.UnauthorizedRequestException;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.group.Inject;
 import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
 import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+import ro.isdc.wro.util.WroUtil;
 
 
 /**
@@ -37,6 +56,12 @@ import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
  * <li>wroAPI - having the 'wroResources' value</li>
  * <li>id - the id of the proxy resource</li>
  * </ul>
+ * <p/>
+ * When debug mode is disabled, the located resources are kept in a bounded in-memory cache together with their ETag,
+ * length and (for compressible content types) gzipped variant, all computed once. The cached resources expire after the
+ * cache update period (or one minute when no period is configured) and are discarded when the cache of processed
+ * groups is cleared. Resources too large to be cached are streamed on each request, using a {@link FileChannel}
+ * transfer when they are backed by a file.
  *
  * @author Ivar Conradi Østhus
  * @created 19 May 2012
@@ -52,6 +77,7 @@ public class ResourceProxyRequestHandler
    * The alias of this {@link RequestHandler} used for configuration.
    */
   public static final String ALIAS = "resourceProxy";
+  private static final int IO_BUFFER_SIZE = 4096;
 
   @Inject
   private UriLocatorFactory locatorFactory;
@@ -61,7 +87,14 @@ public class ResourceProxyRequestHandler
 
   @Inject
   private ResourceAuthorizationManager authManager;
+  @Inject
+  private HashStrategy hashStrategy;
+  @Inject
+  private CacheStrategy<CacheKey, CacheValue> cacheStrategy;
+  @Inject
+  private MetricsRegistry metricsRegistry;
   private ResponseHeadersConfigurer headersConfigurer;
+  private final ProxyResourceCache resourceCache = new ProxyResourceCache();
 
   @Override
   public void handle(final HttpServletRequest request, final HttpServletResponse response)
@@ -79,28 +112,227 @@ public class ResourceProxyRequestHandler
       throws IOException {
     final String resourceUri = getResourceUri(request);
     LOG.debug("[OK] serving proxy resource: {}", resourceUri);
+    final String contentType = ContentTypeResolver.get(resourceUri, context.getConfig().getEncoding());
+    response.setContentType(contentType);
+
+    final ProxyResource resource = getProxyResource(resourceUri);
+    if (resource == null) {
+      if (context.getConfig().isDebug()) {
+        serveLocatedResource(request, response, resourceUri, null);
+      } else {
+        loadAndServeResource(request, response, resourceUri, contentType);
+      }
+    } else if (resource.isCached()) {
+      serveCachedResource(request, response, resource);
+    } else {
+      serveLocatedResource(request, response, resourceUri, null);
+    }
+  }
+
+  /**
+   * Locates the resource once: the resource is cached and served from cache if it is small enough, otherwise it is
+   * marked as uncacheable and the located stream is served (including the part already read).
+   */
+  private void loadAndServeResource(final HttpServletRequest request, final HttpServletResponse response,
+      final String resourceUri, final String contentType)
+      throws IOException {
+    final InputStream is = locatorFactory.locate(resourceUri);
+    try {
+      final int maxEntrySize = resourceCache.getMaxEntrySize();
+      if (is instanceof FileInputStream && ((FileInputStream) is).getChannel().size() > maxEntrySize) {
+        resourceCache.put(resourceUri, ProxyResource.uncacheable());
+        serveLocatedResource(request, response, resourceUri, is);
+        return;
+      }
+      final ByteArrayOutputStream os = new ByteArrayOutputStream();
+      if (!readContent(is, os, maxEntrySize)) {
+        LOG.debug("Resource {} is larger than {} bytes and won't be cached", resourceUri, maxEntrySize);
+        resourceCache.put(resourceUri, ProxyResource.uncacheable());
+        serveLocatedResource(request, response, resourceUri,
+            new SequenceInputStream(new ByteArrayInputStream(os.toByteArray()), is));
+        return;
+      }
+      final byte[] content = os.toByteArray();
+      final String etag = String.format("\"%s\"", hashStrategy.getHash(new ByteArrayInputStream(content)));
+      final ProxyResource resource = new ProxyResource(content, gzip(content, contentType), etag);
+      resourceCache.put(resourceUri, resource);
+      serveCachedResource(request, response, resource);
+    } finally {
+      IOUtils.closeQuietly(is);
+    }
+  }
+
+  private void serveCachedResource(final HttpServletRequest request, final HttpServletResponse response,
+      final ProxyResource resource)
+      throws IOException {
+    response.setHeader(HttpHeader.ETAG.toString(), resource.getEtag());
+    final String ifNoneMatch = request.getHeader(HttpHeader.IF_NONE_MATCH.toString());
+    final boolean changed = ifNoneMatch == null ? isResourceChanged(request) : !matchesEtag(ifNoneMatch,
+        resource.getEtag());
+    if (!changed) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+    // set expiry headers
+    getHeadersConfigurer().setHeaders(response);
+    byte[] content = resource.getContent();
+    if (resource.getGzippedContent() != null) {
+      response.setHeader("Vary", "Accept-Encoding");
+      if (isGzipAllowed(request)) {
+        content = resource.getGzippedContent();
+        response.setHeader(HttpHeader.CONTENT_ENCODING.toString(), "gzip");
+      }
+    }
+    response.setContentLength(content.length);
+    response.setStatus(HttpServletResponse.SC_OK);
+    final OutputStream outputStream = response.getOutputStream();
+    try {
+      outputStream.write(content);
+    } finally {
+      IOUtils.closeQuietly(outputStream);
+    }
+  }
+
+  /**
+   * Streams a resource which is not cached. When the resource is backed by a file, the content length is known upfront
+   * and the content is transferred directly from the {@link FileChannel}.
+   *
+   * @param located
+   *          the stream of the already located resource or null if the resource must be located.
+   */
+  private void serveLocatedResource(final HttpServletRequest request, final HttpServletResponse response,
+      final String resourceUri, final InputStream located)
+      throws IOException {
+    if (!isResourceChanged(request)) {
+      IOUtils.closeQuietly(located);
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+    // set expiry headers
+    getHeadersConfigurer().setHeaders(response);
     final OutputStream outputStream = response.getOutputStream();
-    response.setContentType(ContentTypeResolver.get(resourceUri, context.getConfig().getEncoding()));
-
-    if (isResourceChanged(request)) {
-      // set expiry headers
-      getHeadersConfigurer().setHeaders(response);
-      InputStream is = null;
-      try {
-        is = new AutoCloseInputStream(locatorFactory.locate(resourceUri));
+    InputStream is = located;
+    try {
+      if (is == null) {
+        is = locatorFactory.locate(resourceUri);
+      }
+      if (is instanceof FileInputStream) {
+        final FileChannel channel = ((FileInputStream) is).getChannel();
+        final long size = channel.size();
+        if (size <= Integer.MAX_VALUE) {
+          response.setContentLength((int) size);
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        transfer(channel, size, Channels.newChannel(outputStream));
+      } else {
+        is = new AutoCloseInputStream(is);
         final int length = IOUtils.copy(is, outputStream);
         // servlet engine may ignore this if content body is flushed to client
         response.setContentLength(length);
         response.setStatus(HttpServletResponse.SC_OK);
-      } finally {
-        IOUtils.closeQuietly(is);
-        IOUtils.closeQuietly(outputStream);
       }
-    } else {
-      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    } finally {
+      IOUtils.closeQuietly(is);
+      IOUtils.closeQuietly(outputStream);
     }
   }
 
+  private void transfer(final FileChannel channel, final long size, final WritableByteChannel target)
+      throws IOException {
+    long position = 0;
+    while (position < size) {
+      final long transferred = channel.transferTo(position, size - position, target);
+      if (transferred <= 0) {
+        // the file was truncated meanwhile
+        break;
+      }
+      position += transferred;
+    }
+  }
+
+  /**
+   * @return the cached representation of the resource or null if the resource is not cached, is expired or the cache
+   *         should not be used (debug mode).
+   */
+  private ProxyResource getProxyResource(final String resourceUri) {
+    if (context.getConfig().isDebug()) {
+      return null;
+    }
+    final ProxyResource resource = resourceCache.get(resourceUri, getCacheVersion());
+    return resource == null || isExpired(resource) ? null : resource;
+  }
+
+  /**
+   * @return the version of the cache of processed groups, used to discard the cached resources when that cache is
+   *         cleared.
+   */
+  private long getCacheVersion() {
+    return cacheStrategy instanceof AbstractSynchronizedCacheStrategyDecorator
+        ? ((AbstractSynchronizedCacheStrategyDecorator<?, ?>) cacheStrategy).getVersion()
+        : 0;
+  }
+
+  /**
+   * @return true if the cached resource is older than the cache update period (or the default time to live when no
+   *         cache update period is configured).
+   */
+  private boolean isExpired(final ProxyResource resource) {
+    final long cacheUpdatePeriod = context.getConfig().getCacheUpdatePeriod();
+    final long timeToLive = cacheUpdatePeriod > 0 ? TimeUnit.SECONDS.toMillis(cacheUpdatePeriod)
+        : ProxyResourceCache.DEFAULT_TIME_TO_LIVE;
+    return System.currentTimeMillis() - resource.getCreated() > timeToLive;
+  }
+
+  /**
+   * Reads the stream into the provided buffer, stopping as soon as more than maxSize bytes were read.
+   *
+   * @return true if the whole content was read, false if it is larger than maxSize.
+   */
+  private boolean readContent(final InputStream is, final ByteArrayOutputStream os, final int maxSize)
+      throws IOException {
+    final byte[] buffer = new byte[IO_BUFFER_SIZE];
+    int read;
+    while ((read = is.read(buffer)) != -1) {
+      os.write(buffer, 0, read);
+      if (os.size() > maxSize) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the gzipped content or null if the content type is already compressed or compression doesn't help.
+   */
+  private byte[] gzip(final byte[] content, final String contentType)
+      throws IOException {
+    if (GzipResponseWrapper.isCompressedContentType(contentType)) {
+      return null;
+    }
+    final ByteArrayOutputStream os = new ByteArrayOutputStream();
+    final GZIPOutputStream gzipStream = new GZIPOutputStream(os);
+    gzipStream.write(content);
+    gzipStream.close();
+    return os.size() < content.length ? os.toByteArray() : null;
+  }
+
+  /**
+   * @return true if the value of the If-None-Match header contains the provided etag.
+   */
+  private boolean matchesEtag(final String ifNoneMatch, final String etag) {
+    for (final String candidate : StringUtils.split(ifNoneMatch, ',')) {
+      final String value = StringUtils.removeStart(candidate.trim(), "W/");
+      if ("*".equals(value) || etag.equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isGzipAllowed(final HttpServletRequest request) {
+    return context.getConfig().isGzipEnabled() && WroUtil.isGzipSupported(request);
+  }
+
   /**
    * Used to identify whether the {@link HttpServletResponse#SC_NOT_MODIFIED} or {@link HttpServletResponse#SC_OK}
    * should be returned. Currently a single timestamp is used to detect the change for all resources. This might be no
@@ -122,7 +354,10 @@ public class ResourceProxyRequestHandler
 
   private void verifyAccess(final HttpServletRequest request, final HttpServletResponse response) {
     final String resourceUri = getResourceUri(request);
-    if (!authManager.isAuthorized(resourceUri)) {
+    final long start = metricsRegistry.start();
+    final boolean authorized = authManager.isAuthorized(resourceUri);
+    metricsRegistry.stop(MetricsRegistry.PROXY_AUTHORIZATION, start, authorized);
+    if (!authorized) {
       LOG.debug("[FAIL] Unauthorized proxy resource: {}", resourceUri);
       response.setStatus(HttpServletResponse.SC_FORBIDDEN);
       throw new UnauthorizedRequestException("Unauthorized resource request detected: " + resourceUri);
@@ -3,6 +3,7 @@ package ro.isdc.wro.http.handler.factory;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.slf4j.Logger;
@@ -36,10 +37,21 @@ public class DefaultRequestHandlerFactory
   public static RequestHandlerFactory decorate(final RequestHandlerFactory decorated,
       final ObjectFactory<Injector> injectorProvider) {
     return new RequestHandlerFactory() {
+      /**
+       * The handlers injected by the last used injector. Injection is performed again only when the decorated factory
+       * provides other handlers or when the injector changes.
+       */
+      private volatile InjectedHandlers injected;
+
       public Collection<RequestHandler> create() {
         final Collection<RequestHandler> handlers = decorated.create();
-        for (final RequestHandler handler : handlers) {
-          injectorProvider.create().inject(handler);
+        final Injector injector = injectorProvider.create();
+        final InjectedHandlers current = injected;
+        if (current == null || !current.isInjected(injector, handlers)) {
+          for (final RequestHandler handler : handlers) {
+            injector.inject(handler);
+          }
+          injected = new InjectedHandlers(injector, handlers);
         }
         return handlers;
       }
@@ -62,4 +74,33 @@ public class DefaultRequestHandlerFactory
     }
     setHandlers(requestHandlers);
   }
+
+  /**
+   * Snapshot of handlers injected by an {@link Injector}.
+   */
+  private static final class InjectedHandlers {
+    private final Injector injector;
+    private final List<RequestHandler> handlers;
+
+    InjectedHandlers(final Injector injector, final Collection<RequestHandler> handlers) {
+      this.injector = injector;
+      this.handlers = new ArrayList<RequestHandler>(handlers);
+    }
+
+    /**
+     * @return true if the same handler instances (in the same order) were injected by the provided injector.
+     */
+    boolean isInjected(final Injector injector, final Collection<RequestHandler> handlers) {
+      if (this.injector != injector || this.handlers.size() != handlers.size()) {
+        return false;
+      }
+      final Iterator<RequestHandler> iterator = this.handlers.iterator();
+      for (final RequestHandler handler : handlers) {
+        if (handler != iterator.next()) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
 }
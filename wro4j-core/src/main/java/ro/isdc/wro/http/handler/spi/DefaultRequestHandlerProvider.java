@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import ro.isdc.wro.http.handler.LazyRequestHandlerDecorator;
+import ro.isdc.wro.http.handler.MetricsRequestHandler;
 import ro.isdc.wro.http.handler.ReloadCacheRequestHandler;
 import ro.isdc.wro.http.handler.ReloadModelRequestHandler;
 import ro.isdc.wro.http.handler.RequestHandler;
@@ -47,6 +48,12 @@ public class DefaultRequestHandlerProvider implements RequestHandlerProvider {
         return new ResourceWatcherRequestHandler();
       }
     }));
+    map.put(MetricsRequestHandler.ALIAS, new LazyRequestHandlerDecorator(new LazyInitializer<RequestHandler>() {
+      @Override
+      protected RequestHandler initialize() {
+        return new MetricsRequestHandler();
+      }
+    }));
     return map;
   }
 }
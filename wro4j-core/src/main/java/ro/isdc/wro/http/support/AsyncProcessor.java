@@ -0,0 +1,168 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.http.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.ServletRequest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.util.WroUtil;
+
+
+/**
+ * Processes requests using the asynchronous support introduced by Servlet 3.0, in order to release the container thread
+ * while a slow operation is performed. Since wro4j is compiled against an older servlet api, the async support is
+ * detected and used through reflection.
+ * <p/>
+ * Each {@link AsyncTask} is executed in two steps by a pool of processing threads: {@link AsyncTask#prepare()} performs
+ * the slow operation without writing anything, after which {@link AsyncTask#respond()} writes the response. When the
+ * preparation doesn't complete in time, {@link AsyncTask#onTimeout()} is invoked instead of
+ * {@link AsyncTask#respond()}. Exactly one of them is invoked, after which the async request is completed.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class AsyncProcessor {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncProcessor.class);
+  private final ExecutorService executor;
+  private final ScheduledExecutorService timeoutScheduler;
+
+  /**
+   * @param poolSize
+   *          the number of threads used to process the async requests.
+   */
+  public AsyncProcessor(final int poolSize) {
+    executor = Executors.newFixedThreadPool(poolSize, WroUtil.createDaemonThreadFactory("wroAsyncProcessing"));
+    timeoutScheduler = Executors.newSingleThreadScheduledExecutor(WroUtil.createDaemonThreadFactory("wroAsyncTimeout"));
+  }
+
+  /**
+   * The work performed for an async request.
+   */
+  public static interface AsyncTask {
+    /**
+     * Performs the slow part of the processing, without writing the response.
+     */
+    void prepare()
+        throws Exception;
+
+    /**
+     * Writes the response, once the task is prepared.
+     */
+    void respond()
+        throws Exception;
+
+    /**
+     * Writes the fallback response, when the task wasn't prepared in time.
+     */
+    void onTimeout()
+        throws Exception;
+  }
+
+  /**
+   * @return true if the request can be put into asynchronous mode. Always false in a pre Servlet 3.0 container.
+   */
+  public static boolean isAsyncSupported(final ServletRequest request) {
+    try {
+      return Boolean.TRUE.equals(invoke(request, "isAsyncSupported"));
+    } catch (final WroRuntimeException e) {
+      LOG.debug("Async support cannot be detected", e);
+      return false;
+    }
+  }
+
+  /**
+   * Puts the request into asynchronous mode and executes the task in a processing thread. The calling thread returns
+   * immediately.
+   *
+   * @param request
+   *          a request for which {@link #isAsyncSupported(ServletRequest)} is true.
+   * @param task
+   *          the {@link AsyncTask} to execute.
+   * @param timeout
+   *          the number of milliseconds to wait for the task to be prepared. A value less or equal to zero means no
+   *          timeout.
+   */
+  public void process(final ServletRequest request, final AsyncTask task, final long timeout) {
+    final Object asyncContext = invoke(request, "startAsync");
+    // the timeout is handled by the processor, in order to invoke the fallback
+    invoke(asyncContext, "setTimeout", new Class<?>[] {
+      long.class
+    }, 0L);
+    final AtomicBoolean completed = new AtomicBoolean();
+    final ScheduledFuture<?> timeoutFuture = timeout > 0 ? timeoutScheduler.schedule(new Runnable() {
+      public void run() {
+        if (completed.compareAndSet(false, true)) {
+          LOG.debug("Async request timed out after {}ms", timeout);
+          execute(task, false, asyncContext);
+        }
+      }
+    }, timeout, TimeUnit.MILLISECONDS) : null;
+    executor.execute(new Runnable() {
+      public void run() {
+        try {
+          task.prepare();
+        } catch (final Exception e) {
+          LOG.debug("Async task preparation failed", e);
+        }
+        if (completed.compareAndSet(false, true)) {
+          if (timeoutFuture != null) {
+            timeoutFuture.cancel(false);
+          }
+          execute(task, true, asyncContext);
+        }
+      }
+    });
+  }
+
+  private void execute(final AsyncTask task, final boolean prepared, final Object asyncContext) {
+    try {
+      if (prepared) {
+        task.respond();
+      } else {
+        task.onTimeout();
+      }
+    } catch (final Exception e) {
+      LOG.error("Async request failed", e);
+    } finally {
+      invoke(asyncContext, "complete");
+    }
+  }
+
+  private static Object invoke(final Object target, final String methodName) {
+    return invoke(target, methodName, new Class<?>[] {});
+  }
+
+  private static Object invoke(final Object target, final String methodName, final Class<?>[] parameterTypes,
+      final Object... args) {
+    try {
+      final Method method = target.getClass().getMethod(methodName, parameterTypes);
+      // the implementation class of the container may not be public
+      method.setAccessible(true);
+      return method.invoke(target, args);
+    } catch (final NoSuchMethodException e) {
+      throw WroRuntimeException.wrap(e, "Async processing is not supported by the servlet container");
+    } catch (final IllegalAccessException e) {
+      throw WroRuntimeException.wrap(e);
+    } catch (final InvocationTargetException e) {
+      throw WroRuntimeException.wrap(e, "Cannot invoke " + methodName);
+    }
+  }
+
+  public void destroy() {
+    executor.shutdownNow();
+    timeoutScheduler.shutdownNow();
+  }
+}
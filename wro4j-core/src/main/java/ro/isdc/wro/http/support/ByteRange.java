@@ -0,0 +1,101 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.http.support;
+
+import org.apache.commons.lang3.StringUtils;
+
+
+/**
+ * A single byte range requested using the Range header. Multiple ranges are not supported: a request containing more
+ * than one range is served as a whole.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public final class ByteRange {
+  private static final String PREFIX = "bytes=";
+  private final long start;
+  private final long end;
+  private final long length;
+
+  private ByteRange(final long start, final long end, final long length) {
+    this.start = start;
+    this.end = end;
+    this.length = length;
+  }
+
+  /**
+   * Parses the value of the Range header.
+   *
+   * @param header
+   *          the value of the Range header (can be null).
+   * @param length
+   *          the length of the content.
+   * @return the requested {@link ByteRange} or null if the header is missing, malformed or contains multiple ranges.
+   */
+  public static ByteRange parse(final String header, final long length) {
+    if (header == null || !header.startsWith(PREFIX) || header.indexOf(',') >= 0) {
+      return null;
+    }
+    final String range = header.substring(PREFIX.length()).trim();
+    final int dashIndex = range.indexOf('-');
+    if (dashIndex < 0) {
+      return null;
+    }
+    final String first = range.substring(0, dashIndex).trim();
+    final String last = range.substring(dashIndex + 1).trim();
+    if (!isPosition(first) || !isPosition(last) || (first.length() == 0 && last.length() == 0)) {
+      return null;
+    }
+    try {
+      if (first.length() == 0) {
+        // suffix range: the last N bytes
+        final long suffixLength = Math.min(Long.parseLong(last), length);
+        return new ByteRange(length - suffixLength, length - 1, length);
+      }
+      final long start = Long.parseLong(first);
+      if (last.length() == 0) {
+        return new ByteRange(start, length - 1, length);
+      }
+      final long end = Long.parseLong(last);
+      // a range whose last position is before the first one is invalid and must be ignored
+      return end < start ? null : new ByteRange(start, Math.min(end, length - 1), length);
+    } catch (final NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static boolean isPosition(final String value) {
+    return value.length() == 0 || StringUtils.isNumeric(value);
+  }
+
+  /**
+   * @return true if the range overlaps the content. Unsatisfiable ranges are answered with the 416 status code.
+   */
+  public boolean isSatisfiable() {
+    return start < length && start <= end;
+  }
+
+  public long getStart() {
+    return start;
+  }
+
+  public long getEnd() {
+    return end;
+  }
+
+  /**
+   * @return the number of bytes in this range.
+   */
+  public long getRangeLength() {
+    return end - start + 1;
+  }
+
+  /**
+   * @return the value of the Content-Range header for this range.
+   */
+  public String toContentRange() {
+    return isSatisfiable() ? String.format("bytes %d-%d/%d", start, end, length) : "bytes */" + length;
+  }
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.http.support;
+
+import java.io.PrintWriter;
+import java.util.Locale;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.apache.commons.io.output.NullOutputStream;
+import org.apache.commons.io.output.NullWriter;
+
+
+/**
+ * A {@link HttpServletResponseWrapper} which discards everything written to it (content, headers and status), leaving
+ * the wrapped response untouched. Useful to run the processing of a request only for its side effects (ex: populating
+ * the cache).
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class DiscardingResponseWrapper
+    extends HttpServletResponseWrapper {
+  private final ServletOutputStream outputStream = new DelegatingServletOutputStream(new NullOutputStream());
+  private final PrintWriter writer = new PrintWriter(new NullWriter());
+
+  public DiscardingResponseWrapper(final HttpServletResponse response) {
+    super(response);
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream() {
+    return outputStream;
+  }
+
+  @Override
+  public PrintWriter getWriter() {
+    return writer;
+  }
+
+  @Override
+  public boolean isCommitted() {
+    return false;
+  }
+
+  @Override
+  public void setHeader(final String name, final String value) {
+  }
+
+  @Override
+  public void addHeader(final String name, final String value) {
+  }
+
+  @Override
+  public void setDateHeader(final String name, final long date) {
+  }
+
+  @Override
+  public void addDateHeader(final String name, final long date) {
+  }
+
+  @Override
+  public void setIntHeader(final String name, final int value) {
+  }
+
+  @Override
+  public void addIntHeader(final String name, final int value) {
+  }
+
+  @Override
+  public void addCookie(final Cookie cookie) {
+  }
+
+  @Override
+  public void setStatus(final int sc) {
+  }
+
+  @SuppressWarnings("deprecation")
+  @Override
+  public void setStatus(final int sc, final String sm) {
+  }
+
+  @Override
+  public void sendError(final int sc) {
+  }
+
+  @Override
+  public void sendError(final int sc, final String msg) {
+  }
+
+  @Override
+  public void sendRedirect(final String location) {
+  }
+
+  @Override
+  public void setContentLength(final int len) {
+  }
+
+  @Override
+  public void setContentType(final String type) {
+  }
+
+  @Override
+  public void setLocale(final Locale loc) {
+  }
+
+  @Override
+  public void setBufferSize(final int size) {
+  }
+
+  @Override
+  public void flushBuffer() {
+  }
+
+  @Override
+  public void reset() {
+  }
+
+  @Override
+  public void resetBuffer() {
+  }
+}
@@ -0,0 +1,361 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.http.support;
+
+import static org.apache.commons.lang3.Validate.isTrue;
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ro.isdc.wro.util.io.DeflaterPool;
+import ro.isdc.wro.util.io.GzipOutputStream;
+
+
+/**
+ * A {@link HttpServletResponseWrapper} which gzips the content written to the response.
+ * <p/>
+ * The content is buffered until its size exceeds the provided threshold. When the response is completed before that,
+ * the content is gzipped at once and sent with the Content-Length header. Otherwise, the content is gzipped while it is
+ * written, without Content-Length (chunked transfer). Responses whose content type is already compressed (images,
+ * fonts, archives...) or which already have a Content-Encoding are sent unchanged.
+ * <p/>
+ * The {@link #finish()} method must be invoked after the response is written and the {@link #release()} method must be
+ * invoked at the end of the request, even if the response could not be written.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class GzipResponseWrapper
+    extends HttpServletResponseWrapper {
+  private static final Logger LOG = LoggerFactory.getLogger(GzipResponseWrapper.class);
+  private static final String HEADER_CONTENT_LENGTH = "Content-Length";
+  private static final String HEADER_CONTENT_TYPE = "Content-Type";
+  private static final String DEFAULT_CHARACTER_ENCODING = "ISO-8859-1";
+  private static final String HEADER_VARY = "Vary";
+  /**
+   * Prefixes of content types which are not worth compressing.
+   */
+  private static final String[] COMPRESSED_CONTENT_TYPES = {
+    "image/gif", "image/jpeg", "image/png", "image/webp", "video/", "audio/", "font/woff", "application/font-woff",
+    "application/zip", "application/gzip", "application/x-gzip", "application/x-compress", "application/x-rar",
+    "application/x-7z"
+  };
+  private final int threshold;
+  private final DeflaterPool deflaterPool;
+  private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+  /**
+   * The stream where the content is written once the threshold is exceeded. Null while the content is buffered.
+   */
+  private OutputStream target;
+  private ServletOutputStream servletOutputStream;
+  private PrintWriter printWriter;
+  /**
+   * Content length set by the chain. Used only when the content is not gzipped.
+   */
+  private int contentLength = -1;
+  /**
+   * Content type set by the chain (the servlet api in use doesn't allow reading it from the response).
+   */
+  private String contentType;
+  private boolean encoded;
+  private boolean error;
+  private boolean finished;
+
+  /**
+   * @param response
+   *          the wrapped response.
+   * @param threshold
+   *          maximum number of bytes to buffer before the content is streamed.
+   * @param deflaterPool
+   *          the pool of deflaters used to gzip the content.
+   */
+  public GzipResponseWrapper(final HttpServletResponse response, final int threshold, final DeflaterPool deflaterPool) {
+    super(response);
+    isTrue(threshold >= 0, "threshold cannot be negative");
+    notNull(deflaterPool);
+    this.threshold = threshold;
+    this.deflaterPool = deflaterPool;
+    // shared caches must not serve the gzipped content to clients which don't support it (and vice versa)
+    setVaryHeader(response);
+  }
+
+  /**
+   * Sets the header instructing the caches that the content depends on the Accept-Encoding header of the request. Must
+   * be set whenever the compression of the content is decided by the Accept-Encoding header, even when the content is
+   * not compressed.
+   */
+  public static void setVaryHeader(final HttpServletResponse response) {
+    response.setHeader(HEADER_VARY, "Accept-Encoding");
+  }
+
+  @Override
+  public ServletOutputStream getOutputStream()
+      throws IOException {
+    if (servletOutputStream == null) {
+      servletOutputStream = new DelegatingServletOutputStream(new OutputStream() {
+        @Override
+        public void write(final int b)
+            throws IOException {
+          write(new byte[] {
+            (byte) b
+          }, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len)
+            throws IOException {
+          writeContent(b, off, len);
+        }
+
+        @Override
+        public void flush()
+            throws IOException {
+          // flushing while buffering would prevent setting the Content-Length
+          if (target != null) {
+            target.flush();
+          }
+        }
+
+        @Override
+        public void close()
+            throws IOException {
+          finish();
+        }
+      });
+    }
+    return servletOutputStream;
+  }
+
+  @Override
+  public PrintWriter getWriter()
+      throws IOException {
+    if (printWriter == null) {
+      final String encoding = getCharacterEncoding() != null ? getCharacterEncoding() : DEFAULT_CHARACTER_ENCODING;
+      printWriter = new PrintWriter(new OutputStreamWriter(getOutputStream(), encoding));
+    }
+    return printWriter;
+  }
+
+  private void writeContent(final byte[] b, final int off, final int len)
+      throws IOException {
+    if (finished || error) {
+      return;
+    }
+    if (target == null && buffer.size() + len > threshold) {
+      startStreaming();
+    }
+    if (target != null) {
+      target.write(b, off, len);
+    } else {
+      buffer.write(b, off, len);
+    }
+  }
+
+  /**
+   * Writes the buffered content to the wrapped response and redirects the next writes there.
+   */
+  private void startStreaming()
+      throws IOException {
+    if (isGzipAllowed()) {
+      LOG.debug("Threshold of {} bytes exceeded. Streaming gzipped content.", threshold);
+      super.setHeader(HttpHeader.CONTENT_ENCODING.toString(), "gzip");
+      target = new GzipOutputStream(new CloseShieldOutputStream(super.getOutputStream()), deflaterPool);
+    } else {
+      if (contentLength >= 0) {
+        super.setContentLength(contentLength);
+      }
+      target = super.getOutputStream();
+    }
+    buffer.writeTo(target);
+    buffer.reset();
+  }
+
+  /**
+   * Completes the response: writes the buffered content (gzipped if allowed) or the end of the gzipped stream. Invoking
+   * this method more than once has no effect.
+   */
+  public void finish()
+      throws IOException {
+    if (printWriter != null) {
+      printWriter.flush();
+    }
+    if (finished) {
+      return;
+    }
+    finished = true;
+    if (error) {
+      release();
+      return;
+    }
+    if (target != null) {
+      // ends the gzip stream when content is gzipped, without closing the response stream
+      if (target instanceof GzipOutputStream) {
+        target.close();
+      }
+      super.getOutputStream().flush();
+    } else if (buffer.size() > 0) {
+      writeBufferedContent();
+    }
+  }
+
+  private void writeBufferedContent()
+      throws IOException {
+    if (isGzipAllowed()) {
+      final ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+      final OutputStream gzipStream = new GzipOutputStream(gzipped, deflaterPool);
+      try {
+        buffer.writeTo(gzipStream);
+      } finally {
+        gzipStream.close();
+      }
+      super.setHeader(HttpHeader.CONTENT_ENCODING.toString(), "gzip");
+      super.setContentLength(gzipped.size());
+      gzipped.writeTo(super.getOutputStream());
+    } else {
+      super.setContentLength(buffer.size());
+      buffer.writeTo(super.getOutputStream());
+    }
+  }
+
+  /**
+   * Gives back the deflater used to stream the gzipped content when the stream was not completed by {@link #finish()}
+   * (ex: the chain has thrown an exception). Invoking this method more than once has no effect.
+   */
+  public void release() {
+    if (target instanceof GzipOutputStream) {
+      ((GzipOutputStream) target).abort();
+    }
+  }
+
+  /**
+   * @return true if the content should be gzipped.
+   */
+  private boolean isGzipAllowed() {
+    return !encoded && !isCompressedContentType(contentType);
+  }
+
+  /**
+   * @return true if the provided content type is already compressed.
+   */
+  public static boolean isCompressedContentType(final String contentType) {
+    if (contentType != null) {
+      final String normalized = contentType.trim().toLowerCase();
+      for (final String compressedType : COMPRESSED_CONTENT_TYPES) {
+        if (normalized.startsWith(compressedType)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void setContentLength(final int len) {
+    // the length of gzipped content is different
+    contentLength = len;
+    if (target != null && !(target instanceof GzipOutputStream)) {
+      super.setContentLength(len);
+    }
+  }
+
+  @Override
+  public void setContentType(final String type) {
+    contentType = type;
+    super.setContentType(type);
+  }
+
+  @Override
+  public void setHeader(final String name, final String value) {
+    if (HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+      setContentLength(Integer.parseInt(value));
+    } else {
+      onHeader(name, value);
+      super.setHeader(name, value);
+    }
+  }
+
+  @Override
+  public void addHeader(final String name, final String value) {
+    if (HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+      setContentLength(Integer.parseInt(value));
+    } else {
+      onHeader(name, value);
+      super.addHeader(name, value);
+    }
+  }
+
+  @Override
+  public void setIntHeader(final String name, final int value) {
+    if (HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+      setContentLength(value);
+    } else {
+      super.setIntHeader(name, value);
+    }
+  }
+
+  private void onHeader(final String name, final String value) {
+    if (HttpHeader.CONTENT_ENCODING.toString().equalsIgnoreCase(name)) {
+      // already encoded content must not be gzipped again
+      encoded = true;
+    } else if (HEADER_CONTENT_TYPE.equalsIgnoreCase(name)) {
+      contentType = value;
+    }
+  }
+
+  @Override
+  public void flushBuffer()
+      throws IOException {
+    if (printWriter != null) {
+      printWriter.flush();
+    }
+    // committing the response while buffering would prevent setting the headers
+    if (target != null) {
+      target.flush();
+    }
+  }
+
+  @Override
+  public void resetBuffer() {
+    super.resetBuffer();
+    buffer.reset();
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    buffer.reset();
+    // the gzipped content already written is discarded together with the Content-Encoding header
+    release();
+    target = null;
+    contentLength = -1;
+    contentType = null;
+    encoded = false;
+  }
+
+  @Override
+  public void sendError(final int sc)
+      throws IOException {
+    error = true;
+    super.sendError(sc);
+  }
+
+  @Override
+  public void sendError(final int sc, final String msg)
+      throws IOException {
+    error = true;
+    super.sendError(sc, msg);
+  }
+}
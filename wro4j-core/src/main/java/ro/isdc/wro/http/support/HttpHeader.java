@@ -16,6 +16,10 @@ public enum HttpHeader {
   IF_MODIFIED_SINCE("If-Modified-Since"),
   IF_NONE_MATCH("If-None-Match"),
   CONTENT_ENCODING("Content-Encoding"),
+  ACCEPT_RANGES("Accept-Ranges"),
+  RANGE("Range"),
+  IF_RANGE("If-Range"),
+  CONTENT_RANGE("Content-Range"),
   PRAGMA("Pragma");
   /**
    * HTTP header as string.
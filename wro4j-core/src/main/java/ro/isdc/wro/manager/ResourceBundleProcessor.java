@@ -1,8 +1,13 @@
 package ro.isdc.wro.manager;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.servlet.FilterConfig;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -16,18 +21,37 @@ import ro.isdc.wro.WroRuntimeException;
 import ro.isdc.wro.cache.CacheKey;
 import ro.isdc.wro.cache.CacheStrategy;
 import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.CacheValueMetadata;
 import ro.isdc.wro.cache.factory.CacheKeyFactory;
+import ro.isdc.wro.cache.support.AbstractSynchronizedCacheStrategyDecorator;
+import ro.isdc.wro.cache.support.DefaultSynchronizedCacheStrategyDecorator;
 import ro.isdc.wro.config.Context;
 import ro.isdc.wro.config.ReadOnlyContext;
 import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.support.ByteRange;
 import ro.isdc.wro.http.support.HttpHeader;
+import ro.isdc.wro.http.support.PreserveDetailsRequestWrapper;
+import ro.isdc.wro.manager.export.BundleExporter;
+import ro.isdc.wro.manager.export.ExportedBundles;
+import ro.isdc.wro.manager.export.ExportedBundles.ExportedBundle;
 import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.support.MutableResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+import ro.isdc.wro.util.DestroyableLazyInitializer;
 import ro.isdc.wro.util.WroUtil;
 
 
 /**
  * Encapsulates the bundle creation.
+ * <p/>
+ * Conditional and HEAD requests are answered using the {@link CacheValueMetadata} of an already loaded bundle, without
+ * loading it again. Single byte range requests are served from the raw (not gzipped) content.
+ * <p/>
+ * When the exportDirectory is configured, the bundles exported into that folder are served directly from the disk,
+ * only the bundles missing from the export being processed at runtime. If the folder doesn't contain an export yet, the
+ * bundles are exported when the first bundle is requested.
  *
  * @author Alex Objelean
  * @created 18 Jun 2012
@@ -44,7 +68,46 @@ public class ResourceBundleProcessor {
   private ReadOnlyContext context;
   @Inject
   private CacheKeyFactory cacheKeyFactory;
+  @Inject
+  private ResourceAuthorizationManager authorizationManager;
+  @Inject
+  private Injector injector;
+  /**
+   * The bundles stored in the exportDirectory, loaded (or exported) in background when a bundle is requested. Null
+   * until the first export is loaded.
+   */
+  private volatile LoadedExport loadedExport;
+  private final AtomicBoolean exportInProgress = new AtomicBoolean();
+  private final DestroyableLazyInitializer<ExecutorService> exportExecutorInitializer =
+      new DestroyableLazyInitializer<ExecutorService>() {
+    @Override
+    protected ExecutorService initialize() {
+      return Executors.newSingleThreadExecutor(WroUtil.createDaemonThreadFactory(
+          ResourceBundleProcessor.class.getSimpleName()));
+    }
 
+    @Override
+    public void destroy() {
+      if (isInitialized()) {
+        get().shutdownNow();
+      }
+      super.destroy();
+    }
+  };
+
+  /**
+   * The exported bundles together with the version of the cache at the moment they were loaded. The bundles are used
+   * only as long as the cache is not cleared (or invalidated) meanwhile.
+   */
+  private static final class LoadedExport {
+    private final ExportedBundles bundles;
+    private final long cacheVersion;
+
+    LoadedExport(final ExportedBundles bundles, final long cacheVersion) {
+      this.bundles = bundles;
+      this.cacheVersion = cacheVersion;
+    }
+  }
 
   /**
    * Write to stream the content of the processed resource bundle.
@@ -59,42 +122,51 @@ public class ResourceBundleProcessor {
     try {
 
       final CacheKey cacheKey = getSafeCacheKey(request);
-      initAggregatedFolderPath(request, cacheKey.getType());
-      final CacheValue cacheValue = cacheStrategy.get(cacheKey);
-
-      // TODO move ETag check in wroManagerFactory
-      final String ifNoneMatch = request.getHeader(HttpHeader.IF_NONE_MATCH.toString());
-
-      // enclose etag value in quotes to be compliant with the RFC
-      final String etagValue = String.format("\"%s\"", cacheValue.getHash());
+      if (ResourceType.CSS == cacheKey.getType()) {
+        initAggregatedFolderPath(request);
+      }
+      final ExportedBundle exportedBundle = getExportedBundle(cacheKey);
+      if (exportedBundle != null) {
+        serveExportedBundle(request, response, cacheKey, exportedBundle);
+        return;
+      }
+      CacheValueMetadata metadata = getLoadedMetadata(cacheKey);
+      CacheValue cacheValue = null;
+      // the content is not required for HEAD requests or when the client already has the latest version
+      if (metadata == null || !(isHeadRequest(request) || isNotModified(request, metadata.getEtag(),
+          metadata.getLastModified()))) {
+        cacheValue = cacheStrategy.get(cacheKey);
+        metadata = getMetadata(cacheKey, cacheValue);
+      }
 
-      if (etagValue != null && etagValue.equals(ifNoneMatch)) {
-        LOG.debug("ETag hash detected: {}. Sending {} status code", etagValue, HttpServletResponse.SC_NOT_MODIFIED);
+      if (isNotModified(request, metadata.getEtag(), metadata.getLastModified())) {
+        LOG.debug("ETag hash detected: {}. Sending {} status code", metadata.getEtag(),
+            HttpServletResponse.SC_NOT_MODIFIED);
         response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
         // because we cannot return null, return a stream containing nothing.
         // TODO close output stream?
         return;
       }
-      /**
-       * Set contentType before actual content is written, solves <br/>
-       * <a href="http://code.google.com/p/wro4j/issues/detail?id=341">issue341</a>
-       */
-      response.setContentType(cacheKey.getType().getContentType() + "; charset=" + configuration.getEncoding());
-      // set ETag header
-      response.setHeader(HttpHeader.ETAG.toString(), etagValue);
+      setContentHeaders(response, cacheKey, metadata.getEtag(), metadata.getLastModified());
 
+      if (isHeadRequest(request)) {
+        serveHead(response, metadata, cacheValue);
+        return;
+      }
       os = response.getOutputStream();
       if (cacheValue.getRawContent() != null) {
-        // use gziped response if supported & Set content length based on gzip flag
-        if (isGzipAllowed()) {
+        final ByteRange range = getRange(request, metadata.getEtag(), metadata.getLength());
+        if (range != null) {
+          serveRange(response, os, cacheValue, range);
+        } else if (isGzipAllowed()) {
+          // use gziped response if supported & Set content length based on gzip flag
           response.setContentLength(cacheValue.getGzippedContent().length);
           // add gzip header and gzip response
-          response.setHeader(HttpHeader.CONTENT_ENCODING.toString(), "gzip");
-          response.setHeader("Vary", "Accept-Encoding");
+          setGzipHeaders(response);
           IOUtils.write(cacheValue.getGzippedContent(), os);
         } else {
           //using getRawContent().length() is not the same and can return 2Bytes smaller size.
-          response.setContentLength(cacheValue.getRawContent().getBytes(configuration.getEncoding()).length);
+          response.setContentLength((int) metadata.getLength());
           IOUtils.write(cacheValue.getRawContent(), os, configuration.getEncoding());
         }
       }
@@ -105,6 +177,299 @@ public class ResourceBundleProcessor {
     }
   }
 
+  /**
+   * @return true if the bundle requested by the current request is already loaded, thus it can be served without being
+   *         processed.
+   */
+  public boolean isBundleLoaded() {
+    final CacheKey cacheKey = getSafeCacheKey(context.getRequest());
+    // avoid triggering the export, which is performed while serving the first bundle
+    final boolean exported = getLoadedExportedBundle(cacheKey) != null;
+    return exported || getLoadedMetadata(cacheKey) != null;
+  }
+
+  /**
+   * Serves the bundle from the exported file. The content is transfered directly from the file (and its gzipped
+   * sibling), without being loaded into memory.
+   */
+  private void serveExportedBundle(final HttpServletRequest request, final HttpServletResponse response,
+      final CacheKey cacheKey, final ExportedBundle bundle)
+      throws IOException {
+    final File file = bundle.getFile();
+    if (isNotModified(request, bundle.getEtag(), file.lastModified())) {
+      LOG.debug("ETag hash detected: {}. Sending {} status code", bundle.getEtag(),
+          HttpServletResponse.SC_NOT_MODIFIED);
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      return;
+    }
+    setContentHeaders(response, cacheKey, bundle.getEtag(), file.lastModified());
+    final ByteRange range = isHeadRequest(request) ? null : getRange(request, bundle.getEtag(), file.length());
+    File source = file;
+    long position = 0;
+    long count = file.length();
+    if (range != null) {
+      response.setHeader(HttpHeader.CONTENT_RANGE.toString(), range.toContentRange());
+      if (!range.isSatisfiable()) {
+        LOG.debug("Range cannot be satisfied: {}", range.toContentRange());
+        response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        return;
+      }
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      position = range.getStart();
+      count = range.getRangeLength();
+    } else if (isGzipAllowed() && bundle.getGzippedFile() != null) {
+      source = bundle.getGzippedFile();
+      count = source.length();
+      setGzipHeaders(response);
+    }
+    response.setContentLength((int) count);
+    if (!isHeadRequest(request)) {
+      final OutputStream os = response.getOutputStream();
+      try {
+        bundle.transferTo(source, position, count, os);
+      } finally {
+        IOUtils.closeQuietly(os);
+      }
+    }
+  }
+
+  /**
+   * Sets the headers describing the served bundle.
+   */
+  private void setContentHeaders(final HttpServletResponse response, final CacheKey cacheKey, final String etag,
+      final long lastModified) {
+    final WroConfiguration configuration = context.getConfig();
+    /**
+     * Set contentType before actual content is written, solves <br/>
+     * <a href="http://code.google.com/p/wro4j/issues/detail?id=341">issue341</a>
+     */
+    response.setContentType(cacheKey.getType().getContentType() + "; charset=" + configuration.getEncoding());
+    // set ETag header (enclosed in quotes to be compliant with the RFC)
+    response.setHeader(HttpHeader.ETAG.toString(), etag);
+    response.setHeader(HttpHeader.ACCEPT_RANGES.toString(), "bytes");
+    if (!configuration.isDebug()) {
+      response.setHeader(HttpHeader.LAST_MODIFIED.toString(), WroUtil.toDateAsString(lastModified));
+    }
+  }
+
+  private void setGzipHeaders(final HttpServletResponse response) {
+    response.setHeader(HttpHeader.CONTENT_ENCODING.toString(), "gzip");
+    response.setHeader("Vary", "Accept-Encoding");
+  }
+
+  /**
+   * Sets the headers describing the content which would be returned by a GET request.
+   *
+   * @param cacheValue
+   *          the loaded value or null if the value wasn't loaded for this request.
+   */
+  private void serveHead(final HttpServletResponse response, final CacheValueMetadata metadata,
+      final CacheValue cacheValue) {
+    long length = metadata.getLength();
+    if (isGzipAllowed()) {
+      length = metadata.getGzippedLength();
+      if (length == CacheValueMetadata.UNKNOWN_LENGTH && cacheValue != null && cacheValue.getRawContent() != null) {
+        length = cacheValue.getGzippedContent().length;
+      }
+      setGzipHeaders(response);
+    }
+    if (length != CacheValueMetadata.UNKNOWN_LENGTH) {
+      response.setContentLength((int) length);
+    }
+  }
+
+  private void serveRange(final HttpServletResponse response, final OutputStream os, final CacheValue cacheValue,
+      final ByteRange range)
+      throws IOException {
+    response.setHeader(HttpHeader.CONTENT_RANGE.toString(), range.toContentRange());
+    if (!range.isSatisfiable()) {
+      LOG.debug("Range cannot be satisfied: {}", range.toContentRange());
+      response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+      return;
+    }
+    final byte[] content = cacheValue.getEncodedContent(context.getConfig().getEncoding());
+    // the full content of the same request may be gzipped
+    response.setHeader("Vary", "Accept-Encoding");
+    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    response.setContentLength((int) range.getRangeLength());
+    os.write(content, (int) range.getStart(), (int) range.getRangeLength());
+  }
+
+  /**
+   * @return the requested range or null if the entire content should be served.
+   */
+  private ByteRange getRange(final HttpServletRequest request, final String etag, final long length) {
+    final String ifRange = request.getHeader(HttpHeader.IF_RANGE.toString());
+    if (ifRange != null && !ifRange.equals(etag)) {
+      // the client has an older version, thus the entire content is returned
+      return null;
+    }
+    return ByteRange.parse(request.getHeader(HttpHeader.RANGE.toString()), length);
+  }
+
+  /**
+   * @return true if the client already has the version of the bundle identified by the provided etag.
+   */
+  private boolean isNotModified(final HttpServletRequest request, final String etag, final long lastModified) {
+    final String ifNoneMatch = request.getHeader(HttpHeader.IF_NONE_MATCH.toString());
+    if (ifNoneMatch != null) {
+      return etag.equals(ifNoneMatch);
+    }
+    // the Last-Modified header of the bundle is sent only when debug is disabled
+    if (context.getConfig().isDebug()) {
+      return false;
+    }
+    try {
+      final long ifModifiedSince = request.getDateHeader(HttpHeader.IF_MODIFIED_SINCE.toString());
+      // the header has a precision of seconds
+      return ifModifiedSince > 0 && lastModified / 1000 * 1000 <= ifModifiedSince;
+    } catch (final IllegalArgumentException e) {
+      LOG.debug("Invalid If-Modified-Since header", e);
+      return false;
+    }
+  }
+
+  private boolean isHeadRequest(final HttpServletRequest request) {
+    return "HEAD".equals(request.getMethod());
+  }
+
+  /**
+   * @return the metadata of the bundle if it is already loaded or null otherwise.
+   */
+  private CacheValueMetadata getLoadedMetadata(final CacheKey cacheKey) {
+    return cacheStrategy instanceof DefaultSynchronizedCacheStrategyDecorator
+        ? ((DefaultSynchronizedCacheStrategyDecorator) cacheStrategy).getMetadata(cacheKey)
+        : null;
+  }
+
+  private CacheValueMetadata getMetadata(final CacheKey cacheKey, final CacheValue cacheValue) {
+    return cacheStrategy instanceof DefaultSynchronizedCacheStrategyDecorator
+        ? ((DefaultSynchronizedCacheStrategyDecorator) cacheStrategy).getMetadata(cacheKey, cacheValue)
+        : CacheValueMetadata.create(cacheValue, context.getConfig().getEncoding(), System.currentTimeMillis());
+  }
+
+  /**
+   * @return the exported version of the bundle or null if the bundle should be processed at runtime. Starts loading (or
+   *         exporting) the bundles in background when they are not loaded yet or were invalidated by a cache clear.
+   */
+  private ExportedBundle getExportedBundle(final CacheKey cacheKey) {
+    if (!isExportEnabled()) {
+      return null;
+    }
+    final long cacheVersion = getCacheVersion();
+    final LoadedExport export = loadedExport;
+    if (export == null || export.cacheVersion != cacheVersion) {
+      scheduleExport(cacheVersion);
+    }
+    return getLoadedExportedBundle(cacheKey);
+  }
+
+  /**
+   * @return the exported version of the bundle if the exported bundles are loaded and still valid, null otherwise. The
+   *         export is never triggered by this method.
+   */
+  private ExportedBundle getLoadedExportedBundle(final CacheKey cacheKey) {
+    final LoadedExport export = loadedExport;
+    return isExportEnabled() && export != null && export.cacheVersion == getCacheVersion()
+        ? export.bundles.getBundle(cacheKey)
+        : null;
+  }
+
+  /**
+   * @return true if the bundles should be served from the exportDirectory. The export is not used in debug mode.
+   */
+  private boolean isExportEnabled() {
+    return !StringUtils.isEmpty(context.getConfig().getExportDirectory()) && !context.getConfig().isDebug();
+  }
+
+  /**
+   * @return the version of the cache, used to detect when the exported bundles must be checked again.
+   */
+  private long getCacheVersion() {
+    return cacheStrategy instanceof AbstractSynchronizedCacheStrategyDecorator
+        ? ((AbstractSynchronizedCacheStrategyDecorator<?, ?>) cacheStrategy).getVersion()
+        : 0;
+  }
+
+  /**
+   * Loads the exported bundles in a separate thread, thus the current request is not blocked by the export. The bundles
+   * are processed at runtime until the export is loaded. Nothing happens if an export is already in progress.
+   */
+  private void scheduleExport(final long cacheVersion) {
+    if (exportInProgress.compareAndSet(false, true)) {
+      // the urls of css bundles are rewritten relative to the folder of the current request
+      initAggregatedFolderPath(context.getRequest());
+      final Context requestContext = Context.get();
+      final HttpServletRequest request = new PreserveDetailsRequestWrapper(requestContext.getRequest());
+      final HttpServletResponse response = requestContext.getResponse();
+      final FilterConfig filterConfig = requestContext.getFilterConfig();
+      final WroConfiguration config = requestContext.getConfig();
+      final String aggregatedFolderPath = requestContext.getAggregatedFolderPath();
+      try {
+        submitExport(new Runnable() {
+          public void run() {
+            Context.set(Context.webContext(request, response, filterConfig), config);
+            try {
+              Context.get().setAggregatedFolderPath(aggregatedFolderPath);
+              loadedExport = new LoadedExport(loadExportedBundles(), cacheVersion);
+            } finally {
+              Context.unset();
+              exportInProgress.set(false);
+            }
+          }
+        });
+      } catch (final RuntimeException e) {
+        exportInProgress.set(false);
+        LOG.warn("Cannot start the export of bundles. The bundles will be processed at runtime.", e);
+      }
+    }
+  }
+
+  /**
+   * @VisibleForTesting
+   * @param task
+   *          the export to run asynchronously.
+   */
+  void submitExport(final Runnable task) {
+    exportExecutorInitializer.get().submit(task);
+  }
+
+  /**
+   * Loads the bundles stored in the exportDirectory, exporting them first if the folder doesn't contain an export or if
+   * the export was created from different resources.
+   */
+  private ExportedBundles loadExportedBundles() {
+    final File directory = new File(context.getConfig().getExportDirectory());
+    try {
+      final BundleExporter exporter = new BundleExporter();
+      injector.inject(exporter);
+      ExportedBundles exportedBundles = ExportedBundles.load(directory);
+      if (exportedBundles == null || !exporter.computeFingerprint().equals(exportedBundles.getFingerprint())) {
+        LOG.debug("No valid export found in {}. Exporting bundles.", directory);
+        exportedBundles = exporter.export(directory);
+      }
+      if (authorizationManager instanceof MutableResourceAuthorizationManager) {
+        for (final String uri : exportedBundles.getAuthorizedResources()) {
+          ((MutableResourceAuthorizationManager) authorizationManager).add(uri);
+        }
+      }
+      return exportedBundles;
+    } catch (final IOException e) {
+      LOG.error("Cannot export the bundles to " + directory + ". The bundles will be processed at runtime.", e);
+      return ExportedBundles.empty();
+    } catch (final RuntimeException e) {
+      LOG.error("Cannot export the bundles to " + directory + ". The bundles will be processed at runtime.", e);
+      return ExportedBundles.empty();
+    }
+  }
+
+  /**
+   * Stops the export running in background.
+   */
+  public void destroy() {
+    exportExecutorInitializer.destroy();
+  }
+
   private CacheKey getSafeCacheKey(final HttpServletRequest request) {
     final CacheKey cacheKey = cacheKeyFactory.create(request);
     if (cacheKey == null) {
@@ -120,8 +485,8 @@ public class ResourceBundleProcessor {
   /**
    * Set the aggregatedFolderPath if required.
    */
-  private void initAggregatedFolderPath(final HttpServletRequest request, final ResourceType type) {
-    if (ResourceType.CSS == type && context.getAggregatedFolderPath() == null) {
+  private void initAggregatedFolderPath(final HttpServletRequest request) {
+    if (context.getAggregatedFolderPath() == null) {
       final String requestUri = request.getRequestURI();
       final String cssFolder = StringUtils.removeEnd(requestUri, FilenameUtils.getName(requestUri));
       final String aggregatedFolder = StringUtils.removeStart(cssFolder, request.getContextPath());
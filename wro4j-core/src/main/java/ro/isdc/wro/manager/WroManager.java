@@ -5,19 +5,28 @@ package ro.isdc.wro.manager;
 
 import static org.apache.commons.lang3.Validate.notNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ro.isdc.wro.WroRuntimeException;
 import ro.isdc.wro.cache.CacheKey;
 import ro.isdc.wro.cache.CacheStrategy;
 import ro.isdc.wro.cache.CacheValue;
 import ro.isdc.wro.cache.factory.CacheKeyFactory;
 import ro.isdc.wro.cache.factory.DefaultCacheKeyFactory;
 import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.cache.support.AbstractSynchronizedCacheStrategyDecorator;
 import ro.isdc.wro.cache.support.DefaultSynchronizedCacheStrategyDecorator;
 import ro.isdc.wro.config.Context;
 import ro.isdc.wro.config.jmx.WroConfiguration;
@@ -27,16 +36,23 @@ import ro.isdc.wro.config.support.ContextPropagatingCallable;
 import ro.isdc.wro.config.support.WroConfigurationChangeListener;
 import ro.isdc.wro.manager.callback.LifecycleCallback;
 import ro.isdc.wro.manager.callback.LifecycleCallbackRegistry;
+import ro.isdc.wro.manager.export.BundleExporter;
+import ro.isdc.wro.manager.export.ExportedBundles;
 import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.manager.runnable.ReloadCacheRunnable;
 import ro.isdc.wro.manager.runnable.ReloadModelRunnable;
 import ro.isdc.wro.model.WroModel;
 import ro.isdc.wro.model.factory.DefaultWroModelFactoryDecorator;
 import ro.isdc.wro.model.factory.WroModelFactory;
 import ro.isdc.wro.model.group.DefaultGroupExtractor;
+import ro.isdc.wro.model.group.Group;
 import ro.isdc.wro.model.group.GroupExtractor;
 import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.group.InvalidGroupNameException;
+import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.group.processor.InjectorBuilder;
+import ro.isdc.wro.model.resource.Resource;
 import ro.isdc.wro.model.resource.ResourceType;
 import ro.isdc.wro.model.resource.locator.factory.DefaultUriLocatorFactory;
 import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
@@ -53,6 +69,7 @@ import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
 import ro.isdc.wro.model.resource.support.naming.NamingStrategy;
 import ro.isdc.wro.model.resource.support.naming.NoOpNamingStrategy;
 import ro.isdc.wro.model.transformer.WildcardExpanderModelTransformer;
+import ro.isdc.wro.util.AbstractDecorator;
 import ro.isdc.wro.util.LazyInitializer;
 import ro.isdc.wro.util.ObjectFactory;
 import ro.isdc.wro.util.SchedulerHelper;
@@ -108,6 +125,21 @@ public class WroManager
   private final MetaDataFactory metaDataFactory;
   @Inject
   private final ResourceWatcher resourceWatcher;
+  @Inject
+  private Injector injector;
+  /**
+   * Collects timing metrics of processing performed by this manager.
+   */
+  private final MetricsRegistry metricsRegistry;
+  /**
+   * True once the metrics registry was enabled according to the configuration.
+   */
+  private final AtomicBoolean metricsInitialized = new AtomicBoolean();
+  private final ReloadCacheRunnable reloadCacheRunnable;
+  /**
+   * Fingerprints encoded into the group paths, computed once per group until the cache or the model is reloaded.
+   */
+  private final Map<CacheKey, Fingerprint> fingerprints = new ConcurrentHashMap<CacheKey, Fingerprint>();
   /**
    * Schedules the model update.
    */
@@ -125,7 +157,7 @@ public class WroManager
     @Override
     protected Runnable initialize() {
       // decorate with ContextPropagatingCallable to make context available in the new thread
-      return ContextPropagatingCallable.decorate(new ReloadCacheRunnable(getCacheStrategy()));
+      return ContextPropagatingCallable.decorate(reloadCacheRunnable);
     }
   }, ReloadCacheRunnable.class.getSimpleName());
 
@@ -142,6 +174,8 @@ public class WroManager
     this.processorsFactory = builder.processorsFactory;
     this.modelFactory = DefaultWroModelFactoryDecorator.decorate(builder.modelFactory, builder.modelTransformers);
     this.resourceWatcher = new ResourceWatcher();
+    this.metricsRegistry = builder.metricsRegistry;
+    this.reloadCacheRunnable = new ReloadCacheRunnable(cacheStrategy);
   }
 
   /**
@@ -156,11 +190,47 @@ public class WroManager
     final WroConfiguration config = Context.get().getConfig();
     cacheSchedulerHelper.scheduleWithPeriod(config.getCacheUpdatePeriod());
     modelSchedulerHelper.scheduleWithPeriod(config.getModelUpdatePeriod());
+    // later changes of the flag (ex: through JMX) are pushed by the configuration change listener of WroFilter
+    if (metricsInitialized.compareAndSet(false, true)) {
+      metricsRegistry.setEnabled(config.isMetricsEnabled());
+    }
+    reloadCacheRunnable.setRefreshAhead(config.isCacheRefreshAhead());
     resourceBundleProcessor.serveProcessedBundle();
   }
 
+  /**
+   * @return true if the bundle requested by the current request is already cached and can be served without being
+   *         processed.
+   */
+  public final boolean isRequestedBundleLoaded() {
+    return resourceBundleProcessor.isBundleLoaded();
+  }
+
+  /**
+   * Exports the minimized bundle of each group into the provided folder (ex: at build time). The bundles are served
+   * from the folder by any application configured with the same exportDirectory.
+   *
+   * @param directory
+   *          the folder where the bundles are exported.
+   * @return the {@link ExportedBundles} stored in the provided folder.
+   * @throws IOException
+   *           if the bundles cannot be written.
+   */
+  public final ExportedBundles exportBundles(final File directory)
+      throws IOException {
+    final BundleExporter exporter = new BundleExporter();
+    injector.inject(exporter);
+    return exporter.export(directory);
+  }
+
   /**
    * Encodes a fingerprint of the resource into the path. The result may look like this: ${fingerprint}/myGroup.js
+   * <p/>
+   * The fingerprint is computed from the hashes of the resources of the group and of the processors, thus the bundle is
+   * not processed and has the same path regardless if it was already processed or not. When a change of the processed
+   * bundle cannot be detected this way (stylesheets referencing other resources which can be inlined by processors or
+   * resources which cannot be located), the hash of the processed bundle is used instead. The fingerprint is reused
+   * until the cache or the model is reloaded.
    *
    * @return a path to the resource with the fingerprint encoded as a folder name.
    */
@@ -168,10 +238,97 @@ public class WroManager
       final boolean minimize) {
     // TODO use CacheKeyFactory
     final CacheKey key = new CacheKey(groupName, resourceType, minimize);
-    final CacheValue cacheValue = cacheStrategy.get(key);
+    final String hash = getFingerprint(key);
     final String groupUrl = groupExtractor.encodeGroupUrl(groupName, resourceType, minimize);
     // encode the fingerprint of the resource into the resource path
-    return formatVersionedResource(cacheValue.getHash(), groupUrl);
+    return formatVersionedResource(hash, groupUrl);
+  }
+
+  /**
+   * The fingerprint of a bundle, together with the group and the cache version it was computed for.
+   */
+  private static final class Fingerprint {
+    private final Group group;
+    private final long cacheVersion;
+    private final String hash;
+
+    Fingerprint(final Group group, final long cacheVersion, final String hash) {
+      this.group = group;
+      this.cacheVersion = cacheVersion;
+      this.hash = hash;
+    }
+  }
+
+  /**
+   * @return the memoized fingerprint of the bundle identified by the key. The fingerprint is computed again only when the
+   *         model (thus the group) or the cache is reloaded.
+   */
+  private String getFingerprint(final CacheKey key) {
+    final Group group = modelFactory.create().getInspector().getGroupByName(key.getGroupName());
+    if (group == null) {
+      throw new InvalidGroupNameException("There is no such group: " + key.getGroupName());
+    }
+    final long cacheVersion = cacheStrategy instanceof AbstractSynchronizedCacheStrategyDecorator
+        ? ((AbstractSynchronizedCacheStrategyDecorator<?, ?>) cacheStrategy).getVersion()
+        : 0;
+    Fingerprint fingerprint = fingerprints.get(key);
+    if (fingerprint == null || fingerprint.group != group || fingerprint.cacheVersion != cacheVersion) {
+      String hash = computeResourcesFingerprint(key, group);
+      if (hash == null) {
+        LOG.debug("Using the hash of the processed bundle as fingerprint of: {}", key);
+        hash = cacheStrategy.get(key).getHash();
+      }
+      fingerprint = new Fingerprint(group, cacheVersion, hash);
+      fingerprints.put(key, fingerprint);
+    }
+    return fingerprint.hash;
+  }
+
+  /**
+   * @return a fingerprint of the bundle identified by the key, computed by hashing the processors used and the uri and
+   *         the content hash of each resource of the bundle. Returns null if the fingerprint cannot detect all changes
+   *         of the processed bundle.
+   */
+  private String computeResourcesFingerprint(final CacheKey key, final Group group) {
+    final String encoding = Context.get().getConfig().getEncoding();
+    final StringBuilder content = new StringBuilder(String.valueOf(key.isMinimize()));
+    for (final ResourcePreProcessor processor : processorsFactory.getPreProcessors()) {
+      content.append('\n').append(AbstractDecorator.getOriginalDecoratedObject(processor).getClass().getName());
+    }
+    for (final ResourcePostProcessor processor : processorsFactory.getPostProcessors()) {
+      content.append('\n').append(AbstractDecorator.getOriginalDecoratedObject(processor).getClass().getName());
+    }
+    try {
+      for (final Resource resource : group.collectResourcesOfType(key.getType()).getResources()) {
+        final byte[] resourceContent = readResource(resource.getUri());
+        if (resourceContent == null
+            || DefaultSynchronizedCacheStrategyDecorator.isReferencingOtherResources(resource.getType(), new String(
+                resourceContent, encoding))) {
+          return null;
+        }
+        content.append('\n').append(resource.getUri()).append('=').append(
+            hashStrategy.getHash(new ByteArrayInputStream(resourceContent)));
+      }
+      return hashStrategy.getHash(new ByteArrayInputStream(content.toString().getBytes(encoding)));
+    } catch (final IOException e) {
+      throw WroRuntimeException.wrap(e, "Cannot compute the fingerprint of group: " + key.getGroupName());
+    }
+  }
+
+  /**
+   * @return the content of the resource or null if the resource cannot be located.
+   */
+  private byte[] readResource(final String uri) {
+    InputStream inputStream = null;
+    try {
+      inputStream = locatorFactory.locate(uri);
+      return IOUtils.toByteArray(inputStream);
+    } catch (final IOException e) {
+      LOG.debug("Cannot read the resource: {}", uri);
+      return null;
+    } finally {
+      IOUtils.closeQuietly(inputStream);
+    }
   }
 
   /**
@@ -213,6 +370,7 @@ public class WroManager
       cacheStrategy.destroy();
       modelFactory.destroy();
       resourceWatcher.destroy();
+      resourceBundleProcessor.destroy();
       destroyProcessors();
     } catch (final Exception e) {
       LOG.error("Exception occured during manager destroy!", e);
@@ -292,6 +450,13 @@ public class WroManager
     return resourceWatcher;
   }
 
+  /**
+   * @return the {@link MetricsRegistry} holding timing metrics of the processing performed by this manager.
+   */
+  public MetricsRegistry getMetricsRegistry() {
+    return metricsRegistry;
+  }
+
   /**
    * Registers a callback.
    *
@@ -342,6 +507,7 @@ public class WroManager
     private ResourceAuthorizationManager authorizationManager = new DefaultResourceAuthorizationManager();
     private CacheKeyFactory cacheKeyFactory = new DefaultCacheKeyFactory();
     private MetaDataFactory metaDataFactory = new DefaultMetaDataFactory();
+    private MetricsRegistry metricsRegistry = new MetricsRegistry();
 
     public Builder() {
     }
@@ -359,6 +525,7 @@ public class WroManager
       this.authorizationManager = manager.getResourceAuthorizationManager();
       this.cacheKeyFactory = manager.getCacheKeyFactory();
       this.metaDataFactory = manager.getMetaDataFactory();
+      this.metricsRegistry = manager.getMetricsRegistry();
     }
 
     public Builder setModelFactory(final WroModelFactory modelFactory) {
@@ -432,6 +599,12 @@ public class WroManager
       return this;
     }
 
+    public Builder setMetricsRegistry(final MetricsRegistry metricsRegistry) {
+      notNull(metricsRegistry);
+      this.metricsRegistry = metricsRegistry;
+      return this;
+    }
+
     private List<Transformer<WroModel>> createDefaultTransformers() {
       final List<Transformer<WroModel>> list = new ArrayList<Transformer<WroModel>>();
       list.add(new WildcardExpanderModelTransformer());
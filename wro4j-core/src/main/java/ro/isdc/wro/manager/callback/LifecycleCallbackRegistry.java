@@ -5,13 +5,10 @@ package ro.isdc.wro.manager.callback;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import ro.isdc.wro.config.Context;
 import ro.isdc.wro.model.resource.Resource;
 import ro.isdc.wro.util.Function;
 import ro.isdc.wro.util.ObjectFactory;
@@ -21,6 +18,11 @@ import ro.isdc.wro.util.ObjectFactory;
  * Register all available callbacks. The registry acts as a {@link LifecycleCallback} itself whose implementation
  * delegate the call to registered callbacks. The registry will handle any runtime exceptions thrown by callbacks, in
  * order to allow successful lifecycle execution.
+ * <p/>
+ * The registered factories are kept in an immutable array which is replaced on each registration, so that the
+ * notifications (triggered several times for each processed resource) never lock and don't allocate anything when no
+ * callback is registered. Each notification is delivered to the callbacks created by the registered factories at the
+ * time of notification.
  *
  * @author Alex Objelean
  * @created Created on 8 Dec 2011
@@ -29,12 +31,76 @@ import ro.isdc.wro.util.ObjectFactory;
 public class LifecycleCallbackRegistry
   implements LifecycleCallback {
   private static final Logger LOG = LoggerFactory.getLogger(LifecycleCallbackRegistry.class);
+  private static final Function<LifecycleCallback, Void> BEFORE_MODEL_CREATED = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onBeforeModelCreated();
+      return null;
+    }
+  };
+  private static final Function<LifecycleCallback, Void> AFTER_MODEL_CREATED = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onAfterModelCreated();
+      return null;
+    }
+  };
+  private static final Function<LifecycleCallback, Void> BEFORE_PRE_PROCESS = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onBeforePreProcess();
+      return null;
+    }
+  };
+  private static final Function<LifecycleCallback, Void> AFTER_PRE_PROCESS = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onAfterPreProcess();
+      return null;
+    }
+  };
+  private static final Function<LifecycleCallback, Void> BEFORE_POST_PROCESS = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onBeforePostProcess();
+      return null;
+    }
+  };
+  private static final Function<LifecycleCallback, Void> AFTER_POST_PROCESS = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onAfterPostProcess();
+      return null;
+    }
+  };
+  private static final Function<LifecycleCallback, Void> BEFORE_MERGE = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onBeforeMerge();
+      return null;
+    }
+  };
+  private static final Function<LifecycleCallback, Void> AFTER_MERGE = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onAfterMerge();
+      return null;
+    }
+  };
+  private static final Function<LifecycleCallback, Void> PROCESSING_COMPLETE = new Function<LifecycleCallback, Void>() {
+    public Void apply(final LifecycleCallback input)
+        throws Exception {
+      input.onProcessingComplete();
+      return null;
+    }
+  };
+  @SuppressWarnings("unchecked")
+  private static final ObjectFactory<LifecycleCallback>[] NO_FACTORIES = new ObjectFactory[0];
 
   /**
-   * The list of registered callbacks.
+   * The registered callback factories. The array is never modified, a new one is created for each registration.
    */
-  private final List<ObjectFactory<LifecycleCallback>> callbackFactoryList = new ArrayList<ObjectFactory<LifecycleCallback>>();
-  private final Map<String, List<LifecycleCallback>> map = new ConcurrentHashMap<String, List<LifecycleCallback>>();
+  private volatile ObjectFactory<LifecycleCallback>[] callbackFactories = NO_FACTORIES;
 
   /**
    * Register a callback using a factory responsible for callback instantiation.
@@ -42,23 +108,21 @@ public class LifecycleCallbackRegistry
    * @param callbackFactory
    *          the factory used to instantiate callbacks.
    */
-  public void registerCallback(final ObjectFactory<LifecycleCallback> callbackFactory) {
-    callbackFactoryList.add(callbackFactory);
-  }
-
-  private List<LifecycleCallback> getCallbacks() {
-    final String key = Context.getCorrelationId();
-    List<LifecycleCallback> callbacks = map.get(key);
-    if (callbacks == null) {
-      callbacks = initCallbacks();
-      map.put(key, callbacks);
-    }
-    return callbacks;
+  @SuppressWarnings("unchecked")
+  public synchronized void registerCallback(final ObjectFactory<LifecycleCallback> callbackFactory) {
+    final ObjectFactory<LifecycleCallback>[] factories = new ObjectFactory[callbackFactories.length + 1];
+    System.arraycopy(callbackFactories, 0, factories, 0, callbackFactories.length);
+    factories[callbackFactories.length] = callbackFactory;
+    callbackFactories = factories;
   }
 
+  /**
+   * @return the callbacks to notify, created by the registered factories.
+   */
   protected List<LifecycleCallback> initCallbacks() {
-    final List<LifecycleCallback> callbacks = new ArrayList<LifecycleCallback>();
-    for (final ObjectFactory<LifecycleCallback> callbackFactory : callbackFactoryList) {
+    final ObjectFactory<LifecycleCallback>[] factories = callbackFactories;
+    final List<LifecycleCallback> callbacks = new ArrayList<LifecycleCallback>(factories.length);
+    for (final ObjectFactory<LifecycleCallback> callbackFactory : factories) {
       callbacks.add(callbackFactory.create());
     }
     return callbacks;
@@ -68,141 +132,94 @@ public class LifecycleCallbackRegistry
    * {@inheritDoc}
    */
   public void onBeforeModelCreated() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onBeforeModelCreated();
-        return null;
-      }
-    });
+    forEachCallbackDo(BEFORE_MODEL_CREATED);
   }
 
-
   /**
    * {@inheritDoc}
    */
   public void onAfterModelCreated() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onAfterModelCreated();
-        return null;
-      }
-    });
+    forEachCallbackDo(AFTER_MODEL_CREATED);
   }
 
-
   /**
    * {@inheritDoc}
    */
   public void onBeforePreProcess() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onBeforePreProcess();
-        return null;
-      }
-    });
+    forEachCallbackDo(BEFORE_PRE_PROCESS);
   }
 
-
   /**
    * {@inheritDoc}
    */
   public void onAfterPreProcess() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onAfterPreProcess();
-        return null;
-      }
-    });
+    forEachCallbackDo(AFTER_PRE_PROCESS);
   }
 
-
   /**
    * {@inheritDoc}
    */
   public void onBeforePostProcess() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onBeforePostProcess();
-        return null;
-      }
-    });
+    forEachCallbackDo(BEFORE_POST_PROCESS);
   }
 
-
   /**
    * {@inheritDoc}
    */
   public void onAfterPostProcess() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onAfterPostProcess();
-        return null;
-      }
-    });
+    forEachCallbackDo(AFTER_POST_PROCESS);
   }
 
   /**
    * {@inheritDoc}
    */
   public void onBeforeMerge() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onBeforeMerge();
-        return null;
-      }
-    });
+    forEachCallbackDo(BEFORE_MERGE);
   }
 
+  /**
+   * {@inheritDoc}
+   */
   public void onAfterMerge() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onAfterMerge();
-        return null;
-      }
-    });
+    forEachCallbackDo(AFTER_MERGE);
   }
 
   /**
    * {@inheritDoc}
    */
   public void onProcessingComplete() {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onProcessingComplete();
-        return null;
-      }
-    });
+    forEachCallbackDo(PROCESSING_COMPLETE);
   }
 
-
+  /**
+   * {@inheritDoc}
+   */
   public void onResourceChanged(final Resource resource) {
-    forEachCallbackDo(new Function<LifecycleCallback, Void>() {
-      public Void apply(final LifecycleCallback input)
-          throws Exception {
-        input.onResourceChanged(resource);
-        return null;
-      }
-    });
+    if (hasCallbacks()) {
+      forEachCallbackDo(new Function<LifecycleCallback, Void>() {
+        public Void apply(final LifecycleCallback input)
+            throws Exception {
+          input.onResourceChanged(resource);
+          return null;
+        }
+      });
+    }
+  }
+
+  private boolean hasCallbacks() {
+    return callbackFactories.length > 0;
   }
 
   private void forEachCallbackDo(final Function<LifecycleCallback, Void> func) {
-    for (final LifecycleCallback callback : getCallbacks()) {
+    if (!hasCallbacks()) {
+      return;
+    }
+    for (final LifecycleCallback callback : initCallbacks()) {
       try {
         func.apply(callback);
       } catch (final Exception e) {
         LOG.error("Problem invoking callback", e);
         onException(e);
-      } finally {
-        map.remove(Context.getCorrelationId());
       }
     }
   }
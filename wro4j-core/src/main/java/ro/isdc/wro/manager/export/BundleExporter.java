@@ -0,0 +1,160 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.manager.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.Properties;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.ReadOnlyContext;
+import ro.isdc.wro.model.factory.WroModelFactory;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
+import ro.isdc.wro.model.resource.support.DefaultResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+
+
+/**
+ * Exports the minimized bundle of each group into a folder, using the layout described by {@link ExportedBundles}.
+ * The bundles are computed using the cache, thus the exported content is the same as the content served at runtime.
+ * <p/>
+ * The export is performed using the {@link ReadOnlyContext} of the current thread. In order to have the urls of the
+ * css bundles rewritten correctly, the aggregatedFolderPath of the context should point to the folder from which the
+ * bundles are requested.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class BundleExporter {
+  private static final Logger LOG = LoggerFactory.getLogger(BundleExporter.class);
+  @Inject
+  private WroModelFactory modelFactory;
+  @Inject
+  private CacheStrategy<CacheKey, CacheValue> cacheStrategy;
+  @Inject
+  private ReadOnlyContext context;
+  @Inject
+  private ResourceAuthorizationManager authorizationManager;
+  @Inject
+  private UriLocatorFactory locatorFactory;
+  @Inject
+  private HashStrategy hashStrategy;
+
+  /**
+   * Exports all bundles into the provided folder, overriding a previous export.
+   *
+   * @param directory
+   *          the folder where the bundles are exported. Created if it doesn't exist.
+   * @return the {@link ExportedBundles} stored in the provided folder.
+   */
+  public ExportedBundles export(final File directory)
+      throws IOException {
+    LOG.debug("exporting bundles to: {}", directory);
+    FileUtils.forceMkdir(directory);
+    final Properties manifest = new Properties();
+    // computed before processing, thus a resource changed during export results in an outdated fingerprint
+    manifest.setProperty(ExportedBundles.FINGERPRINT_PROPERTY, computeFingerprint());
+    for (final Group group : modelFactory.create().getGroups()) {
+      for (final ResourceType type : ResourceType.values()) {
+        if (group.hasResourcesOfType(type)) {
+          final CacheValue cacheValue = cacheStrategy.get(new CacheKey(group.getName(), type, true));
+          if (cacheValue != null && cacheValue.getRawContent() != null) {
+            final String name = ExportedBundles.getBundleName(group.getName(), type);
+            exportBundle(new File(new File(directory, cacheValue.getHash()), name), cacheValue);
+            manifest.setProperty(name, cacheValue.getHash());
+          }
+        }
+      }
+    }
+    exportAuthorizedResources(directory);
+    // the manifest is written last, marking the export as complete
+    final File manifestFile = new File(directory, ExportedBundles.MANIFEST_FILE);
+    final File tempFile = new File(directory, ExportedBundles.MANIFEST_FILE + ".tmp");
+    final OutputStream output = new FileOutputStream(tempFile);
+    try {
+      manifest.store(output, "Mapping of exported bundle name to its hash");
+    } finally {
+      IOUtils.closeQuietly(output);
+    }
+    FileUtils.deleteQuietly(manifestFile);
+    if (!tempFile.renameTo(manifestFile)) {
+      throw new IOException("Cannot create the manifest: " + manifestFile);
+    }
+    LOG.info("{} bundles exported to: {}", manifest.size() - 1, directory);
+    return ExportedBundles.load(directory);
+  }
+
+  /**
+   * @return a fingerprint of the model, computed by hashing the name of each group together with the uri and the
+   *         content hash of each of its resources. A resource which cannot be located contributes with an empty hash.
+   */
+  public String computeFingerprint()
+      throws IOException {
+    final Map<String, Group> groups = new TreeMap<String, Group>();
+    for (final Group group : modelFactory.create().getGroups()) {
+      groups.put(group.getName(), group);
+    }
+    final StringBuilder fingerprint = new StringBuilder();
+    for (final Group group : groups.values()) {
+      fingerprint.append(group.getName()).append('\n');
+      for (final Resource resource : group.getResources()) {
+        fingerprint.append(resource.getType()).append(':').append(resource.getUri()).append('=').append(
+            getResourceHash(resource.getUri())).append('\n');
+      }
+    }
+    return hashStrategy.getHash(new ByteArrayInputStream(fingerprint.toString().getBytes(ExportedBundles.ENCODING)));
+  }
+
+  private String getResourceHash(final String uri) {
+    InputStream inputStream = null;
+    try {
+      inputStream = locatorFactory.locate(uri);
+      return hashStrategy.getHash(inputStream);
+    } catch (final IOException e) {
+      LOG.debug("Cannot compute the hash of resource: {}", uri);
+      return "";
+    } finally {
+      IOUtils.closeQuietly(inputStream);
+    }
+  }
+
+  private void exportBundle(final File file, final CacheValue cacheValue)
+      throws IOException {
+    LOG.debug("exporting bundle: {}", file);
+    FileUtils.writeStringToFile(file, cacheValue.getRawContent(), context.getConfig().getEncoding());
+    FileUtils.writeByteArrayToFile(new File(file.getPath() + ExportedBundles.GZIP_EXTENSION),
+        cacheValue.getGzippedContent());
+  }
+
+  /**
+   * Stores the uri's authorized while processing the bundles (ex: the images referred by css), which must remain
+   * accessible when the bundles are served by a different application instance.
+   */
+  private void exportAuthorizedResources(final File directory)
+      throws IOException {
+    if (authorizationManager instanceof DefaultResourceAuthorizationManager) {
+      FileUtils.writeLines(new File(directory, ExportedBundles.AUTHORIZED_RESOURCES_FILE), ExportedBundles.ENCODING,
+          new ArrayList<String>(((DefaultResourceAuthorizationManager) authorizationManager).list()));
+    }
+  }
+}
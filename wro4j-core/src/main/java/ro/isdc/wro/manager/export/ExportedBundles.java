@@ -0,0 +1,214 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.manager.export;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.CharEncoding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.model.resource.ResourceType;
+
+
+/**
+ * The bundles exported by {@link BundleExporter} into a folder. Each bundle is stored in a folder named after its hash
+ * (ex: <code>${hash}/all.js</code>), next to its gzipped version (<code>${hash}/all.js.gz</code>). The manifest file
+ * maps the name of each bundle to its hash and is written last, thus an incomplete export is never loaded. The manifest
+ * also stores the fingerprint of the resources the bundles were created from (see
+ * {@link BundleExporter#computeFingerprint()}), used to detect an outdated export.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public final class ExportedBundles {
+  private static final Logger LOG = LoggerFactory.getLogger(ExportedBundles.class);
+  /**
+   * Maps the name of each exported bundle to its hash.
+   */
+  public static final String MANIFEST_FILE = "wro-bundles.properties";
+  /**
+   * The uri's authorized during export (ex: the images referred by css bundles), one per line.
+   */
+  public static final String AUTHORIZED_RESOURCES_FILE = "wro-authorized-resources.txt";
+  /**
+   * The manifest property holding the fingerprint of the exported resources. Cannot clash with a bundle name, which
+   * always has an extension.
+   */
+  static final String FINGERPRINT_PROPERTY = "fingerprint";
+  static final String GZIP_EXTENSION = ".gz";
+  /**
+   * The encoding of the authorized resources file.
+   */
+  static final String ENCODING = CharEncoding.UTF_8;
+  private final Map<String, ExportedBundle> bundles;
+  private final List<String> authorizedResources;
+  private final String fingerprint;
+
+  private ExportedBundles(final Map<String, ExportedBundle> bundles, final List<String> authorizedResources,
+      final String fingerprint) {
+    this.bundles = bundles;
+    this.authorizedResources = authorizedResources;
+    this.fingerprint = fingerprint;
+  }
+
+  /**
+   * @return {@link ExportedBundles} without any bundle, useful when the bundles cannot be exported (all bundles being
+   *         processed at runtime).
+   */
+  public static ExportedBundles empty() {
+    return new ExportedBundles(Collections.<String, ExportedBundle> emptyMap(), Collections.<String> emptyList(), null);
+  }
+
+  /**
+   * Loads the bundles exported into the provided folder.
+   *
+   * @return the loaded {@link ExportedBundles} or null if the folder doesn't contain an export.
+   */
+  public static ExportedBundles load(final File directory)
+      throws IOException {
+    final File manifestFile = new File(directory, MANIFEST_FILE);
+    if (!manifestFile.isFile()) {
+      return null;
+    }
+    final Properties manifest = new Properties();
+    final InputStream input = new FileInputStream(manifestFile);
+    try {
+      manifest.load(input);
+    } finally {
+      IOUtils.closeQuietly(input);
+    }
+    final Map<String, ExportedBundle> bundles = new HashMap<String, ExportedBundle>();
+    final String fingerprint = (String) manifest.remove(FINGERPRINT_PROPERTY);
+    for (final Object key : manifest.keySet()) {
+      final String name = (String) key;
+      final File file = new File(new File(directory, manifest.getProperty(name)), name);
+      if (file.isFile()) {
+        bundles.put(name, new ExportedBundle(manifest.getProperty(name), file));
+      } else {
+        LOG.warn("Exported bundle {} is missing", file);
+      }
+    }
+    final File authorizedResourcesFile = new File(directory, AUTHORIZED_RESOURCES_FILE);
+    final List<String> authorizedResources = authorizedResourcesFile.isFile() ? FileUtils.readLines(
+        authorizedResourcesFile, ENCODING) : Collections.<String> emptyList();
+    LOG.debug("loaded {} bundles exported in {}", bundles.size(), directory);
+    return new ExportedBundles(bundles, authorizedResources, fingerprint);
+  }
+
+  /**
+   * @return the name of the exported bundle (ex: all.js).
+   */
+  static String getBundleName(final String groupName, final ResourceType type) {
+    return groupName + "." + type.name().toLowerCase();
+  }
+
+  /**
+   * @return the {@link ExportedBundle} matching the provided key or null if there is no such bundle. Only the
+   *         minimized bundles without custom attributes are exported.
+   */
+  public ExportedBundle getBundle(final CacheKey cacheKey) {
+    final CacheKey exportedKey = new CacheKey(cacheKey.getGroupName(), cacheKey.getType(), true);
+    return exportedKey.equals(cacheKey) ? bundles.get(getBundleName(cacheKey.getGroupName(), cacheKey.getType()))
+        : null;
+  }
+
+  /**
+   * @return the fingerprint of the resources the bundles were exported from or null if it is unknown.
+   */
+  public String getFingerprint() {
+    return fingerprint;
+  }
+
+  /**
+   * @return the uri's which were authorized during export and must be accessible through the resource proxy.
+   */
+  public List<String> getAuthorizedResources() {
+    return Collections.unmodifiableList(authorizedResources);
+  }
+
+  /**
+   * A single exported bundle.
+   */
+  public static final class ExportedBundle {
+    private final String hash;
+    private final File file;
+    private final File gzippedFile;
+
+    private ExportedBundle(final String hash, final File file) {
+      this.hash = hash;
+      this.file = file;
+      final File gzipped = new File(file.getPath() + GZIP_EXTENSION);
+      this.gzippedFile = gzipped.isFile() ? gzipped : null;
+    }
+
+    public String getHash() {
+      return hash;
+    }
+
+    /**
+     * @return the hash enclosed in quotes, as required by the RFC for the ETag header value.
+     */
+    public String getEtag() {
+      return String.format("\"%s\"", hash);
+    }
+
+    public File getFile() {
+      return file;
+    }
+
+    /**
+     * @return the gzipped version of the bundle or null if it wasn't exported.
+     */
+    public File getGzippedFile() {
+      return gzippedFile;
+    }
+
+    /**
+     * Copies a region of the file to the stream. The data is transfered by the {@link FileChannel}, thus the content is
+     * not copied into the heap (when supported by the operating system).
+     *
+     * @param source
+     *          the file to copy, usually one of {@link #getFile()} or {@link #getGzippedFile()}.
+     * @param position
+     *          the position of the first byte to copy.
+     * @param count
+     *          the number of bytes to copy.
+     */
+    public void transferTo(final File source, final long position, final long count, final OutputStream outputStream)
+        throws IOException {
+      final FileInputStream input = new FileInputStream(source);
+      try {
+        final FileChannel channel = input.getChannel();
+        final WritableByteChannel target = Channels.newChannel(outputStream);
+        long transferredCount = 0;
+        while (transferredCount < count) {
+          final long transferred = channel.transferTo(position + transferredCount, count - transferredCount, target);
+          if (transferred <= 0) {
+            // the file was truncated meanwhile
+            break;
+          }
+          transferredCount += transferred;
+        }
+      } finally {
+        IOUtils.closeQuietly(input);
+      }
+    }
+  }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.manager.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Thread-safe accumulator of latencies, transferred bytes and errors of a single measured operation. The latencies are
+ * stored in a histogram with fixed (exponential) buckets, which allows lock-free updates and a constant memory
+ * footprint, at the cost of approximated percentiles.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class Metric {
+  /**
+   * The upper bounds (inclusive, in milliseconds) of the histogram buckets. The last bucket holds everything above the
+   * last bound.
+   */
+  private static final long[] BUCKET_BOUNDS = {
+    1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000
+  };
+  private final String name;
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong errorCount = new AtomicLong();
+  private final AtomicLong totalNanos = new AtomicLong();
+  private final AtomicLong maxNanos = new AtomicLong();
+  private final AtomicLong bytesIn = new AtomicLong();
+  private final AtomicLong bytesOut = new AtomicLong();
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS.length + 1);
+
+  public Metric(final String name) {
+    this.name = name;
+  }
+
+  /**
+   * Records the duration of a single operation.
+   *
+   * @param nanos
+   *          the duration of the operation in nanoseconds.
+   * @param success
+   *          false if the operation has failed.
+   */
+  public void update(final long nanos, final boolean success) {
+    count.incrementAndGet();
+    if (!success) {
+      errorCount.incrementAndGet();
+    }
+    totalNanos.addAndGet(nanos);
+    long max = maxNanos.get();
+    while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+      max = maxNanos.get();
+    }
+    buckets.incrementAndGet(bucketIndex(TimeUnit.NANOSECONDS.toMillis(nanos)));
+  }
+
+  /**
+   * Records the amount of data consumed and produced by an operation.
+   */
+  public void updateBytes(final long in, final long out) {
+    bytesIn.addAndGet(in);
+    bytesOut.addAndGet(out);
+  }
+
+  private static int bucketIndex(final long millis) {
+    int index = 0;
+    while (index < BUCKET_BOUNDS.length && millis > BUCKET_BOUNDS[index]) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * @param percentile
+   *          a value between 0 and 1 (ex: 0.99).
+   * @return the upper bound (in milliseconds) of the histogram bucket containing the requested percentile or -1 if the
+   *         percentile belongs to the last (unbounded) bucket. When nothing was recorded, 0 is returned.
+   */
+  public long getPercentileMillis(final double percentile) {
+    final long total = count.get();
+    if (total == 0) {
+      return 0;
+    }
+    final long threshold = (long) Math.ceil(total * percentile);
+    long accumulated = 0;
+    for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+      accumulated += buckets.get(i);
+      if (accumulated >= threshold) {
+        return BUCKET_BOUNDS[i];
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return the mean duration of an operation in milliseconds.
+   */
+  public double getMeanMillis() {
+    final long total = count.get();
+    return total == 0 ? 0 : (double) totalNanos.get() / total / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * @return the longest recorded duration in milliseconds.
+   */
+  public double getMaxMillis() {
+    return (double) maxNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  public long getErrorCount() {
+    return errorCount.get();
+  }
+
+  public long getBytesIn() {
+    return bytesIn.get();
+  }
+
+  public long getBytesOut() {
+    return bytesOut.get();
+  }
+
+  /**
+   * @return the upper bounds (in milliseconds) of the histogram buckets.
+   */
+  public static long[] getBucketBounds() {
+    return BUCKET_BOUNDS.clone();
+  }
+
+  /**
+   * @return the number of operations recorded in each histogram bucket. The array has one more element than
+   *         {@link #getBucketBounds()}, holding the operations exceeding the last bound.
+   */
+  public long[] getBucketCounts() {
+    final long[] result = new long[buckets.length()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = buckets.get(i);
+    }
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s: count=%s, errors=%s, mean=%.3fms, max=%.3fms, p99<=%sms, in=%sB, out=%sB", name,
+        getCount(), getErrorCount(), getMeanMillis(), getMaxMillis(), getPercentileMillis(0.99), getBytesIn(),
+        getBytesOut());
+  }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.manager.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ro.isdc.wro.manager.WroManager;
+
+
+/**
+ * Collects timing metrics for the operations performed by a {@link WroManager}: each processor (identified by its
+ * alias), each group, model creation, resource location and cache load. The registry is disabled by default and every
+ * recording method returns immediately while disabled, without allocating anything, in order to keep the overhead
+ * negligible.
+ * <p/>
+ * Typical usage:
+ *
+ * <pre>
+ * final long start = registry.start();
+ * boolean success = false;
+ * try {
+ *   doSomething();
+ *   success = true;
+ * } finally {
+ *   registry.stop(name, start, success);
+ * }
+ * </pre>
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class MetricsRegistry
+    implements MetricsRegistryMBean {
+  /**
+   * Prefix of metrics recorded for each processor alias.
+   */
+  public static final String PREFIX_PROCESSOR = "processor.";
+  /**
+   * Prefix of metrics recorded for each processed group (followed by group name and resource type).
+   */
+  public static final String PREFIX_GROUP = "group.";
+  /**
+   * Prefix of metrics recorded for each locator used to retrieve a resource.
+   */
+  public static final String PREFIX_LOCATOR = "locator.";
+  /**
+   * Metric recorded when the model is created.
+   */
+  public static final String MODEL_CREATION = "model.create";
+  /**
+   * Metric recorded when a value is loaded into the cache.
+   */
+  public static final String CACHE_LOAD = "cache.load";
+  /**
+   * Metric recorded when the access to a resource served by the resource proxy is checked. The failures are the denied
+   * (forbidden) requests.
+   */
+  public static final String PROXY_AUTHORIZATION = "proxy.authorization";
+  /**
+   * Value returned by {@link #start()} when the registry is disabled.
+   */
+  private static final long NOT_STARTED = Long.MIN_VALUE;
+  private final ConcurrentMap<String, Metric> metrics = new ConcurrentHashMap<String, Metric>();
+  private volatile boolean enabled;
+
+  /**
+   * @return a token to be passed to {@link #stop(String, long, boolean)}.
+   */
+  public long start() {
+    return enabled ? System.nanoTime() : NOT_STARTED;
+  }
+
+  /**
+   * Records the time elapsed since the provided start token was obtained. Does nothing if the registry was disabled
+   * when the token was obtained.
+   *
+   * @param name
+   *          the name of the metric to update.
+   * @param start
+   *          the token returned by {@link #start()}.
+   * @param success
+   *          false if the measured operation has failed.
+   */
+  public void stop(final String name, final long start, final boolean success) {
+    if (start != NOT_STARTED) {
+      getMetric(name).update(System.nanoTime() - start, success);
+    }
+  }
+
+  /**
+   * Records the amount of data consumed and produced by an operation.
+   */
+  public void updateBytes(final String name, final long in, final long out) {
+    if (enabled) {
+      getMetric(name).updateBytes(in, out);
+    }
+  }
+
+  /**
+   * @return the {@link Metric} with the provided name, created if it doesn't exist yet.
+   */
+  public Metric getMetric(final String name) {
+    Metric metric = metrics.get(name);
+    if (metric == null) {
+      final Metric created = new Metric(name);
+      metric = metrics.putIfAbsent(name, created);
+      if (metric == null) {
+        metric = created;
+      }
+    }
+    return metric;
+  }
+
+  /**
+   * @return a snapshot of recorded metrics, sorted by name.
+   */
+  public SortedMap<String, Metric> getMetrics() {
+    return Collections.unmodifiableSortedMap(new TreeMap<String, Metric>(metrics));
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public String[] getMetricNames() {
+    return getMetrics().keySet().toArray(new String[0]);
+  }
+
+  public String[] getSummary() {
+    final List<String> summary = new ArrayList<String>();
+    for (final Metric metric : getMetrics().values()) {
+      summary.add(metric.toString());
+    }
+    return summary.toArray(new String[0]);
+  }
+
+  public void reset() {
+    metrics.clear();
+  }
+
+  public String toJson() {
+    final StringBuilder json = new StringBuilder();
+    json.append("{\"enabled\":").append(enabled).append(",\"bucketBoundsMillis\":");
+    appendArray(json, Metric.getBucketBounds());
+    json.append(",\"metrics\":{");
+    boolean first = true;
+    for (final Map.Entry<String, Metric> entry : getMetrics().entrySet()) {
+      final Metric metric = entry.getValue();
+      if (!first) {
+        json.append(',');
+      }
+      first = false;
+      appendString(json, entry.getKey());
+      json.append(":{\"count\":").append(metric.getCount());
+      json.append(",\"errors\":").append(metric.getErrorCount());
+      json.append(",\"meanMillis\":").append(metric.getMeanMillis());
+      json.append(",\"maxMillis\":").append(metric.getMaxMillis());
+      json.append(",\"p50Millis\":").append(metric.getPercentileMillis(0.5));
+      json.append(",\"p99Millis\":").append(metric.getPercentileMillis(0.99));
+      json.append(",\"bytesIn\":").append(metric.getBytesIn());
+      json.append(",\"bytesOut\":").append(metric.getBytesOut());
+      json.append(",\"histogram\":");
+      appendArray(json, metric.getBucketCounts());
+      json.append('}');
+    }
+    return json.append("}}").toString();
+  }
+
+  private void appendArray(final StringBuilder json, final long[] values) {
+    json.append('[');
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append(values[i]);
+    }
+    json.append(']');
+  }
+
+  private void appendString(final StringBuilder json, final String value) {
+    json.append('"');
+    for (final char c : value.toCharArray()) {
+      if (c == '"' || c == '\\') {
+        json.append('\\').append(c);
+      } else if (c < ' ') {
+        json.append(String.format("\\u%04x", (int) c));
+      } else {
+        json.append(c);
+      }
+    }
+    json.append('"');
+  }
+}
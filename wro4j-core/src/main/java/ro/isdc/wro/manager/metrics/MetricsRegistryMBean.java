@@ -0,0 +1,38 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.manager.metrics;
+
+/**
+ * Exposes the metrics collected by {@link MetricsRegistry} through JMX. The collection itself is turned on or off using
+ * the metricsEnabled flag of the {@link ro.isdc.wro.config.jmx.WroConfigurationMBean}.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public interface MetricsRegistryMBean {
+  /**
+   * @return true if the metrics are currently collected.
+   */
+  boolean isEnabled();
+
+  /**
+   * @return the names of all recorded metrics.
+   */
+  String[] getMetricNames();
+
+  /**
+   * @return a human readable summary of each recorded metric, one per line.
+   */
+  String[] getSummary();
+
+  /**
+   * @return all recorded metrics serialized as a JSON object.
+   */
+  String toJson();
+
+  /**
+   * Discards all recorded metrics.
+   */
+  void reset();
+}
@@ -8,10 +8,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.support.AbstractSynchronizedCacheStrategyDecorator;
 
 
 /**
- * A {@link Runnable} executed by scheduler to clear the cache.
+ * A {@link Runnable} executed by scheduler to clear the cache. When refresh ahead is enabled and the cache strategy
+ * supports it, the cache entries are marked as stale instead of being cleared.
  * 
  * @author Alex Objelean
  * @created 24 Oct 2011
@@ -21,6 +23,7 @@ public final class ReloadCacheRunnable
     implements Runnable {
   private static final Logger LOG = LoggerFactory.getLogger(ReloadCacheRunnable.class);
   private CacheStrategy<?, ?> cacheStrategy;
+  private volatile boolean refreshAhead;
   
   public ReloadCacheRunnable(final CacheStrategy<?, ?> cacheStrategy) {
     Validate.notNull(cacheStrategy);
@@ -30,9 +33,22 @@ public final class ReloadCacheRunnable
   public void run() {
     LOG.debug("Reloading Cache....");
     try {
-      cacheStrategy.clear();
+      if (refreshAhead && cacheStrategy instanceof AbstractSynchronizedCacheStrategyDecorator) {
+        ((AbstractSynchronizedCacheStrategyDecorator<?, ?>) cacheStrategy).markStale();
+      } else {
+        cacheStrategy.clear();
+      }
     } catch (final Exception e) {
       LOG.error("Exception occured during cache reload: ", e);
     }
   }
+
+  /**
+   * @param refreshAhead
+   *          when true, the cache entries are marked as stale instead of being cleared.
+   */
+  public ReloadCacheRunnable setRefreshAhead(final boolean refreshAhead) {
+    this.refreshAhead = refreshAhead;
+    return this;
+  }
 }
\ No newline at end of file
@@ -7,14 +7,11 @@ import static org.apache.commons.lang3.Validate.notNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.lang3.builder.EqualsBuilder;
-import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
 import org.slf4j.Logger;
@@ -37,24 +34,49 @@ public final class WroModel {
    * Set of groups.
    */
   private Set<Group> groups = new HashSet<Group>();
+  /**
+   * Indexed snapshot of the groups, created on first access after the groups were changed. Volatile, because it is read
+   * without locking by each request.
+   */
+  private transient volatile WroModelInspector inspector;
 
   /**
    * @return a readonly collection of groups.
    */
-  public synchronized final Collection<Group> getGroups() {
-    // use a new list to avoid ConcurrentModificationException when the WroModel#addGroup method is called.
-    return Collections.unmodifiableSet(new HashSet<Group>(groups));
+  public final Collection<Group> getGroups() {
+    // the snapshot is not affected when the WroModel#addGroup method is called, avoiding ConcurrentModificationException.
+    return getInspector().getGroups();
+  }
+
+  /**
+   * @return a {@link WroModelInspector} of the current groups of the model. The same instance is returned until the
+   *         groups of the model are changed, thus this method is cheaper than creating a new {@link WroModelInspector}
+   *         and should be preferred on the request path.
+   * @since 1.7.9
+   */
+  public WroModelInspector getInspector() {
+    WroModelInspector result = inspector;
+    if (result == null) {
+      synchronized (this) {
+        if (inspector == null) {
+          inspector = WroModelInspector.forGroups(groups);
+        }
+        result = inspector;
+      }
+    }
+    return result;
   }
 
   /**
    * @param groups
    *          the groups to set
    */
-  public final WroModel setGroups(final Collection<Group> groups) {
+  public synchronized final WroModel setGroups(final Collection<Group> groups) {
     notNull(groups, "groups cannot be null!");
     LOG.debug("setGroups: {}", groups);
     identifyDuplicateGroupNames(groups);
     this.groups = new HashSet<Group>(groups);
+    inspector = null;
     return this;
   }
 
@@ -67,7 +89,7 @@ public final class WroModel {
    */
   @Deprecated
   public Collection<String> getGroupNamesContainingResource(final String resourceUri) {
-    return new WroModelInspector(this).getGroupNamesContainingResource(resourceUri);
+    return getInspector().getGroupNamesContainingResource(resourceUri);
   }
 
   /**
@@ -96,7 +118,7 @@ public final class WroModel {
    */
   @Deprecated
   public Group getGroupByName(final String name) {
-    final WroModelInspector modelInspector = new WroModelInspector(this);
+    final WroModelInspector modelInspector = getInspector();
     final Group group = modelInspector.getGroupByName(name);
     if (group == null) {
       throw new InvalidGroupNameException(String.format("There is no such group: '%s'. Available groups are: [%s]", name,
@@ -113,12 +135,12 @@ public final class WroModel {
   public void merge(final WroModel importedModel) {
     Validate.notNull(importedModel, "imported model cannot be null!");
     LOG.debug("merging importedModel: {}", importedModel);
-    for (final String groupName : new WroModelInspector(importedModel).getGroupNames()) {
-      if (new WroModelInspector(this).getGroupNames().contains(groupName)) {
+    final WroModelInspector importedModelInspector = importedModel.getInspector();
+    for (final String groupName : importedModelInspector.getGroupNames()) {
+      if (getInspector().hasGroup(groupName)) {
         throw new WroRuntimeException("Duplicate group name detected: " + groupName);
       }
-      final Group importedGroup = new WroModelInspector(importedModel).getGroupByName(groupName);
-      addGroup(importedGroup);
+      addGroup(importedModelInspector.getGroupByName(groupName));
     }
   }
 
@@ -129,6 +151,7 @@ public final class WroModel {
   public synchronized WroModel addGroup(final Group group) {
     Validate.notNull(group);
     groups.add(group);
+    inspector = null;
     return this;
   }
 
@@ -137,7 +160,10 @@ public final class WroModel {
    */
   @Override
   public boolean equals(final Object obj) {
-    return EqualsBuilder.reflectionEquals(this, obj, true);
+    if (!(obj instanceof WroModel)) {
+      return false;
+    }
+    return getGroups().equals(((WroModel) obj).getGroups());
   }
 
   /**
@@ -145,7 +171,7 @@ public final class WroModel {
    */
   @Override
   public int hashCode() {
-    return HashCodeBuilder.reflectionHashCode(this);
+    return getGroups().hashCode();
   }
 
   /**
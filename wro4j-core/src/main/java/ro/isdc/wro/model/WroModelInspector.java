@@ -2,6 +2,7 @@ package ro.isdc.wro.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -26,11 +27,41 @@ import ro.isdc.wro.model.resource.Resource;
  */
 public class WroModelInspector {
   private final Map<String, Group> map = new HashMap<String, Group>();
+  private final Collection<Group> groups;
+  /**
+   * The sorted group names, computed once since the inspector is a snapshot.
+   */
+  private final List<String> groupNames;
+
+  /**
+   * Prefer {@link WroModel#getInspector()}, which reuses the inspector until the model is changed.
+   */
   public WroModelInspector(final WroModel model) {
-    Validate.notNull(model);
-    for (final Group group : model.getGroups()) {
+    this(Validate.notNull(model).getGroups());
+  }
+
+  /**
+   * Creates an inspector of the provided groups. A named factory method is used instead of a constructor overload, in
+   * order to keep <code>new WroModelInspector(null)</code> unambiguous.
+   */
+  static WroModelInspector forGroups(final Collection<Group> groups) {
+    return new WroModelInspector(groups);
+  }
+
+  private WroModelInspector(final Collection<Group> groups) {
+    this.groups = Collections.unmodifiableSet(new HashSet<Group>(groups));
+    for (final Group group : groups) {
       map.put(group.getName(), group);
     }
+    //decorate with tree set to keep them sorted (for jdk5).
+    groupNames = Collections.unmodifiableList(new ArrayList<String>(new TreeSet<String>(map.keySet())));
+  }
+
+  /**
+   * @return a readonly collection of the inspected groups.
+   */
+  Collection<Group> getGroups() {
+    return groups;
   }
 
   /**
@@ -64,8 +95,7 @@ public class WroModelInspector {
    * @return a set of group names.
    */
   public final List<String> getGroupNames() {
-    //decorate with tree set to keep them sorted (for jdk5).
-    return new ArrayList<String>(new TreeSet<String>(map.keySet()));
+    return new ArrayList<String>(groupNames);
   }
 
   /**
@@ -82,7 +112,7 @@ public class WroModelInspector {
    * @return a comma separated list of group names.
    */
   public String getGroupNamesAsString() {
-    return String.format("%s", StringUtils.join(getGroupNames(), ", "));
+    return String.format("%s", StringUtils.join(groupNames, ", "));
   }
 
   /**
@@ -6,8 +6,14 @@ package ro.isdc.wro.model.factory;
 import ro.isdc.wro.WroRuntimeException;
 import ro.isdc.wro.config.ReadOnlyContext;
 import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
 
 import javax.servlet.ServletContext;
+
+import org.apache.commons.io.input.AutoCloseInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -21,7 +27,8 @@ import java.io.InputStream;
  * @since 1.4.0
  */
 public abstract class AbstractWroModelFactory
-    implements WroModelFactory {
+    implements WroModelFactory, ModelFingerprintAware {
+  private static final Logger LOG = LoggerFactory.getLogger(AbstractWroModelFactory.class);
   @Inject
   private ReadOnlyContext context;
 
@@ -50,6 +57,19 @@ public abstract class AbstractWroModelFactory
     return stream;
   }
   
+  /**
+   * The default implementation computes the hash of the model resource. Override this method when the model is created
+   * from more than one resource.
+   */
+  public String getModelFingerprint() {
+    try {
+      return new SHA1HashStrategy().getHash(new AutoCloseInputStream(getModelResourceAsStream()));
+    } catch (final Exception e) {
+      LOG.debug("Cannot compute the model fingerprint", e);
+      return null;
+    }
+  }
+
   /**
    * @return the default name of the file describing the wro model.
    */
@@ -0,0 +1,151 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.factory;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+
+
+/**
+ * Stores the model created by the decorated factory into a compact binary file, together with the fingerprint of the
+ * model sources (see {@link ModelFingerprintAware}). As long as the sources do not change, the model is loaded from
+ * this file and the decorated factory is not used to create the model. This is useful when the model creation is slow
+ * (ex: groovy model compilation) and the application is restarted often.
+ * <p/>
+ * The model is stored before being transformed (ex: wildcard expansion), since the transformation depends on the
+ * resources available when the model is created. When the decorated factory cannot compute the fingerprint, the model
+ * is always created by the decorated factory.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class CompiledWroModelFactoryDecorator
+    extends WroModelFactoryDecorator {
+  private static final Logger LOG = LoggerFactory.getLogger(CompiledWroModelFactoryDecorator.class);
+  /**
+   * Incremented when the format of the file changes, invalidating the files created by previous versions.
+   */
+  private static final int FORMAT_VERSION = 1;
+  private final File compiledModelFile;
+
+  /**
+   * @param compiledModelFile
+   *          the file where the model is stored. Created if it doesn't exist.
+   */
+  public CompiledWroModelFactoryDecorator(final WroModelFactory decorated, final File compiledModelFile) {
+    super(decorated);
+    notNull(compiledModelFile);
+    this.compiledModelFile = compiledModelFile;
+  }
+
+  @Override
+  public synchronized WroModel create() {
+    final String fingerprint = getModelFingerprint();
+    if (fingerprint == null) {
+      LOG.debug("The model fingerprint is not available, the compiled model cannot be used");
+      return super.create();
+    }
+    final WroModel compiledModel = readModel(fingerprint);
+    if (compiledModel != null) {
+      LOG.debug("using compiled model: {}", compiledModelFile);
+      return compiledModel;
+    }
+    final WroModel model = super.create();
+    writeModel(fingerprint, model);
+    return model;
+  }
+
+  /**
+   * @return the model stored in the file or null if the file doesn't exist or it was created from different sources.
+   */
+  private WroModel readModel(final String fingerprint) {
+    if (!compiledModelFile.isFile()) {
+      return null;
+    }
+    DataInputStream input = null;
+    try {
+      input = new DataInputStream(new BufferedInputStream(new FileInputStream(compiledModelFile)));
+      if (input.readInt() != FORMAT_VERSION || !fingerprint.equals(input.readUTF())) {
+        LOG.debug("The compiled model is outdated");
+        return null;
+      }
+      final int groupsCount = input.readInt();
+      final List<Group> groups = new ArrayList<Group>(groupsCount);
+      for (int i = 0; i < groupsCount; i++) {
+        final Group group = new Group(input.readUTF());
+        final int resourcesCount = input.readInt();
+        final List<Resource> resources = new ArrayList<Resource>(resourcesCount);
+        for (int j = 0; j < resourcesCount; j++) {
+          final ResourceType type = ResourceType.values()[input.readByte()];
+          final Resource resource = Resource.create(input.readUTF(), type);
+          resource.setMinimize(input.readBoolean());
+          resources.add(resource);
+        }
+        group.setResources(resources);
+        groups.add(group);
+      }
+      return new WroModel().setGroups(groups);
+    } catch (final Exception e) {
+      LOG.warn("Cannot read the compiled model: " + compiledModelFile + ". The model will be created.", e);
+      return null;
+    } finally {
+      IOUtils.closeQuietly(input);
+    }
+  }
+
+  private void writeModel(final String fingerprint, final WroModel model) {
+    File tempFile = null;
+    DataOutputStream output = null;
+    try {
+      final File directory = compiledModelFile.getAbsoluteFile().getParentFile();
+      FileUtils.forceMkdir(directory);
+      tempFile = File.createTempFile(compiledModelFile.getName(), ".tmp", directory);
+      output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)));
+      output.writeInt(FORMAT_VERSION);
+      output.writeUTF(fingerprint);
+      output.writeInt(model.getGroups().size());
+      for (final Group group : model.getGroups()) {
+        output.writeUTF(group.getName());
+        final List<Resource> resources = group.getResources();
+        output.writeInt(resources.size());
+        for (final Resource resource : resources) {
+          output.writeByte(resource.getType().ordinal());
+          output.writeUTF(resource.getUri());
+          output.writeBoolean(resource.isMinimize());
+        }
+      }
+      output.close();
+      FileUtils.deleteQuietly(compiledModelFile);
+      if (!tempFile.renameTo(compiledModelFile)) {
+        throw new IOException("Cannot rename " + tempFile + " to " + compiledModelFile);
+      }
+      LOG.debug("compiled model stored in: {}", compiledModelFile);
+    } catch (final IOException e) {
+      LOG.warn("Cannot store the compiled model: " + compiledModelFile, e);
+    } finally {
+      IOUtils.closeQuietly(output);
+      FileUtils.deleteQuietly(tempFile);
+    }
+  }
+}
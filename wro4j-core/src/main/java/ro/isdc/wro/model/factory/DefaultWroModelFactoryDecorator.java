@@ -5,11 +5,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ro.isdc.wro.config.ReadOnlyContext;
 import ro.isdc.wro.manager.callback.LifecycleCallbackRegistry;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.WroModel;
-import ro.isdc.wro.model.WroModelInspector;
 import ro.isdc.wro.model.group.Inject;
 import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.support.DefaultResourceAuthorizationManager;
 import ro.isdc.wro.model.resource.support.MutableResourceAuthorizationManager;
 import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
 import ro.isdc.wro.util.AbstractDecorator;
@@ -43,6 +44,8 @@ public final class DefaultWroModelFactoryDecorator
   private ReadOnlyContext context;
   @Inject
   private Injector injector;
+  @Inject
+  private MetricsRegistry metricsRegistry;
   /**
    * Responsible for model caching
    */
@@ -52,6 +55,7 @@ public final class DefaultWroModelFactoryDecorator
       callbackRegistry.onBeforeModelCreated();
       final StopWatch watch = new StopWatch("Create Model");
       watch.start("createModel");
+      final long start = metricsRegistry.start();
       WroModel model = null;
       try {
         final WroModelFactory modelFactory = decorate(getDecoratedObject());
@@ -61,6 +65,7 @@ public final class DefaultWroModelFactoryDecorator
       } finally {
         authorizeModelResources(model);
         callbackRegistry.onAfterModelCreated();
+        metricsRegistry.stop(MetricsRegistry.MODEL_CREATION, start, model != null);
         watch.stop();
         LOG.debug(watch.prettyPrint());
       }
@@ -82,7 +87,7 @@ public final class DefaultWroModelFactoryDecorator
     private void authorizeModelResources(final WroModel model) {
       if (model != null && context.getConfig().isDebug()) {
         if (authorizationManager instanceof MutableResourceAuthorizationManager) {
-          for (final Resource resource : new WroModelInspector(model).getAllUniqueResources()) {
+          for (final Resource resource : model.getInspector().getAllUniqueResources()) {
             ((MutableResourceAuthorizationManager) authorizationManager).add(resource.getUri());
           }
         }
@@ -124,7 +129,9 @@ public final class DefaultWroModelFactoryDecorator
     LOG.debug("Destroy model");
     modelInitializer.destroy();
     getDecoratedObject().destroy();
-    if (authorizationManager instanceof MutableResourceAuthorizationManager) {
+    if (authorizationManager instanceof DefaultResourceAuthorizationManager) {
+      ((DefaultResourceAuthorizationManager) authorizationManager).startGeneration();
+    } else if (authorizationManager instanceof MutableResourceAuthorizationManager) {
       ((MutableResourceAuthorizationManager) authorizationManager).clear();
     }
   }
@@ -15,7 +15,7 @@ import ro.isdc.wro.util.LazyInitializer;
  */
 public class LazyWroModelFactoryDecorator
     extends AbstractDecorator<LazyInitializer<WroModelFactory>>
-    implements WroModelFactory {
+    implements WroModelFactory, ModelFingerprintAware {
 
   public LazyWroModelFactoryDecorator(final LazyInitializer<WroModelFactory> initializer) {
     super(initializer);
@@ -38,4 +38,12 @@ public class LazyWroModelFactoryDecorator
   public boolean isExpired() {
     return getDecoratedObject().get().isExpired();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getModelFingerprint() {
+    final WroModelFactory factory = getDecoratedObject().get();
+    return factory instanceof ModelFingerprintAware ? ((ModelFingerprintAware) factory).getModelFingerprint() : null;
+  }
 }
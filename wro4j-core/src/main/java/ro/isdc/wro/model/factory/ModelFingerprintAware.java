@@ -0,0 +1,20 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.factory;
+
+/**
+ * Implemented by the {@link WroModelFactory} which can tell if the sources of the model (ex: wro.xml and its imports)
+ * changed, without creating the model. Used by {@link CompiledWroModelFactoryDecorator} to reuse a previously created
+ * model.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public interface ModelFingerprintAware {
+  /**
+   * @return a hash of the content of all sources used to create the model or null if the fingerprint cannot be computed
+   *         (in which case the model must be created).
+   */
+  String getModelFingerprint();
+}
@@ -14,7 +14,7 @@ import ro.isdc.wro.util.AbstractDecorator;
  * @created 13 Mar 2011
  */
 public class WroModelFactoryDecorator extends AbstractDecorator<WroModelFactory>
-    implements WroModelFactory {
+    implements WroModelFactory, ModelFingerprintAware {
 
   public WroModelFactoryDecorator(final WroModelFactory decorated) {
     super(decorated);
@@ -37,4 +37,12 @@ public class WroModelFactoryDecorator extends AbstractDecorator<WroModelFactory>
   public boolean isExpired() {
     return getDecoratedObject().isExpired();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  public String getModelFingerprint() {
+    return getDecoratedObject() instanceof ModelFingerprintAware ? ((ModelFingerprintAware) getDecoratedObject())
+        .getModelFingerprint() : null;
+  }
 }
@@ -5,37 +5,53 @@ package ro.isdc.wro.model.factory;
 
 import static org.apache.commons.lang3.Validate.notNull;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.dom.DOMSource;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
+import javax.xml.validation.ValidatorHandler;
 
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.AutoCloseInputStream;
+import org.apache.commons.lang3.CharEncoding;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
 
 import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.support.ContextPropagatingCallable;
 import ro.isdc.wro.model.WroModel;
-import ro.isdc.wro.model.WroModelInspector;
 import ro.isdc.wro.model.group.Group;
 import ro.isdc.wro.model.group.Inject;
 import ro.isdc.wro.model.group.RecursiveGroupDefinitionException;
@@ -43,13 +59,20 @@ import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.resource.Resource;
 import ro.isdc.wro.model.resource.ResourceType;
 import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
 import ro.isdc.wro.util.StopWatch;
+import ro.isdc.wro.util.WroUtil;
 
 
 /**
  * Model factory implementation. Creates a WroModel object, based on an xml. This xml contains the description of all
  * groups.
  * <p/>
+ * The xml is parsed and validated in a single streaming pass (no DOM is created), using a schema compiled once. The
+ * parsed xml files (including the imported ones) are cached by their location and content hash, thus only the
+ * changed files are parsed when the model is reloaded. The imported models are created in parallel.
+ * <p/>
  * This class is thread-safe (the create method is synchronized).
  *
  * @author Alex Objelean
@@ -113,10 +136,18 @@ public class XmlModelFactory
    */
   protected static final String ATTR_MINIMIZE = "minimize";
   /**
-   * Map between the group name and corresponding element. Hold the map<GroupName, Element> of all group nodes to access
-   * any element.
+   * The key used to cache the xml of this factory (the imported xml files are cached by their location).
+   */
+  private static final String ROOT_LOCATION = "";
+  /**
+   * The compiled schema, which is thread-safe and can be reused by all factories.
+   */
+  private static Schema schema;
+  /**
+   * Map between the group name and corresponding definition. Hold the map<GroupName, GroupDefinition> of all group
+   * nodes to access any group.
    */
-  private final Map<String, Element> allGroupElements = new HashMap<String, Element>();
+  private Map<String, GroupDefinition> allGroupDefinitions = Collections.emptyMap();
 
   /**
    * List of groups which are currently being processing and are partially parsed. This list is useful in order to catch
@@ -131,9 +162,19 @@ public class XmlModelFactory
   @Inject
   private Injector injector;
   /**
-   * Used to detect recursive import processing.
+   * The locations of the imports being processed by the parent factories (the import recursion stack). Used to detect
+   * recursive import processing.
    */
   private final Set<String> processedImports = new HashSet<String>();
+  /**
+   * The parsed xml files, shared with the factories of imported models.
+   */
+  private final ConcurrentMap<String, CachedDocument> documentCache;
+  /**
+   * The key of this factory xml in the documentCache.
+   */
+  private final String location;
+  private final HashStrategy hashStrategy = new SHA1HashStrategy();
   /**
    * Flag for enabling xml validation.
    */
@@ -142,19 +183,31 @@ public class XmlModelFactory
    * The model being created.
    */
   private WroModel model;
+  /**
+   * True if the deprecated {@link Element} based hooks are overridden, thus the groups must be created using them.
+   */
+  private final boolean elementHooksOverridden = isOverridden("createGroup") || isOverridden("createResource");
+  /**
+   * Used to create the elements passed to the overridden {@link Element} based hooks.
+   */
+  private Document hooksDocument;
 
   /**
    * Default constructor.
    */
   public XmlModelFactory() {
+    this(ROOT_LOCATION, Collections.<String> emptySet(), new ConcurrentHashMap<String, CachedDocument>());
   }
 
   /**
    * Allow aggregate processed imports during recursive model creation.
    */
-  private XmlModelFactory(final Set<String> processedImports) {
+  private XmlModelFactory(final String location, final Set<String> processedImports,
+      final ConcurrentMap<String, CachedDocument> documentCache) {
     notNull(processedImports);
+    this.location = location;
     this.processedImports.addAll(processedImports);
+    this.documentCache = documentCache;
   }
 
   public synchronized WroModel create() {
@@ -162,11 +215,8 @@ public class XmlModelFactory
     final StopWatch stopWatch = new StopWatch("Create Wro Model from XML");
     try {
       stopWatch.start("createDocument");
-      final Document document = createDocument();
-      stopWatch.stop();
-
-      stopWatch.start("processGroups");
-      processGroups(document);
+      final XmlModelDocument document = createDocument();
+      allGroupDefinitions = document.groups;
       stopWatch.stop();
 
       stopWatch.start("processImports");
@@ -178,86 +228,176 @@ public class XmlModelFactory
       stopWatch.stop();
       return model;
     } finally {
-      // clear the processed imports even when the model creation fails.
-      processedImports.clear();
       LOG.debug(stopWatch.prettyPrint());
     }
   }
 
   /**
-   * @return valid {@link Document} of the xml containing model representation.
+   * @return valid {@link XmlModelDocument} of the xml containing model representation. The cached document is used if
+   *         the content of the xml didn't change since it was parsed.
    */
-  private Document createDocument() {
+  private XmlModelDocument createDocument() {
     try {
-      final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-      factory.setNamespaceAware(true);
-      final Document document = factory.newDocumentBuilder().parse(new AutoCloseInputStream(getModelResourceAsStream()));
-      document.getDocumentElement().normalize();
-      if (isValidateXml()) {
-        validate(document);
-      }
-      return document;
+      final byte[] content = IOUtils.toByteArray(new AutoCloseInputStream(getModelResourceAsStream()));
+      return getDocument(location, content, hashStrategy.getHash(new ByteArrayInputStream(content)));
     } catch (final Exception e) {
       throw new WroRuntimeException("Cannot build model from XML: " + e.getMessage(), e);
     }
   }
 
   /**
-   * @param document
-   *          xml document to validate.
+   * @return the cached document of the provided location if its content didn't change, otherwise the parsed content.
+   */
+  private XmlModelDocument getDocument(final String documentLocation, final byte[] content, final String hash)
+      throws Exception {
+    final CachedDocument cachedDocument = documentCache.get(documentLocation);
+    if (cachedDocument != null && cachedDocument.hash.equals(hash) && (cachedDocument.validated || !isValidateXml())) {
+      LOG.debug("xml is not changed, using the cached document");
+      return cachedDocument.document;
+    }
+    final XmlModelDocument document = parse(content);
+    documentCache.put(documentLocation, new CachedDocument(hash, isValidateXml(), document));
+    return document;
+  }
+
+  /**
+   * Computes the hash of the xml and of all imported xml files. The parsed files are cached, thus they are not parsed
+   * again by {@link #create()}.
    */
-  private void validate(final Document document)
+  @Override
+  public synchronized String getModelFingerprint() {
+    try {
+      final StringBuilder fingerprint = new StringBuilder();
+      appendFingerprint(location, IOUtils.toByteArray(new AutoCloseInputStream(getModelResourceAsStream())),
+          fingerprint, new HashSet<String>());
+      return hashStrategy.getHash(new ByteArrayInputStream(fingerprint.toString().getBytes(CharEncoding.UTF_8)));
+    } catch (final Exception e) {
+      LOG.debug("Cannot compute the model fingerprint", e);
+      return null;
+    }
+  }
+
+  private void appendFingerprint(final String documentLocation, final byte[] content, final StringBuilder fingerprint,
+      final Set<String> visitedLocations)
+      throws Exception {
+    final String hash = hashStrategy.getHash(new ByteArrayInputStream(content));
+    fingerprint.append(documentLocation).append('=').append(hash).append('\n');
+    for (final String name : getDocument(documentLocation, content, hash).imports) {
+      if (visitedLocations.add(name)) {
+        notNull(locatorFactory, "The Locator cannot be null!");
+        appendFingerprint(name, IOUtils.toByteArray(new AutoCloseInputStream(locatorFactory.locate(name))),
+            fingerprint, visitedLocations);
+      }
+    }
+  }
+
+  /**
+   * Parses the xml, validating it in the same pass (when validation is enabled).
+   */
+  private XmlModelDocument parse(final byte[] content)
+      throws Exception {
+    final SAXParserFactory factory = SAXParserFactory.newInstance();
+    factory.setNamespaceAware(true);
+    final XMLReader reader = factory.newSAXParser().getXMLReader();
+    final XmlModelHandler handler = new XmlModelHandler();
+    if (isValidateXml()) {
+      final ValidatorHandler validatorHandler = getSchema().newValidatorHandler();
+      validatorHandler.setContentHandler(handler);
+      reader.setContentHandler(validatorHandler);
+    } else {
+      reader.setContentHandler(handler);
+    }
+    reader.parse(new InputSource(new ByteArrayInputStream(content)));
+    return handler.document;
+  }
+
+  /**
+   * @return the schema used to validate the xml, compiled on first invocation.
+   */
+  private static synchronized Schema getSchema()
       throws IOException, SAXException {
-    final SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-    final Schema schema = factory.newSchema(new StreamSource(getSchemaStream()));
-    schema.newValidator().validate(new DOMSource(document));
+    if (schema == null) {
+      final SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+      schema = factory.newSchema(new StreamSource(getSchemaStream()));
+    }
+    return schema;
   }
 
-  private InputStream getSchemaStream()
+  private static InputStream getSchemaStream()
       throws IOException {
     // use the class located in same package where xsd is located
     return new AutoCloseInputStream(WroRuntimeException.class.getResourceAsStream(XML_SCHEMA_FILE));
   }
 
   /**
-   * Initialize the map
+   * Creates the imported models (in parallel when there are more imports) and merges them into the model being created.
    */
-  private void processGroups(final Document document) {
-    // handle imports
-    final NodeList groupNodeList = document.getElementsByTagName(TAG_GROUP);
-    for (int i = 0; i < groupNodeList.getLength(); i++) {
-      final Element groupElement = (Element) groupNodeList.item(i);
-      final String name = groupElement.getAttribute(ATTR_GROUP_NAME);
-      allGroupElements.put(name, groupElement);
-    }
-  }
-
-  private void processImports(final Document document) {
-    final NodeList importsList = document.getElementsByTagName(TAG_IMPORT);
-    LOG.debug("number of imports: {}", importsList.getLength());
-    for (int i = 0; i < importsList.getLength(); i++) {
-      final Element element = (Element) importsList.item(i);
-      final String name = element.getTextContent();
+  private void processImports(final XmlModelDocument document) {
+    LOG.debug("number of imports: {}", document.imports.size());
+    final List<XmlModelFactory> importedModelFactories = new ArrayList<XmlModelFactory>();
+    for (final String name : document.imports) {
       LOG.debug("processing import: {}", name);
       notNull(locatorFactory, "The Locator cannot be null!");
+      // only the imports on the recursion stack are checked, thus an import shared by sibling imports (diamond) is
+      // reported as a duplicate group when merged.
       if (processedImports.contains(name)) {
         final String message = "Recursive import detected: " + name;
         LOG.error(message);
         throw new RecursiveGroupDefinitionException(message);
       }
+      importedModelFactories.add(createImportedModelFactory(name));
+    }
+    if (importedModelFactories.size() == 1) {
+      model.merge(createImportedModel(importedModelFactories.get(0)));
+    } else if (importedModelFactories.size() > 1) {
+      mergeImportedModelsInParallel(importedModelFactories);
+    }
+  }
 
-      processedImports.add(name);
-      model.merge(createImportedModel(name));
+  private void mergeImportedModelsInParallel(final List<XmlModelFactory> importedModelFactories) {
+    final int threadPoolSize = Math.min(importedModelFactories.size(), Runtime.getRuntime().availableProcessors());
+    final ExecutorService executor = Executors.newFixedThreadPool(threadPoolSize,
+        WroUtil.createDaemonThreadFactory("modelImports"));
+    try {
+      final List<Future<WroModel>> futures = new ArrayList<Future<WroModel>>();
+      for (final XmlModelFactory importedModelFactory : importedModelFactories) {
+        final Callable<WroModel> callable = new Callable<WroModel>() {
+          public WroModel call() {
+            return createImportedModel(importedModelFactory);
+          }
+        };
+        // decorate with ContextPropagatingCallable in order to allow spawn threads to access the Context
+        futures.add(executor.submit(Context.isContextSet() ? new ContextPropagatingCallable<WroModel>(callable)
+            : callable));
+      }
+      for (final Future<WroModel> future : futures) {
+        final WroModel importedModel;
+        try {
+          importedModel = future.get();
+        } catch (final Exception e) {
+          // propagate original cause
+          final Throwable cause = e.getCause();
+          if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+          }
+          throw new WroRuntimeException("Cannot create imported model", e);
+        }
+        model.merge(importedModel);
+      }
+    } finally {
+      executor.shutdownNow();
     }
   }
 
   /**
    * @param modelLocation
    *          the path where the model is located.
-   * @return the {@link WroModel} created from provided modelLocation.
+   * @return the {@link XmlModelFactory} creating the model from provided modelLocation.
    */
-  private WroModel createImportedModel(final String modelLocation) {
-    final XmlModelFactory importedModelFactory = new XmlModelFactory(this.processedImports) {
+  private XmlModelFactory createImportedModelFactory(final String modelLocation) {
+    final Set<String> importStack = new HashSet<String>(processedImports);
+    importStack.add(modelLocation);
+    final XmlModelFactory importedModelFactory = new XmlModelFactory(modelLocation, importStack, documentCache) {
       @Override
       protected InputStream getModelResourceAsStream()
           throws IOException {
@@ -265,43 +405,44 @@ public class XmlModelFactory
         return new AutoCloseInputStream(locatorFactory.locate(modelLocation));
       }
     };
+    importedModelFactory.setValidateXml(isValidateXml());
     // inject manually created modelFactory
     injector.inject(importedModelFactory);
+    return importedModelFactory;
+  }
+
+  /**
+   * @return the {@link WroModel} created by the provided factory of an imported model.
+   */
+  private WroModel createImportedModel(final XmlModelFactory importedModelFactory) {
     try {
       return importedModelFactory.create();
     } catch (final WroRuntimeException e) {
-      LOG.error("Detected invalid model import from location {}", modelLocation);
+      LOG.error("Detected invalid model import from location {}", importedModelFactory.location);
       throw e;
     }
   }
 
   /**
    * Parse the document and creates groups which are added to the provided model.
-   *
-   * @param document
-   *          to parse.
    */
   private void parseGroups() {
     // use groups created by imports (if any)
-    for (final Element element : allGroupElements.values()) {
-      parseGroup(element);
+    for (final GroupDefinition definition : allGroupDefinitions.values()) {
+      parseGroup(definition);
     }
   }
 
   /**
-   * Recursive method. Add the parsed element group to the group collection. If the group contains group-ref element,
-   * parse recursively this group.
+   * Recursive method. Add the parsed group to the group collection. If the group contains group-ref element, parse
+   * recursively this group.
    *
-   * @param element
-   *          Group Element to parse.
-   * @param groups
-   *          list of parsed groups where the parsed group is added..
+   * @param definition
+   *          Group definition to parse.
    * @return list of resources associated with this resource
    */
-  private Collection<Resource> parseGroup(final Element element) {
-    final String name = element.getAttribute(ATTR_GROUP_NAME);
-    final String isAbstractAsString = element.getAttribute(ATTR_GROUP_ABSTRACT);
-    final boolean isAbstractGroup = StringUtils.isNotEmpty(isAbstractAsString) && Boolean.valueOf(isAbstractAsString);
+  private Collection<Resource> parseGroup(final GroupDefinition definition) {
+    final String name = definition.name;
     if (groupsInProcess.contains(name)) {
       throw new RecursiveGroupDefinitionException("Infinite Recursion detected for the group: " + name
           + ". Recursion path: " + groupsInProcess);
@@ -309,73 +450,83 @@ public class XmlModelFactory
     LOG.debug("\tadding group: {}", name);
     groupsInProcess.add(name);
     // skip if this group is already parsed
-    final Group parsedGroup = new WroModelInspector(model).getGroupByName(name);
+    final Group parsedGroup = model.getInspector().getGroupByName(name);
     if (parsedGroup != null) {
       // remove before returning
       // this group is parsed, remove from unparsed groups collection
       groupsInProcess.remove(name);
       return parsedGroup.getResources();
     }
-    final Group group = createGroup(element);
+    final Group group = createGroup(definition);
     // this group is parsed, remove from unparsed collection
     groupsInProcess.remove(name);
-    if (!isAbstractGroup) {
+    if (!definition.isAbstract) {
       // add only non abstract groups
       model.addGroup(group);
     }
     return group.getResources();
   }
 
+  /**
+   * Creates a group and all its associated resources.
+   *
+   * @param definition
+   *          Group definition to parse.
+   * @return fully initialized group
+   */
+  private Group createGroup(final GroupDefinition definition) {
+    return elementHooksOverridden ? createGroup(toElement(definition)) : doCreateGroup(definition);
+  }
+
   /**
    * Creates a group and all its associated resources.
    *
    * @param element
    *          Group element to parse.
    * @return fully initialized group
+   * @deprecated the xml is no longer parsed into a DOM. The element provided by this factory is created from the parsed
+   *             group, thus it is not attached to the parsed document.
    */
+  @Deprecated
   protected Group createGroup(final Element element) {
-    final String name = element.getAttribute(ATTR_GROUP_NAME);
-    final Group group = new Group(name);
+    return doCreateGroup(toGroupDefinition(element));
+  }
+
+  private Group doCreateGroup(final GroupDefinition definition) {
+    final Group group = new Group(definition.name);
     final List<Resource> resources = new ArrayList<Resource>();
-    final NodeList resourceNodeList = element.getChildNodes();
-    for (int i = 0; i < resourceNodeList.getLength(); i++) {
-      final Node node = resourceNodeList.item(i);
-      if (node instanceof Element) {
-        final Element resourceElement = (Element) node;
-        parseResource(resourceElement, resources);
-      }
+    for (final ResourceDefinition resourceDefinition : definition.resources) {
+      parseResource(resourceDefinition, resources);
     }
     group.setResources(resources);
     return group;
   }
 
   /**
-   * Creates a resource from a given resourceElement. It can be css, js. If resource tag name is group-ref, the method
-   * will start a recursive computation.
+   * Creates a resource from a given definition. It can be css, js. If resource tag name is group-ref, the method will
+   * start a recursive computation.
    *
    * @param resources
    *          list of parsed resources where the parsed resource is added.
    */
-  private void parseResource(final Element resourceElement, final Collection<Resource> resources) {
-    final String tagName = resourceElement.getTagName();
-    final String uri = resourceElement.getTextContent();
-    if (TAG_GROUP_REF.equals(tagName)) {
+  private void parseResource(final ResourceDefinition definition, final Collection<Resource> resources) {
+    if (TAG_GROUP_REF.equals(definition.tagName)) {
       // uri in this case is the group name
-      resources.addAll(getResourcesForGroup(uri));
+      resources.addAll(getResourcesForGroup(definition.uri));
     }
-    if (getResourceType(resourceElement) != null) {
-      final Resource resource = createResource(resourceElement);
+    if (getResourceType(definition.tagName) != null) {
+      final Resource resource = createResource(definition);
       LOG.debug("\t\tadding resource: {}", resource);
       resources.add(resource);
     }
   }
-  
+
   /**
-   * @return the {@link ResourceType} of the provided {@link Element}. If the resource type is not known (not a js or css resource), null is returned.
+   * @return the {@link ResourceType} of the provided tag name. If the resource type is not known (not a js or css
+   *         resource), null is returned.
    */
-  protected final ResourceType getResourceType(final Element resourceElement) {
+  private static ResourceType getResourceType(final String tagName) {
     ResourceType type = null;
-    final String tagName = resourceElement.getTagName();
     if (TAG_JS.equals(tagName)) {
       type = ResourceType.JS;
     } else if (TAG_CSS.equals(tagName)) {
@@ -384,34 +535,126 @@ public class XmlModelFactory
     return type;
   }
 
+  /**
+   * @return the {@link ResourceType} of the provided {@link Element}. If the resource type is not known (not a js or css
+   *         resource), null is returned.
+   * @deprecated the xml is no longer parsed into a DOM.
+   */
+  @Deprecated
+  protected final ResourceType getResourceType(final Element resourceElement) {
+    return getResourceType(resourceElement.getTagName());
+  }
+
+  /**
+   * Creates a resource from a given definition. The definition is guaranteed to be of a simple non-recursive type (i.e.
+   * css or js).
+   *
+   * @param definition
+   *          Resource definition to parse.
+   */
+  private Resource createResource(final ResourceDefinition definition) {
+    return elementHooksOverridden ? createResource(toElement(definition)) : doCreateResource(definition);
+  }
+
   /**
    * Creates a resource from a given resourceElement. The element is guaranteed to be of a simple non-recursive type
    * (i.e. css or js).
    *
    * @param resourceElement
    *          Resource element to parse.
+   * @deprecated the xml is no longer parsed into a DOM. The element provided by this factory is created from the parsed
+   *             resource.
    */
+  @Deprecated
   protected Resource createResource(final Element resourceElement) {
-    final String uri = resourceElement.getTextContent();
-    final String minimizeAsString = resourceElement.getAttribute(ATTR_MINIMIZE);
-    final boolean minimize = StringUtils.isEmpty(minimizeAsString) || Boolean.valueOf(minimizeAsString);
-    final Resource resource = Resource.create(uri, getResourceType(resourceElement));
+    return doCreateResource(toResourceDefinition(resourceElement));
+  }
+
+  private Resource doCreateResource(final ResourceDefinition definition) {
+    final boolean minimize = StringUtils.isEmpty(definition.minimize) || Boolean.valueOf(definition.minimize);
+    final Resource resource = Resource.create(definition.uri, getResourceType(definition.tagName));
     resource.setMinimize(minimize);
     return resource;
   }
 
+  /**
+   * @return true if the method with provided name, having an {@link Element} parameter, is overridden by a subclass.
+   */
+  private boolean isOverridden(final String methodName) {
+    for (Class<?> type = getClass(); type != XmlModelFactory.class; type = type.getSuperclass()) {
+      for (final Method method : type.getDeclaredMethods()) {
+        if (method.getName().equals(methodName) && method.getParameterTypes().length == 1
+            && method.getParameterTypes()[0] == Element.class) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private Element toElement(final GroupDefinition definition) {
+    final Element element = getHooksDocument().createElement(TAG_GROUP);
+    element.setAttribute(ATTR_GROUP_NAME, definition.name);
+    if (definition.isAbstract) {
+      element.setAttribute(ATTR_GROUP_ABSTRACT, Boolean.TRUE.toString());
+    }
+    for (final ResourceDefinition resourceDefinition : definition.resources) {
+      element.appendChild(toElement(resourceDefinition));
+    }
+    return element;
+  }
+
+  private Element toElement(final ResourceDefinition definition) {
+    final Element element = getHooksDocument().createElement(definition.tagName);
+    element.setTextContent(definition.uri);
+    if (definition.minimize != null) {
+      element.setAttribute(ATTR_MINIMIZE, definition.minimize);
+    }
+    return element;
+  }
+
+  private Document getHooksDocument() {
+    if (hooksDocument == null) {
+      try {
+        hooksDocument = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+      } catch (final Exception e) {
+        throw new WroRuntimeException("Cannot create the document of group elements", e);
+      }
+    }
+    return hooksDocument;
+  }
+
+  private GroupDefinition toGroupDefinition(final Element element) {
+    final String isAbstractAsString = element.getAttribute(ATTR_GROUP_ABSTRACT);
+    final GroupDefinition definition = new GroupDefinition(element.getAttribute(ATTR_GROUP_NAME),
+        StringUtils.isNotEmpty(isAbstractAsString) && Boolean.valueOf(isAbstractAsString));
+    final NodeList nodeList = element.getChildNodes();
+    for (int i = 0; i < nodeList.getLength(); i++) {
+      final Node node = nodeList.item(i);
+      if (node instanceof Element) {
+        definition.resources.add(toResourceDefinition((Element) node));
+      }
+    }
+    return definition;
+  }
+
+  private ResourceDefinition toResourceDefinition(final Element element) {
+    final String minimize = element.getAttribute(ATTR_MINIMIZE);
+    return new ResourceDefinition(element.getTagName(), element.getTextContent(), StringUtils.isEmpty(minimize) ? null
+        : minimize);
+  }
+
   /**
    * Search for all resources for a group with a given name.
    */
   private Collection<Resource> getResourcesForGroup(final String groupName) {
-    final WroModelInspector modelInspector = new WroModelInspector(model);
-    final Group foundGroup = modelInspector.getGroupByName(groupName);
+    final Group foundGroup = model.getInspector().getGroupByName(groupName);
     if (foundGroup == null) {
-      final Element groupElement = allGroupElements.get(groupName);
-      if (groupElement == null) {
+      final GroupDefinition definition = allGroupDefinitions.get(groupName);
+      if (definition == null) {
         throw new WroRuntimeException("Invalid group-ref: " + groupName);
       }
-      return parseGroup(groupElement);
+      return parseGroup(definition);
     }
     return foundGroup.getResources();
   }
@@ -439,4 +682,100 @@ public class XmlModelFactory
     this.validateXml = validateXml;
     return this;
   }
+
+  /**
+   * Collects the groups and imports of the xml while it is parsed.
+   */
+  private static final class XmlModelHandler
+      extends DefaultHandler {
+    private final XmlModelDocument document = new XmlModelDocument();
+    private GroupDefinition group;
+    /**
+     * The text of the element being parsed or null if the text is not required.
+     */
+    private StringBuilder text;
+    private String minimize;
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName,
+        final Attributes attributes) {
+      if (TAG_GROUP.equals(localName)) {
+        final String isAbstractAsString = attributes.getValue(ATTR_GROUP_ABSTRACT);
+        group = new GroupDefinition(attributes.getValue(ATTR_GROUP_NAME), StringUtils.isNotEmpty(isAbstractAsString)
+            && Boolean.valueOf(isAbstractAsString));
+      } else if (TAG_IMPORT.equals(localName) || group != null) {
+        text = new StringBuilder();
+        minimize = attributes.getValue(ATTR_MINIMIZE);
+      }
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+      if (text != null) {
+        text.append(ch, start, length);
+      }
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) {
+      if (TAG_GROUP.equals(localName)) {
+        document.groups.put(group.name, group);
+        group = null;
+      } else if (TAG_IMPORT.equals(localName) && group == null) {
+        document.imports.add(text.toString());
+      } else if (group != null && text != null) {
+        group.resources.add(new ResourceDefinition(localName, text.toString(), minimize));
+      }
+      text = null;
+    }
+  }
+
+  /**
+   * The content of a parsed xml. It is not changed after parsing, thus it can be cached and reused.
+   */
+  private static final class XmlModelDocument {
+    private final Map<String, GroupDefinition> groups = new LinkedHashMap<String, GroupDefinition>();
+    private final List<String> imports = new ArrayList<String>();
+  }
+
+  private static final class GroupDefinition {
+    private final String name;
+    private final boolean isAbstract;
+    private final List<ResourceDefinition> resources = new ArrayList<ResourceDefinition>();
+
+    GroupDefinition(final String name, final boolean isAbstract) {
+      this.name = name;
+      this.isAbstract = isAbstract;
+    }
+  }
+
+  /**
+   * A child element of a group (css, js or group-ref).
+   */
+  private static final class ResourceDefinition {
+    private final String tagName;
+    private final String uri;
+    private final String minimize;
+
+    ResourceDefinition(final String tagName, final String uri, final String minimize) {
+      this.tagName = tagName;
+      this.uri = uri;
+      this.minimize = minimize;
+    }
+  }
+
+  private static final class CachedDocument {
+    private final String hash;
+    /**
+     * True if the document was validated when parsed.
+     */
+    private final boolean validated;
+    private final XmlModelDocument document;
+
+    CachedDocument(final String hash, final boolean validated, final XmlModelDocument document) {
+      this.hash = hash;
+      this.validated = validated;
+      this.document = document;
+    }
+  }
 }
@@ -0,0 +1,94 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.group.processor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.support.ProcessingCriteria;
+
+
+/**
+ * Holds the processors decorated for each {@link ProcessingCriteria}, in order to avoid creating (and injecting) new
+ * decorators each time a processor is applied. The decorated chain is rebuilt only when the collection of processors
+ * provided by the processors factory changes.
+ *
+ * @param <T>
+ *          the type of the decorated processor.
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+abstract class DecoratedProcessorsCache<T> {
+  private final ConcurrentMap<String, Chain<T>> chains = new ConcurrentHashMap<String, Chain<T>>();
+
+  /**
+   * @param processors
+   *          the processors currently provided by the processors factory.
+   * @param criteria
+   *          the {@link ProcessingCriteria} used to decorate the processors.
+   * @return the decorated processors, in the same order as the provided processors.
+   */
+  public List<ResourcePreProcessor> get(final Collection<T> processors, final ProcessingCriteria criteria) {
+    final String key = criteria.getProcessingType().name() + criteria.isMinimize();
+    Chain<T> chain = chains.get(key);
+    if (chain == null || !chain.isBuiltFrom(processors)) {
+      chain = new Chain<T>(processors, decorateAll(processors, criteria));
+      chains.put(key, chain);
+    }
+    return chain.decorated;
+  }
+
+  private List<ResourcePreProcessor> decorateAll(final Collection<T> processors, final ProcessingCriteria criteria) {
+    final List<ResourcePreProcessor> decorated = new ArrayList<ResourcePreProcessor>(processors.size());
+    for (final T processor : processors) {
+      decorated.add(decorate(processor, criteria));
+    }
+    return Collections.unmodifiableList(decorated);
+  }
+
+  /**
+   * Decorates and injects a single processor.
+   */
+  protected abstract ResourcePreProcessor decorate(final T processor, final ProcessingCriteria criteria);
+
+  /**
+   * Discards all decorated processors.
+   */
+  public void clear() {
+    chains.clear();
+  }
+
+  private static final class Chain<T> {
+    private final List<T> original;
+    private final List<ResourcePreProcessor> decorated;
+
+    Chain(final Collection<T> original, final List<ResourcePreProcessor> decorated) {
+      this.original = new ArrayList<T>(original);
+      this.decorated = decorated;
+    }
+
+    /**
+     * @return true if the provided processors are the same instances (in the same order) as the ones used to build
+     *         this chain.
+     */
+    boolean isBuiltFrom(final Collection<T> processors) {
+      if (processors.size() != original.size()) {
+        return false;
+      }
+      final Iterator<T> iterator = original.iterator();
+      for (final T processor : processors) {
+        if (processor != iterator.next()) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -6,6 +6,7 @@ package ro.isdc.wro.model.group.processor;
 import java.io.*;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
@@ -15,8 +16,8 @@ import ro.isdc.wro.WroRuntimeException;
 import ro.isdc.wro.cache.CacheKey;
 import ro.isdc.wro.config.ReadOnlyContext;
 import ro.isdc.wro.manager.callback.LifecycleCallbackRegistry;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.WroModel;
-import ro.isdc.wro.model.WroModelInspector;
 import ro.isdc.wro.model.factory.WroModelFactory;
 import ro.isdc.wro.model.group.Group;
 import ro.isdc.wro.model.group.GroupExtractor;
@@ -28,6 +29,8 @@ import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
 import ro.isdc.wro.model.resource.processor.decorator.DefaultProcessorDecorator;
 import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
 import ro.isdc.wro.model.resource.processor.factory.ProcessorsFactory;
+import ro.isdc.wro.model.resource.processor.support.ProcessingCriteria;
+import ro.isdc.wro.model.resource.processor.support.ProcessingType;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -52,6 +55,8 @@ public class GroupsProcessor {
   private GroupExtractor groupExtractor;
   @Inject
   private Injector injector;
+  @Inject
+  private MetricsRegistry metricsRegistry;
 
   /**
    * This field is transient because {@link PreProcessorExecutor} is not serializable (according to findbugs eclipse
@@ -59,6 +64,16 @@ public class GroupsProcessor {
    */
   @Inject
   private transient PreProcessorExecutor preProcessorExecutor;
+  /**
+   * Holds the postProcessors decorated for each processing criteria, in order to avoid decorating them for each
+   * processed group.
+   */
+  private final DecoratedProcessorsCache<ResourcePostProcessor> decoratedProcessors = new DecoratedProcessorsCache<ResourcePostProcessor>() {
+    @Override
+    protected ResourcePreProcessor decorate(final ResourcePostProcessor processor, final ProcessingCriteria criteria) {
+      return decorateProcessor(processor, criteria);
+    }
+  };
 
   /**
    * @param cacheKey
@@ -67,12 +82,18 @@ public class GroupsProcessor {
    */
   public String process(final CacheKey cacheKey) {
     Validate.notNull(cacheKey);
+    // avoid building the metric name when metrics are not collected.
+    final String metricName = metricsRegistry.isEnabled() ? MetricsRegistry.PREFIX_GROUP + cacheKey.getGroupName()
+        + "." + cacheKey.getType().name().toLowerCase() : null;
+    final AtomicLong inputSize = metricName != null ? new AtomicLong() : null;
+    final long start = metricsRegistry.start();
+    boolean success = false;
     try {
       LOG.debug("Starting processing group [{}] of type [{}] with minimized flag: " + cacheKey.isMinimize(),
           cacheKey.getGroupName(), cacheKey.getType());
       // find processed result for a group
       final WroModel model = modelFactory.create();
-      Group group = new WroModelInspector(model).getGroupByName(cacheKey.getGroupName());
+      Group group = model.getInspector().getGroupByName(cacheKey.getGroupName());
       if (group == null) {
         if (!context.getConfig().isUseURIAsGroupName() || !context.getConfig().isCreateGroupForFilterResource()) {
           throw new WroRuntimeException("No such group available in the model: " + cacheKey.getGroupName());
@@ -96,11 +117,20 @@ public class GroupsProcessor {
           }
         }
       }
-      final String result = preProcessorExecutor.processAndMerge(filteredGroup.getResources(), cacheKey.isMinimize());
-      return applyPostProcessors(cacheKey, result);
+      final String result = preProcessorExecutor.processAndMerge(filteredGroup.getResources(),
+          ProcessingCriteria.create(ProcessingType.ALL, cacheKey.isMinimize()), inputSize);
+      final String processed = applyPostProcessors(cacheKey, result);
+      success = true;
+      if (metricName != null) {
+        metricsRegistry.updateBytes(metricName, inputSize.get(), processed.length());
+      }
+      return processed;
     } catch (final IOException e) {
       throw new WroRuntimeException("Exception while merging resources: " + e.getMessage(), e).logError();
     } finally {
+      if (metricName != null) {
+        metricsRegistry.stop(metricName, start, success);
+      }
       callbackRegistry.onProcessingComplete();
     }
   }
@@ -125,8 +155,8 @@ public class GroupsProcessor {
 
     Reader reader = new StringReader(content.toString());
     Writer writer = null;
-    for (final ResourcePostProcessor processor : processors) {
-      final ResourcePreProcessor decoratedProcessor = decorateProcessor(processor, cacheKey.isMinimize());
+    final ProcessingCriteria criteria = ProcessingCriteria.createDefault(cacheKey.isMinimize());
+    for (final ResourcePreProcessor decoratedProcessor : decoratedProcessors.get(processors, criteria)) {
       writer = new StringWriter();
       decoratedProcessor.process(resource, reader, writer);
       reader = new StringReader(writer.toString());
@@ -135,13 +165,11 @@ public class GroupsProcessor {
   }
 
   /**
-   * This method is synchronized to ensure that processor is injected before it is being used by other thread.
-   *
    * @return a decorated processor.
    */
-  private synchronized ProcessorDecorator decorateProcessor(final ResourcePostProcessor processor,
-      final boolean minimize) {
-    final ProcessorDecorator decorated = new DefaultProcessorDecorator(processor, minimize) {
+  private ProcessorDecorator decorateProcessor(final ResourcePostProcessor processor,
+      final ProcessingCriteria criteria) {
+    final ProcessorDecorator decorated = new DefaultProcessorDecorator(processor, criteria) {
       @Override
       public void process(final Resource resource, final Reader reader, final Writer writer)
           throws IOException {
@@ -168,6 +196,7 @@ public class GroupsProcessor {
    * Perform cleanup when taken out of service.
    */
   public void destroy() {
+    decoratedProcessors.clear();
     preProcessorExecutor.destroy();
   }
 
@@ -7,11 +7,12 @@ import static org.apache.commons.lang3.Validate.notNull;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +35,11 @@ public final class Injector {
   private static final Logger LOG = LoggerFactory.getLogger(Injector.class);
   private final Map<Class<?>, Object> map;
   private final Map<Object, Boolean> injectedObjects = Collections.synchronizedMap(new WeakHashMap<Object, Boolean>());
+  /**
+   * The injection plan of each inspected class: the fields annotated with @Inject (already accessible) and the value
+   * mapped to each of them. Computed once per class, since the reflective lookup is expensive.
+   */
+  private final ConcurrentMap<Class<?>, InjectionPoint[]> plans = new ConcurrentHashMap<Class<?>, InjectionPoint[]>();
   /**
    * Mapping of classes to be annotated and the corresponding injected object.
    */
@@ -54,8 +60,7 @@ public final class Injector {
     if (!Context.isContextSet()) {
       throw new WroRuntimeException("No Context Set");
     }
-    if (!injectedObjects.containsKey(computeKey(object))) {
-      injectedObjects.put(computeKey(object), true);
+    if (injectedObjects.put(computeKey(object), Boolean.TRUE) == null) {
       processInjectAnnotation(object);
     }
     return object;
@@ -66,25 +71,21 @@ public final class Injector {
   }
 
   /**
-   * Check for each field from the passed object if @Inject annotation is present & inject the required field if
-   * supported, otherwise warns about invalid usage.
+   * Inject the required value into each field of the passed object having @Inject annotation present.
    *
    * @param object
    *          to check for annotation presence.
    */
   private void processInjectAnnotation(final Object object) {
     try {
-      final Collection<Field> fields = getAllFields(object);
-      for (final Field field : fields) {
-        if (field.isAnnotationPresent(Inject.class)) {
-          if (!acceptAnnotatedField(object, field)) {
-            final String message = String.format(
-                "@Inject cannot be applied on object: %s to field of type: %s using injector %s", object,
-                field.getType(), this);
-            LOG.error(message + ". Supported types are: {}", map.keySet());
-            throw new WroRuntimeException(message);
-          }
+      for (final InjectionPoint point : getInjectionPlan(object)) {
+        Object value = point.value;
+        // treat factories as a special case for lazy load of the objects.
+        if (value instanceof InjectorObjectFactory) {
+          value = ((InjectorObjectFactory<?>) value).create();
+          inject(value);
         }
+        point.field.set(object, value);
       }
       // handle special cases like decorators. Perform recursive injection
       if (object instanceof ObjectDecorator) {
@@ -97,49 +98,69 @@ public final class Injector {
   }
 
   /**
-   * Return all fields for given object, also those from the super classes.
+   * @return the cached injection plan of the object class, computed on first usage.
    */
-  private Collection<Field> getAllFields(final Object object) {
-    final Collection<Field> fields = new ArrayList<Field>();
-    fields.addAll(Arrays.asList(object.getClass().getDeclaredFields()));
-    // inspect super classes
-    Class<?> superClass = object.getClass().getSuperclass();
-    while (superClass != null) {
-      fields.addAll(Arrays.asList(superClass.getDeclaredFields()));
-      superClass = superClass.getSuperclass();
+  private InjectionPoint[] getInjectionPlan(final Object object) {
+    final Class<?> type = object.getClass();
+    InjectionPoint[] plan = plans.get(type);
+    if (plan == null) {
+      plan = createInjectionPlan(object);
+      plans.putIfAbsent(type, plan);
+    }
+    return plan;
+  }
+
+  /**
+   * Check for each field of the object class (including those from the super classes) if @Inject annotation is present
+   * and find the value to inject, otherwise warns about invalid usage.
+   */
+  private InjectionPoint[] createInjectionPlan(final Object object) {
+    final List<InjectionPoint> plan = new ArrayList<InjectionPoint>();
+    Class<?> type = object.getClass();
+    while (type != null) {
+      for (final Field field : type.getDeclaredFields()) {
+        if (field.isAnnotationPresent(Inject.class)) {
+          plan.add(createInjectionPoint(object, field));
+        }
+      }
+      type = type.getSuperclass();
     }
-    return fields;
+    return plan.toArray(new InjectionPoint[plan.size()]);
   }
 
   /**
-   * Analyze the field containing {@link Inject} annotation and set its value to appropriate value. Override this method
-   * if you want to inject something else but uriLocatorFactory.
+   * Analyze the field containing {@link Inject} annotation and find the value it should be set to.
    *
    * @param object
    *          an object containing @Inject annotation.
    * @param field
    *          {@link Field} object containing {@link Inject} annotation.
-   * @return true if field was injected with some not null value.
-   * @throws IllegalAccessException
+   * @return the {@link InjectionPoint} of the field.
    */
-  private boolean acceptAnnotatedField(final Object object, final Field field)
-      throws IllegalAccessException {
-    boolean accept = false;
-    // accept private modifiers
-    field.setAccessible(true);
+  private InjectionPoint createInjectionPoint(final Object object, final Field field) {
     for (final Map.Entry<Class<?>, Object> entry : map.entrySet()) {
       if (entry.getKey().isAssignableFrom(field.getType())) {
-        Object value = entry.getValue();
-        // treat factories as a special case for lazy load of the objects.
-        if (value instanceof InjectorObjectFactory) {
-          value = ((InjectorObjectFactory<?>) value).create();
-          inject(value);
-        }
-        field.set(object, value);
-        accept = true;
-        break;
+        // accept private modifiers
+        field.setAccessible(true);
+        return new InjectionPoint(field, entry.getValue());
       }
     }
-    return accept;
+    final String message = String.format("@Inject cannot be applied on object: %s to field of type: %s using injector %s",
+        object, field.getType(), this);
+    LOG.error(message + ". Supported types are: {}", map.keySet());
+    throw new WroRuntimeException(message);
+  }
+
+  /**
+   * A field annotated with @Inject and the value (or the {@link InjectorObjectFactory} of the value) to set.
+   */
+  private static final class InjectionPoint {
+    private final Field field;
+    private final Object value;
+
+    InjectionPoint(final Field field, final Object value) {
+      this.field = field;
+      this.value = value;
+    }
   }
 }
@@ -24,6 +24,7 @@ import ro.isdc.wro.manager.WroManager;
 import ro.isdc.wro.manager.callback.LifecycleCallbackRegistry;
 import ro.isdc.wro.manager.factory.SimpleWroManagerFactory;
 import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.factory.WroModelFactory;
 import ro.isdc.wro.model.group.GroupExtractor;
 import ro.isdc.wro.model.resource.locator.factory.InjectableUriLocatorFactoryDecorator;
@@ -109,6 +110,7 @@ public class InjectorBuilder {
     map.put(ResourceChangeDetector.class, createResourceChangeDetectorProxy());
     map.put(ResourceWatcher.class, createResourceWatcherProxy());
     map.put(DispatcherStreamLocator.class, createDispatcherLocatorProxy());
+    map.put(MetricsRegistry.class, createMetricsRegistryProxy());
   }
 
   private Object createDispatcherLocatorProxy() {
@@ -129,6 +131,14 @@ public class InjectorBuilder {
     };
   }
 
+  private Object createMetricsRegistryProxy() {
+    return new InjectorObjectFactory<MetricsRegistry>() {
+      public MetricsRegistry create() {
+        return managerFactory.create().getMetricsRegistry();
+      }
+    };
+  }
+
   private Object createMetaDataFactoryProxy() {
     return new InjectorObjectFactory<MetaDataFactory>() {
       public MetaDataFactory create() {
@@ -15,6 +15,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.BOMInputStream;
@@ -58,6 +59,16 @@ public class PreProcessorExecutor {
   private LifecycleCallbackRegistry callbackRegistry;
   @Inject
   private Injector injector;
+  /**
+   * Holds the preProcessors decorated for each processing criteria. The decoration is performed once, since it is
+   * expensive (involves injection) and would be otherwise repeated for each processed resource.
+   */
+  private final DecoratedProcessorsCache<ResourcePreProcessor> decoratedProcessors = new DecoratedProcessorsCache<ResourcePreProcessor>() {
+    @Override
+    protected ResourcePreProcessor decorate(final ResourcePreProcessor processor, final ProcessingCriteria criteria) {
+      return decoratePreProcessor(processor, criteria);
+    }
+  };
   /**
    * Runs the preProcessing in parallel.
    */
@@ -88,6 +99,18 @@ public class PreProcessorExecutor {
    */
   public String processAndMerge(final List<Resource> resources, final ProcessingCriteria criteria)
       throws IOException {
+    return processAndMerge(resources, criteria, null);
+  }
+
+  /**
+   * Same as {@link #processAndMerge(List, ProcessingCriteria)}, but also counts the size (in characters) of the content
+   * read from the resources, before being pre processed.
+   *
+   * @param inputSize
+   *          accumulates the size of resources content. Can be null if the size is not required.
+   */
+  String processAndMerge(final List<Resource> resources, final ProcessingCriteria criteria, final AtomicLong inputSize)
+      throws IOException {
     notNull(criteria);
     LOG.debug("criteria: {}", criteria);
     callbackRegistry.onBeforeMerge();
@@ -96,11 +119,11 @@ public class PreProcessorExecutor {
       LOG.debug("process and merge resources: {}", resources);
       final StringBuffer result = new StringBuffer();
       if (shouldRunInParallel(resources)) {
-        result.append(runInParallel(resources, criteria));
+        result.append(runInParallel(resources, criteria, inputSize));
       } else {
         for (final Resource resource : resources) {
           LOG.debug("\tmerging resource: {}", resource);
-          result.append(applyPreProcessors(resource, criteria));
+          result.append(applyPreProcessors(resource, criteria, inputSize));
         }
       }
       return result.toString();
@@ -120,7 +143,8 @@ public class PreProcessorExecutor {
    *
    * @return merged and pre processed content.
    */
-  private String runInParallel(final List<Resource> resources, final ProcessingCriteria criteria)
+  private String runInParallel(final List<Resource> resources, final ProcessingCriteria criteria,
+      final AtomicLong inputSize)
       throws IOException {
     LOG.debug("Running preProcessing in Parallel");
     final StringBuffer result = new StringBuffer();
@@ -130,7 +154,7 @@ public class PreProcessorExecutor {
         public String call()
             throws Exception {
           LOG.debug("Callable started for resource: {} ...", resource);
-          return applyPreProcessors(resource, criteria);
+          return applyPreProcessors(resource, criteria, inputSize);
         }
       });
     }
@@ -178,8 +202,11 @@ public class PreProcessorExecutor {
    *          the {@link Resource} on which processors will be applied
    * @param processors
    *          the list of processor to apply on the resource.
+   * @param inputSize
+   *          accumulates the size of the resource content. Can be null.
    */
-  private String applyPreProcessors(final Resource resource, final ProcessingCriteria criteria)
+  private String applyPreProcessors(final Resource resource, final ProcessingCriteria criteria,
+      final AtomicLong inputSize)
       throws IOException {
     final Collection<ResourcePreProcessor> processors = processorsFactory.getPreProcessors();
     LOG.debug("applying preProcessors: {}", processors);
@@ -196,11 +223,12 @@ public class PreProcessorExecutor {
         throw e;
       }
     }
+    if (inputSize != null) {
+      inputSize.addAndGet(resourceContent.length());
+    }
     if (!processors.isEmpty()) {
       Writer writer = null;
-      for (final ResourcePreProcessor processor : processors) {
-        final ResourcePreProcessor decoratedProcessor = decoratePreProcessor(processor, criteria);
-
+      for (final ResourcePreProcessor decoratedProcessor : decoratedProcessors.get(processors, criteria)) {
         writer = new StringWriter();
         final Reader reader = new StringReader(resourceContent);
         // decorate and process
@@ -215,9 +243,8 @@ public class PreProcessorExecutor {
 
   /**
    * Decorates preProcessor with mandatory decorators.
-   * This method is synchronized to ensure that processor is injected before it is being used by other thread.
    */
-  private synchronized ResourcePreProcessor decoratePreProcessor(final ResourcePreProcessor processor,
+  private ResourcePreProcessor decoratePreProcessor(final ResourcePreProcessor processor,
       final ProcessingCriteria criteria) {
     final ResourcePreProcessor decorated = new DefaultProcessorDecorator(processor, criteria) {
       @Override
@@ -261,6 +288,7 @@ public class PreProcessorExecutor {
    * Perform cleanUp on service shut down.
    */
   public void destroy() {
+    decoratedProcessors.clear();
     getExecutorService().shutdownNow();
   }
 }
@@ -2,7 +2,11 @@ package ro.isdc.wro.model.resource.locator.factory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.commons.io.input.CountingInputStream;
+
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.group.Inject;
 import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.resource.locator.UriLocator;
@@ -21,12 +25,18 @@ public class InjectableUriLocatorFactoryDecorator extends AbstractDecorator<UriL
     implements UriLocatorFactory  {
   @Inject
   private Injector injector;
+  @Inject
+  private MetricsRegistry metricsRegistry;
+
   public InjectableUriLocatorFactoryDecorator(final UriLocatorFactory decorated) {
     super(decorated);
   }
 
   /**
    * This implementation shows the problem with current design of locator implementation. Needs to be changed.
+   * <p/>
+   * When metrics are enabled, the locator metric is recorded when the located stream is closed, thus it includes the
+   * time spent reading the stream and the number of bytes read.
    */
   public InputStream locate(final String uri)
       throws IOException {
@@ -34,7 +44,52 @@ public class InjectableUriLocatorFactoryDecorator extends AbstractDecorator<UriL
     if (locator == null) {
       return getDecoratedObject().locate(uri);
     }
-    return locator.locate(uri);
+    if (!metricsRegistry.isEnabled()) {
+      return locator.locate(uri);
+    }
+    final String metricName = MetricsRegistry.PREFIX_LOCATOR + locator.getClass().getName();
+    final long start = metricsRegistry.start();
+    boolean success = false;
+    try {
+      final InputStream stream = locator.locate(uri);
+      success = true;
+      return stream == null ? null : new MeasuredInputStream(stream, metricName, start);
+    } finally {
+      if (!success) {
+        metricsRegistry.stop(metricName, start, false);
+      }
+    }
+  }
+
+  /**
+   * Records the locator metric once, when the stream is closed.
+   */
+  private final class MeasuredInputStream
+      extends CountingInputStream {
+    private final String metricName;
+    private final long start;
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    MeasuredInputStream(final InputStream stream, final String metricName, final long start) {
+      super(stream);
+      this.metricName = metricName;
+      this.start = start;
+    }
+
+    @Override
+    public void close()
+        throws IOException {
+      boolean success = false;
+      try {
+        super.close();
+        success = true;
+      } finally {
+        if (closed.compareAndSet(false, true)) {
+          metricsRegistry.updateBytes(metricName, getByteCount(), 0);
+          metricsRegistry.stop(metricName, start, success);
+        }
+      }
+    }
   }
 
   public UriLocator getInstance(final String uri) {
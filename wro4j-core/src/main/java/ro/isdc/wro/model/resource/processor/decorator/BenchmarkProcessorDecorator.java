@@ -3,18 +3,27 @@ package ro.isdc.wro.model.resource.processor.decorator;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.apache.commons.io.input.ProxyReader;
+import org.apache.commons.io.output.ProxyWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ro.isdc.wro.config.ReadOnlyContext;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.group.Inject;
 import ro.isdc.wro.model.resource.Resource;
 import ro.isdc.wro.util.StopWatch;
 
 
 /**
- * A decorator responsible for tracking the time spent with processing.
+ * A decorator responsible for tracking the time spent with processing. When metrics are enabled, the latency and the
+ * size (in characters) of the consumed and produced content are recorded in the {@link MetricsRegistry} under the alias
+ * of the decorated processor.
  *
  * @author Alex Objelean
  * @since 1.6.3
@@ -22,9 +31,16 @@ import ro.isdc.wro.util.StopWatch;
  */
 public class BenchmarkProcessorDecorator
     extends ProcessorDecorator {
+  private static final Logger LOG = LoggerFactory.getLogger(BenchmarkProcessorDecorator.class);
+  /**
+   * Caches the alias resolved for each processor class, since processors are decorated for each processing.
+   */
+  private static final ConcurrentMap<Class<?>, String> ALIASES = new ConcurrentHashMap<Class<?>, String>();
   @Inject
   private ReadOnlyContext context;
-  private static final Logger LOG = LoggerFactory.getLogger(BenchmarkProcessorDecorator.class);
+  @Inject
+  private MetricsRegistry metricsRegistry;
+
   public BenchmarkProcessorDecorator(final Object processor) {
     super(processor);
   }
@@ -41,7 +57,11 @@ public class BenchmarkProcessorDecorator
       before(stopWatch);
     }
     try {
-      super.process(resource, reader, writer);
+      if (isMetricsEnabled()) {
+        processWithMetrics(resource, reader, writer);
+      } else {
+        super.process(resource, reader, writer);
+      }
     } finally {
       if (isDebug()) {
         after(stopWatch);
@@ -49,6 +69,57 @@ public class BenchmarkProcessorDecorator
     }
   }
 
+  private void processWithMetrics(final Resource resource, final Reader reader, final Writer writer)
+      throws IOException {
+    final String metricName = MetricsRegistry.PREFIX_PROCESSOR + getAlias();
+    final CountingReader countingReader = new CountingReader(reader);
+    final CountingWriter countingWriter = new CountingWriter(writer);
+    final long start = metricsRegistry.start();
+    boolean success = false;
+    try {
+      super.process(resource, countingReader, countingWriter);
+      success = true;
+    } finally {
+      metricsRegistry.stop(metricName, start, success);
+      metricsRegistry.updateBytes(metricName, countingReader.count, countingWriter.count);
+    }
+  }
+
+  /**
+   * The registry is not injected when the processor is used outside of Context cycle.
+   */
+  private boolean isMetricsEnabled() {
+    return metricsRegistry != null && metricsRegistry.isEnabled();
+  }
+
+  /**
+   * @return the alias of the decorated processor. The value of the ALIAS constant is used when the processor class
+   *         declares one (an inherited constant is the alias of the parent class), otherwise the simple name of its
+   *         class.
+   */
+  private String getAlias() {
+    final Class<?> processorClass = getOriginalDecoratedObject().getClass();
+    String alias = ALIASES.get(processorClass);
+    if (alias == null) {
+      alias = resolveAlias(processorClass);
+      ALIASES.putIfAbsent(processorClass, alias);
+    }
+    return alias;
+  }
+
+  private static String resolveAlias(final Class<?> processorClass) {
+    try {
+      final Field field = processorClass.getDeclaredField("ALIAS");
+      if (Modifier.isPublic(field.getModifiers()) && Modifier.isStatic(field.getModifiers())
+          && field.getType() == String.class) {
+        return (String) field.get(null);
+      }
+    } catch (final Exception e) {
+      LOG.debug("No alias found for {}", processorClass);
+    }
+    return processorClass.isAnonymousClass() ? processorClass.getName() : processorClass.getSimpleName();
+  }
+
   /**
    * required to allow processor work even outside of Context cycle.
    */
@@ -70,4 +141,34 @@ public class BenchmarkProcessorDecorator
     stopWatch.stop();
     LOG.debug(stopWatch.prettyPrint());
   }
+
+  private static class CountingReader
+      extends ProxyReader {
+    private long count;
+
+    public CountingReader(final Reader reader) {
+      super(reader);
+    }
+
+    @Override
+    protected void afterRead(final int n) {
+      if (n > 0) {
+        count += n;
+      }
+    }
+  }
+
+  private static class CountingWriter
+      extends ProxyWriter {
+    private long count;
+
+    public CountingWriter(final Writer writer) {
+      super(writer);
+    }
+
+    @Override
+    protected void beforeWrite(final int n) {
+      count += n;
+    }
+  }
 }
@@ -7,7 +7,6 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.Properties;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.apache.commons.io.IOUtils;
@@ -19,6 +18,9 @@ import ro.isdc.wro.WroRuntimeException;
 import ro.isdc.wro.model.resource.Resource;
 import ro.isdc.wro.model.resource.processor.ResourcePostProcessor;
 import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.support.CompiledTemplate;
+import ro.isdc.wro.model.resource.processor.support.CompiledTemplate.VariableResolver;
+import ro.isdc.wro.model.resource.processor.support.ContentCache;
 import ro.isdc.wro.util.ObjectFactory;
 import ro.isdc.wro.util.WroUtil;
 
@@ -26,6 +28,10 @@ import ro.isdc.wro.util.WroUtil;
 /**
  * A processor which parse a resource and search for placeholders of this type: <code>${}</code> and replace them with
  * the values found in a map provided the by client.
+ * <p/>
+ * The content is compiled once into a {@link CompiledTemplate}, which is cached and reused as long as the content
+ * doesn't change. Thus, processing the same content with different values (ex: theming) doesn't search the content for
+ * placeholders again.
  *
  * @author Alex Objelean
  * @since 1.3.8
@@ -36,6 +42,19 @@ public class PlaceholderProcessor
   private static final Logger LOG = LoggerFactory.getLogger(PlaceholderProcessor.class);
   private static final Pattern PATTERN_PLACEHOLDER = Pattern.compile(WroUtil.loadRegexpWithKey("placeholder"));
   private static final Properties EMPTY_PROPERTIES = new Properties();
+  /**
+   * Maximum number of compiled templates kept in {@link #TEMPLATES}.
+   */
+  private static final int CACHE_SIZE = 128;
+  /**
+   * The number of characters of the longest content whose compiled template is cached.
+   */
+  private static final int MAX_CACHED_CONTENT_LENGTH = 64 * 1024;
+  /**
+   * Compiled templates shared by all instances, keyed by the digest of the processed content.
+   */
+  private static final ContentCache<CompiledTemplate> TEMPLATES = new ContentCache<CompiledTemplate>(CACHE_SIZE,
+      MAX_CACHED_CONTENT_LENGTH);
 
   /**
    * Factory used to build Properties object containing values of the variables to substitute.
@@ -63,9 +82,6 @@ public class PlaceholderProcessor
   public void process(final Resource resource, final Reader reader, final Writer writer)
     throws IOException {
     final String content = IOUtils.toString(reader);
-    final Matcher matcher = PATTERN_PLACEHOLDER.matcher(content);
-    final StringBuffer sb = new StringBuffer();
-
     Properties properties = null;
     if (propertiesFactory != null) {
       properties = propertiesFactory.create();
@@ -74,13 +90,22 @@ public class PlaceholderProcessor
     if (properties == null) {
       properties = EMPTY_PROPERTIES;
     }
-    while (matcher.find()) {
-      final String variableName = matcher.group(1);
-      LOG.debug("found placeholder: {}", variableName);
-      matcher.appendReplacement(sb, replaceVariable(properties, variableName));
-    }
-    matcher.appendTail(sb);
-    writer.write(sb.toString());
+    final Properties variables = properties;
+    writer.write(getTemplate(content).render(new VariableResolver() {
+      public String resolve(final String variableName) {
+        return replaceVariable(variables, variableName);
+      }
+    }));
+  }
+
+  private CompiledTemplate getTemplate(final String content) {
+    return TEMPLATES.get(content, new ObjectFactory<CompiledTemplate>() {
+      public CompiledTemplate create() {
+        final CompiledTemplate template = CompiledTemplate.compile(content, PATTERN_PLACEHOLDER);
+        LOG.debug("found placeholders: {}", template.getVariableNames());
+        return template;
+      }
+    });
   }
 
 
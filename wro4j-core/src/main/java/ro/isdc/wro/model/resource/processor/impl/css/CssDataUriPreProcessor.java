@@ -5,19 +5,17 @@ package ro.isdc.wro.model.resource.processor.impl.css;
 
 import static ro.isdc.wro.util.WroUtil.cleanImageUrl;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.lang3.CharEncoding;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import ro.isdc.wro.WroRuntimeException;
 import ro.isdc.wro.http.handler.ResourceProxyRequestHandler;
 import ro.isdc.wro.model.group.Inject;
 import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
@@ -90,10 +88,14 @@ public class CssDataUriPreProcessor
     InputStream is = null;
     try {
       is = uriLocatorFactory.locate(fullPath);
-      final String dataUri = getDataUriGenerator().generateDataURI(is, fileName);
-      if (isReplaceAccepted(dataUri)) {
-        result = dataUri;
-        LOG.debug("dataUri replacement: {}", StringUtils.abbreviate(dataUri, 30));
+      final byte[] bytes = IOUtils.toByteArray(is);
+      // avoid encoding an image whose dataUri would be rejected anyway
+      if (isDataUriSizeAccepted(getDataUriGenerator().getDataUriLength(bytes.length, fileName))) {
+        final String dataUri = getDataUriGenerator().generateDataURI(new ByteArrayInputStream(bytes), fileName);
+        if (isReplaceAccepted(dataUri)) {
+          result = dataUri;
+          LOG.debug("dataUri replacement: {}", StringUtils.abbreviate(dataUri, 30));
+        }
       }
     } catch (final IOException e) {
       LOG.warn("[FAIL] extract dataUri from: {}, because: {}. "
@@ -113,6 +115,23 @@ public class CssDataUriPreProcessor
     return !(imageUrl.startsWith("http") || ResourceProxyRequestHandler.isProxyUri(imageUrl));
   }
 
+  /**
+   * Decides whether a dataUri of the provided size is accepted. It is invoked before the image is encoded (using the
+   * size computed by the {@link DataUriGenerator}) as well as by {@link #isReplaceAccepted(String)}, thus overriding
+   * this method is enough to change the size limit. By default the size of dataUri is limited to 32KB (because IE8 has
+   * a 32KB limitation).
+   *
+   * @param size
+   *          the number of characters (same as bytes, since a dataUri contains only ascii characters) of the dataUri.
+   * @return true if the dataUri of the provided size is accepted.
+   * @since 1.7.9
+   */
+  protected boolean isDataUriSizeAccepted(final int size) {
+    final boolean exceedLimit = size >= SIZE_LIMIT;
+    LOG.debug("dataUri size: {}KB, limit exceeded: {}", size / 1024, exceedLimit);
+    return !exceedLimit;
+  }
+
   /**
    * Similar to {@link CssDataUriPreProcessor#isReplaceAccepted(String)}, but decides whether the computed dataUri
    * should replace the image url. It is useful when you want to limit the dataUri size. By default the size of dataUri
@@ -123,14 +142,8 @@ public class CssDataUriPreProcessor
    * @return true if dataUri should replace original image url.
    */
   protected boolean isReplaceAccepted(final String dataUri) {
-    try {
-      final byte[] bytes = dataUri.getBytes(CharEncoding.UTF_8);
-      final boolean exceedLimit = bytes.length >= SIZE_LIMIT;
-      LOG.debug("dataUri size: {}KB, limit exceeded: {}", bytes.length / 1024, exceedLimit);
-      return !exceedLimit;
-    } catch (final UnsupportedEncodingException e) {
-      throw new WroRuntimeException("Should never happen", e);
-    }
+    // the dataUri contains only ascii characters, thus its length is the same as the number of bytes
+    return isDataUriSizeAccepted(dataUri.length());
   }
 
   /**
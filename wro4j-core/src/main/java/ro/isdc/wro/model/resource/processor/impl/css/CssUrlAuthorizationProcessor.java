@@ -67,11 +67,9 @@ public class CssUrlAuthorizationProcessor
     final String allowedUrl = StringUtils.removeStart(replacedUrl, getUrlPrefix());
 
     if (authorizationManager instanceof MutableResourceAuthorizationManager) {
-      if (!authorizationManager.isAuthorized(allowedUrl)) {
-        LOG.debug("Authorizing url: '{}'", allowedUrl);
-        ((MutableResourceAuthorizationManager) authorizationManager).add(allowedUrl);
-      }
-
+      // added even when already authorized, since it may be authorized only by the previous generation.
+      LOG.debug("Authorizing url: '{}'", allowedUrl);
+      ((MutableResourceAuthorizationManager) authorizationManager).add(allowedUrl);
     } else {
       throw new WroRuntimeException("This processor (" + getClass().getSimpleName()
           + ") requires an instance of MutableResourceAuthorizationManager!");
@@ -6,6 +6,7 @@ package ro.isdc.wro.model.resource.processor.impl.css;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Matcher;
@@ -20,6 +21,10 @@ import ro.isdc.wro.model.resource.ResourceType;
 import ro.isdc.wro.model.resource.SupportedResourceType;
 import ro.isdc.wro.model.resource.processor.ResourcePostProcessor;
 import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.support.CompiledTemplate;
+import ro.isdc.wro.model.resource.processor.support.CompiledTemplate.VariableResolver;
+import ro.isdc.wro.model.resource.processor.support.ContentCache;
+import ro.isdc.wro.util.ObjectFactory;
 import ro.isdc.wro.util.WroUtil;
 
 
@@ -28,6 +33,9 @@ import ro.isdc.wro.util.WroUtil;
  * http://disruptive-innovations.com/zoo/cssvariables/). This is a pre processor, because it makes sense to apply
  * variables only on the same css. <br/>
  * This processor is implemented as both: preprocessor & postprocessor.
+ * <p/>
+ * The css is parsed once: the variables definitions are extracted and the remaining css is compiled into a
+ * {@link CompiledTemplate}. The parsed css is cached, so processing the same css again only renders the template.
  * 
  * @author Alex Objelean
  * @created Created on Jul 05, 2009
@@ -49,6 +57,32 @@ public class CssVariablesProcessor
    * Compiled pattern for REGEX_VARIABLE_HOLDER pattern.
    */
   private static final Pattern PATTERN_VARIABLE_HOLDER = Pattern.compile(WroUtil.loadRegexpWithKey("cssVariables.holder"));
+  /**
+   * Maximum number of parsed css kept in {@link #PARSED_CSS}.
+   */
+  private static final int CACHE_SIZE = 128;
+  /**
+   * The number of characters of the longest css which is cached once parsed.
+   */
+  private static final int MAX_CACHED_CSS_LENGTH = 64 * 1024;
+  /**
+   * Parsed css shared by all instances, keyed by the digest of the processed css.
+   */
+  private static final ContentCache<ParsedCss> PARSED_CSS = new ContentCache<ParsedCss>(CACHE_SIZE,
+      MAX_CACHED_CSS_LENGTH);
+
+  /**
+   * The css without variables definitions, compiled into a template, together with the defined variables.
+   */
+  private static final class ParsedCss {
+    private final CompiledTemplate template;
+    private final Map<String, String> variables;
+
+    ParsedCss(final CompiledTemplate template, final Map<String, String> variables) {
+      this.template = template;
+      this.variables = variables;
+    }
+  }
 
   /**
    * Extract variables map from variables body.
@@ -102,49 +136,55 @@ public class CssVariablesProcessor
    *          to parse.
    */
   private String parseCss(final String css) {
+    final ParsedCss parsedCss = PARSED_CSS.get(css, new ObjectFactory<ParsedCss>() {
+      public ParsedCss create() {
+        return compile(css);
+      }
+    });
+    return replaceVariables(parsedCss.template, parsedCss.variables);
+  }
+
+  /**
+   * Extracts the variables definitions and compiles the remaining css.
+   */
+  private ParsedCss compile(final String css) {
     // map containing variables & their values
     final Map<String, String> map = new HashMap<String, String>();
-    final StringBuffer sb = new StringBuffer();
+    final StringBuilder sb = new StringBuilder(css.length());
     final Matcher m = PATTERN_VARIABLES_DEFINITION.matcher(css);
+    int start = 0;
     while (m.find()) {
       final String variablesBody = m.group(1);
-      // LOG.debug("variables body: " + variablesBody);
       // extract variables
       map.putAll(extractVariables(variablesBody));
       // remove variables definition
-      m.appendReplacement(sb, "");
+      sb.append(css, start, m.start());
+      start = m.end();
     }
-    m.appendTail(sb);
-
-    final String result = replaceVariables(sb.toString(), map);
-    // LOG.debug("replaced variables: " + result);
-    return result;
+    sb.append(css, start, css.length());
+    return new ParsedCss(CompiledTemplate.compile(sb.toString(), PATTERN_VARIABLE_HOLDER),
+        Collections.unmodifiableMap(map));
   }
 
   /**
    * Replace variables from css with provided variables map.
    * 
-   * @param cleanCss
-   *          used to replace variable placeholders.
+   * @param template
+   *          the compiled css, used to replace variable placeholders.
    * @param variables
    *          map of variables used for substitution.
    * @return css with all variables replaced.
    */
-  private String replaceVariables(final String css, final Map<String, String> variables) {
-    final StringBuffer sb = new StringBuffer();
-    final Matcher m = PATTERN_VARIABLE_HOLDER.matcher(css);
-    while (m.find()) {
-      final String oldMatch = m.group();
-      final String variableName = m.group(1);
-      final String variableValue = variables.get(variableName);
-      if (variableValue != null) {
-        final String newReplacement = oldMatch.replace(oldMatch, variableValue);
-        m.appendReplacement(sb, newReplacement.trim());
-      } else {
-        LOG.warn("No variable with name " + variableName + " was found!");
+  private String replaceVariables(final CompiledTemplate template, final Map<String, String> variables) {
+    return template.render(new VariableResolver() {
+      public String resolve(final String variableName) {
+        final String variableValue = variables.get(variableName);
+        if (variableValue == null) {
+          LOG.warn("No variable with name " + variableName + " was found!");
+          return null;
+        }
+        return variableValue.trim();
       }
-    }
-    m.appendTail(sb);
-    return sb.toString();
+    });
   }
 }
@@ -4,22 +4,12 @@
 package ro.isdc.wro.model.resource.processor.impl.js;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
 
 import org.apache.commons.io.IOUtils;
-import org.apache.commons.io.input.ProxyInputStream;
-import org.apache.commons.io.input.ReaderInputStream;
-import org.apache.commons.io.output.ProxyOutputStream;
-import org.apache.commons.io.output.WriterOutputStream;
 
 import ro.isdc.wro.WroRuntimeException;
-import ro.isdc.wro.config.Context;
-import ro.isdc.wro.config.ReadOnlyContext;
-import ro.isdc.wro.config.jmx.WroConfiguration;
-import ro.isdc.wro.model.group.Inject;
 import ro.isdc.wro.model.group.processor.Minimize;
 import ro.isdc.wro.model.resource.Resource;
 import ro.isdc.wro.model.resource.ResourceType;
@@ -41,26 +31,21 @@ import ro.isdc.wro.model.resource.processor.support.JSMin;
 public class JSMinProcessor implements ResourcePreProcessor,
     ResourcePostProcessor {
   public static final String ALIAS = "jsMin";
-  @Inject
-  private ReadOnlyContext context;
-  private String encoding;
 
   /**
    * {@inheritDoc}
    */
   public void process(final Resource resource, final Reader reader,
     final Writer writer) throws IOException {
-      final InputStream is = new ProxyInputStream(new ReaderInputStream(reader, getEncoding())) {};
-      final OutputStream os = new ProxyOutputStream(new WriterOutputStream(writer, getEncoding()));
     try {
-      new JSMin(is, os).jsmin();
-      is.close();
-      os.close();
-		} catch (final Exception e) {
+      new JSMin(reader, writer).jsmin();
+      reader.close();
+      writer.close();
+    } catch (final Exception e) {
       throw WroRuntimeException.wrap(e);
     } finally {
-      IOUtils.closeQuietly(is);
-      IOUtils.closeQuietly(os);
+      IOUtils.closeQuietly(reader);
+      IOUtils.closeQuietly(writer);
     }
   }
 
@@ -73,22 +58,12 @@ public class JSMinProcessor implements ResourcePreProcessor,
     process(null, reader, writer);
   }
 
-  /**
-   * @return the encoding
-   */
-  private String getEncoding() {
-    if (encoding == null) {
-      //use config is available to get encoding
-      this.encoding = Context.isContextSet() ? context.getConfig().getEncoding() : WroConfiguration.DEFAULT_ENCODING;
-    }
-    return encoding;
-  }
-
   /**
    * @param encoding the encoding to set
+   * @deprecated the content is minimized as characters, thus the encoding is not used anymore.
    */
+  @Deprecated
   public JSMinProcessor setEncoding(final String encoding) {
-    this.encoding = encoding;
     return this;
   }
 }
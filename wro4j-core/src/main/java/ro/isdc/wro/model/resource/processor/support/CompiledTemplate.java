@@ -0,0 +1,112 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.resource.processor.support;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+
+/**
+ * A content split once into literal and variable segments. Rendering the template with different variable values only
+ * concatenates the segments, without searching the content for variables again. The instances are immutable, thus can
+ * be cached and shared between threads.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public final class CompiledTemplate {
+  /**
+   * The literal segments. There is always one more literal than variables: the literal at index i is followed by the
+   * variable at index i.
+   */
+  private final String[] literals;
+  private final String[] names;
+  /**
+   * The original text of each variable, used when the variable is not resolved.
+   */
+  private final String[] tokens;
+  private final int literalsLength;
+
+  /**
+   * Resolves the value of a variable.
+   */
+  public interface VariableResolver {
+    /**
+     * @param name
+     *          the name of the variable.
+     * @return the value of the variable or null if the variable should be left unchanged.
+     */
+    String resolve(final String name);
+  }
+
+  private CompiledTemplate(final List<String> literals, final List<String> names, final List<String> tokens) {
+    this.literals = literals.toArray(new String[literals.size()]);
+    this.names = names.toArray(new String[names.size()]);
+    this.tokens = tokens.toArray(new String[tokens.size()]);
+    int length = 0;
+    for (final String literal : literals) {
+      length += literal.length();
+    }
+    this.literalsLength = length;
+  }
+
+  /**
+   * @param content
+   *          the content to compile.
+   * @param variablePattern
+   *          the pattern matching a variable, whose first group is the name of the variable.
+   * @return the compiled template.
+   */
+  public static CompiledTemplate compile(final String content, final Pattern variablePattern) {
+    notNull(content);
+    notNull(variablePattern);
+    final List<String> literals = new ArrayList<String>();
+    final List<String> names = new ArrayList<String>();
+    final List<String> tokens = new ArrayList<String>();
+    final Matcher matcher = variablePattern.matcher(content);
+    int start = 0;
+    while (matcher.find()) {
+      literals.add(content.substring(start, matcher.start()));
+      names.add(matcher.group(1));
+      tokens.add(matcher.group());
+      start = matcher.end();
+    }
+    literals.add(content.substring(start));
+    return new CompiledTemplate(literals, names, tokens);
+  }
+
+  /**
+   * @return the names of the variables, in the order they are found in the content.
+   */
+  public List<String> getVariableNames() {
+    final List<String> result = new ArrayList<String>(names.length);
+    for (final String name : names) {
+      result.add(name);
+    }
+    return result;
+  }
+
+  /**
+   * @param resolver
+   *          used to resolve the value of each variable. The values are used as they are (no escaping is required).
+   * @return the content having all variables replaced with their values.
+   */
+  public String render(final VariableResolver resolver) {
+    notNull(resolver);
+    if (names.length == 0) {
+      return literals[0];
+    }
+    final StringBuilder result = new StringBuilder(literalsLength + names.length * 16);
+    for (int i = 0; i < names.length; i++) {
+      result.append(literals[i]);
+      final String value = resolver.resolve(names[i]);
+      result.append(value == null ? tokens[i] : value);
+    }
+    return result.append(literals[names.length]).toString();
+  }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.resource.processor.support;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.io.UnsupportedEncodingException;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.commons.lang3.CharEncoding;
+
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
+import ro.isdc.wro.util.ObjectFactory;
+
+
+/**
+ * A bounded cache of values computed from a content (ex: a {@link CompiledTemplate}), which can be shared by all
+ * instances of a processor. The entries are keyed by the SHA-1 digest of the content, thus the cache doesn't retain the
+ * content itself. Since a value usually retains about as much as the content it is computed from, only the values of
+ * contents not longer than a limit are cached.
+ * <p/>
+ * This class is thread-safe.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public final class ContentCache<V> {
+  private final CacheStrategy<String, V> cache;
+  private final int maxContentLength;
+
+  /**
+   * @param maxEntries
+   *          the maximum number of cached values.
+   * @param maxContentLength
+   *          the number of characters of the longest content whose value is cached.
+   */
+  public ContentCache(final int maxEntries, final int maxContentLength) {
+    this.cache = new LruMemoryCacheStrategy<String, V>(maxEntries);
+    this.maxContentLength = maxContentLength;
+  }
+
+  /**
+   * @param content
+   *          the content the value is computed from.
+   * @param factory
+   *          computes the value of the content, when it is not cached.
+   * @return the cached value of the content or the value created by the factory.
+   */
+  public V get(final String content, final ObjectFactory<V> factory) {
+    notNull(content);
+    notNull(factory);
+    if (content.length() > maxContentLength) {
+      return factory.create();
+    }
+    final String key = digest(content);
+    V value = cache.get(key);
+    if (value == null) {
+      value = factory.create();
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+  private static String digest(final String content) {
+    try {
+      final MessageDigest messageDigest = MessageDigest.getInstance(SHA1HashStrategy.ALIAS);
+      return new BigInteger(1, messageDigest.digest(content.getBytes(CharEncoding.UTF_8))).toString(16);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new WroRuntimeException("Cannot compute the digest of the content", e);
+    } catch (final UnsupportedEncodingException e) {
+      throw new WroRuntimeException("Should never happen", e);
+    }
+  }
+}
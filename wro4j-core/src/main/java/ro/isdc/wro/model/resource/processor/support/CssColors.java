@@ -164,6 +164,21 @@ public enum CssColors {
   Yellow(0xFFFF00),
   YellowGreen(0x9ACD32);
 
+  /**
+   * Open addressing hash table of all colors, indexed by the case insensitive hash of their name. Its size is large
+   * enough to keep the collisions rare, thus a lookup usually compares a single name.
+   */
+  private static final CssColors[] TABLE = new CssColors[512];
+  static {
+    for (final CssColors col : values()) {
+      int slot = hash(col.name(), 0, col.name().length());
+      while (TABLE[slot] != null) {
+        slot = (slot + 1) & (TABLE.length - 1);
+      }
+      TABLE[slot] = col;
+    }
+  }
+
   private final int color;
 
 
@@ -192,12 +207,55 @@ public enum CssColors {
 
 
   public static CssColors forName(final String name) {
-    for (final CssColors col : values()) {
-      if (col.name().equalsIgnoreCase(name.trim())) {
-        return col;
+    final String trimmed = name.trim();
+    return forName(trimmed, 0, trimmed.length());
+  }
+
+
+  /**
+   * Finds the color without creating a string for its name.
+   *
+   * @param chars
+   *          contains the name of the color.
+   * @param start
+   *          the index of the first character of the name.
+   * @param end
+   *          the index after the last character of the name.
+   * @return the color having the provided name (case insensitive) or null if there is no such color.
+   */
+  public static CssColors forName(final CharSequence chars, final int start, final int end) {
+    int slot = hash(chars, start, end);
+    while (TABLE[slot] != null) {
+      if (TABLE[slot].hasName(chars, start, end)) {
+        return TABLE[slot];
       }
+      slot = (slot + 1) & (TABLE.length - 1);
     }
     return null;
   }
 
+
+  private boolean hasName(final CharSequence chars, final int start, final int end) {
+    final String name = name();
+    if (name.length() != end - start) {
+      return false;
+    }
+    for (int i = 0; i < name.length(); i++) {
+      if (Character.toLowerCase(name.charAt(i)) != Character.toLowerCase(chars.charAt(start + i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+
+  private static int hash(final CharSequence chars, final int start, final int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + Character.toLowerCase(chars.charAt(i));
+    }
+    // spread the high bits, since only the low bits are used as index
+    return (hash ^ (hash >>> 9) ^ (hash >>> 18)) & (TABLE.length - 1);
+  }
+
 }
@@ -2,10 +2,14 @@ package ro.isdc.wro.model.resource.processor.support;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.StringBuilderWriter;
 
 import ro.isdc.wro.http.support.ContentTypeResolver;
 import ro.isdc.wro.util.Base64;
@@ -15,6 +19,9 @@ import ro.isdc.wro.util.Base64;
  * Generator for Data URIs.
  *
  * (Inspired from: http://github.com/nzakas/cssembed.)
+ * <p/>
+ * The recently generated data uri's of small images are cached (the cache is shared by all generators), thus an image
+ * referred by several css resources or groups is encoded only once.
  * 
  * @author Alex Objelean
  * @author Ivar Conradi Østhus
@@ -22,22 +29,124 @@ import ro.isdc.wro.util.Base64;
  */
 public class DataUriGenerator {
   private static final String DATA_URI_PREFIX = "data:";
-  
+  private static final String BASE64_SEPARATOR = ";base64,";
+  /**
+   * The number of bytes encoded at once. A multiple of 3, thus the encoded chunks can be concatenated.
+   */
+  private static final int ENCODING_CHUNK_SIZE = 3 * 1024;
+  /**
+   * The maximum number of bytes of an image whose data uri is cached. The data uri of a larger image exceeds the limit
+   * accepted by most browsers (32KB), thus it is rarely used.
+   */
+  private static final int MAX_CACHED_IMAGE_SIZE = 24 * 1024;
+  /**
+   * The maximum number of bytes retained by {@link #CACHE} (the image content and the data uri characters).
+   */
+  private static final long MAX_CACHE_SIZE = 2 * 1024 * 1024;
+  /**
+   * The recently generated data uri's, keyed by the mime type and the content of the image, in access order. Since the
+   * key contains the content, an entry never becomes stale. Guarded by itself.
+   */
+  private static final Map<ImageKey, String> CACHE = new LinkedHashMap<ImageKey, String>(16, 0.75f, true);
+  /**
+   * The number of bytes retained by {@link #CACHE}. Guarded by {@link #CACHE}.
+   */
+  private static long cacheSize;
+
   /**
    * Generate the dataUri as string associated to the passed InputStream with encoding & type based on provided
    * fileName.
    */
   public String generateDataURI(final InputStream inputStream, final String fileName)
       throws IOException {
-    final StringWriter writer = new StringWriter();
     final byte[] bytes = IOUtils.toByteArray(inputStream);
     inputStream.close();
+    return generateDataURI(bytes, fileName);
+  }
 
+  /**
+   * Generate the dataUri of the provided image content with type based on provided fileName.
+   *
+   * @since 1.7.9
+   */
+  public String generateDataURI(final byte[] bytes, final String fileName)
+      throws IOException {
     final String mimeType = getMimeType(fileName);
-    // actually write
-    generateDataURI(bytes, writer, mimeType);
+    // the key of a large image is not even created, since its hash code requires a pass over the content
+    final ImageKey key = bytes.length <= MAX_CACHED_IMAGE_SIZE ? new ImageKey(mimeType, bytes) : null;
+    String dataUri = key != null ? getCached(key) : null;
+    if (dataUri == null) {
+      final StringBuilderWriter writer = new StringBuilderWriter(computeDataUriLength(bytes.length, mimeType));
+      // actually write
+      generateDataURI(bytes, writer, mimeType);
+      dataUri = writer.toString();
+      if (key != null) {
+        putCached(key, dataUri);
+      }
+    }
+    return dataUri;
+  }
+
+  private static String getCached(final ImageKey key) {
+    synchronized (CACHE) {
+      return CACHE.get(key);
+    }
+  }
+
+  /**
+   * Adds the data uri to the cache, evicting the least recently used entries while the cache size limit is exceeded.
+   */
+  private static void putCached(final ImageKey key, final String dataUri) {
+    synchronized (CACHE) {
+      final String previous = CACHE.put(key, dataUri);
+      if (previous != null) {
+        cacheSize -= getRetainedSize(key, previous);
+      }
+      cacheSize += getRetainedSize(key, dataUri);
+      final Iterator<Map.Entry<ImageKey, String>> iterator = CACHE.entrySet().iterator();
+      while (cacheSize > MAX_CACHE_SIZE && iterator.hasNext()) {
+        final Map.Entry<ImageKey, String> eldest = iterator.next();
+        cacheSize -= getRetainedSize(eldest.getKey(), eldest.getValue());
+        iterator.remove();
+      }
+    }
+  }
 
-    return writer.toString();
+  /**
+   * @return the approximate number of bytes retained by a cache entry (a character takes two bytes).
+   */
+  private static long getRetainedSize(final ImageKey key, final String dataUri) {
+    return key.bytes.length + 2L * dataUri.length();
+  }
+
+  /**
+   * Computes the length of the data uri without encoding the image, useful to decide whether the data uri should be
+   * generated at all.
+   *
+   * @param byteCount
+   *          the number of bytes of the image.
+   * @param fileName
+   *          the name of the image file, used to detect its type.
+   * @return the number of characters of the data uri generated for the image.
+   * @since 1.7.9
+   */
+  public int getDataUriLength(final int byteCount, final String fileName) {
+    return computeDataUriLength(byteCount, getMimeType(fileName));
+  }
+
+  private static int computeDataUriLength(final int byteCount, final String mimeType) {
+    return DATA_URI_PREFIX.length() + mimeType.length() + BASE64_SEPARATOR.length() + getEncodedLength(byteCount);
+  }
+
+  /**
+   * @param byteCount
+   *          the number of bytes to encode.
+   * @return the number of characters of the base64 encoded bytes (the data uri is longer, since it contains the mime
+   *         type as well).
+   * @since 1.7.9
+   */
+  public static int getEncodedLength(final int byteCount) {
+    return (byteCount + 2) / 3 * 4;
   }
 
   private String getMimeType(final String fileName) {
@@ -56,7 +165,8 @@ public class DataUriGenerator {
   }
   
   /**
-   * Generates a data URI from a byte array and outputs to the given writer.
+   * Generates a data URI from a byte array and outputs to the given writer. The bytes are encoded in chunks, written
+   * directly to the writer.
    * 
    * @param bytes
    *          The array of bytes to output to the data URI.
@@ -68,18 +178,49 @@ public class DataUriGenerator {
    */
   private void generateDataURI(final byte[] bytes, final Writer out, final String mimeType)
       throws IOException {
-    // create the output
-    final StringBuffer buffer = new StringBuffer();
-    buffer.append(DATA_URI_PREFIX);
-    
+    out.write(DATA_URI_PREFIX);
     // add MIME type
-    buffer.append(mimeType);
-    
+    out.write(mimeType);
     // output base64-encoding
-    buffer.append(";base64,");
-    buffer.append(Base64.encodeBytes(bytes));
-    
-    // output to writer
-    out.write(buffer.toString());
+    out.write(BASE64_SEPARATOR);
+    final char[] chars = new char[getEncodedLength(ENCODING_CHUNK_SIZE)];
+    for (int offset = 0; offset < bytes.length; offset += ENCODING_CHUNK_SIZE) {
+      final int length = Math.min(ENCODING_CHUNK_SIZE, bytes.length - offset);
+      final byte[] encoded = Base64.encodeBytesToBytes(bytes, offset, length, Base64.NO_OPTIONS);
+      // the base64 alphabet is ascii
+      for (int i = 0; i < encoded.length; i++) {
+        chars[i] = (char) encoded[i];
+      }
+      out.write(chars, 0, encoded.length);
+    }
+  }
+
+  /**
+   * Identifies an image by its mime type and content.
+   */
+  private static final class ImageKey {
+    private final String mimeType;
+    private final byte[] bytes;
+    private final int hashCode;
+
+    ImageKey(final String mimeType, final byte[] bytes) {
+      this.mimeType = mimeType;
+      this.bytes = bytes;
+      this.hashCode = 31 * mimeType.hashCode() + Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      if (!(obj instanceof ImageKey)) {
+        return false;
+      }
+      final ImageKey other = (ImageKey) obj;
+      return hashCode == other.hashCode && mimeType.equals(other.mimeType) && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
   }
 }
@@ -19,6 +19,7 @@ import ro.isdc.wro.model.resource.processor.impl.css.CssUrlRewritingProcessor;
 import ro.isdc.wro.model.resource.processor.impl.css.CssVariablesProcessor;
 import ro.isdc.wro.model.resource.processor.impl.css.DuplicatesAwareCssDataUriPreProcessor;
 import ro.isdc.wro.model.resource.processor.impl.css.FallbackCssDataUriProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.FastCssCompressorProcessor;
 import ro.isdc.wro.model.resource.processor.impl.css.JawrCssMinifierProcessor;
 import ro.isdc.wro.model.resource.processor.impl.css.LessCssImportPreProcessor;
 import ro.isdc.wro.model.resource.processor.impl.css.VariablizeColorsCssProcessor;
@@ -70,6 +71,7 @@ public class DefaultProcessorProvider
     map.put(LessCssImportPreProcessor.ALIAS, new LessCssImportPreProcessor());
     map.put(CssVariablesProcessor.ALIAS, new CssVariablesProcessor());
     map.put(CssCompressorProcessor.ALIAS, new CssCompressorProcessor());
+    map.put(FastCssCompressorProcessor.ALIAS, new FastCssCompressorProcessor());
     map.put(SemicolonAppenderPreProcessor.ALIAS, new SemicolonAppenderPreProcessor());
     map.put(CssDataUriPreProcessor.ALIAS, new CssDataUriPreProcessor());
     map.put(FallbackCssDataUriProcessor.ALIAS, new FallbackCssDataUriProcessor());
@@ -0,0 +1,591 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.resource.processor.support;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.IOUtils;
+
+
+/**
+ * A hand written implementation of the {@link CssCompressor} algorithm, producing the same output. Instead of applying
+ * a chain of regular expressions on the entire content, the content is scanned only once by a state machine which
+ * removes the comments and redundant whitespaces and shortens the values (zero units, colors) while the compressed
+ * content is created. Merging the rules having the same declarations requires an additional pass over the compressed
+ * content, which is usually much smaller than the original one.
+ * <p/>
+ * Unlike {@link CssCompressor}, the rgb colors having invalid values (ex: <code>rgb(1 2,3)</code>) are left unchanged
+ * instead of failing the compression and the hex colors matching a named color (ex: <code>#C0C0C0</code>) are not
+ * replaced with an invalid value (ex: <code>#silver</code>).
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class FastCssCompressor {
+  /**
+   * Characters which do not need a space before them.
+   */
+  private static final String NO_SPACE_BEFORE = "!{};:>+()],";
+  /**
+   * Characters which do not need a space after them.
+   */
+  private static final String NO_SPACE_AFTER = "!{}:;>+([,";
+  /**
+   * Characters which prevent shortening the color following them.
+   */
+  private static final String NO_COLOR_SHORTENING_AFTER = "\"'=";
+  private static final String BOX_MODEL_HACK = "\"\\\"}\\\"\"";
+  private static final String BACKGROUND_POSITION = "background-position:0";
+  private static final String[] ZERO_UNITS = {
+    "px", "em", "%", "in", "cm", "mm", "pc", "pt", "ex"
+  };
+  private static final String[] ZERO_VALUES = {
+    ":0 0 0 0", ":0 0 0", ":0 0"
+  };
+  private static final Pattern DIMENSIONS_PATTERN = Pattern.compile("(border|margin):(\\d+(?:\\p{Alpha}*))(\\2){3}");
+  private static final int NONE = -1;
+  private final char[] in;
+  private StringBuilder out;
+  /**
+   * The index of the currently processed character.
+   */
+  private int pos;
+  /**
+   * The last character of the compressed content, including the one belonging to the removed empty rules.
+   */
+  private int last;
+  /**
+   * The index of the last '}' character in the compressed content.
+   */
+  private int lastClose;
+  private boolean pendingSpace;
+  /**
+   * The comments started before this index are preserved.
+   */
+  private int preservedUntil;
+  private boolean iemac;
+  /**
+   * True while processing the text found at the beginning of the content or after a '}' character, which may contain
+   * selectors with pseudo classes.
+   */
+  private boolean selectorSegment;
+  /**
+   * The index where the current selector segment starts.
+   */
+  private int segmentStart;
+  /**
+   * Cached result of {@link #isPseudoClassSegment()}: 0 - not computed, 1 - true, 2 - false.
+   */
+  private int pseudoClassSegment;
+  /**
+   * True when the next character was escaped by a backslash in a pseudo class segment.
+   */
+  private boolean escaped;
+
+  public FastCssCompressor(final Reader reader)
+      throws IOException {
+    in = IOUtils.toCharArray(reader);
+  }
+
+  /**
+   * Writes the compressed content.
+   *
+   * @param linebreakpos
+   *          the column after which a line break is inserted after a rule. When negative, no line breaks are inserted.
+   */
+  public void compress(final Writer writer, final int linebreakpos)
+      throws IOException {
+    out = new StringBuilder(in.length);
+    last = NONE;
+    lastClose = NONE;
+    pendingSpace = false;
+    preservedUntil = 0;
+    iemac = false;
+    escaped = false;
+    startSelectorSegment(0);
+    for (pos = 0; pos < in.length; pos++) {
+      final char c = in[pos];
+      if (isWhitespace(c)) {
+        pendingSpace = true;
+        escaped = false;
+      } else if (c != '/' || pos < preservedUntil || pos + 1 >= in.length || in[pos + 1] != '*' || !skipComment()) {
+        process(c);
+      }
+    }
+    if (out.length() > 0 && out.charAt(0) == ' ') {
+      out.deleteCharAt(0);
+    }
+    if (linebreakpos >= 0) {
+      insertLineBreaks(linebreakpos);
+    }
+    writeMergedRules(writer);
+  }
+
+  /**
+   * Skips the comment started at the current position, unless it must be preserved.
+   *
+   * @return true if the comment was skipped.
+   */
+  private boolean skipComment() {
+    final boolean preserve = pos + 2 < in.length && in[pos + 2] == '!';
+    final int end = indexOf('*', '/', pos + 2);
+    if (end < 0) {
+      if (preserve) {
+        preservedUntil = in.length;
+        return false;
+      }
+      pos = in.length;
+      return true;
+    }
+    if (in[end - 1] == '\\') {
+      // Looks like a comment to hide rules from IE Mac. Leave this comment, and the following one, alone...
+      iemac = true;
+    } else if (iemac) {
+      iemac = false;
+    } else if (!preserve) {
+      pos = end + 1;
+      return true;
+    }
+    preservedUntil = end + 2;
+    return false;
+  }
+
+  private void process(final char c) {
+    if (c == '\\' && !escaped && isPseudoClassSegment()) {
+      // the pseudo class segments are unescaped by CssCompressor, since they are used as a regex replacement
+      escaped = true;
+      return;
+    }
+    escaped = false;
+    if (pendingSpace) {
+      pendingSpace = false;
+      if (isSpaceRequired(c)) {
+        write(' ');
+      }
+    }
+    switch (c) {
+      case '}':
+        closeBlock();
+        startSelectorSegment(pos + 1);
+        break;
+      case '{':
+        write(c);
+        selectorSegment = false;
+        break;
+      case ';':
+        writeSemicolon();
+        break;
+      case '0':
+        writeZero();
+        break;
+      case '.':
+        writeDot();
+        break;
+      case '#':
+        writeHash();
+        break;
+      case 'r':
+        if (!writeRgb()) {
+          write(c);
+        }
+        break;
+      case '"':
+        if (regionMatches(pos, BOX_MODEL_HACK)) {
+          out.append(BOX_MODEL_HACK);
+          last = '"';
+          pos += BOX_MODEL_HACK.length() - 1;
+        } else {
+          write(c);
+        }
+        break;
+      default:
+        write(c);
+    }
+  }
+
+  private boolean isSpaceRequired(final char next) {
+    if (last != NONE && NO_SPACE_AFTER.indexOf(last) >= 0) {
+      return false;
+    }
+    if (next == ':') {
+      // be careful not to turn "p :link {...}" into "p:link{...}"
+      return isPseudoClassSegment();
+    }
+    return NO_SPACE_BEFORE.indexOf(next) < 0;
+  }
+
+  /**
+   * @return true if the current selector segment doesn't start with a colon, contains a colon and ends with a '{'
+   *         character, in which case all its colons are considered part of a pseudo class (ex: <code>p :link</code>).
+   */
+  private boolean isPseudoClassSegment() {
+    if (!selectorSegment) {
+      return false;
+    }
+    if (pseudoClassSegment == 0) {
+      pseudoClassSegment = 2;
+      boolean colonFound = false;
+      for (int i = segmentStart; i < in.length && in[i] != '}'; i++) {
+        if (in[i] == ':') {
+          if (i == segmentStart) {
+            break;
+          }
+          colonFound = true;
+        } else if (in[i] == '{') {
+          pseudoClassSegment = colonFound ? 1 : 2;
+          break;
+        }
+      }
+    }
+    return pseudoClassSegment == 1;
+  }
+
+  private void startSelectorSegment(final int start) {
+    selectorSegment = true;
+    segmentStart = start;
+    pseudoClassSegment = 0;
+  }
+
+  private void closeBlock() {
+    if (last != NONE && last != ';' && last != '}') {
+      // add the semicolon where it's missing
+      writeSemicolon();
+    }
+    final int length = out.length();
+    // remove empty rules
+    if (length >= 2 && out.charAt(length - 1) == ';' && out.charAt(length - 2) == '{' && length - 2 > lastClose + 1) {
+      out.setLength(lastClose + 1);
+      last = '}';
+    } else {
+      write('}');
+      lastClose = out.length() - 1;
+    }
+  }
+
+  private void writeSemicolon() {
+    if (last == ';') {
+      return;
+    }
+    // replace 0 0 0 0; with 0.
+    for (final String zeroValue : ZERO_VALUES) {
+      if (endsWith(zeroValue)) {
+        out.setLength(out.length() - zeroValue.length() + 2);
+        break;
+      }
+    }
+    if (endsWith(BACKGROUND_POSITION)) {
+      out.append(" 0");
+    }
+    write(';');
+  }
+
+  /**
+   * Replaces 0(px,em,%) with 0.
+   */
+  private void writeZero() {
+    write('0');
+    if (out.length() > 1 && isZeroUnitPrefix(out.charAt(out.length() - 2))) {
+      for (final String unit : ZERO_UNITS) {
+        if (regionMatches(pos + 1, unit)) {
+          pos += unit.length();
+          break;
+        }
+      }
+    }
+  }
+
+  private boolean isZeroUnitPrefix(final char c) {
+    return c == ' ' || c == ':';
+  }
+
+  /**
+   * Replaces 0.6 with .6, but only when preceded by a colon or a whitespace.
+   */
+  private void writeDot() {
+    if (pos + 1 < in.length && isDigit(in[pos + 1])) {
+      int index = out.length();
+      while (index > 0 && out.charAt(index - 1) == '0') {
+        index--;
+      }
+      if (index > 0 && index < out.length() && isZeroUnitPrefix(out.charAt(index - 1))) {
+        out.setLength(index);
+      }
+    }
+    write('.');
+  }
+
+  private void writeHash() {
+    final int hashIndex = out.length();
+    write('#');
+    if (pos + 6 < in.length) {
+      for (int i = pos + 1; i <= pos + 6; i++) {
+        if (!isHexDigit(in[i])) {
+          return;
+        }
+      }
+      out.append(in, pos + 1, 6);
+      last = in[pos + 6];
+      pos += 6;
+      shortenColor(hashIndex);
+    }
+  }
+
+  /**
+   * Shortens colors from rgb(51,102,153) to #336699 and then to #369 if possible.
+   *
+   * @return true if the rgb color was written.
+   */
+  private boolean writeRgb() {
+    if (!regionMatches(pos, "rgb")) {
+      return false;
+    }
+    int start = pos + 3;
+    while (start < in.length && isWhitespace(in[start])) {
+      start++;
+    }
+    if (start >= in.length || in[start] != '(') {
+      return false;
+    }
+    int end = ++start;
+    while (end < in.length && in[end] != ')') {
+      if (!isDigit(in[end]) && in[end] != ',' && !isWhitespace(in[end])) {
+        return false;
+      }
+      end++;
+    }
+    if (end >= in.length) {
+      return false;
+    }
+    final int hashIndex = out.length();
+    out.append('#');
+    int value = NONE;
+    boolean valueEnded = false;
+    boolean emptyValue = false;
+    for (int i = start; i <= end; i++) {
+      final char c = in[i];
+      if (isDigit(c)) {
+        if (valueEnded || emptyValue) {
+          // not a valid color, leave it as it is
+          out.setLength(hashIndex);
+          return false;
+        }
+        value = (value == NONE ? 0 : value * 10) + c - '0';
+        if (value > 255) {
+          out.setLength(hashIndex);
+          return false;
+        }
+      } else if (isWhitespace(c)) {
+        valueEnded = value != NONE;
+      } else if (value == NONE) {
+        // empty values are allowed only at the end
+        emptyValue = true;
+      } else {
+        if (value < 16) {
+          out.append('0');
+        }
+        out.append(Integer.toHexString(value));
+        value = NONE;
+        valueEnded = false;
+      }
+    }
+    if (out.length() == hashIndex + 1) {
+      out.setLength(hashIndex);
+      return false;
+    }
+    last = out.charAt(out.length() - 1);
+    pos = end;
+    shortenColor(hashIndex);
+    return true;
+  }
+
+  /**
+   * Shortens colors from #AABBCC to #ABC. Note that the color should not be preceded by either ", ' or =, since the
+   * property <code>filter: chroma(color="#FFFFFF");</code> would become <code>filter: chroma(color="#FFF");</code>
+   * which makes the filter break in IE.
+   *
+   * @param hashIndex
+   *          the index of the '#' character of the color followed by at least 6 hex digits.
+   */
+  private void shortenColor(final int hashIndex) {
+    int previous = hashIndex - 1;
+    if (previous >= 0 && out.charAt(previous) == ' ') {
+      previous--;
+    }
+    if (previous < 0 || NO_COLOR_SHORTENING_AFTER.indexOf(out.charAt(previous)) >= 0
+        || out.length() < hashIndex + 7) {
+      return;
+    }
+    final int start = hashIndex + 1;
+    if (isSameHexDigit(out.charAt(start), out.charAt(start + 1))
+        && isSameHexDigit(out.charAt(start + 2), out.charAt(start + 3))
+        && isSameHexDigit(out.charAt(start + 4), out.charAt(start + 5))) {
+      out.setCharAt(start + 1, out.charAt(start + 2));
+      out.setCharAt(start + 2, out.charAt(start + 4));
+      out.delete(start + 3, start + 6);
+      last = out.charAt(out.length() - 1);
+    }
+  }
+
+  private boolean isSameHexDigit(final char first, final char second) {
+    return Character.toLowerCase(first) == Character.toLowerCase(second);
+  }
+
+  private void write(final char c) {
+    out.append(c);
+    last = c;
+  }
+
+  private void insertLineBreaks(final int linebreakpos) {
+    int linestartpos = 0;
+    for (int i = 0; i < out.length();) {
+      final char c = out.charAt(i++);
+      if (c == '}' && i - linestartpos > linebreakpos) {
+        out.insert(i, '\n');
+        linestartpos = i;
+      }
+    }
+  }
+
+  /**
+   * Merges the rules having the same declarations and writes the result, removing the last semicolon in blocks.
+   */
+  private void writeMergedRules(final Writer writer)
+      throws IOException {
+    final Map<String, StringBuilder> ruleMap = new LinkedHashMap<String, StringBuilder>();
+    final StringBuilder declarations = new StringBuilder();
+    int start = 0;
+    int open;
+    while ((open = out.indexOf("{", start)) >= 0) {
+      final int close = out.indexOf("}", open + 1);
+      if (close < 0) {
+        break;
+      }
+      declarations.setLength(0);
+      compressDimensions(open + 1, close, declarations);
+      final String key = declarations.toString();
+      final StringBuilder selectors = ruleMap.get(key);
+      if (selectors == null) {
+        ruleMap.put(key, new StringBuilder().append(out, start, open));
+      } else {
+        selectors.append(',').append(out, start, open);
+      }
+      start = close + 1;
+    }
+    final StringBuilder merged = new StringBuilder(out.length());
+    for (final Map.Entry<String, StringBuilder> entry : ruleMap.entrySet()) {
+      merged.append(entry.getValue()).append('{').append(entry.getKey()).append('}');
+    }
+    final String result = merged.toString();
+    int from = 0;
+    int index;
+    while ((index = result.indexOf(";}", from)) >= 0) {
+      writer.write(result, from, index - from);
+      from = index + 1;
+    }
+    writer.write(result, from, result.length() - from);
+  }
+
+  /**
+   * Appends the declarations found between the provided indexes, replacing the identical border & margin dimensions
+   * with a single one. Each declaration is followed by a semicolon.
+   */
+  private void compressDimensions(final int start, final int end, final StringBuilder result) {
+    final int firstSemicolon = out.indexOf(";", start);
+    if (firstSemicolon < 0 || firstSemicolon >= end) {
+      appendDeclaration(start, end, result);
+      return;
+    }
+    // same as String#split: the trailing empty declarations are ignored
+    int trimmedEnd = end;
+    while (trimmedEnd > start && out.charAt(trimmedEnd - 1) == ';') {
+      trimmedEnd--;
+    }
+    if (trimmedEnd == start) {
+      return;
+    }
+    int declarationStart = start;
+    for (int i = start; i <= trimmedEnd; i++) {
+      if (i == trimmedEnd || out.charAt(i) == ';') {
+        appendDeclaration(declarationStart, i, result);
+        declarationStart = i + 1;
+      }
+    }
+  }
+
+  private void appendDeclaration(final int start, final int end, final StringBuilder result) {
+    if (isDimensionsCandidate(start, end)) {
+      final String condensed = out.substring(start, end).replace(" ", "");
+      final Matcher m = DIMENSIONS_PATTERN.matcher(condensed);
+      if (m.find()) {
+        result.append(condensed, 0, m.start()).append(m.group(1)).append(':').append(m.group(2)).append(';');
+        return;
+      }
+    }
+    result.append(out, start, end).append(';');
+  }
+
+  private boolean isDimensionsCandidate(final int start, final int end) {
+    for (int i = start + 6; i < end; i++) {
+      if (out.charAt(i) == ':' && (regionMatches(out, i - 6, "border") || regionMatches(out, i - 6, "margin"))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean endsWith(final String suffix) {
+    return out.length() >= suffix.length() && regionMatches(out, out.length() - suffix.length(), suffix);
+  }
+
+  private static boolean regionMatches(final CharSequence sequence, final int offset, final String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (sequence.charAt(offset + i) != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean regionMatches(final int offset, final String value) {
+    if (offset + value.length() > in.length) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (in[offset + i] != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int indexOf(final char first, final char second, final int fromIndex) {
+    for (int i = fromIndex; i < in.length - 1; i++) {
+      if (in[i] == first && in[i + 1] == second) {
+        return i;
+      }
+    }
+    return NONE;
+  }
+
+  /**
+   * Same as the \s character class of regular expressions.
+   */
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isHexDigit(final char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+}
@@ -5,8 +5,14 @@ package ro.isdc.wro.model.resource.processor.support;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.PushbackInputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+import org.apache.commons.io.IOUtils;
 
 /**
  * JsMin.java.
@@ -17,6 +23,9 @@ import java.io.PushbackInputStream;
  * conditions as the jsmin.c on which it is based.
  * <p>
  * http://www.crockford.com/javascript/jsmin.html
+ * <p>
+ * The whole input is loaded in a char array which is scanned using a cursor and the result is accumulated in a buffer
+ * which is written at the end, avoiding the cost of reading and writing each character from a stream.
  *
  * @author Alex Objelean
  * @created Created on Dec 5, 2008
@@ -24,10 +33,23 @@ import java.io.PushbackInputStream;
 @SuppressWarnings("serial")
 public class JSMin {
   private static final int EOF = -1;
+  /**
+   * Used to map each byte to a char (and back) when working with streams.
+   */
+  private static final Charset BYTE_CHARSET = Charset.forName("ISO-8859-1");
+
+  private final Reader reader;
 
-  private final PushbackInputStream in;
+  private final Writer writer;
 
-  private final OutputStream out;
+  private char[] in;
+
+  /**
+   * The index of the next character to read.
+   */
+  private int pos;
+
+  private StringBuilder out;
 
   private int theA;
 
@@ -37,9 +59,20 @@ public class JSMin {
 
   private int theY = EOF;
 
+  /**
+   * Minimize the bytes of the input stream. Each byte is processed as a character, thus a multi-byte character is
+   * treated as alphanumeric, like any other non-ASCII character.
+   */
   public JSMin(final InputStream in, final OutputStream out) {
-    this.in = new PushbackInputStream(in);
-    this.out = out;
+    this(new InputStreamReader(in, BYTE_CHARSET), new OutputStreamWriter(out, BYTE_CHARSET));
+  }
+
+  /**
+   * @since 1.7.9
+   */
+  public JSMin(final Reader reader, final Writer writer) {
+    this.reader = reader;
+    this.writer = writer;
   }
 
   /**
@@ -55,8 +88,11 @@ public class JSMin {
    * get -- return the next character from stdin. Watch out for lookahead. If
    * the character is a control character, translate it to a space or linefeed.
    */
-  int get() throws IOException {
-    final int c = in.read();
+  private int get() {
+    if (pos >= in.length) {
+      return EOF;
+    }
+    final int c = in[pos++];
 
     if (c >= ' ' || c == '\n' || c == EOF) {
       return c;
@@ -72,17 +108,15 @@ public class JSMin {
   /**
    * Get the next character without getting it.
    */
-  int peek() throws IOException {
-    final int lookaheadChar = in.read();
-    in.unread(lookaheadChar);
-    return lookaheadChar;
+  private int peek() {
+    return pos < in.length ? in[pos] : EOF;
   }
 
   /**
    * next -- get the next character, excluding comments. peek() is used to see
    * if a '/' is followed by a '/' or '*'.
    */
-  int next() throws IOException, UnterminatedCommentException {
+  private int next() throws UnterminatedCommentException {
     int c = get();
     if (c == '/') {
       switch (peek()) {
@@ -128,21 +162,21 @@ public class JSMin {
    * action recognizes a regular expression if it is preceded by ( or , or =.
    */
 
-  void action(final int d) throws IOException,
+  private void action(final int d) throws
       UnterminatedRegExpLiteralException, UnterminatedCommentException,
       UnterminatedStringLiteralException {
     switch (d) {
     case 1:
-      out.write(theA);
+      out.append((char) theA);
       if (theA == theB && (theA == '+' || theA == '-') && theY != theA) {
-        out.write(' ');
+        out.append(' ');
       }
     case 2:
       theA = theB;
 
       if (theA == '\'' || theA == '"' || theA == '`') {
         for (;;) {
-          out.write(theA);
+          out.append((char) theA);
           theA = get();
           if (theA == theB) {
             break;
@@ -151,7 +185,7 @@ public class JSMin {
             throw new UnterminatedStringLiteralException();
           }
           if (theA == '\\') {
-            out.write(theA);
+            out.append((char) theA);
             theA = get();
           }
         }
@@ -164,22 +198,22 @@ public class JSMin {
               || theA == '[' || theA == '!' || theA == '&' || theA == '|'
               || theA == '?' || theA == '+' || theA == '-' || theA == '~'
               || theA == '*' || theA == '/' || theA == '{' || theA == '\n')) {
-        out.write(theA);
+        out.append((char) theA);
         if (theA == '/' || theA == '*') {
-          out.write(' ');
+          out.append(' ');
         }
-        out.write(theB);
+        out.append((char) theB);
         for (;;) {
           theA = get();
           if (theA == '[') {
             for (;;) {
-              out.write(theA);
+              out.append((char) theA);
               theA = get();
               if (theA == ']') {
                 break;
               }
               if (theA == '\\') {
-                out.write(theA);
+                out.append((char) theA);
                 theA = get();
               }
               if (theA <= '\n') {
@@ -194,12 +228,12 @@ public class JSMin {
             }
             break;
           } else if (theA == '\\') {
-            out.write(theA);
+            out.append((char) theA);
             theA = get();
           } else if (theA <= '\n') {
             throw new UnterminatedRegExpLiteralException();
           }
-          out.write(theA);
+          out.append((char) theA);
         }
         theB = next();
       }
@@ -214,11 +248,10 @@ public class JSMin {
    */
   public void jsmin() throws IOException, UnterminatedRegExpLiteralException,
       UnterminatedCommentException, UnterminatedStringLiteralException {
-    if (peek() == 0xEF) {
-      get();
-      get();
-      get();
-    }
+    in = IOUtils.toCharArray(reader);
+    pos = 0;
+    out = new StringBuilder(in.length);
+    skipByteOrderMark();
     theA = '\n';
     action(3);
     while (theA != EOF) {
@@ -287,7 +320,19 @@ public class JSMin {
         }
       }
     }
-    out.flush();
+    writer.append(out);
+    writer.flush();
+  }
+
+  /**
+   * Skips the byte order mark, which is either a character or a sequence of 3 bytes (when reading from a stream).
+   */
+  private void skipByteOrderMark() {
+    if (peek() == '\uFEFF') {
+      pos++;
+    } else if (in.length >= 3 && in[0] == 0xEF && in[1] == 0xBB && in[2] == 0xBF) {
+      pos += 3;
+    }
   }
 
   private static class UnterminatedCommentException extends Exception {
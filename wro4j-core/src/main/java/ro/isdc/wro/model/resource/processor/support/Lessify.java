@@ -16,126 +16,192 @@
  */
 package ro.isdc.wro.model.resource.processor.support;
 
+import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 
 /**
  * Transforms colors from long format in a shorter one.
+ * <p/>
+ * The css is scanned once, without regular expressions: a color is either a <code>#</code> followed by 3 to 6 hex
+ * digits and a non hex character, or a color name (see {@link CssColors}) preceded by a whitespace or <code>:</code>
+ * and followed by a whitespace or <code>;</code>.
  *
  * @author Richard Nichols
  */
 public class Lessify {
-  private static final Pattern PATTERN_COLOR = Pattern.compile("#[0-9a-fA-F]{3,6}[^0-9a-fA-F]");
-  private static final Pattern PATTERN_WORD_COLOR = Pattern.compile(getGiantCssColorRegex());
-
-
-  public String variablizeColors(String css) {
-    final Set<String> colors = new LinkedHashSet<String>();
-    css = conformColors(css);
-    final Matcher m = PATTERN_COLOR.matcher(css);
-    final Map<String, Integer> colorCount = new HashMap<String, Integer>();
-    while (m.find()) {
-      final String color = m.group().substring(1, m.group().length() - 1);
-      colors.add(color);
-      if (colorCount.get(color) == null) {
-        colorCount.put(color, 1);
-      } else {
-        colorCount.put(color, colorCount.get(color) + 1);
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final int COLOR_LENGTH = 6;
+
+
+  public String variablizeColors(final String css) {
+    final String conformed = conformColors(css);
+    // colors in the order of their first occurrence, with the number of their occurrences
+    final List<String> colors = new ArrayList<String>();
+    final List<Integer> colorCount = new ArrayList<Integer>();
+    final Map<String, Integer> colorIndex = new HashMap<String, Integer>();
+    for (int i = 0; i < conformed.length(); i++) {
+      final int end = endOfHexColor(conformed, i);
+      if (end > 0) {
+        final String color = conformed.substring(i + 1, end);
+        final Integer index = colorIndex.get(color);
+        if (index == null) {
+          colorIndex.put(color, colors.size());
+          colors.add(color);
+          colorCount.add(1);
+        } else {
+          colorCount.set(index, colorCount.get(index) + 1);
+        }
+        i = end - 1;
       }
     }
-    final StringBuffer result = new StringBuffer();
-    int idx = 0;
-    final Map<String, String> colorMap = new HashMap<String, String>();
-    for (final String color : colors) {
-      colorMap.put(color, "color" + minLeading(idx, 3));
-      idx++;
-      result.append("@").append(colorMap.get(color)).append(": #").append(conformColor(color)).append("; /* used ").append(
-        colorCount.get(color)).append(" times */\n");
+    final StringBuilder result = new StringBuilder(conformed.length() + colors.size() * 48);
+    for (int idx = 0; idx < colors.size(); idx++) {
+      result.append("@color").append(minLeading(idx, 3)).append(": #").append(colors.get(idx)).append("; /* used ").append(
+        colorCount.get(idx)).append(" times */\n");
     }
-    for (final String color : colors) {
-      css = css.replace("#" + color, "@" + colorMap.get(color));
+    // replace all occurrences of the conformed colors, including those not followed by a non hex character
+    int i = 0;
+    while (i < conformed.length()) {
+      final char c = conformed.charAt(i);
+      if (c == '#' && i + COLOR_LENGTH < conformed.length() && isConformedColor(conformed, i + 1)) {
+        final Integer index = colorIndex.get(conformed.substring(i + 1, i + 1 + COLOR_LENGTH));
+        if (index != null) {
+          result.append("@color").append(minLeading(index, 3));
+          i += 1 + COLOR_LENGTH;
+          continue;
+        }
+      }
+      result.append(c);
+      i++;
     }
-    result.append(css);
     return result.toString();
   }
 
 
-  public String conformColors(String css) {
-    Matcher m = PATTERN_COLOR.matcher(css);
-    final Map<String, String> colGroup = new HashMap<String, String>();
-    while (m.find()) {
-      final String color = m.group().substring(1, m.group().length() - 1);
-      colGroup.put(m.group(), conformColor(color));
+  public String conformColors(final String css) {
+    final int length = css.length();
+    final StringBuilder result = new StringBuilder(length + 16);
+    int i = 0;
+    while (i < length) {
+      final char c = css.charAt(i);
+      if (c == '#') {
+        final int end = endOfHexColor(css, i);
+        if (end > 0) {
+          result.append('#');
+          appendConformedColor(result, css, i + 1, end);
+          i = end;
+          continue;
+        }
+      } else if (isWhitespace(c) || c == ':') {
+        result.append(c);
+        i++;
+        int end = i;
+        while (end < length && isLetter(css.charAt(end))) {
+          end++;
+        }
+        if (end > i && end < length && (isWhitespace(css.charAt(end)) || css.charAt(end) == ';')) {
+          final CssColors color = CssColors.forName(css, i, end);
+          if (color != null) {
+            result.append('#');
+            appendHex(result, color.getColor(), COLOR_LENGTH);
+            i = end;
+          }
+        }
+        continue;
+      }
+      result.append(c);
+      i++;
     }
-    m = PATTERN_WORD_COLOR.matcher(css);
-    while (m.find()) {
-      final String color = m.group().substring(1, m.group().length() - 1);
-      colGroup.put(m.group(), "#" + conformColor(color));
+    return result.toString();
+  }
+
+
+  /**
+   * @return the index after the last hex digit of the color starting at the provided index, or -1 if there is no
+   *         color: a <code>#</code> followed by 3 to 6 hex digits and a non hex character.
+   */
+  private static int endOfHexColor(final CharSequence css, final int start) {
+    if (css.charAt(start) != '#') {
+      return -1;
     }
-    // conform all
-    for (final String col : colGroup.keySet()) {
-      css = css.replace(col, col.charAt(0) + colGroup.get(col) + col.charAt(col.length() - 1));
+    int end = start + 1;
+    while (end < css.length() && isHexDigit(css.charAt(end))) {
+      end++;
     }
-    return css;
+    final int digits = end - start - 1;
+    return digits >= 3 && digits <= COLOR_LENGTH && end < css.length() ? end : -1;
   }
 
 
-  private String conformColor(final String color) {
-    if (CssColors.forName(color) != null) {
-      return CssColors.forName(color).getColorAsHexString().toLowerCase();
-    }
-    if (color.length() == 3) {
-      final StringBuffer sb = new StringBuffer();
-      for (int n = 0; n < color.length(); n++) {
-        sb.append(color.charAt(n));
-        sb.append(color.charAt(n));
+  /**
+   * Appends the color using 6 lower case hex digits.
+   */
+  private static void appendConformedColor(final StringBuilder result, final CharSequence css, final int start,
+    final int end) {
+    final int digits = end - start;
+    if (digits == 3) {
+      for (int n = start; n < end; n++) {
+        final char digit = Character.toLowerCase(css.charAt(n));
+        result.append(digit).append(digit);
       }
-      return sb.toString().toLowerCase();
     } else {
-      return minLeading(color, 6).toLowerCase();
+      for (int n = digits; n < COLOR_LENGTH; n++) {
+        result.append('0');
+      }
+      for (int n = start; n < end; n++) {
+        result.append(Character.toLowerCase(css.charAt(n)));
+      }
     }
   }
 
 
-  private static String minLeading(final int val, final int min) {
-    return minLeading(Integer.toString(val), min);
+  private static void appendHex(final StringBuilder result, final int value, final int digits) {
+    for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+      result.append(HEX_DIGITS[(value >>> shift) & 0xF]);
+    }
   }
 
 
-  private static String minLeading(final String val, final int min) {
-    final StringBuffer result = new StringBuffer(val);
-    while (result.length() < min) {
-      result.insert(0, "0");
+  /**
+   * @return true if the 6 characters starting at the provided index are lower case hex digits.
+   */
+  private static boolean isConformedColor(final CharSequence css, final int start) {
+    for (int n = start; n < start + COLOR_LENGTH; n++) {
+      final char c = css.charAt(n);
+      if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f')) {
+        return false;
+      }
     }
-    return result.toString();
+    return true;
   }
 
 
-  private static String getGiantCssColorRegex() {
-    final StringBuffer sb = new StringBuffer("");
-    boolean first = true;
-    for (final CssColors col : CssColors.values()) {
-      if (!first)
-        sb.append("|");
-      sb.append("(").append(buildRegexForCssColor(col)).append(")");
-      first = false;
-    }
-    return sb.toString();
+  /**
+   * @return true if the character is matched by the <code>\s</code> regex character class.
+   */
+  private static boolean isWhitespace(final char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+  }
+
+
+  private static boolean isHexDigit(final char c) {
+    return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
   }
 
 
-  private static String buildRegexForCssColor(final CssColors col) {
-    final StringBuffer sb = new StringBuffer("[\\s\\n\\r\\:]");
-    for (int n = 0; n < col.name().length(); n++) {
-      sb.append("[").append(Character.toLowerCase(col.name().charAt(n))).append(
-        Character.toUpperCase(col.name().charAt(n))).append("]");
+  private static boolean isLetter(final char c) {
+    return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+  }
+
+
+  private static String minLeading(final int val, final int min) {
+    final StringBuilder result = new StringBuilder(Integer.toString(val));
+    while (result.length() < min) {
+      result.insert(0, '0');
     }
-    sb.append("[\\s\\n\\r;]");
-    return sb.toString();
+    return result.toString();
   }
 }
@@ -4,8 +4,11 @@ import static org.apache.commons.lang3.Validate.notNull;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,34 +20,84 @@ import ro.isdc.wro.util.WroUtil;
 /**
  * Controls the resources which should be accessible through {@link ResourceProxyRequestHandler}. Prevent the security
  * issue which may occur when everything can be accessed using the proxy.
+ * <p/>
+ * The authorized uri's are stored in generations. When the cache or the model is reloaded, a new generation is started
+ * (see {@link #startGeneration()}) instead of removing all uri's: the uri's of the previous generation remain
+ * authorized until the next generation is started, thus proxied resources referred by already served css are still
+ * accessible while the css is processed again. The current generation is swapped atomically and the lookups don't
+ * acquire any lock.
  *
  * @author Alex Objelean
  */
 public class DefaultResourceAuthorizationManager implements MutableResourceAuthorizationManager {
   private static final Logger LOG = LoggerFactory.getLogger(DefaultResourceAuthorizationManager.class);
 
-  private final Set<String> authorizedResources = Collections.synchronizedSet(new HashSet<String>());
+  private final AtomicReference<Generation> generation = new AtomicReference<Generation>(new Generation(
+      Collections.<String, Boolean> emptyMap()));
+
+  /**
+   * Authorized uri's (without query string) of the current generation, together with the uri's of the previous
+   * generation.
+   */
+  private static final class Generation {
+    private final Map<String, Boolean> uris = new ConcurrentHashMap<String, Boolean>();
+    private final Map<String, Boolean> previousUris;
+
+    Generation(final Map<String, Boolean> previousUris) {
+      this.previousUris = previousUris;
+    }
+
+    boolean contains(final String uri) {
+      return uris.containsKey(uri) || previousUris.containsKey(uri);
+    }
+  }
 
   public boolean isAuthorized(final String uri) {
-    return authorizedResources.contains(WroUtil.removeQueryString(uri));
+    return generation.get().contains(removeQueryString(uri));
   }
 
   public void add(final String uri) {
     notNull(uri);
     LOG.debug("authorize: {}", uri);
     //ignore query string added to authorized resources list.
-    authorizedResources.add(WroUtil.removeQueryString(uri));
+    generation.get().uris.put(removeQueryString(uri), Boolean.TRUE);
+  }
+
+  /**
+   * Avoids the regular expression used by {@link WroUtil#removeQueryString(String)} for uri's without query string.
+   */
+  private String removeQueryString(final String uri) {
+    return uri.indexOf('?') < 0 ? uri : WroUtil.removeQueryString(uri);
   }
 
   /**
    * @return a read-only copy of authorized resources.
    */
   public Collection<String> list() {
-    return Collections.unmodifiableCollection(authorizedResources);
+    final Generation current = generation.get();
+    if (current.previousUris.isEmpty()) {
+      return Collections.unmodifiableCollection(current.uris.keySet());
+    }
+    final Set<String> result = new LinkedHashSet<String>(current.previousUris.keySet());
+    result.addAll(current.uris.keySet());
+    return Collections.unmodifiableCollection(result);
+  }
+
+  /**
+   * Starts a new generation of authorized resources. The resources of the current generation remain authorized until
+   * the next generation is started. Does nothing when no resource was authorized in the current generation, thus
+   * starting several generations during a single reload doesn't discard the resources authorized before the reload.
+   */
+  public void startGeneration() {
+    final Generation current = generation.get();
+    // when the generation was already changed by another thread, there is no need for a new one.
+    if (!current.uris.isEmpty() && generation.compareAndSet(current, new Generation(current.uris))) {
+      LOG.debug("new generation started.");
+    }
   }
 
   public void clear() {
     LOG.debug("clear.");
-    authorizedResources.clear();
+    generation.set(new Generation(Collections.<String, Boolean> emptyMap()));
   }
 }
@@ -30,7 +30,6 @@ import ro.isdc.wro.http.WroFilter;
 import ro.isdc.wro.http.handler.ResourceWatcherRequestHandler;
 import ro.isdc.wro.http.support.PreserveDetailsRequestWrapper;
 import ro.isdc.wro.manager.callback.LifecycleCallbackRegistry;
-import ro.isdc.wro.model.WroModelInspector;
 import ro.isdc.wro.model.factory.WroModelFactory;
 import ro.isdc.wro.model.group.Group;
 import ro.isdc.wro.model.group.Inject;
@@ -194,7 +193,7 @@ public class ResourceWatcher
     final StopWatch watch = new StopWatch();
     watch.start("detect changes");
     try {
-      final Group group = new WroModelInspector(modelFactory.create()).getGroupByName(cacheKey.getGroupName());
+      final Group group = modelFactory.create().getInspector().getGroupByName(cacheKey.getGroupName());
       if (isGroupChanged(group.collectResourcesOfType(cacheKey.getType()), callback)) {
         callback.onGroupChanged(cacheKey);
         cacheStrategy.put(cacheKey, null);
@@ -0,0 +1,81 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.resource.support.naming;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
+
+
+/**
+ * Base class for naming strategies encoding the hash of the content into the new name. When the
+ * {@link HashStrategy} used for renaming is the one configured by wro4j, the hash computed while the bundle was
+ * cached is reused instead of hashing the content once again.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public abstract class AbstractHashEncoderNamingStrategy
+    implements HashAwareNamingStrategy {
+  @Inject
+  private HashStrategy hashStrategy;
+
+  /**
+   * @return the {@link HashStrategy} to use for renaming. By default the used strategy is the same as the one
+   *         configured by wro4j. Override this method to provide a custom {@link HashStrategy}.
+   */
+  protected HashStrategy getHashStrategy() {
+    return hashStrategy;
+  }
+
+  public String rename(final String originalName, final InputStream inputStream)
+      throws IOException {
+    notNull(originalName);
+    notNull(inputStream);
+    try {
+      return encodeHash(originalName, getHashStrategy().getHash(inputStream));
+    } finally {
+      IOUtils.closeQuietly(inputStream);
+    }
+  }
+
+  public String renameBundle(final String originalName, final CacheValue cacheValue)
+      throws IOException {
+    notNull(originalName);
+    notNull(cacheValue);
+    return encodeHash(originalName, getBundleHash(cacheValue));
+  }
+
+  /**
+   * @return the hash carried by the {@link CacheValue} if it was computed with the same {@link HashStrategy} used for
+   *         renaming, otherwise the hash is computed from the raw content.
+   */
+  private String getBundleHash(final CacheValue cacheValue)
+      throws IOException {
+    final HashStrategy renamingStrategy = getHashStrategy();
+    if (cacheValue.getHash() != null && renamingStrategy == hashStrategy) {
+      return cacheValue.getHash();
+    }
+    final String content = cacheValue.getRawContent() == null ? "" : cacheValue.getRawContent();
+    // use the same bytes as the ones used when the cache value hash was computed.
+    return renamingStrategy.getHash(new ByteArrayInputStream(content.getBytes()));
+  }
+
+  /**
+   * @param originalName
+   *          original name of the resource.
+   * @param hash
+   *          the fingerprint of the resource content.
+   * @return new name of the resource with the hash encoded.
+   */
+  protected abstract String encodeHash(final String originalName, final String hash);
+}
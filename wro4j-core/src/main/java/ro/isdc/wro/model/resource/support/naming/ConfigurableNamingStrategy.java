@@ -1,9 +1,11 @@
 package ro.isdc.wro.model.resource.support.naming;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
 
+import ro.isdc.wro.cache.CacheValue;
 import ro.isdc.wro.model.resource.support.AbstractConfigurableSingleStrategy;
 
 
@@ -16,7 +18,7 @@ import ro.isdc.wro.model.resource.support.AbstractConfigurableSingleStrategy;
  */
 public class ConfigurableNamingStrategy
     extends AbstractConfigurableSingleStrategy<NamingStrategy, NamingStrategyProvider>
-    implements NamingStrategy {
+    implements HashAwareNamingStrategy {
   /**
    * Property name to specify namingStrategy alias.
    */
@@ -27,6 +29,20 @@ public class ConfigurableNamingStrategy
     return getConfiguredStrategy().rename(originalName, inputStream);
   }
 
+  /**
+   * Uses the precomputed hash only if the configured strategy supports it, otherwise the raw content is streamed to
+   * the configured strategy.
+   */
+  public String renameBundle(final String originalName, final CacheValue cacheValue)
+      throws IOException {
+    final NamingStrategy strategy = getConfiguredStrategy();
+    if (strategy instanceof HashAwareNamingStrategy) {
+      return ((HashAwareNamingStrategy) strategy).renameBundle(originalName, cacheValue);
+    }
+    final String content = cacheValue.getRawContent() == null ? "" : cacheValue.getRawContent();
+    return strategy.rename(originalName, new ByteArrayInputStream(content.getBytes()));
+  }
+
   @Override
   protected NamingStrategy getDefaultStrategy() {
     return new NoOpNamingStrategy();
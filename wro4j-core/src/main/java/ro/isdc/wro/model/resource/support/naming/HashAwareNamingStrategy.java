@@ -0,0 +1,33 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.resource.support.naming;
+
+import java.io.IOException;
+
+import ro.isdc.wro.cache.CacheValue;
+
+
+/**
+ * A {@link NamingStrategy} which is able to rename a processed bundle using the hash already computed and carried by
+ * the {@link CacheValue}. This avoids reading (and hashing) the same content once again when the bundle is renamed.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public interface HashAwareNamingStrategy
+    extends NamingStrategy {
+  /**
+   * Creates a new name of the bundle which encodes a version, reusing the hash of the processed content when possible.
+   *
+   * @param originalName
+   *          original name of the bundle.
+   * @param cacheValue
+   *          the processed bundle holding the content and its hash.
+   * @return new name of the bundle with version encoded.
+   * @throws IOException
+   *           if the hash had to be computed and the content could not be read.
+   */
+  String renameBundle(final String originalName, final CacheValue cacheValue)
+      throws IOException;
+}
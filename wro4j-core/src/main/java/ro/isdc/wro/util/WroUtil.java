@@ -16,6 +16,8 @@ import java.util.Locale;
 import java.util.Properties;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
@@ -47,6 +49,8 @@ import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
  */
 public final class WroUtil {
   private static final String SEPARATOR_WINDOWS = "\\";
+  private static final String REGEX_SPECIAL_CHARS = "\\.[]{}()*+?^$|";
+  private static final ConcurrentMap<String, Pattern> URL_PATTERNS = new ConcurrentHashMap<String, Pattern>();
   /**
    * Empty line pattern.
    */
@@ -260,14 +264,35 @@ public final class WroUtil {
    * Utility used to verify that requestURI matches provided path
    */
   public static boolean matchesUrl(final HttpServletRequest request, final String path) {
-    final Pattern pattern = Pattern.compile(".*" + path + "[/]?", Pattern.CASE_INSENSITIVE);
-    if (request.getRequestURI() != null) {
-      final Matcher m = pattern.matcher(request.getRequestURI());
-      return m.matches();
+    final String requestUri = request.getRequestURI();
+    if (requestUri != null) {
+      if (StringUtils.containsAny(path, REGEX_SPECIAL_CHARS)) {
+        return getUrlPattern(path).matcher(requestUri).matches();
+      }
+      // a plain path doesn't need a regex: check if the uri ends with the path, optionally followed by a slash.
+      final int end = requestUri.endsWith("/") ? requestUri.length() - 1 : requestUri.length();
+      return endsWithIgnoreCase(requestUri, end, path) || endsWithIgnoreCase(requestUri, requestUri.length(), path);
     }
     return false;
   }
 
+  private static boolean endsWithIgnoreCase(final String value, final int end, final String suffix) {
+    return value.regionMatches(true, end - suffix.length(), suffix, 0, suffix.length());
+  }
+
+  /**
+   * @return the compiled pattern used to match a path containing regex special characters. Patterns are compiled once
+   *         per path.
+   */
+  private static Pattern getUrlPattern(final String path) {
+    Pattern pattern = URL_PATTERNS.get(path);
+    if (pattern == null) {
+      pattern = Pattern.compile(".*" + path + "[/]?", Pattern.CASE_INSENSITIVE);
+      URL_PATTERNS.putIfAbsent(path, pattern);
+    }
+    return pattern;
+  }
+
   /**
    * A factory method for creating a {@link ResourceProcessor} based on provided {@link ResourcePreProcessor}.
    *
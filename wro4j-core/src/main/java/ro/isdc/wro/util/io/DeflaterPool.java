@@ -0,0 +1,94 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.util.io;
+
+import static org.apache.commons.lang3.Validate.isTrue;
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+
+/**
+ * A bounded pool of {@link Deflater} instances producing raw deflate data (no zlib wrapper, as required by the gzip
+ * format). Creating a {@link Deflater} allocates native memory, which is expensive to do for each compressed response.
+ * When the pool is full, released instances are ended instead of being kept.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class DeflaterPool {
+  /**
+   * Default maximum number of idle instances kept by the pool.
+   */
+  public static final int DEFAULT_MAX_IDLE = Runtime.getRuntime().availableProcessors() * 2;
+  private final Queue<Deflater> idle = new ConcurrentLinkedQueue<Deflater>();
+  private final AtomicInteger idleCount = new AtomicInteger();
+  private final int maxIdle;
+  private final int level;
+
+  public DeflaterPool() {
+    this(DEFAULT_MAX_IDLE, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  /**
+   * @param maxIdle
+   *          the maximum number of idle instances kept by the pool.
+   * @param level
+   *          the compression level of created {@link Deflater} instances.
+   */
+  public DeflaterPool(final int maxIdle, final int level) {
+    isTrue(maxIdle >= 0, "maxIdle cannot be negative");
+    this.maxIdle = maxIdle;
+    this.level = level;
+  }
+
+  /**
+   * @return an idle {@link Deflater} or a new one if there is no idle instance available. The returned instance must be
+   *         given back using {@link #release(Deflater)}.
+   */
+  public Deflater acquire() {
+    final Deflater deflater = idle.poll();
+    if (deflater != null) {
+      idleCount.decrementAndGet();
+      return deflater;
+    }
+    return new Deflater(level, true);
+  }
+
+  /**
+   * Gives back an instance obtained with {@link #acquire()}.
+   */
+  public void release(final Deflater deflater) {
+    notNull(deflater);
+    if (idleCount.incrementAndGet() <= maxIdle) {
+      deflater.reset();
+      idle.offer(deflater);
+    } else {
+      idleCount.decrementAndGet();
+      deflater.end();
+    }
+  }
+
+  /**
+   * @return the number of idle instances.
+   */
+  public int getIdleCount() {
+    return idleCount.get();
+  }
+
+  /**
+   * Ends all idle instances.
+   */
+  public void destroy() {
+    Deflater deflater = idle.poll();
+    while (deflater != null) {
+      idleCount.decrementAndGet();
+      deflater.end();
+      deflater = idle.poll();
+    }
+  }
+}
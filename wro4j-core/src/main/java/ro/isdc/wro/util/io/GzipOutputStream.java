@@ -0,0 +1,113 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.util.io;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/**
+ * Writes data in gzip format (same output as {@link GZIPOutputStream}) using a {@link java.util.zip.Deflater} borrowed
+ * from a {@link DeflaterPool}. The deflater is given back to the pool when the stream is closed or aborted.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public class GzipOutputStream
+    extends DeflaterOutputStream {
+  private static final int BUFFER_SIZE = 8192;
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final byte[] HEADER = {
+    (byte) GZIP_MAGIC, // Magic number (short)
+    (byte) (GZIP_MAGIC >> 8), // Magic number (short)
+    8, // Compression method (CM) : deflate
+    0, // Flags (FLG)
+    0, // Modification time MTIME (int)
+    0, // Modification time MTIME (int)
+    0, // Modification time MTIME (int)
+    0, // Modification time MTIME (int)
+    0, // Extra flags (XFLG)
+    0 // Operating system (OS)
+  };
+  private final CRC32 crc = new CRC32();
+  private final DeflaterPool deflaterPool;
+  private boolean closed;
+
+  public GzipOutputStream(final OutputStream out, final DeflaterPool deflaterPool)
+      throws IOException {
+    super(out, deflaterPool.acquire(), BUFFER_SIZE);
+    notNull(deflaterPool);
+    this.deflaterPool = deflaterPool;
+    boolean headerWritten = false;
+    try {
+      out.write(HEADER);
+      headerWritten = true;
+    } finally {
+      if (!headerWritten) {
+        abort();
+      }
+    }
+  }
+
+  @Override
+  public void write(final byte[] b, final int off, final int len)
+      throws IOException {
+    super.write(b, off, len);
+    crc.update(b, off, len);
+  }
+
+  /**
+   * Finishes writing compressed data (including the gzip trailer) without closing the underlying stream.
+   */
+  @Override
+  public void finish()
+      throws IOException {
+    if (!def.finished()) {
+      super.finish();
+      writeInt((int) crc.getValue());
+      writeInt(def.getTotalIn());
+    }
+  }
+
+  /**
+   * Writes an integer in little-endian order.
+   */
+  private void writeInt(final int value)
+      throws IOException {
+    out.write(value & 0xff);
+    out.write((value >> 8) & 0xff);
+    out.write((value >> 16) & 0xff);
+    out.write((value >> 24) & 0xff);
+  }
+
+  @Override
+  public void close()
+      throws IOException {
+    if (!closed) {
+      closed = true;
+      try {
+        finish();
+        out.close();
+      } finally {
+        deflaterPool.release(def);
+      }
+    }
+  }
+
+  /**
+   * Gives back the deflater to the pool without writing the end of the gzip stream. Used when the compressed content
+   * cannot be completed (ex: the response failed). Has no effect if the stream is already closed.
+   */
+  public void abort() {
+    if (!closed) {
+      closed = true;
+      deflaterPool.release(def);
+    }
+  }
+}
@@ -56,6 +56,19 @@ public class TestCacheValue {
     Assert.assertNotNull(entry.getGzippedContent());
   }
 
+  @Test
+  public void shouldEncodeRawContentOncePerEncoding()
+      throws Exception {
+    final CacheValue entry = CacheValue.valueOf(RAW_CONTENT, "hash");
+    final byte[] encoded = entry.getEncodedContent("UTF-8");
+    Assert.assertArrayEquals(RAW_CONTENT.getBytes("UTF-8"), encoded);
+    Assert.assertSame(encoded, entry.getEncodedContent("UTF-8"));
+    Assert.assertNotSame(encoded, entry.getEncodedContent("UTF-16"));
+
+    entry.setRawContent("other");
+    Assert.assertArrayEquals("other".getBytes("UTF-8"), entry.getEncodedContent("UTF-8"));
+  }
+
   @After
   public void tearDown() {
     Context.unset();
@@ -0,0 +1,201 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.cache.distributed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.util.ObjectFactory;
+import ro.isdc.wro.util.WroUtil;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestDistributedCacheStrategy {
+  private static final CacheKey KEY = new CacheKey("g1", ResourceType.JS, true);
+  private File directory;
+  private SharedCacheStore store;
+  private DistributedCacheStrategy node1;
+  private DistributedCacheStrategy node2;
+  private AtomicInteger loadCount;
+
+  @Before
+  public void setUp() {
+    Context.set(Context.standaloneContext());
+    directory = WroUtil.createTempDirectory();
+    store = new FileSystemSharedCacheStore(directory);
+    node1 = new DistributedCacheStrategy(store).setPollInterval(10);
+    node2 = new DistributedCacheStrategy(store).setPollInterval(10);
+    loadCount = new AtomicInteger();
+  }
+
+  @After
+  public void tearDown() {
+    FileUtils.deleteQuietly(directory);
+    Context.unset();
+  }
+
+  private ObjectFactory<CacheValue> createLoader(final String content) {
+    return new ObjectFactory<CacheValue>() {
+      public CacheValue create() {
+        loadCount.incrementAndGet();
+        return CacheValue.valueOf(content, content + "Hash");
+      }
+    };
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void cannotUseNullStore() {
+    new DistributedCacheStrategy(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void cannotUseNegativeLeaseDuration() {
+    node1.setLeaseDuration(-1);
+  }
+
+  @Test
+  public void shouldReuseValueProcessedByAnotherNode() {
+    final CacheValue value = node1.load(KEY, createLoader("content"));
+    node1.put(KEY, value);
+
+    assertEquals("content", node2.load(KEY, createLoader("other")).getRawContent());
+    assertEquals("content", node2.get(KEY).getRawContent());
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldGetValuePublishedByAnotherNode() {
+    assertNull(node2.get(KEY));
+    node1.put(KEY, CacheValue.valueOf("content", "hash"));
+    assertEquals("hash", node2.get(KEY).getHash());
+  }
+
+  @Test
+  public void shouldNotReuseStaleValueWhenRefreshing() {
+    final CacheValue staleValue = CacheValue.valueOf("stale", "staleHash");
+    node1.put(KEY, staleValue);
+    node2.get(KEY);
+
+    assertEquals("fresh", node2.load(KEY, createLoader("fresh")).getRawContent());
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldWaitForNodeHoldingTheLease()
+      throws Exception {
+    final String storeKey = "anyKey";
+    assertTrue(store.tryAcquireLease(storeKey, "node1", 60000));
+    assertFalse(store.tryAcquireLease(storeKey, "node2", 60000));
+    // renewed by the same owner
+    assertTrue(store.tryAcquireLease(storeKey, "node1", 60000));
+    store.releaseLease(storeKey, "node1");
+    assertTrue(store.tryAcquireLease(storeKey, "node2", 60000));
+  }
+
+  @Test
+  public void shouldAcquireExpiredLease()
+      throws Exception {
+    assertTrue(store.tryAcquireLease("key", "node1", 1));
+    Thread.sleep(10);
+    assertTrue(store.tryAcquireLease("key", "node2", 60000));
+  }
+
+  @Test
+  public void shouldProcessOnceWhenLoadedConcurrently()
+      throws Exception {
+    final CacheValue processedValue = CacheValue.valueOf("content", "hash");
+    final ObjectFactory<CacheValue> slowLoader = new ObjectFactory<CacheValue>() {
+      public CacheValue create() {
+        loadCount.incrementAndGet();
+        try {
+          Thread.sleep(100);
+        } catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return processedValue;
+      }
+    };
+    final Thread thread = new Thread() {
+      @Override
+      public void run() {
+        node1.put(KEY, node1.load(KEY, slowLoader));
+      }
+    };
+    thread.start();
+    // give the first node the chance to acquire the lease
+    Thread.sleep(30);
+    final CacheValue value = node2.load(KEY, slowLoader);
+    thread.join();
+
+    assertEquals("hash", value.getHash());
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldRemoveSharedValueWhenNullIsPut() {
+    node1.put(KEY, CacheValue.valueOf("content", "hash"));
+    node1.put(KEY, null);
+    assertNull(node2.get(KEY));
+  }
+
+  @Test
+  public void shouldReuseValuePublishedAgainWithSameHash() {
+    node1.put(KEY, CacheValue.valueOf("content", "hash"));
+    node2.get(KEY);
+    // processed again by the first node, with the same result
+    node1.put(KEY, CacheValue.valueOf("content", "hash"));
+
+    assertEquals("content", node2.load(KEY, createLoader("other")).getRawContent());
+    assertEquals(0, loadCount.get());
+  }
+
+  @Test
+  public void shouldClearOnlyTheLocalCache() {
+    node1.put(KEY, CacheValue.valueOf("content", "hash"));
+    node2.get(KEY);
+    node1.clear();
+
+    assertNull(node1.get(KEY));
+    assertEquals("hash", node2.get(KEY).getHash());
+    assertEquals("fresh", node1.load(KEY, createLoader("fresh")).getRawContent());
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldReuseValueProcessedByAnotherNodeAfterClear() {
+    node1.put(KEY, CacheValue.valueOf("content", "hash"));
+    node2.get(KEY);
+    node1.clear();
+    node1.put(KEY, node1.load(KEY, createLoader("fresh")));
+    node2.clear();
+
+    assertEquals("fresh", node2.load(KEY, createLoader("other")).getRawContent());
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldNotReleaseLeasesOfOtherNodesWhenCleared()
+      throws Exception {
+    assertTrue(store.tryAcquireLease("key", "node2", 60000));
+    node1.put(KEY, CacheValue.valueOf("content", "hash"));
+    node1.clear();
+    assertFalse(store.tryAcquireLease("key", "node1", 60000));
+  }
+}
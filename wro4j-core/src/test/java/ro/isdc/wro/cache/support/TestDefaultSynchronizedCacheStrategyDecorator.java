@@ -70,6 +70,11 @@ public class TestDefaultSynchronizedCacheStrategyDecorator {
         // use milliseconds to make test faster
         return TimeUnit.MILLISECONDS;
       }
+
+      @Override
+      void submitRefresh(final Runnable task) {
+        task.run();
+      }
     };
     createInjector().inject(victim);
   }
@@ -203,6 +208,25 @@ public class TestDefaultSynchronizedCacheStrategyDecorator {
     assertTrue(victim.wasCheckedForChange(key));
   }
 
+  @Test
+  public void shouldNotProcessAgainUnchangedGroupWhenRefreshAheadEnabled() {
+    Context.get().getConfig().setCacheRefreshAhead(true);
+    final CacheKey key = new CacheKey(GROUP_NAME, ResourceType.JS, true);
+    final CacheValue value = victim.get(key);
+    victim.markStale();
+    assertSame(value, victim.get(key));
+  }
+
+  @Test
+  public void shouldProcessAgainStaleGroupWithoutFingerprint() {
+    final CacheKey key = new CacheKey(GROUP_NAME, ResourceType.JS, true);
+    final CacheValue value = victim.get(key);
+    victim.markStale();
+    // served while the refresh is in progress
+    assertSame(value, victim.get(key));
+    assertNotSame(value, victim.get(key));
+  }
+
   @Test
   public void shouldReloadCacheWhenExpired()
       throws IOException {
@@ -2,6 +2,8 @@ package ro.isdc.wro.cache.support;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -26,6 +28,21 @@ public class TestSynchronizedCacheStrategyDecorator {
   private CacheStrategy<String, String> decorated;
   private AbstractSynchronizedCacheStrategyDecorator<String, String> victim;
   private ExecutorService executor;
+
+  /**
+   * Runs the refresh of stale values synchronously.
+   */
+  private static abstract class SynchronousRefreshDecorator<K, V>
+      extends AbstractSynchronizedCacheStrategyDecorator<K, V> {
+    public SynchronousRefreshDecorator(final CacheStrategy<K, V> decorated) {
+      super(decorated);
+    }
+
+    @Override
+    void submitRefresh(final Runnable task) {
+      task.run();
+    }
+  }
   
   @BeforeClass
   public static void onBeforeClass() {
@@ -112,6 +129,180 @@ public class TestSynchronizedCacheStrategyDecorator {
     Assert.assertEquals("value-" + reloadWhenCountEqual, victim.get(key));
   }
   
+  @Test
+  public void shouldServeReloadedValueAfterMarkStale() {
+    final AtomicInteger count = createCountingDecorator(true);
+    final String key = "key";
+    Assert.assertEquals("value-1", victim.get(key));
+    Assert.assertEquals("value-1", victim.get(key));
+    victim.markStale();
+    // the stale value is served by the access which triggers the refresh
+    Assert.assertEquals("value-1", victim.get(key));
+    Assert.assertEquals("value-2", victim.get(key));
+    Assert.assertEquals("value-2", victim.get(key));
+    Assert.assertEquals(2, count.get());
+  }
+
+  @Test
+  public void shouldServeStaleValueWhenRefreshIsNotRequired() {
+    final AtomicInteger count = createCountingDecorator(false);
+    final String key = "key";
+    victim.get(key);
+    victim.markStale();
+    Assert.assertEquals("value-1", victim.get(key));
+    Assert.assertEquals(1, count.get());
+  }
+
+  @Test
+  public void shouldServeStaleValueWhenRefreshFails() {
+    victim = new SynchronousRefreshDecorator<String, String>(decorated) {
+      private boolean loaded;
+
+      @Override
+      protected String loadValue(final String key) {
+        if (loaded) {
+          throw new IllegalStateException("BOOM");
+        }
+        loaded = true;
+        return "value";
+      }
+
+      @Override
+      protected boolean isCacheExpired(final String key) {
+        return false;
+      }
+    };
+    final String key = "key";
+    victim.get(key);
+    victim.markStale();
+    Assert.assertEquals("value", victim.get(key));
+  }
+
+  @Test
+  public void shouldRetryRefreshWhenPreviousRefreshFailed() {
+    final AtomicInteger count = new AtomicInteger();
+    victim = new SynchronousRefreshDecorator<String, String>(decorated) {
+      @Override
+      protected String loadValue(final String key) {
+        if (count.incrementAndGet() == 2) {
+          throw new IllegalStateException("BOOM");
+        }
+        return "value-" + count.get();
+      }
+
+      @Override
+      protected boolean isCacheExpired(final String key) {
+        return false;
+      }
+    };
+    final String key = "key";
+    victim.get(key);
+    victim.markStale();
+    Assert.assertEquals("value-1", victim.get(key));
+    Assert.assertEquals("value-1", victim.get(key));
+    Assert.assertEquals("value-3", victim.get(key));
+    Assert.assertEquals(3, count.get());
+  }
+
+  @Test
+  public void shouldNotStoreRefreshedValueWhenClearedDuringRefresh() {
+    final AtomicInteger count = new AtomicInteger();
+    victim = new SynchronousRefreshDecorator<String, String>(decorated) {
+      @Override
+      protected String loadValue(final String key) {
+        if (count.incrementAndGet() == 2) {
+          clear();
+        }
+        return "value-" + count.get();
+      }
+
+      @Override
+      protected boolean isCacheExpired(final String key) {
+        return false;
+      }
+    };
+    final String key = "key";
+    victim.get(key);
+    victim.markStale();
+    Assert.assertEquals("value-1", victim.get(key));
+    Assert.assertEquals(2, count.get());
+    Assert.assertNull(decorated.get(key));
+    Assert.assertEquals("value-3", victim.get(key));
+  }
+
+  @Test
+  public void shouldServeStaleValueWithoutWaitingForTheRefresh()
+      throws Exception {
+    final CountDownLatch refreshStarted = new CountDownLatch(1);
+    final CountDownLatch refreshAllowed = new CountDownLatch(1);
+    final AtomicInteger count = new AtomicInteger();
+    victim = new AbstractSynchronizedCacheStrategyDecorator<String, String>(decorated) {
+      @Override
+      protected String loadValue(final String key) {
+        if (count.incrementAndGet() == 2) {
+          refreshStarted.countDown();
+          try {
+            refreshAllowed.await(5, TimeUnit.SECONDS);
+          } catch (final InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        }
+        return "value-" + count.get();
+      }
+
+      @Override
+      protected boolean isCacheExpired(final String key) {
+        return false;
+      }
+    };
+    final String key = "key";
+    try {
+      victim.get(key);
+      victim.markStale();
+      Assert.assertEquals("value-1", victim.get(key));
+      Assert.assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+      // the refresh is blocked in loadValue
+      final long start = System.currentTimeMillis();
+      Assert.assertEquals("value-1", executor.submit(new Callable<String>() {
+        public String call() {
+          return victim.get(key);
+        }
+      }).get(1, TimeUnit.SECONDS));
+      Assert.assertTrue(System.currentTimeMillis() - start < 1000);
+      refreshAllowed.countDown();
+      final long timeout = System.currentTimeMillis() + 5000;
+      while (!"value-2".equals(victim.get(key)) && System.currentTimeMillis() < timeout) {
+        Thread.sleep(10);
+      }
+      Assert.assertEquals("value-2", victim.get(key));
+      Assert.assertEquals(2, count.get());
+    } finally {
+      refreshAllowed.countDown();
+      victim.destroy();
+    }
+  }
+
+  private AtomicInteger createCountingDecorator(final boolean refreshRequired) {
+    final AtomicInteger count = new AtomicInteger();
+    victim = new SynchronousRefreshDecorator<String, String>(decorated) {
+      @Override
+      protected String loadValue(final String key) {
+        return "value-" + count.incrementAndGet();
+      }
+
+      @Override
+      protected boolean isCacheExpired(final String key) {
+        return false;
+      }
+
+      @Override
+      protected boolean isRefreshRequired(final String key) {
+        return refreshRequired;
+      }
+    };
+    return count;
+  }
+
   protected AtomicInteger createSlowCountingDecorator() {
     final AtomicInteger count = new AtomicInteger();
     victim = new AbstractSynchronizedCacheStrategyDecorator<String, String>(decorated) {
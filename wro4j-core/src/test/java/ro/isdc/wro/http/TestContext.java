@@ -4,6 +4,9 @@
 package ro.isdc.wro.http;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Enumeration;
 
@@ -68,6 +71,34 @@ public class TestContext {
     Context.set(null);
   }
   
+  @Test
+  public void shouldNotAccessContextOfUnknownCorrelationId() {
+    final String correlationId = Context.getCorrelationId();
+    Context.setCorrelationId("unknown");
+    assertFalse(Context.isContextSet());
+    Context.setCorrelationId(correlationId);
+    assertTrue(Context.isContextSet());
+  }
+
+  @Test
+  public void shouldAccessContextFromThreadUsingSameCorrelationId()
+      throws Exception {
+    final Context context = Context.get();
+    final String correlationId = Context.getCorrelationId();
+    final Context[] contextFromThread = new Context[1];
+    final Thread thread = new Thread() {
+      @Override
+      public void run() {
+        Context.setCorrelationId(correlationId);
+        contextFromThread[0] = Context.get();
+        Context.unsetCorrelationId();
+      }
+    };
+    thread.start();
+    thread.join();
+    assertSame(context, contextFromThread[0]);
+  }
+
   @After
   public void tearDown() {
     Context.unset();
@@ -18,6 +18,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -88,6 +89,7 @@ public class TestGzipFilter {
       throws Exception {
     victim.doFilter(mockRequest, mockResponse, mockFilterChain);
     verify(mockFilterChain, Mockito.times(1)).doFilter(mockRequest, mockResponse);
+    verify(mockResponse).setHeader("Vary", "Accept-Encoding");
   }
   
   @Test
@@ -111,8 +113,96 @@ public class TestGzipFilter {
     final InputStream ungzippedStream = new GZIPInputStream(new ByteArrayInputStream(targetStream.toByteArray()));
     
     assertEquals(content, IOUtils.toString(ungzippedStream));
+    verify(mockResponse).setHeader("Vary", "Accept-Encoding");
+  }
+
+  @Test
+  public void shouldSetVaryHeaderWhenContentTypeIsNotGzipped()
+      throws Exception {
+    markGzipAsAllowed();
+    Mockito.doAnswer(new Answer<Void>() {
+      public Void answer(final InvocationOnMock invocation)
+          throws Throwable {
+        final ServletResponse response = (ServletResponse) invocation.getArguments()[1];
+        response.setContentType("image/png");
+        response.getOutputStream().write("png".getBytes());
+        return null;
+      }
+    }).when(mockFilterChain).doFilter(Mockito.any(HttpServletRequest.class), Mockito.any(HttpServletResponse.class));
+
+    victim.doFilter(mockRequest, mockResponse, mockFilterChain);
+
+    verify(mockResponse, Mockito.never()).setHeader("Content-Encoding", "gzip");
+    verify(mockResponse).setHeader("Vary", "Accept-Encoding");
   }
   
+  @Test
+  public void shouldSetContentLengthOfGzippedContentWhenBelowThreshold()
+      throws Exception {
+    markGzipAsAllowed();
+    final ByteArrayOutputStream targetStream = new ByteArrayOutputStream();
+    when(mockRequest.getInputStream()).thenReturn(
+        new DelegatingServletInputStream(new ByteArrayInputStream("sampleContent".getBytes())));
+    when(mockResponse.getOutputStream()).thenReturn(new DelegatingServletOutputStream(targetStream));
+
+    victim.doFilter(mockRequest, mockResponse, mockFilterChain);
+
+    verify(mockResponse).setHeader("Content-Encoding", "gzip");
+    verify(mockResponse).setContentLength(targetStream.size());
+  }
+
+  @Test
+  public void shouldStreamGzippedContentWhenAboveThreshold()
+      throws Exception {
+    markGzipAsAllowed();
+    final String content = StringUtils.repeat("sampleContent", GzipFilter.DEFAULT_BUFFER_THRESHOLD);
+    final ByteArrayOutputStream targetStream = new ByteArrayOutputStream();
+    when(mockRequest.getInputStream()).thenReturn(
+        new DelegatingServletInputStream(new ByteArrayInputStream(content.getBytes())));
+    when(mockResponse.getOutputStream()).thenReturn(new DelegatingServletOutputStream(targetStream));
+
+    victim.doFilter(mockRequest, mockResponse, mockFilterChain);
+
+    verify(mockResponse).setHeader("Content-Encoding", "gzip");
+    verify(mockResponse, Mockito.never()).setContentLength(Mockito.anyInt());
+    final InputStream ungzippedStream = new GZIPInputStream(new ByteArrayInputStream(targetStream.toByteArray()));
+    assertEquals(content, IOUtils.toString(ungzippedStream));
+  }
+
+  @Test
+  public void shouldNotGzipAlreadyCompressedContentType()
+      throws Exception {
+    markGzipAsAllowed();
+    final ByteArrayOutputStream targetStream = new ByteArrayOutputStream();
+    when(mockResponse.getOutputStream()).thenReturn(new DelegatingServletOutputStream(targetStream));
+    Mockito.doAnswer(new Answer<Void>() {
+      public Void answer(final InvocationOnMock invocation)
+          throws Throwable {
+        final ServletResponse response = (ServletResponse) invocation.getArguments()[1];
+        response.setContentType("image/png");
+        response.getOutputStream().write("png".getBytes());
+        return null;
+      }
+    }).when(mockFilterChain).doFilter(Mockito.any(HttpServletRequest.class), Mockito.any(HttpServletResponse.class));
+
+    victim.doFilter(mockRequest, mockResponse, mockFilterChain);
+
+    verify(mockResponse, Mockito.never()).setHeader("Content-Encoding", "gzip");
+    assertEquals("png", new String(targetStream.toByteArray()));
+  }
+
+  @Test
+  public void shouldNotWriteAnythingForEmptyContent()
+      throws Exception {
+    markGzipAsAllowed();
+    final ByteArrayOutputStream targetStream = new ByteArrayOutputStream();
+    when(mockResponse.getOutputStream()).thenReturn(new DelegatingServletOutputStream(targetStream));
+
+    victim.doFilter(mockRequest, mockResponse, mockFilterChain);
+
+    assertEquals(0, targetStream.size());
+  }
+
   private void markGzipAsAllowed() {
     final String headerName = "Accept-Encoding";
     when(mockRequest.getHeaderNames()).thenReturn(Collections.enumeration(Arrays.asList(headerName)));
@@ -4,19 +4,28 @@
 package ro.isdc.wro.http;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static ro.isdc.wro.http.handler.ResourceProxyRequestHandler.PARAM_RESOURCE_ID;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
@@ -25,10 +34,13 @@ import javax.servlet.FilterConfig;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Assert;
@@ -38,6 +50,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import ro.isdc.wro.WroRuntimeException;
 import ro.isdc.wro.cache.CacheKey;
@@ -60,6 +74,7 @@ import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
 import ro.isdc.wro.manager.factory.ConfigurableWroManagerFactory;
 import ro.isdc.wro.manager.factory.DefaultWroManagerFactory;
 import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.WroModel;
 import ro.isdc.wro.model.factory.WroModelFactory;
 import ro.isdc.wro.model.factory.XmlModelFactory;
@@ -68,6 +83,7 @@ import ro.isdc.wro.model.group.InvalidGroupNameException;
 import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.group.processor.InjectorBuilder;
 import ro.isdc.wro.model.resource.locator.UriLocator;
+import ro.isdc.wro.model.resource.locator.factory.AbstractUriLocatorFactory;
 import ro.isdc.wro.model.resource.locator.factory.UriLocatorFactory;
 import ro.isdc.wro.model.resource.locator.support.DispatcherStreamLocator;
 import ro.isdc.wro.model.resource.processor.factory.ConfigurableProcessorsFactory;
@@ -148,7 +164,7 @@ public class TestWroFilter {
     victim.setWroManagerFactory(mockManagerFactory);
   }
 
-  private WroManagerFactory createValidManagerFactory() {
+  private BaseWroManagerFactory createValidManagerFactory() {
     return new BaseWroManagerFactory().setModelFactory(createValidModelFactory());
   }
 
@@ -837,6 +853,149 @@ public class TestWroFilter {
     assertEquals(1, factory.create().getProcessorsFactory().getPreProcessors().size());
   }
 
+  /**
+   * A request exposing the async methods of a Servlet 3.0 request.
+   */
+  public static abstract class AsyncHttpServletRequest
+      implements HttpServletRequest {
+    public abstract boolean isAsyncSupported();
+
+    public abstract AsyncContextStub startAsync();
+  }
+
+  public static interface AsyncContextStub {
+    void setTimeout(long timeout);
+
+    void complete();
+  }
+
+  private AsyncHttpServletRequest createAsyncRequest(final String requestUri, final CountDownLatch completed) {
+    final AsyncHttpServletRequest request = mock(AsyncHttpServletRequest.class);
+    final AsyncContextStub asyncContext = mock(AsyncContextStub.class);
+    when(request.getRequestURI()).thenReturn(requestUri);
+    when(request.isAsyncSupported()).thenReturn(true);
+    when(request.startAsync()).thenReturn(asyncContext);
+    Mockito.doAnswer(new Answer<Void>() {
+      public Void answer(final InvocationOnMock invocation) {
+        completed.countDown();
+        return null;
+      }
+    }).when(asyncContext).complete();
+    return request;
+  }
+
+  private void initAsyncFilter(final WroManagerFactory managerFactory, final long asyncTimeout)
+      throws Exception {
+    final WroConfiguration config = new WroConfiguration();
+    config.setAsyncEnabled(true);
+    config.setAsyncTimeout(asyncTimeout);
+    victim.setConfiguration(config);
+    victim.setWroManagerFactory(managerFactory);
+    victim.init(mockFilterConfig);
+  }
+
+  @Test
+  public void shouldProcessOnlyCacheMissesAsynchronously()
+      throws Exception {
+    initAsyncFilter(createValidManagerFactory(), WroConfiguration.DEFAULT_ASYNC_TIMEOUT);
+    final CountDownLatch completed = new CountDownLatch(1);
+    final AsyncHttpServletRequest request = createAsyncRequest("/g2.css", completed);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    when(mockResponse.getOutputStream()).thenReturn(new DelegatingServletOutputStream(out));
+
+    victim.doFilter(request, mockResponse, mockFilterChain);
+    assertTrue(completed.await(5, TimeUnit.SECONDS));
+    final String asyncContent = out.toString();
+    assertTrue(asyncContent.length() > 0);
+
+    out.reset();
+    victim.doFilter(request, mockResponse, mockFilterChain);
+    assertEquals(asyncContent, out.toString());
+    verify(request, times(1)).startAsync();
+  }
+
+  @Test
+  public void shouldRespondWithServiceUnavailableWhenAsyncProcessingTimesOut()
+      throws Exception {
+    final UriLocatorFactory slowLocatorFactory = new AbstractUriLocatorFactory() {
+      public UriLocator getInstance(final String uri) {
+        return new UriLocator() {
+          public InputStream locate(final String uri)
+              throws IOException {
+            try {
+              Thread.sleep(500);
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return new ByteArrayInputStream(uri.getBytes());
+          }
+
+          public boolean accept(final String uri) {
+            return true;
+          }
+        };
+      }
+    };
+    initAsyncFilter(createValidManagerFactory().setUriLocatorFactory(slowLocatorFactory), 20);
+    final CountDownLatch completed = new CountDownLatch(1);
+    victim.doFilter(createAsyncRequest("/g2.css", completed), mockResponse, mockFilterChain);
+
+    assertTrue(completed.await(5, TimeUnit.SECONDS));
+    verify(mockResponse).sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+  }
+
+  @Test
+  public void shouldProcessSynchronouslyWhenAsyncIsNotSupported()
+      throws Exception {
+    initAsyncFilter(createValidManagerFactory(), WroConfiguration.DEFAULT_ASYNC_TIMEOUT);
+    final AsyncHttpServletRequest request = createAsyncRequest("/g2.css", new CountDownLatch(1));
+    when(request.isAsyncSupported()).thenReturn(false);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    when(mockResponse.getOutputStream()).thenReturn(new DelegatingServletOutputStream(out));
+
+    victim.doFilter(request, mockResponse, mockFilterChain);
+
+    assertTrue(out.size() > 0);
+    verify(request, times(0)).startAsync();
+  }
+
+  @Test
+  public void shouldEnableMetricsWhenConfigurationIsChanged()
+      throws Exception {
+    final WroManagerFactory managerFactory = createValidManagerFactory();
+    final WroConfiguration config = new WroConfiguration();
+    victim.setConfiguration(config);
+    victim.setWroManagerFactory(managerFactory);
+    victim.init(mockFilterConfig);
+    final MetricsRegistry metricsRegistry = managerFactory.create().getMetricsRegistry();
+
+    config.setMetricsEnabled(true);
+    assertTrue(metricsRegistry.isEnabled());
+    config.setMetricsEnabled(false);
+    assertFalse(metricsRegistry.isEnabled());
+  }
+
+  @Test
+  public void shouldProcessSynchronouslyBehindGzipFilter()
+      throws Exception {
+    initAsyncFilter(createValidManagerFactory(), WroConfiguration.DEFAULT_ASYNC_TIMEOUT);
+    final AsyncHttpServletRequest request = createAsyncRequest("/g2.css", new CountDownLatch(1));
+    when(request.getHeaderNames()).thenReturn(Collections.enumeration(Arrays.asList("Accept-Encoding")));
+    when(request.getHeader("Accept-Encoding")).thenReturn("gzip");
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    when(mockResponse.getOutputStream()).thenReturn(new DelegatingServletOutputStream(out));
+
+    new GzipFilter().doFilter(request, mockResponse, new FilterChain() {
+      public void doFilter(final ServletRequest req, final ServletResponse res)
+          throws IOException, ServletException {
+        victim.doFilter(req, res, mockFilterChain);
+      }
+    });
+
+    verify(request, times(0)).startAsync();
+    assertTrue(IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))).length() > 0);
+  }
+
   @Test
   public void shouldNotFailWhenInvokedConcurrently() throws Exception {
     final String requestUri = "/folder/g1.css";
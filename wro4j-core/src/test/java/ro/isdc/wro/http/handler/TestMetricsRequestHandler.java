@@ -0,0 +1,105 @@
+package ro.isdc.wro.http.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import javax.servlet.FilterConfig;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
+import ro.isdc.wro.model.group.processor.InjectorBuilder;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestMetricsRequestHandler {
+  private MetricsRequestHandler victim;
+  private MetricsRegistry metricsRegistry;
+  @Mock
+  private HttpServletRequest request;
+  @Mock
+  private HttpServletResponse response;
+
+  @BeforeClass
+  public static void onBeforeClass() {
+    assertEquals(0, Context.countActive());
+  }
+
+  @AfterClass
+  public static void onAfterClass() {
+    assertEquals(0, Context.countActive());
+  }
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    victim = new MetricsRequestHandler();
+    Context.set(Context.webContext(request, response, mock(FilterConfig.class)));
+    final BaseWroManagerFactory managerFactory = new BaseWroManagerFactory();
+    metricsRegistry = managerFactory.create().getMetricsRegistry();
+    InjectorBuilder.create(managerFactory).build().inject(victim);
+  }
+
+  @After
+  public void tearDown() {
+    Context.unset();
+  }
+
+  @Test
+  public void shouldAcceptMetricsRequest() {
+    when(request.getRequestURI()).thenReturn("wroApi/metrics");
+    assertTrue(victim.accept(request));
+  }
+
+  @Test
+  public void shouldNotAcceptOtherRequest() {
+    when(request.getRequestURI()).thenReturn("wroApi/somethingElse");
+    assertFalse(victim.accept(request));
+  }
+
+  @Test
+  public void shouldBeDisabledByDefault() {
+    assertFalse(victim.isEnabled());
+  }
+
+  @Test
+  public void shouldBeEnabledWhenMetricsAreEnabled() {
+    Context.get().getConfig().setMetricsEnabled(true);
+    assertTrue(victim.isEnabled());
+  }
+
+  @Test
+  public void shouldWriteMetricsAsJson()
+      throws Exception {
+    final StringWriter body = new StringWriter();
+    when(response.getWriter()).thenReturn(new PrintWriter(body));
+    metricsRegistry.setEnabled(true);
+    metricsRegistry.stop(MetricsRegistry.CACHE_LOAD, metricsRegistry.start(), true);
+
+    victim.handle(request, response);
+
+    verify(response).setStatus(HttpServletResponse.SC_OK);
+    verify(response).setContentType(MetricsRequestHandler.CONTENT_TYPE);
+    assertEquals(metricsRegistry.toJson(), body.toString());
+    assertTrue(body.toString().contains("\"cache.load\":{\"count\":1"));
+  }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.http.handler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.isdc.wro.http.handler.ProxyResourceCache.ProxyResource;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestProxyResourceCache {
+  private ProxyResourceCache victim;
+
+  @Before
+  public void setUp() {
+    victim = new ProxyResourceCache(10, 5, 2);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntryWhenMaxSizeIsExceeded() {
+    victim.put("a", createResource(5));
+    victim.put("b", createResource(5));
+    victim.get("a", 0);
+    victim.put("c", createResource(5));
+    assertNotNull(victim.get("a", 0));
+    assertNull(victim.get("b", 0));
+    assertEquals(10, victim.getSize());
+  }
+
+  @Test
+  public void shouldBoundTheNumberOfUncacheableEntries() {
+    victim.put("a", ProxyResource.uncacheable());
+    victim.put("b", ProxyResource.uncacheable());
+    victim.put("c", ProxyResource.uncacheable());
+    assertEquals(2, victim.getCount());
+    assertNull(victim.get("a", 0));
+  }
+
+  @Test
+  public void shouldDiscardAllEntriesWhenVersionChanges() {
+    victim.put("a", createResource(1));
+    assertNotNull(victim.get("a", 0));
+    assertNull(victim.get("a", 1));
+    assertEquals(0, victim.getSize());
+    assertEquals(0, victim.getCount());
+  }
+
+  private ProxyResource createResource(final int size) {
+    return new ProxyResource(new byte[size], null, "\"etag\"");
+  }
+}
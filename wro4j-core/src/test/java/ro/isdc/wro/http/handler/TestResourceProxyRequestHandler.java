@@ -4,15 +4,21 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Collections;
 import java.util.Date;
+import java.util.zip.GZIPInputStream;
 
 import javax.servlet.FilterConfig;
 import javax.servlet.ServletContext;
@@ -20,12 +26,15 @@ import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -37,6 +46,7 @@ import ro.isdc.wro.config.Context;
 import ro.isdc.wro.http.support.HttpHeader;
 import ro.isdc.wro.http.support.UnauthorizedRequestException;
 import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.group.processor.InjectorBuilder;
 import ro.isdc.wro.model.resource.locator.ClasspathUriLocator;
@@ -73,6 +83,8 @@ public class TestResourceProxyRequestHandler {
 
   private String packagePath;
 
+  private BaseWroManagerFactory managerFactory;
+
   @BeforeClass
   public static void onBeforeClass() {
     assertEquals(0, Context.countActive());
@@ -92,8 +104,9 @@ public class TestResourceProxyRequestHandler {
     Mockito.when(filterConfig.getServletContext()).thenReturn(servletContext);
     Context.set(Context.webContext(request, response, filterConfig));
     // a more elaborate way to build injector, used to instruct it use a different instance of authorizationManager
-    final Injector injector = new InjectorBuilder(new BaseWroManagerFactory().setUriLocatorFactory(
-        mockUriLocatorFactory).setResourceAuthorizationManager(mockAuthorizationManager)).build();
+    managerFactory = new BaseWroManagerFactory().setUriLocatorFactory(mockUriLocatorFactory).setResourceAuthorizationManager(
+        mockAuthorizationManager);
+    final Injector injector = new InjectorBuilder(managerFactory).build();
     injector.inject(victim);
 
     when(mockUriLocatorFactory.getInstance(anyString())).thenReturn(mockUriLocator);
@@ -172,6 +185,25 @@ public class TestResourceProxyRequestHandler {
     victim.handle(request, response);
   }
 
+  @Test
+  public void shouldRecordDeniedRequestsAsAuthorizationErrors()
+      throws IOException {
+    final MetricsRegistry metricsRegistry = managerFactory.create().getMetricsRegistry();
+    metricsRegistry.setEnabled(true);
+    final String resourceUri = "classpath:" + packagePath + "/" + "test.css";
+    when(mockAuthorizationManager.isAuthorized(resourceUri)).thenReturn(true, false);
+    when(request.getParameter(ResourceProxyRequestHandler.PARAM_RESOURCE_ID)).thenReturn(resourceUri);
+    when(mockUriLocator.locate(anyString())).thenReturn(new ClasspathUriLocator().locate(resourceUri));
+
+    victim.handle(request, response);
+    try {
+      victim.handle(request, response);
+    } catch (final UnauthorizedRequestException e) {
+    }
+    assertEquals(2, metricsRegistry.getMetric(MetricsRegistry.PROXY_AUTHORIZATION).getCount());
+    assertEquals(1, metricsRegistry.getMetric(MetricsRegistry.PROXY_AUTHORIZATION).getErrorCount());
+  }
+
   @Test
   public void shouldReturnRelativeResource()
       throws IOException {
@@ -272,6 +304,123 @@ public class TestResourceProxyRequestHandler {
     verify(response).setStatus(HttpServletResponse.SC_OK);
   }
 
+  @Test
+  public void shouldLocateCachedResourceOnlyOnce()
+      throws IOException {
+    final String resourceUri = prepareCachedResource("test.css");
+
+    victim.handle(request, response);
+    victim.handle(request, response);
+
+    final String expectedBody = IOUtils.toString(getInputStream("test.css"));
+    verify(mockUriLocator, times(1)).locate(resourceUri);
+    verify(response, times(2)).setContentLength(expectedBody.length());
+    assertEquals(expectedBody + expectedBody, outputStream.toString());
+  }
+
+  @Test
+  public void shouldLocateCachedResourceAgainWhenCacheIsCleared()
+      throws IOException {
+    final String resourceUri = prepareCachedResource("test.css");
+    when(mockUriLocator.locate(resourceUri)).then(new Answer<InputStream>() {
+      public InputStream answer(final InvocationOnMock invocation)
+          throws Throwable {
+        return getInputStream("test.css");
+      }
+    });
+
+    victim.handle(request, response);
+    victim.handle(request, response);
+    managerFactory.create().getCacheStrategy().clear();
+    victim.handle(request, response);
+
+    verify(mockUriLocator, times(2)).locate(resourceUri);
+  }
+
+  @Test
+  public void shouldLocateOversizedResourceOncePerRequest()
+      throws IOException {
+    final String resourceUri = prepareCachedResource("test.css");
+    final String content = StringUtils.repeat("a", ProxyResourceCache.DEFAULT_MAX_ENTRY_SIZE + 10);
+    when(mockUriLocator.locate(resourceUri)).then(new Answer<InputStream>() {
+      public InputStream answer(final InvocationOnMock invocation)
+          throws Throwable {
+        return new ByteArrayInputStream(content.getBytes());
+      }
+    });
+
+    victim.handle(request, response);
+    victim.handle(request, response);
+
+    verify(mockUriLocator, times(2)).locate(resourceUri);
+    assertEquals(content + content, outputStream.toString());
+  }
+
+  @Test
+  public void shouldReturnNotModifiedWhenEtagMatches()
+      throws IOException {
+    prepareCachedResource("test.css");
+    victim.handle(request, response);
+    final ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+    verify(response).setHeader(Mockito.eq(HttpHeader.ETAG.toString()), etag.capture());
+
+    when(request.getHeader(HttpHeader.IF_NONE_MATCH.toString())).thenReturn(etag.getValue());
+    victim.handle(request, response);
+    verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+  }
+
+  @Test
+  public void shouldServePrecomputedGzippedContent()
+      throws IOException {
+    final String resourceUri = prepareCachedResource("test.css");
+    final String css = StringUtils.repeat("body { color: red; }", 100);
+    when(mockUriLocator.locate(resourceUri)).thenReturn(new ByteArrayInputStream(css.getBytes()));
+    when(request.getHeaderNames()).thenReturn(Collections.enumeration(Collections.singleton("Accept-Encoding")));
+    when(request.getHeader("Accept-Encoding")).thenReturn("gzip, deflate");
+
+    victim.handle(request, response);
+
+    verify(response).setHeader(HttpHeader.CONTENT_ENCODING.toString(), "gzip");
+    final byte[] gzipped = ((ByteArrayOutputStream) outputStream).toByteArray();
+    verify(response).setContentLength(gzipped.length);
+    assertEquals(css, IOUtils.toString(new GZIPInputStream(new ByteArrayInputStream(gzipped))));
+  }
+
+  @Test
+  public void shouldStreamFileResourceWithKnownLength()
+      throws IOException {
+    final File file = File.createTempFile("proxy", ".css");
+    try {
+      FileUtils.writeStringToFile(file, "body { color: red; }");
+      final String resourceUri = file.getPath();
+      when(mockAuthorizationManager.isAuthorized(resourceUri)).thenReturn(true);
+      when(request.getParameter(ResourceProxyRequestHandler.PARAM_RESOURCE_ID)).thenReturn(resourceUri);
+      when(mockUriLocator.locate(anyString())).thenReturn(new FileInputStream(file));
+
+      victim.handle(request, response);
+
+      verify(response).setContentLength((int) file.length());
+      verify(response, never()).setHeader(Mockito.eq(HttpHeader.ETAG.toString()), anyString());
+      assertEquals("body { color: red; }", outputStream.toString());
+    } finally {
+      FileUtils.deleteQuietly(file);
+    }
+  }
+
+  /**
+   * Disables the debug mode (which enables caching of proxied resources) and prepares the request for a classpath
+   * resource.
+   */
+  private String prepareCachedResource(final String filename)
+      throws IOException {
+    Context.get().getConfig().setDebug(false);
+    final String resourceUri = "classpath:" + packagePath + "/" + filename;
+    when(mockAuthorizationManager.isAuthorized(resourceUri)).thenReturn(true);
+    when(request.getParameter(ResourceProxyRequestHandler.PARAM_RESOURCE_ID)).thenReturn(resourceUri);
+    when(mockUriLocator.locate(resourceUri)).thenReturn(new ClasspathUriLocator().locate(resourceUri));
+    return resourceUri;
+  }
+
   private InputStream getInputStream(final String filename)
       throws IOException {
     return this.getClass().getClassLoader().getResourceAsStream(packagePath + "/" + filename);
@@ -1,8 +1,12 @@
 package ro.isdc.wro.http.handler.factory;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -10,7 +14,14 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.ReadOnlyContext;
 import ro.isdc.wro.http.handler.RequestHandler;
+import ro.isdc.wro.http.handler.RequestHandlerSupport;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.group.Inject;
+import ro.isdc.wro.model.group.processor.Injector;
+import ro.isdc.wro.model.group.processor.InjectorBuilder;
+import ro.isdc.wro.util.ObjectFactory;
 
 
 /**
@@ -40,4 +51,34 @@ public class TestDefaultRequestHandlerFactory {
     final Collection<RequestHandler> requestHandlers = victim.create();
     assertEquals(false, requestHandlers.isEmpty());
   }
+
+  private static class InjectableRequestHandler
+      extends RequestHandlerSupport {
+    @Inject
+    private ReadOnlyContext context;
+  }
+
+  @Test
+  public void shouldInjectHandlersOnlyWhenChanged() {
+    Context.set(Context.standaloneContext());
+    try {
+      final Injector injector = InjectorBuilder.create(new BaseWroManagerFactory()).build();
+      final List<RequestHandler> handlers = new ArrayList<RequestHandler>();
+      handlers.add(new InjectableRequestHandler());
+      final RequestHandlerFactory decorated = DefaultRequestHandlerFactory.decorate(
+          new SimpleRequestHandlerFactory().setHandlers(handlers), new ObjectFactory<Injector>() {
+            public Injector create() {
+              return injector;
+            }
+          });
+      assertSame(handlers, decorated.create());
+      assertNotNull(((InjectableRequestHandler) handlers.get(0)).context);
+
+      handlers.add(new InjectableRequestHandler());
+      decorated.create();
+      assertNotNull(((InjectableRequestHandler) handlers.get(1)).context);
+    } finally {
+      Context.unset();
+    }
+  }
 }
@@ -0,0 +1,332 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.manager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.FilterConfig;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.MockitoAnnotations;
+
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.impl.MemoryCacheStrategy;
+import ro.isdc.wro.cache.support.AbstractSynchronizedCacheStrategyDecorator;
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.config.jmx.WroConfiguration;
+import ro.isdc.wro.http.support.DelegatingServletOutputStream;
+import ro.isdc.wro.http.support.HttpHeader;
+import ro.isdc.wro.manager.export.ExportedBundles;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.group.processor.InjectorBuilder;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.processor.factory.SimpleProcessorsFactory;
+import ro.isdc.wro.util.WroTestUtils;
+import ro.isdc.wro.util.WroUtil;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestResourceBundleProcessor {
+  private static final String RESOURCE_URI = "/path/to/resource.js";
+  private static final String CONTENT = RESOURCE_URI + "\n";
+  @Mock
+  private HttpServletRequest request;
+  @Mock
+  private HttpServletResponse response;
+  private ByteArrayOutputStream out;
+  private AtomicInteger loadCount;
+  private BaseWroManagerFactory managerFactory;
+  private WroConfiguration config;
+  private File exportDirectory;
+  private ResourceBundleProcessor victim;
+
+  @BeforeClass
+  public static void onBeforeClass() {
+    assertEquals(0, Context.countActive());
+  }
+
+  @AfterClass
+  public static void onAfterClass() {
+    assertEquals(0, Context.countActive());
+  }
+
+  @Before
+  public void setUp()
+      throws Exception {
+    MockitoAnnotations.initMocks(this);
+    out = new ByteArrayOutputStream();
+    loadCount = new AtomicInteger();
+    when(request.getRequestURI()).thenReturn("/app/g1.js");
+    when(request.getRequestURL()).thenReturn(new StringBuffer("http://localhost/app/g1.js"));
+    when(response.getOutputStream()).thenReturn(new DelegatingServletOutputStream(out));
+    config = new WroConfiguration();
+    config.setDebug(false);
+    Context.set(Context.webContext(request, response, Mockito.mock(FilterConfig.class)), config);
+
+    final WroModel model = new WroModel().addGroup(new Group("g1").addResource(Resource.create(RESOURCE_URI,
+        ResourceType.JS)));
+    final CacheStrategy<CacheKey, CacheValue> cacheStrategy = new MemoryCacheStrategy<CacheKey, CacheValue>() {
+      @Override
+      public void put(final CacheKey key, final CacheValue value) {
+        if (value != null) {
+          loadCount.incrementAndGet();
+        }
+        super.put(key, value);
+      }
+    };
+    managerFactory = new BaseWroManagerFactory().setModelFactory(
+        WroTestUtils.simpleModelFactory(model)).setUriLocatorFactory(
+        WroTestUtils.createResourceMockingLocatorFactory()).setCacheStrategy(cacheStrategy);
+    managerFactory.setProcessorsFactory(new SimpleProcessorsFactory());
+    victim = new ResourceBundleProcessor() {
+      @Override
+      void submitExport(final Runnable task) {
+        // wait for the export, which must run in a different thread (having its own context)
+        final Thread thread = new Thread(task);
+        thread.start();
+        try {
+          thread.join();
+        } catch (final InterruptedException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    };
+    new InjectorBuilder(managerFactory).build().inject(victim);
+  }
+
+  @After
+  public void tearDown() {
+    Context.unset();
+    FileUtils.deleteQuietly(exportDirectory);
+  }
+
+  @Test
+  public void shouldAnswerConditionalRequestWithoutWritingContent()
+      throws Exception {
+    victim.serveProcessedBundle();
+    final String etag = captureEtag();
+    out.reset();
+
+    when(request.getHeader(HttpHeader.IF_NONE_MATCH.toString())).thenReturn(etag);
+    victim.serveProcessedBundle();
+
+    verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    assertEquals(0, out.size());
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldAnswerHeadRequestUsingMetadata()
+      throws Exception {
+    victim.serveProcessedBundle();
+    final int length = out.size();
+    out.reset();
+    Mockito.reset(response);
+
+    when(request.getMethod()).thenReturn("HEAD");
+    victim.serveProcessedBundle();
+
+    verify(response).setContentLength(length);
+    verify(response, never()).getOutputStream();
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldAnswerHeadRequestWhenBundleIsNotLoaded()
+      throws Exception {
+    when(request.getMethod()).thenReturn("HEAD");
+    victim.serveProcessedBundle();
+
+    verify(response).setContentLength(CONTENT.length());
+    verify(response, never()).getOutputStream();
+  }
+
+  @Test
+  public void shouldServeRequestedRange()
+      throws Exception {
+    when(request.getHeader(HttpHeader.RANGE.toString())).thenReturn("bytes=1-4");
+    victim.serveProcessedBundle();
+
+    verify(response).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    verify(response).setHeader(HttpHeader.CONTENT_RANGE.toString(),
+        String.format("bytes 1-4/%s", CONTENT.length()));
+    verify(response).setContentLength(4);
+    verify(response).setHeader("Vary", "Accept-Encoding");
+    assertEquals(CONTENT.substring(1, 5), out.toString());
+  }
+
+  @Test
+  public void shouldRejectUnsatisfiableRange()
+      throws Exception {
+    when(request.getHeader(HttpHeader.RANGE.toString())).thenReturn("bytes=1000-");
+    victim.serveProcessedBundle();
+
+    verify(response).setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+    verify(response).setHeader(HttpHeader.CONTENT_RANGE.toString(), "bytes */" + CONTENT.length());
+    assertEquals(0, out.size());
+  }
+
+  @Test
+  public void shouldServeEntireContentWhenIfRangeDoesNotMatch()
+      throws Exception {
+    when(request.getHeader(HttpHeader.RANGE.toString())).thenReturn("bytes=1-4");
+    when(request.getHeader(HttpHeader.IF_RANGE.toString())).thenReturn("\"outdated\"");
+    victim.serveProcessedBundle();
+
+    verify(response, never()).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    verify(response, times(1)).setContentLength(anyInt());
+    assertEquals(CONTENT, out.toString());
+  }
+
+  @Test
+  public void shouldValidateEtagOfStaleValue()
+      throws Exception {
+    victim.serveProcessedBundle();
+    final String etag = captureEtag();
+    ((AbstractSynchronizedCacheStrategyDecorator<?, ?>) managerFactory.create().getCacheStrategy()).markStale();
+    Mockito.reset(response);
+
+    when(request.getHeader(HttpHeader.IF_NONE_MATCH.toString())).thenReturn(etag);
+    victim.serveProcessedBundle();
+
+    verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldExportBundlesOnFirstRequestAndServeThemFromDisk()
+      throws Exception {
+    useExportDirectory();
+    victim.serveProcessedBundle();
+
+    assertTrue(new File(exportDirectory, ExportedBundles.MANIFEST_FILE).isFile());
+    assertEquals(CONTENT, out.toString());
+    out.reset();
+    // the cache is cleared, the bundle is served from the exported file
+    managerFactory.create().getCacheStrategy().clear();
+    victim.serveProcessedBundle();
+
+    assertEquals(CONTENT, out.toString());
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldServeExportedBundleCreatedAtBuildTime()
+      throws Exception {
+    useExportDirectory();
+    managerFactory.create().exportBundles(exportDirectory);
+    managerFactory.create().getCacheStrategy().clear();
+    final String etag = ExportedBundles.load(exportDirectory).getBundle(new CacheKey("g1", ResourceType.JS)).getEtag();
+
+    when(request.getHeader(HttpHeader.IF_NONE_MATCH.toString())).thenReturn(etag);
+    victim.serveProcessedBundle();
+
+    verify(response).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+    assertEquals(1, loadCount.get());
+  }
+
+  @Test
+  public void shouldServeRangeOfExportedBundle()
+      throws Exception {
+    useExportDirectory();
+    victim.serveProcessedBundle();
+    out.reset();
+    Mockito.reset(response);
+    when(response.getOutputStream()).thenReturn(new DelegatingServletOutputStream(out));
+
+    when(request.getHeader(HttpHeader.RANGE.toString())).thenReturn("bytes=1-4");
+    victim.serveProcessedBundle();
+
+    verify(response).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    verify(response).setContentLength(4);
+    assertEquals(CONTENT.substring(1, 5), out.toString());
+  }
+
+  @Test
+  public void shouldProcessAtRuntimeBundlesWhichAreNotExported()
+      throws Exception {
+    useExportDirectory();
+    victim.serveProcessedBundle();
+    assertNotNull(ExportedBundles.load(exportDirectory));
+    out.reset();
+
+    // minimize is disabled by the request, thus the exported bundle cannot be used
+    config.setDebug(true);
+    when(request.getParameter("minimize")).thenReturn("false");
+    victim.serveProcessedBundle();
+
+    assertEquals(CONTENT, out.toString());
+    assertEquals(2, loadCount.get());
+  }
+
+  @Test
+  public void shouldExportAgainWhenExportedResourcesAreOutdated()
+      throws Exception {
+    useExportDirectory();
+    managerFactory.create().exportBundles(exportDirectory);
+    final String fingerprint = ExportedBundles.load(exportDirectory).getFingerprint();
+    final File manifestFile = new File(exportDirectory, ExportedBundles.MANIFEST_FILE);
+    FileUtils.writeStringToFile(manifestFile, FileUtils.readFileToString(manifestFile).replace(fingerprint,
+        "outdated"));
+    managerFactory.create().getCacheStrategy().clear();
+
+    victim.serveProcessedBundle();
+
+    assertEquals(CONTENT, out.toString());
+    assertEquals(2, loadCount.get());
+    assertEquals(fingerprint, ExportedBundles.load(exportDirectory).getFingerprint());
+  }
+
+  @Test
+  public void shouldNotExportBundlesInDebugMode()
+      throws Exception {
+    useExportDirectory();
+    config.setDebug(true);
+    victim.serveProcessedBundle();
+
+    assertEquals(CONTENT, out.toString());
+    assertFalse(exportDirectory.exists());
+  }
+
+  private void useExportDirectory() {
+    exportDirectory = new File(WroUtil.createTempDirectory(), "export");
+    config.setExportDirectory(exportDirectory.getPath());
+  }
+
+  private String captureEtag() {
+    final ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+    verify(response).setHeader(Mockito.eq(HttpHeader.ETAG.toString()), etag.capture());
+    return etag.getValue();
+  }
+}
@@ -4,6 +4,9 @@
 package ro.isdc.wro.manager;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
 
@@ -22,13 +25,13 @@ import javax.servlet.FilterConfig;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.output.WriterOutputStream;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.BeforeClass;
-import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -42,6 +45,7 @@ import ro.isdc.wro.WroRuntimeException;
 import ro.isdc.wro.cache.CacheKey;
 import ro.isdc.wro.cache.CacheStrategy;
 import ro.isdc.wro.cache.CacheValue;
+import ro.isdc.wro.cache.support.DefaultSynchronizedCacheStrategyDecorator;
 import ro.isdc.wro.config.Context;
 import ro.isdc.wro.config.jmx.WroConfiguration;
 import ro.isdc.wro.http.support.DelegatingServletOutputStream;
@@ -58,6 +62,7 @@ import ro.isdc.wro.model.factory.XmlModelFactory;
 import ro.isdc.wro.model.group.DefaultGroupExtractor;
 import ro.isdc.wro.model.group.Group;
 import ro.isdc.wro.model.group.GroupExtractor;
+import ro.isdc.wro.model.group.InvalidGroupNameException;
 import ro.isdc.wro.model.group.processor.Injector;
 import ro.isdc.wro.model.group.processor.InjectorBuilder;
 import ro.isdc.wro.model.resource.Resource;
@@ -66,9 +71,12 @@ import ro.isdc.wro.model.resource.processor.Destroyable;
 import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
 import ro.isdc.wro.model.resource.processor.factory.SimpleProcessorsFactory;
 import ro.isdc.wro.model.resource.processor.impl.PlaceholderProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssImportPreProcessor;
 import ro.isdc.wro.model.resource.support.MutableResourceAuthorizationManager;
 import ro.isdc.wro.model.resource.support.hash.CRC32HashStrategy;
+import ro.isdc.wro.model.resource.support.hash.HashStrategy;
 import ro.isdc.wro.model.resource.support.hash.MD5HashStrategy;
+import ro.isdc.wro.model.resource.support.hash.SHA1HashStrategy;
 import ro.isdc.wro.util.AbstractDecorator;
 import ro.isdc.wro.util.ObjectFactory;
 import ro.isdc.wro.util.WroTestUtils;
@@ -481,36 +489,65 @@ public class TestWroManager {
     managerFactory.create().process();
   }
 
-  @Ignore("This pass on Unix and fails on Windows")
   @Test
-  public void testCRC32Fingerprint()
-      throws Exception {
+  public void shouldEncodeFingerprintComputedWithConfiguredHashStrategy() {
+    assertTrue(getEncodedFingerprint(new CRC32HashStrategy()).length() <= 8);
+    assertEquals(32, getEncodedFingerprint(new MD5HashStrategy()).length());
+    assertEquals(40, getEncodedFingerprint(new SHA1HashStrategy()).length());
+  }
+
+  private String getEncodedFingerprint(final HashStrategy hashStrategy) {
     final WroManagerFactory factory = new BaseWroManagerFactory().setModelFactory(getValidModelFactory()).setHashStrategy(
-        new CRC32HashStrategy());
-    final WroManager manager = factory.create();
-    final String path = manager.encodeVersionIntoGroupPath("g3", ResourceType.CSS, true);
-    assertEquals("1d62dbaf/g3.css?minimize=true", path);
+        hashStrategy);
+    final String path = factory.create().encodeVersionIntoGroupPath("g3", ResourceType.CSS, true);
+    assertTrue(path.endsWith("/g3.css?minimize=true"));
+    return path.substring(0, path.indexOf('/'));
   }
 
-  @Ignore("This pass on Unix and fails on Windows")
   @Test
-  public void testMD5Fingerprint()
-      throws Exception {
-    final WroManagerFactory factory = new BaseWroManagerFactory().setModelFactory(getValidModelFactory()).setHashStrategy(
-        new MD5HashStrategy());
-    final WroManager manager = factory.create();
-    final String path = manager.encodeVersionIntoGroupPath("g3", ResourceType.CSS, true);
-    assertEquals("9394d6cdd0a75a5f695c84eda410103f/g3.css?minimize=true", path);
+  public void shouldEncodeVersionWithoutProcessingTheBundle() {
+    final CacheKey key = new CacheKey("g3", ResourceType.CSS, true);
+    final String path = victim.encodeVersionIntoGroupPath("g3", ResourceType.CSS, true);
+
+    assertTrue(path.endsWith("/g3.css?minimize=true"));
+    assertNull(((DefaultSynchronizedCacheStrategyDecorator) victim.getCacheStrategy()).getIfPresent(key));
+    assertEquals(path, victim.encodeVersionIntoGroupPath("g3", ResourceType.CSS, true));
   }
 
-  
-  @Ignore("This pass on Unix and fails on Windows")
   @Test
-  public void testSHA1DefaultHashBuilder()
+  public void shouldEncodeSameVersionBeforeAndAfterTheBundleIsProcessed() {
+    final String path = victim.encodeVersionIntoGroupPath("g3", ResourceType.CSS, true);
+    victim.getCacheStrategy().get(new CacheKey("g3", ResourceType.CSS, true));
+
+    assertEquals(path, victim.encodeVersionIntoGroupPath("g3", ResourceType.CSS, true));
+  }
+
+  @Test
+  public void shouldEncodeNewVersionWhenImportedStylesheetIsChanged()
       throws Exception {
-    final WroManager manager = managerFactory.create();
-    final String path = manager.encodeVersionIntoGroupPath("g3", ResourceType.CSS, true);
-    assertEquals("aebaedcdec8131230d47259be7a628b5dfeff6ba/g3.css?minimize=true", path);
+    final File folder = WroUtil.createTempDirectory();
+    try {
+      final File importedFile = new File(folder, "imported.css");
+      FileUtils.write(importedFile, "a {color: red}");
+      final File mainFile = new File(folder, "main.css");
+      FileUtils.write(mainFile, "@import url(imported.css);");
+      final WroModel model = new WroModel().addGroup(new Group("imports").addResource(Resource.create(
+          mainFile.toURI().toString(), ResourceType.CSS)));
+      final WroManager manager = new BaseWroManagerFactory().setModelFactory(WroTestUtils.simpleModelFactory(model)).setProcessorsFactory(
+          new SimpleProcessorsFactory().addPreProcessor(new CssImportPreProcessor())).create();
+      final String path = manager.encodeVersionIntoGroupPath("imports", ResourceType.CSS, true);
+
+      FileUtils.write(importedFile, "a {color: blue}");
+      manager.getCacheStrategy().clear();
+      assertNotEquals(path, manager.encodeVersionIntoGroupPath("imports", ResourceType.CSS, true));
+    } finally {
+      FileUtils.deleteQuietly(folder);
+    }
+  }
+
+  @Test(expected = InvalidGroupNameException.class)
+  public void cannotEncodeVersionOfInvalidGroup() {
+    victim.encodeVersionIntoGroupPath("invalid", ResourceType.CSS, true);
   }
 
   @Test
@@ -239,4 +239,19 @@ public class TestLifecycleCallbackRegistry {
       }
     });
   }
+
+  @Test
+  public void shouldInvokeCallbacksRegisteredAfterFirstNotification() {
+    final LifecycleCallback first = Mockito.mock(LifecycleCallback.class);
+    final LifecycleCallback second = Mockito.mock(LifecycleCallback.class);
+    registry.registerCallback(factoryFor(first));
+    registry.onBeforeMerge();
+    registry.registerCallback(factoryFor(second));
+    registry.onAfterMerge();
+
+    Mockito.verify(first).onBeforeMerge();
+    Mockito.verify(first).onAfterMerge();
+    Mockito.verify(second, Mockito.never()).onBeforeMerge();
+    Mockito.verify(second).onAfterMerge();
+  }
 }
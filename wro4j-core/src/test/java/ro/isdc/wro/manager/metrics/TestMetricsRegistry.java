@@ -0,0 +1,106 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.manager.metrics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestMetricsRegistry {
+  private MetricsRegistry victim;
+
+  @Before
+  public void setUp() {
+    victim = new MetricsRegistry();
+  }
+
+  @Test
+  public void shouldBeDisabledByDefault() {
+    assertEquals(false, victim.isEnabled());
+  }
+
+  @Test
+  public void shouldNotRecordAnythingWhenDisabled() {
+    victim.stop("name", victim.start(), true);
+    victim.updateBytes("name", 10, 10);
+    assertTrue(victim.getMetrics().isEmpty());
+  }
+
+  @Test
+  public void shouldNotRecordWhenStartedWhileDisabled() {
+    final long start = victim.start();
+    victim.setEnabled(true);
+    victim.stop("name", start, true);
+    assertTrue(victim.getMetrics().isEmpty());
+  }
+
+  @Test
+  public void shouldRecordCountErrorsAndBytes() {
+    victim.setEnabled(true);
+    victim.stop("name", victim.start(), true);
+    victim.stop("name", victim.start(), false);
+    victim.updateBytes("name", 100, 30);
+
+    final Metric metric = victim.getMetric("name");
+    assertEquals(2, metric.getCount());
+    assertEquals(1, metric.getErrorCount());
+    assertEquals(100, metric.getBytesIn());
+    assertEquals(30, metric.getBytesOut());
+  }
+
+  @Test
+  public void shouldComputePercentilesFromHistogram() {
+    final Metric metric = new Metric("name");
+    for (int i = 0; i < 98; i++) {
+      metric.update(TimeUnit.MICROSECONDS.toNanos(500), true);
+    }
+    metric.update(TimeUnit.MILLISECONDS.toNanos(20), true);
+    metric.update(TimeUnit.MILLISECONDS.toNanos(20000), true);
+
+    assertEquals(1, metric.getPercentileMillis(0.5));
+    assertEquals(25, metric.getPercentileMillis(0.99));
+    assertEquals(-1, metric.getPercentileMillis(1));
+    assertEquals(20000, metric.getMaxMillis(), 0.001);
+  }
+
+  @Test
+  public void shouldReturnZeroPercentileWhenNothingRecorded() {
+    assertEquals(0, new Metric("name").getPercentileMillis(0.99));
+  }
+
+  @Test
+  public void shouldSortMetricNames() {
+    victim.setEnabled(true);
+    victim.stop("b", victim.start(), true);
+    victim.stop("a", victim.start(), true);
+    assertArrayEquals(new String[] {
+      "a", "b"
+    }, victim.getMetricNames());
+  }
+
+  @Test
+  public void shouldDiscardMetricsOnReset() {
+    victim.setEnabled(true);
+    victim.stop("name", victim.start(), true);
+    victim.reset();
+    assertTrue(victim.getMetrics().isEmpty());
+  }
+
+  @Test
+  public void shouldEscapeNamesInJson() {
+    victim.setEnabled(true);
+    victim.stop("group.\"quoted\"", victim.start(), true);
+    assertTrue(victim.toJson().startsWith("{\"enabled\":true,\"bucketBoundsMillis\":[1,2,5,"));
+    assertTrue(victim.toJson().contains("\"group.\\\"quoted\\\"\":{\"count\":1,\"errors\":0"));
+  }
+}
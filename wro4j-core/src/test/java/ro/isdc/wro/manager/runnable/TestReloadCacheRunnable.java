@@ -11,6 +11,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.support.AbstractSynchronizedCacheStrategyDecorator;
 import ro.isdc.wro.config.Context;
 
 
@@ -48,4 +49,18 @@ public class TestReloadCacheRunnable {
     victim.run();
     Mockito.verify(mockCacheStrategy).clear();
   }
+
+  @Test
+  public void shouldMarkStaleInsteadOfClearWhenRefreshAheadEnabled() {
+    final AbstractSynchronizedCacheStrategyDecorator<?, ?> cacheStrategy = Mockito.mock(AbstractSynchronizedCacheStrategyDecorator.class);
+    new ReloadCacheRunnable(cacheStrategy).setRefreshAhead(true).run();
+    Mockito.verify(cacheStrategy).markStale();
+    Mockito.verify(cacheStrategy, Mockito.never()).clear();
+  }
+
+  @Test
+  public void shouldClearWhenRefreshAheadIsNotSupported() {
+    victim.setRefreshAhead(true).run();
+    Mockito.verify(mockCacheStrategy).clear();
+  }
 }
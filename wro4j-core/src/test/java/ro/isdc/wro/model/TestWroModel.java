@@ -5,6 +5,9 @@ package ro.isdc.wro.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.io.InputStream;
 import java.util.Arrays;
@@ -125,4 +128,15 @@ public class TestWroModel {
     victim.setGroups(Collections.EMPTY_LIST);
     assertEquals(0, victim.getGroups().size());
   }
+
+  @Test
+  public void shouldReuseInspectorUntilModelIsChanged() {
+    final WroModelInspector inspector = victim.getInspector();
+    assertSame(inspector, victim.getInspector());
+    victim.addGroup(new Group("g4"));
+    assertNotSame(inspector, victim.getInspector());
+    assertTrue(victim.getInspector().hasGroup("g4"));
+    victim.setGroups(Collections.<Group> emptyList());
+    assertFalse(victim.getInspector().hasGroup("g4"));
+  }
 }
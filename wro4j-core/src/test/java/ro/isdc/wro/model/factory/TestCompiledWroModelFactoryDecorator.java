@@ -0,0 +1,158 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.InputStream;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import ro.isdc.wro.config.Context;
+import ro.isdc.wro.model.WroModel;
+import ro.isdc.wro.model.group.Group;
+import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.util.WroTestUtils;
+import ro.isdc.wro.util.WroUtil;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestCompiledWroModelFactoryDecorator {
+  private File directory;
+  private File compiledModelFile;
+  private StubModelFactory decoratedFactory;
+
+  @BeforeClass
+  public static void onBeforeClass() {
+    assertEquals(0, Context.countActive());
+  }
+
+  @AfterClass
+  public static void onAfterClass() {
+    assertEquals(0, Context.countActive());
+  }
+
+  @Before
+  public void setUp() {
+    Context.set(Context.standaloneContext());
+    directory = WroUtil.createTempDirectory();
+    compiledModelFile = new File(directory, "model.bin");
+    decoratedFactory = new StubModelFactory();
+  }
+
+  @After
+  public void tearDown() {
+    FileUtils.deleteQuietly(directory);
+    Context.unset();
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void cannotUseNullFile() {
+    new CompiledWroModelFactoryDecorator(decoratedFactory, null);
+  }
+
+  @Test
+  public void shouldLoadCompiledModelWhenSourcesAreNotChanged() {
+    final WroModel model = new CompiledWroModelFactoryDecorator(decoratedFactory, compiledModelFile).create();
+    assertTrue(compiledModelFile.isFile());
+
+    final WroModel compiledModel = new CompiledWroModelFactoryDecorator(decoratedFactory, compiledModelFile).create();
+    assertEquals(1, decoratedFactory.createCount);
+    assertEquals(model, compiledModel);
+    final Group group = compiledModel.getInspector().getGroupByName("g1");
+    assertEquals(2, group.getResources().size());
+    assertEquals(ResourceType.CSS, group.getResources().get(1).getType());
+    assertFalse(group.getResources().get(1).isMinimize());
+  }
+
+  @Test
+  public void shouldCreateModelWhenSourcesAreChanged() {
+    new CompiledWroModelFactoryDecorator(decoratedFactory, compiledModelFile).create();
+    decoratedFactory.fingerprint = "changed";
+    new CompiledWroModelFactoryDecorator(decoratedFactory, compiledModelFile).create();
+    assertEquals(2, decoratedFactory.createCount);
+  }
+
+  @Test
+  public void shouldNotUseCompiledModelWhenFingerprintIsNotAvailable() {
+    decoratedFactory.fingerprint = null;
+    new CompiledWroModelFactoryDecorator(decoratedFactory, compiledModelFile).create();
+    new CompiledWroModelFactoryDecorator(decoratedFactory, compiledModelFile).create();
+    assertEquals(2, decoratedFactory.createCount);
+    assertFalse(compiledModelFile.exists());
+  }
+
+  @Test
+  public void shouldCreateModelWhenCompiledModelIsCorrupted()
+      throws Exception {
+    FileUtils.writeStringToFile(compiledModelFile, "corrupted");
+    assertEquals(1, new CompiledWroModelFactoryDecorator(decoratedFactory, compiledModelFile).create().getGroups()
+        .size());
+    assertEquals(1, decoratedFactory.createCount);
+  }
+
+  @Test
+  public void shouldComputeFingerprintOfXmlModelWithImports() {
+    final XmlModelFactory factory = new XmlModelFactory() {
+      @Override
+      protected InputStream getModelResourceAsStream() {
+        return TestXmlModelFactory.class.getResourceAsStream("testimport/multipleImports.xml");
+      }
+    };
+    WroTestUtils.init(factory);
+    final String fingerprint = factory.getModelFingerprint();
+    assertNotNull(fingerprint);
+    assertEquals(fingerprint, factory.getModelFingerprint());
+  }
+
+  @Test
+  public void shouldNotComputeFingerprintOfXmlModelWithInvalidImport() {
+    final XmlModelFactory factory = new XmlModelFactory() {
+      @Override
+      protected InputStream getModelResourceAsStream() {
+        return TestXmlModelFactory.class.getResourceAsStream("testimport/invalidImports.xml");
+      }
+    };
+    WroTestUtils.init(factory);
+    assertNull(factory.getModelFingerprint());
+  }
+
+  private static class StubModelFactory
+      implements WroModelFactory, ModelFingerprintAware {
+    private String fingerprint = "fingerprint";
+    private int createCount;
+
+    public WroModel create() {
+      createCount++;
+      final Resource css = Resource.create("/style.css", ResourceType.CSS);
+      css.setMinimize(false);
+      return new WroModel().addGroup(new Group("g1").addResource(Resource.create("/script.js", ResourceType.JS))
+          .addResource(css));
+    }
+
+    public String getModelFingerprint() {
+      return fingerprint;
+    }
+
+    public void destroy() {
+    }
+
+    public boolean isExpired() {
+      return false;
+    }
+  }
+}
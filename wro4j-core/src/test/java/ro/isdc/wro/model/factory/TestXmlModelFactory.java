@@ -4,10 +4,13 @@
 package ro.isdc.wro.model.factory;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -18,6 +21,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Element;
 import org.xml.sax.SAXParseException;
 
 import ro.isdc.wro.WroRuntimeException;
@@ -114,6 +118,27 @@ public class TestXmlModelFactory {
     LOG.debug("model: " + model);
   }
   
+  @Test
+  public void shouldUseOverriddenElementHooks() {
+    final WroModelFactory factory = new XmlModelFactory() {
+      @Override
+      protected InputStream getModelResourceAsStream() {
+        return TestXmlModelFactory.class.getResourceAsStream("wro-minimizeAttribute.xml");
+      }
+
+      @Override
+      protected Resource createResource(final Element resourceElement) {
+        final Resource resource = super.createResource(resourceElement);
+        resource.setMinimize(false);
+        return resource;
+      }
+    };
+    WroTestUtils.init(factory);
+    for (final Resource resource : factory.create().getGroups().iterator().next().getResources()) {
+      assertFalse(resource.isMinimize());
+    }
+  }
+
   @Test
   public void testValidImports() {
     final WroModel model = loadModelFromLocation("testimport/validImports.xml");
@@ -121,6 +146,31 @@ public class TestXmlModelFactory {
     LOG.debug("model: " + model);
   }
   
+  @Test
+  public void shouldCreateModelWithMultipleImports() {
+    final WroModel model = loadModelFromLocation("testimport/multipleImports.xml");
+    assertEquals(Arrays.asList("g1", "g2", "imported"), new WroModelInspector(model).getGroupNames());
+    assertEquals(2, new WroModelInspector(model).getGroupByName("g1").getResources().size());
+  }
+
+  @Test
+  public void shouldReflectChangedXmlWhenModelIsCreatedAgain() {
+    final String[] xml = new String[] {
+      "<groups xmlns='http://www.isdc.ro/wro'><group name='g1'><js>/a.js</js></group></groups>"
+    };
+    factory = new XmlModelFactory() {
+      @Override
+      protected InputStream getModelResourceAsStream() {
+        return new ByteArrayInputStream(xml[0].getBytes());
+      }
+    };
+    WroTestUtils.init(factory);
+    final WroModel model = factory.create();
+    assertEquals(model, factory.create());
+    xml[0] = "<groups xmlns='http://www.isdc.ro/wro'><group name='g2'><js>/b.js</js></group></groups>";
+    assertEquals(Arrays.asList("g2"), new WroModelInspector(factory.create()).getGroupNames());
+  }
+
   @Test(expected = RecursiveGroupDefinitionException.class)
   public void testRecursiveImports() {
     loadModelFromLocation("testimport/recursive.xml");
@@ -136,6 +186,17 @@ public class TestXmlModelFactory {
     loadModelFromLocation("testimport/circular1.xml");
   }
   
+  @Test
+  public void shouldDetectDuplicateGroupsOfImportSharedBySiblingImports() {
+    try {
+      loadModelFromLocation("testimport/diamond.xml");
+      fail("Duplicate group should be detected");
+    } catch (final WroRuntimeException e) {
+      assertFalse(e instanceof RecursiveGroupDefinitionException);
+      assertTrue(e.getMessage().contains("Duplicate group name detected"));
+    }
+  }
+
   @Test(expected = WroRuntimeException.class)
   public void testInvalidImports() {
     loadModelFromLocation("testimport/invalidImports.xml");
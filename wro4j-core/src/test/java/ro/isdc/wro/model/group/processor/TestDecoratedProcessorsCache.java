@@ -0,0 +1,77 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.group.processor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
+import ro.isdc.wro.model.resource.processor.impl.css.CssMinProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
+import ro.isdc.wro.model.resource.processor.support.ProcessingCriteria;
+import ro.isdc.wro.model.resource.processor.support.ProcessingType;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestDecoratedProcessorsCache {
+  private DecoratedProcessorsCache<ResourcePreProcessor> victim;
+  private int decoratedCount;
+  private List<ResourcePreProcessor> processors;
+
+  @Before
+  public void setUp() {
+    decoratedCount = 0;
+    processors = new ArrayList<ResourcePreProcessor>(Arrays.asList(new CssMinProcessor(), new JSMinProcessor()));
+    victim = new DecoratedProcessorsCache<ResourcePreProcessor>() {
+      @Override
+      protected ResourcePreProcessor decorate(final ResourcePreProcessor processor, final ProcessingCriteria criteria) {
+        decoratedCount++;
+        return new ProcessorDecorator(processor);
+      }
+    };
+  }
+
+  @Test
+  public void shouldDecorateOncePerCriteria() {
+    final List<ResourcePreProcessor> decorated = victim.get(processors, ProcessingCriteria.createDefault(true));
+    assertEquals(2, decorated.size());
+    assertSame(decorated, victim.get(processors, ProcessingCriteria.createDefault(true)));
+    assertEquals(2, decoratedCount);
+
+    victim.get(processors, ProcessingCriteria.createDefault(false));
+    victim.get(processors, ProcessingCriteria.create(ProcessingType.IMPORT_ONLY, true));
+    assertEquals(6, decoratedCount);
+  }
+
+  @Test
+  public void shouldDecorateAgainWhenProcessorsChange() {
+    final ProcessingCriteria criteria = ProcessingCriteria.createDefault(true);
+    final List<ResourcePreProcessor> decorated = victim.get(processors, criteria);
+    processors.set(1, new JSMinProcessor());
+
+    final List<ResourcePreProcessor> redecorated = victim.get(processors, criteria);
+    assertNotSame(decorated, redecorated);
+    assertSame(processors.get(1), ((ProcessorDecorator) redecorated.get(1)).getOriginalDecoratedObject());
+  }
+
+  @Test
+  public void shouldDecorateAgainAfterClear() {
+    final ProcessingCriteria criteria = ProcessingCriteria.createDefault(true);
+    victim.get(processors, criteria);
+    victim.clear();
+    victim.get(processors, criteria);
+    assertEquals(4, decoratedCount);
+  }
+}
@@ -28,6 +28,8 @@ import ro.isdc.wro.config.Context;
 import ro.isdc.wro.config.jmx.WroConfiguration;
 import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
 import ro.isdc.wro.manager.factory.WroManagerFactory;
+import ro.isdc.wro.manager.metrics.Metric;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
 import ro.isdc.wro.model.WroModel;
 import ro.isdc.wro.model.factory.WroModelFactory;
 import ro.isdc.wro.model.group.DefaultGroupExtractor;
@@ -167,6 +169,44 @@ public class TestGroupsProcessor {
     verify(jsMinProcessor).process(Mockito.any(Resource.class), Mockito.any(Reader.class), Mockito.any(Writer.class));
   }
   
+  @Test
+  public void shouldRecordInputAndOutputSizeOfGroupWhenMetricsAreEnabled() {
+    final Group group = new Group(groupName).addResource(Resource.create("1.js")).addResource(Resource.create("2.js"));
+    final BaseWroManagerFactory managerFactory = new BaseWroManagerFactory().setModelFactory(
+        WroTestUtils.simpleModelFactory(new WroModel().addGroup(group))).setUriLocatorFactory(
+        new SimpleUriLocatorFactory().addLocator(WroTestUtils.createResourceMockingLocator()));
+    final MetricsRegistry metricsRegistry = managerFactory.create().getMetricsRegistry();
+    metricsRegistry.setEnabled(true);
+    initVictim(new WroConfiguration(), managerFactory);
+
+    final String actual = victim.process(new CacheKey(groupName, ResourceType.JS, false));
+    final Metric metric = metricsRegistry.getMetric(MetricsRegistry.PREFIX_GROUP + groupName + ".js");
+    assertEquals(1, metric.getCount());
+    assertEquals("1.js2.js".length(), metric.getBytesIn());
+    assertEquals(actual.length(), metric.getBytesOut());
+    // the locator metric is recorded when the located stream is closed, after being read
+    long locatorCount = 0;
+    long locatorBytesIn = 0;
+    for (final Metric locatorMetric : metricsRegistry.getMetrics().values()) {
+      if (locatorMetric.getName().startsWith(MetricsRegistry.PREFIX_LOCATOR)) {
+        locatorCount += locatorMetric.getCount();
+        locatorBytesIn += locatorMetric.getBytesIn();
+      }
+    }
+    assertEquals(2, locatorCount);
+    assertEquals("1.js2.js".length(), locatorBytesIn);
+  }
+
+  @Test
+  public void shouldNotRecordMetricsWhenDisabled() {
+    final BaseWroManagerFactory managerFactory = new BaseWroManagerFactory().setModelFactory(
+        WroTestUtils.simpleModelFactory(new WroModel().addGroup(new Group(groupName))));
+    final MetricsRegistry metricsRegistry = managerFactory.create().getMetricsRegistry();
+    initVictim(new WroConfiguration(), managerFactory);
+    victim.process(new CacheKey(groupName, ResourceType.JS, true));
+    assertEquals(0, metricsRegistry.getMetrics().size());
+  }
+
   @Test
   public void shouldCleanupProperlyWhenDestroyed() {
     PreProcessorExecutor mockPreProcessorExecutor = mock(PreProcessorExecutor.class);
@@ -158,6 +158,27 @@ public class TestInjector {
     assertNotNull(testProcessor.context);
   }
 
+  @Test
+  public void shouldInjectEachInstanceOfTheSameClass() {
+    final TestProcessor first = victim.inject(new TestProcessor());
+    final TestProcessor second = victim.inject(new TestProcessor());
+    assertNotNull(first.context);
+    assertNotNull(second.context);
+  }
+
+  private class ExtendedTestProcessor
+      extends TestProcessor {
+    @Inject
+    private WroConfiguration config;
+  }
+
+  @Test
+  public void shouldInjectFieldsDeclaredInSuperClass() {
+    final ExtendedTestProcessor processor = victim.inject(new ExtendedTestProcessor());
+    assertNotNull(processor.config);
+    assertNotNull(((TestProcessor) processor).context);
+  }
+
   @Test(expected = WroRuntimeException.class)
   public void shouldNotInjectUnsupportedAndInitializedTypes() {
     final String initialValue = "initial";
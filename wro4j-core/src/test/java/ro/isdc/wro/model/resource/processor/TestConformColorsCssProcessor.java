@@ -6,6 +6,8 @@ package ro.isdc.wro.model.resource.processor;
 import static org.junit.Assert.assertEquals;
 
 import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 
 import org.junit.AfterClass;
@@ -53,6 +55,14 @@ public class TestConformColorsCssProcessor {
     WroTestUtils.compareFromDifferentFoldersByExtension(testFolder, expectedFolder, "css", processor);
   }
   
+  @Test
+  public void shouldConformEachColorOfShorthandProperty()
+      throws Exception {
+    final StringWriter writer = new StringWriter();
+    processor.process(null, new StringReader("a { border-color: RED navy #AbC #12345; color: reddish; }"), writer);
+    assertEquals("a { border-color: #ff0000 #000080 #aabbcc #012345; color: reddish; }", writer.toString());
+  }
+
   @Test
   public void shouldSupportCorrectResourceTypes() {
     WroTestUtils.assertProcessorSupportResourceTypes(processor, ResourceType.CSS);
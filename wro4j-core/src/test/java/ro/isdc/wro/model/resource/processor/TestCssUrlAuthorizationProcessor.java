@@ -5,6 +5,7 @@ package ro.isdc.wro.model.resource.processor;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.io.Reader;
@@ -20,10 +21,13 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import ro.isdc.wro.config.Context;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
 import ro.isdc.wro.model.group.processor.Injector;
+import ro.isdc.wro.model.group.processor.InjectorBuilder;
 import ro.isdc.wro.model.resource.Resource;
 import ro.isdc.wro.model.resource.processor.impl.css.CssUrlAuthorizationProcessor;
 import ro.isdc.wro.model.resource.processor.impl.css.CssUrlRewritingProcessor;
+import ro.isdc.wro.model.resource.support.DefaultResourceAuthorizationManager;
 import ro.isdc.wro.util.WroTestUtils;
 
 
@@ -106,6 +110,33 @@ public class TestCssUrlAuthorizationProcessor {
         });
   }
 
+  @Test
+  public void shouldKeepUrlAuthorizedWhenCssIsProcessedAfterEachReload()
+      throws Exception {
+    final DefaultResourceAuthorizationManager authManager = new DefaultResourceAuthorizationManager();
+    processor = new CssUrlAuthorizationProcessor() {
+      @Override
+      protected String getUrlPrefix() {
+        return WRO_URL_PREFIX;
+      }
+    };
+    new InjectorBuilder(new BaseWroManagerFactory().setResourceAuthorizationManager(authManager)).build().inject(
+        processor);
+    final String imageUri = "classpath:ro/isdc/wro/image.png";
+    final String css = ".a { background: url(" + WRO_URL_PREFIX + imageUri + "); }";
+    processor.process(new StringReader(css), new StringWriter());
+    assertTrue(authManager.isAuthorized(imageUri));
+    for (int i = 0; i < 2; i++) {
+      // a reload starts a new generation, the css is processed again afterwards
+      authManager.startGeneration();
+      processor.process(new StringReader(css), new StringWriter());
+      assertTrue(authManager.isAuthorized(imageUri));
+    }
+    // the url is still authorized even after a reload without processing the css again
+    authManager.startGeneration();
+    assertTrue(authManager.isAuthorized(imageUri));
+  }
+
   /**
    * @param resourceUri
    *          the resource should return.
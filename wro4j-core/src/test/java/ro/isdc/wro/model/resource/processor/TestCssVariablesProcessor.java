@@ -3,7 +3,11 @@
  */
 package ro.isdc.wro.model.resource.processor;
 
+import static org.junit.Assert.assertEquals;
+
 import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 
 import org.junit.Test;
@@ -32,6 +36,22 @@ public class TestCssVariablesProcessor {
     WroTestUtils.compareFromDifferentFoldersByExtension(testFolder, expectedFolder, "css", processor);
   }
 
+  @Test
+  public void shouldProduceSameResultWhenProcessingSameCssTwice()
+      throws Exception {
+    final String css = "@variables { color: red ; quote: \"\\201C$1\"; } a { color: var(color); } q:before { content: var(quote); } b { color: var(missing); }";
+    final String expected = " a { color: red; } q:before { content: \"\\201C$1\"; } b { color: var(missing); }";
+    assertEquals(expected, process(css));
+    assertEquals(expected, process(css));
+  }
+
+  private String process(final String css)
+      throws Exception {
+    final StringWriter writer = new StringWriter();
+    processor.process(null, new StringReader(css), writer);
+    return writer.toString();
+  }
+
   @Test
   public void shouldSupportCorrectResourceTypes() {
     WroTestUtils.assertProcessorSupportResourceTypes(processor, ResourceType.CSS);
@@ -0,0 +1,87 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.resource.processor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+
+import org.junit.Test;
+
+import ro.isdc.wro.model.resource.ResourceType;
+import ro.isdc.wro.model.resource.processor.impl.css.CssCompressorProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.FastCssCompressorProcessor;
+import ro.isdc.wro.util.Function;
+import ro.isdc.wro.util.WroTestUtils;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestFastCssCompressorProcessor {
+  private final ResourcePostProcessor victim = new FastCssCompressorProcessor();
+
+  @Test
+  public void testFromFolder()
+      throws IOException {
+    final URL url = getClass().getResource("cssCompressor");
+
+    final File testFolder = new File(url.getFile(), "test");
+    final File expectedFolder = new File(url.getFile(), "expected");
+    WroTestUtils.compareFromDifferentFoldersByExtension(testFolder, expectedFolder, "css", victim);
+  }
+
+  @Test
+  public void shouldProduceSameOutputAsCssCompressor() {
+    final ResourcePostProcessor cssCompressor = new CssCompressorProcessor();
+    final Function<File, Void> function = new Function<File, Void>() {
+      public Void apply(final File input)
+          throws Exception {
+        assertEquals(process(cssCompressor, new FileReader(input)), process(victim, new FileReader(input)));
+        return null;
+      }
+    };
+    WroTestUtils.forEachFileInFolder(new File(getClass().getResource("cssmin").getFile(), "test"), function);
+    WroTestUtils.forEachFileInFolder(new File(getClass().getResource("jawrcss").getFile(), "test"), function);
+  }
+
+  @Test
+  public void shouldKeepSpaceBeforePseudoClass()
+      throws Exception {
+    assertEquals("p :link{color:red}a:hover{margin:0}",
+        process(victim, new StringReader("p :link { color : red }\na:hover{margin:0px 0px 0px 0px}")));
+  }
+
+  @Test
+  public void shouldShortenColors()
+      throws Exception {
+    final String css = ".a{color:rgb(51, 102, 153);background:#FFFFFF;filter:chroma(color=\"#FFFFFF\")}";
+    assertEquals(".a{color:#369;background:#FFF;filter:chroma(color=\"#FFFFFF\")}",
+        process(victim, new StringReader(css)));
+  }
+
+  @Test
+  public void shouldNotReplaceColorWithNamedColor()
+      throws Exception {
+    assertEquals(".a{color:#800080}", process(victim, new StringReader(".a{color:#800080;}")));
+  }
+
+  @Test
+  public void shouldSupportCorrectResourceTypes() {
+    WroTestUtils.assertProcessorSupportResourceTypes(new FastCssCompressorProcessor(), ResourceType.CSS);
+  }
+
+  private String process(final ResourcePostProcessor processor, final Reader reader)
+      throws IOException {
+    final StringWriter writer = new StringWriter();
+    processor.process(reader, writer);
+    return writer.toString();
+  }
+}
@@ -165,6 +165,26 @@ public class TestJsMinProcessor {
     assertEquals("\nreturn/a;/.test(s);", jsmin("return /a;/.test(s);"));
   }
   
+  @Test
+  public void shouldMinimizeEmptyContent()
+      throws Exception {
+    assertEquals("", jsmin(""));
+  }
+
+  @Test
+  public void shouldNotAppendAnythingAfterTrailingSlash()
+      throws Exception {
+    assertEquals("\nvar a=b/", jsmin("var a = b /"));
+  }
+
+  @Test
+  public void shouldPreserveNonAsciiCharactersWhenProcessingCharacters()
+      throws Exception {
+    final StringWriter writer = new StringWriter();
+    processor.process(null, new StringReader("var s = '\u0103\u20AC';"), writer);
+    assertEquals("\nvar s='\u0103\u20AC';", writer.toString());
+  }
+
   @Test(expected = Exception.class)
   public void shouldFailOnInlineCommentAfterUnclosedRegexp()
       throws Exception {
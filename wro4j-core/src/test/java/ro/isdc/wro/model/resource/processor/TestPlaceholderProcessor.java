@@ -3,7 +3,11 @@
  */
 package ro.isdc.wro.model.resource.processor;
 
+import static org.junit.Assert.assertEquals;
+
 import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.util.Properties;
 
@@ -47,6 +51,35 @@ public class TestPlaceholderProcessor {
   }
   
 
+  @Test
+  public void shouldRenderSameContentWithDifferentValues()
+      throws Exception {
+    final String content = "a { color: ${color}; } b { color: ${color}; background: ${bg}; }";
+    final Properties properties = new Properties();
+    properties.setProperty("color", "red");
+    final PlaceholderProcessor processor = new PlaceholderProcessor().setPropertiesFactory(WroUtil.simpleObjectFactory(properties));
+    assertEquals("a { color: red; } b { color: red; background: ; }", process(processor, content));
+    properties.setProperty("color", "blue");
+    properties.setProperty("bg", "white");
+    assertEquals("a { color: blue; } b { color: blue; background: white; }", process(processor, content));
+  }
+
+  @Test
+  public void shouldUseValuesContainingReplacementCharactersAsTheyAre()
+      throws Exception {
+    final Properties properties = new Properties();
+    properties.setProperty("price", "$1 \\o/");
+    final PlaceholderProcessor processor = new PlaceholderProcessor().setPropertiesFactory(WroUtil.simpleObjectFactory(properties));
+    assertEquals("var price = '$1 \\o/';", process(processor, "var price = '${price}';"));
+  }
+
+  private String process(final ResourcePreProcessor processor, final String content)
+      throws Exception {
+    final StringWriter writer = new StringWriter();
+    processor.process(null, new StringReader(content), writer);
+    return writer.toString();
+  }
+
   @Test
   public void shouldSupportCorrectResourceTypes() {
     WroTestUtils.assertProcessorSupportResourceTypes(new PlaceholderProcessor(), ResourceType.CSS,
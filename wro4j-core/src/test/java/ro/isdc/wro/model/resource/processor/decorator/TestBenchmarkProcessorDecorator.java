@@ -1,8 +1,11 @@
 package ro.isdc.wro.model.resource.processor.decorator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.io.Writer;
 
 import org.junit.After;
@@ -15,8 +18,16 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
 import ro.isdc.wro.config.Context;
+import ro.isdc.wro.manager.factory.BaseWroManagerFactory;
+import ro.isdc.wro.manager.metrics.Metric;
+import ro.isdc.wro.manager.metrics.MetricsRegistry;
+import ro.isdc.wro.model.group.processor.InjectorBuilder;
 import ro.isdc.wro.model.resource.Resource;
+import ro.isdc.wro.model.resource.ResourceType;
 import ro.isdc.wro.model.resource.processor.ResourcePreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.CssDataUriPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.css.DuplicatesAwareCssDataUriPreProcessor;
+import ro.isdc.wro.model.resource.processor.impl.js.JSMinProcessor;
 import ro.isdc.wro.util.StopWatch;
 import ro.isdc.wro.util.WroTestUtils;
 
@@ -91,4 +102,40 @@ public class TestBenchmarkProcessorDecorator {
     Mockito.verify(mockBefore, Mockito.never()).run();
     Mockito.verify(mockAfter, Mockito.never()).run();
   }
+
+  @Test
+  public void shouldRecordMetricsUsingProcessorAlias()
+      throws Exception {
+    final BaseWroManagerFactory managerFactory = new BaseWroManagerFactory();
+    final MetricsRegistry metricsRegistry = managerFactory.create().getMetricsRegistry();
+    metricsRegistry.setEnabled(true);
+    victim = new BenchmarkProcessorDecorator(new JSMinProcessor());
+    InjectorBuilder.create(managerFactory).build().inject(victim);
+
+    final StringWriter writer = new StringWriter();
+    victim.process(mockResource, new StringReader("var  a = 1;"), writer);
+
+    final Metric metric = metricsRegistry.getMetric(MetricsRegistry.PREFIX_PROCESSOR + JSMinProcessor.ALIAS);
+    assertEquals(1, metric.getCount());
+    assertEquals(0, metric.getErrorCount());
+    assertEquals(11, metric.getBytesIn());
+    assertEquals(writer.toString().length(), metric.getBytesOut());
+  }
+
+  @Test
+  public void shouldNotRecordMetricsUsingAliasInheritedFromParentProcessor()
+      throws Exception {
+    final BaseWroManagerFactory managerFactory = new BaseWroManagerFactory();
+    final MetricsRegistry metricsRegistry = managerFactory.create().getMetricsRegistry();
+    metricsRegistry.setEnabled(true);
+    victim = new BenchmarkProcessorDecorator(new DuplicatesAwareCssDataUriPreProcessor());
+    InjectorBuilder.create(managerFactory).build().inject(victim);
+
+    victim.process(Resource.create("/style.css", ResourceType.CSS), new StringReader("a {}"), new StringWriter());
+
+    assertFalse(metricsRegistry.getMetrics().containsKey(
+        MetricsRegistry.PREFIX_PROCESSOR + CssDataUriPreProcessor.ALIAS));
+    assertEquals(1, metricsRegistry.getMetric(
+        MetricsRegistry.PREFIX_PROCESSOR + DuplicatesAwareCssDataUriPreProcessor.class.getSimpleName()).getCount());
+  }
 }
@@ -0,0 +1,56 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.model.resource.processor.support;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ro.isdc.wro.util.ObjectFactory;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestContentCache {
+  private ContentCache<String> victim;
+  private AtomicInteger createCount;
+
+  @Before
+  public void setUp() {
+    victim = new ContentCache<String>(2, 5);
+    createCount = new AtomicInteger();
+  }
+
+  private ObjectFactory<String> createFactory(final String content) {
+    return new ObjectFactory<String>() {
+      public String create() {
+        createCount.incrementAndGet();
+        return content.toUpperCase();
+      }
+    };
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void cannotGetValueOfNullContent() {
+    victim.get(null, createFactory(""));
+  }
+
+  @Test
+  public void shouldComputeValueOfSameContentOnce() {
+    assertEquals("ABC", victim.get("abc", createFactory("abc")));
+    assertEquals("ABC", victim.get(new String("abc"), createFactory("abc")));
+    assertEquals(1, createCount.get());
+  }
+
+  @Test
+  public void shouldNotCacheValueOfLongContent() {
+    victim.get("abcdef", createFactory("abcdef"));
+    assertEquals("ABCDEF", victim.get("abcdef", createFactory("abcdef")));
+    assertEquals(2, createCount.get());
+  }
+}
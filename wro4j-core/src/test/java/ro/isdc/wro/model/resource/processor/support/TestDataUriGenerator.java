@@ -1,6 +1,8 @@
 package ro.isdc.wro.model.resource.processor.support;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -11,6 +13,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import ro.isdc.wro.config.Context;
+import ro.isdc.wro.util.Base64;
 import ro.isdc.wro.util.WroTestUtils;
 
 
@@ -41,6 +44,38 @@ public class TestDataUriGenerator {
     assertEquals(expected, actual);
   }
   
+  @Test
+  public void shouldReuseDataUriOfImagesWithSameContent()
+      throws Exception {
+    final byte[] bytes = "sameContent".getBytes();
+    final String dataUri = dataUriGenerator.generateDataURI(bytes, "first.png");
+    assertSame(dataUri, new DataUriGenerator().generateDataURI(bytes.clone(), "second.png"));
+  }
+
+  @Test
+  public void shouldNotCacheDataUriOfLargeImages()
+      throws Exception {
+    final byte[] bytes = new byte[32 * 1024];
+    final String dataUri = dataUriGenerator.generateDataURI(bytes, "large.png");
+    final String other = dataUriGenerator.generateDataURI(bytes, "large.png");
+    assertEquals(dataUri, other);
+    assertNotSame(dataUri, other);
+  }
+
+  @Test
+  public void shouldEncodeContentLargerThanEncodingChunk()
+      throws Exception {
+    final byte[] bytes = new byte[10000];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    final String expected = "data:image/gif;base64," + Base64.encodeBytes(bytes);
+    final String actual = dataUriGenerator.generateDataURI(bytes, "large.gif");
+    assertEquals(expected, actual);
+    assertEquals(actual.length() - "data:image/gif;base64,".length(), DataUriGenerator.getEncodedLength(bytes.length));
+    assertEquals(actual.length(), dataUriGenerator.getDataUriLength(bytes.length, "large.gif"));
+  }
+
   @Ignore("This pass on Unix and fails on Windows")
   @Test
   public void shouldGenerateCorrectDataURIForCSSWithCharset()
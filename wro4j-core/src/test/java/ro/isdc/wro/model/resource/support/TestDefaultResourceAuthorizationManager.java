@@ -74,4 +74,25 @@ public class TestDefaultResourceAuthorizationManager {
     victim.add("classpath:META-INF/resources/fonts/glyphicons-halflings-regular.eot");
     assertTrue(victim.isAuthorized("classpath:META-INF/resources/fonts/glyphicons-halflings-regular.eot?#iefix"));
   }
+
+  @Test
+  public void shouldAuthorizeResourcesOfPreviousGeneration() {
+    victim.add("/old.png");
+    victim.startGeneration();
+    victim.add("/new.png");
+    assertTrue(victim.isAuthorized("/old.png"));
+    assertTrue(victim.isAuthorized("/new.png"));
+    assertEquals(2, victim.list().size());
+    victim.startGeneration();
+    assertFalse(victim.isAuthorized("/old.png"));
+    assertTrue(victim.isAuthorized("/new.png"));
+  }
+
+  @Test
+  public void shouldNotDiscardPreviousGenerationWhenCurrentGenerationIsEmpty() {
+    victim.add("/old.png");
+    victim.startGeneration();
+    victim.startGeneration();
+    assertTrue(victim.isAuthorized("/old.png"));
+  }
 }
@@ -18,6 +18,7 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import ro.isdc.wro.cache.CacheValue;
 import ro.isdc.wro.config.Context;
 import ro.isdc.wro.util.WroTestUtils;
 import ro.isdc.wro.util.WroUtil;
@@ -87,4 +88,20 @@ public class TestDefaultHashEncoderNamingStrategy {
         new ByteArrayInputStream("someContent".getBytes()));
     assertEquals("folder1/folder2/resource-99ef8ae827896f2af4032d5dab9298ec86309abf.css", result);
   }
+
+  @Test
+  public void shouldReusePrecomputedHashOfBundle()
+      throws Exception {
+    final String result = ((HashAwareNamingStrategy) namingStrategy).renameBundle("anotherFile.js",
+        CacheValue.valueOf("someContent", "precomputedHash"));
+    assertEquals("anotherFile-precomputedHash.js", result);
+  }
+
+  @Test
+  public void shouldComputeHashOfBundleWhenMissing()
+      throws Exception {
+    final String result = ((HashAwareNamingStrategy) namingStrategy).renameBundle("anotherFile.js",
+        CacheValue.valueOf("someContent", null));
+    assertEquals(namingStrategy.rename("anotherFile.js", new ByteArrayInputStream("someContent".getBytes())), result);
+  }
 }
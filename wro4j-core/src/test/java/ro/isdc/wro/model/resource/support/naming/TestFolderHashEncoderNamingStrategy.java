@@ -17,6 +17,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import ro.isdc.wro.cache.CacheValue;
 import ro.isdc.wro.config.Context;
 import ro.isdc.wro.util.WroTestUtils;
 import ro.isdc.wro.util.WroUtil;
@@ -76,4 +77,20 @@ public class TestFolderHashEncoderNamingStrategy {
         new ByteArrayInputStream("someContent".getBytes()));
     assertEquals("99ef8ae827896f2af4032d5dab9298ec86309abf/folder1/folder2/resource.css", result);
   }
+
+  @Test
+  public void shouldReusePrecomputedHashOfBundle()
+      throws Exception {
+    final String result = ((HashAwareNamingStrategy) namingStrategy).renameBundle("anotherFile.js",
+        CacheValue.valueOf("someContent", "precomputedHash"));
+    assertEquals("precomputedHash/anotherFile.js", result);
+  }
+
+  @Test
+  public void shouldComputeHashOfBundleWhenMissing()
+      throws Exception {
+    final String result = ((HashAwareNamingStrategy) namingStrategy).renameBundle("anotherFile.js",
+        CacheValue.valueOf("someContent", null));
+    assertEquals(namingStrategy.rename("anotherFile.js", new ByteArrayInputStream("someContent".getBytes())), result);
+  }
 }
@@ -165,6 +165,31 @@ public class TestWroUtil {
     assertFalse(WroUtil.matchesUrl(request, "wroApi/test"));
   }
 
+  @Test
+  public void shouldMatchUrlIgnoringCaseAndTrailingSlash() {
+    final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(request.getRequestURI()).thenReturn("/context/WROAPI/test/");
+
+    assertTrue(WroUtil.matchesUrl(request, "wroApi/test"));
+    assertFalse(WroUtil.matchesUrl(request, "wroApi/tes"));
+    assertFalse(WroUtil.matchesUrl(request, "wroApi/test/other"));
+  }
+
+  @Test
+  public void shouldMatchUrlUsingRegexPath() {
+    final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(request.getRequestURI()).thenReturn("/context/wroApi/test");
+
+    assertTrue(WroUtil.matchesUrl(request, "wroApi/t.st"));
+    assertFalse(WroUtil.matchesUrl(request, "wroApi/t.s"));
+  }
+
+  @Test
+  public void shouldNotMatchNullUrl() {
+    final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    assertFalse(WroUtil.matchesUrl(request, "wroApi/test"));
+  }
+
   @Test
   public void shouldCreateMultiLineFromNullString() {
     assertEquals("[].join(\"\\n\")", WroUtil.toJSMultiLineString(null));
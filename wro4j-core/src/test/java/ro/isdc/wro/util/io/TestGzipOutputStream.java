@@ -0,0 +1,125 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.util.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestGzipOutputStream {
+  private DeflaterPool deflaterPool;
+
+  @Before
+  public void setUp() {
+    deflaterPool = new DeflaterPool(1, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  @After
+  public void tearDown() {
+    deflaterPool.destroy();
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void cannotAcceptNullPool()
+      throws Exception {
+    new GzipOutputStream(new ByteArrayOutputStream(), null);
+  }
+
+  @Test
+  public void shouldProduceValidGzipContent()
+      throws Exception {
+    final byte[] content = new byte[100000];
+    new Random(1).nextBytes(content);
+    assertEquals(content.length, gunzip(gzip(content)).length);
+    assertEquals(new String(content, "ISO-8859-1"), new String(gunzip(gzip(content)), "ISO-8859-1"));
+  }
+
+  @Test
+  public void shouldGzipEmptyContent()
+      throws Exception {
+    assertEquals(0, gunzip(gzip(new byte[0])).length);
+  }
+
+  @Test
+  public void shouldReuseReleasedDeflater()
+      throws Exception {
+    gzip("first".getBytes());
+    assertEquals(1, deflaterPool.getIdleCount());
+    assertEquals("second", new String(gunzip(gzip("second".getBytes()))));
+    assertEquals(1, deflaterPool.getIdleCount());
+  }
+
+  @Test
+  public void shouldNotKeepMoreThanMaxIdleDeflaters() {
+    final Deflater first = deflaterPool.acquire();
+    final Deflater second = deflaterPool.acquire();
+    deflaterPool.release(first);
+    deflaterPool.release(second);
+    assertEquals(1, deflaterPool.getIdleCount());
+    deflaterPool.destroy();
+    assertEquals(0, deflaterPool.getIdleCount());
+  }
+
+  @Test
+  public void shouldReleaseDeflaterWhenAborted()
+      throws Exception {
+    final GzipOutputStream os = new GzipOutputStream(new ByteArrayOutputStream(), deflaterPool);
+    os.write("content".getBytes());
+    os.abort();
+    assertEquals(1, deflaterPool.getIdleCount());
+    // closing after abort has no effect
+    os.close();
+    assertEquals(1, deflaterPool.getIdleCount());
+  }
+
+  @Test
+  public void shouldReleaseDeflaterWhenHeaderCannotBeWritten()
+      throws Exception {
+    final OutputStream failingStream = new OutputStream() {
+      @Override
+      public void write(final int b)
+          throws IOException {
+        throw new IOException("BOOM");
+      }
+    };
+    try {
+      new GzipOutputStream(failingStream, deflaterPool);
+      fail("Should have failed");
+    } catch (final IOException e) {
+      assertEquals(1, deflaterPool.getIdleCount());
+    }
+  }
+
+  private byte[] gzip(final byte[] content)
+      throws Exception {
+    final ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+    final OutputStream os = new GzipOutputStream(gzipped, deflaterPool);
+    os.write(content);
+    os.close();
+    // closing twice has no effect
+    os.close();
+    return gzipped.toByteArray();
+  }
+
+  private byte[] gunzip(final byte[] content)
+      throws Exception {
+    return IOUtils.toByteArray(new GZIPInputStream(new ByteArrayInputStream(content)));
+  }
+}
@@ -20,6 +20,7 @@ import ro.isdc.wro.manager.factory.standalone.StandaloneContext;
 import ro.isdc.wro.model.WroModel;
 import ro.isdc.wro.model.factory.AbstractWroModelFactory;
 import ro.isdc.wro.model.factory.LazyWroModelFactoryDecorator;
+import ro.isdc.wro.model.factory.ModelFingerprintAware;
 import ro.isdc.wro.model.factory.WroModelFactory;
 import ro.isdc.wro.model.factory.XmlModelFactory;
 import ro.isdc.wro.model.group.Inject;
@@ -209,6 +210,27 @@ public class SmartWroModelFactory
     throw new WroRuntimeException("Cannot create model using any of provided factories");
   }
 
+  /**
+   * The fingerprint of the first factory able to compute it, which is the factory used to create the model (its sources
+   * are available).
+   */
+  @Override
+  public String getModelFingerprint() {
+    if (factoryList == null) {
+      factoryList = newWroModelFactoryFactoryList();
+    }
+    for (final WroModelFactory factory : factoryList) {
+      if (factory instanceof ModelFingerprintAware) {
+        injector.inject(factory);
+        final String fingerprint = ((ModelFingerprintAware) factory).getModelFingerprint();
+        if (fingerprint != null) {
+          return getClassName(factory.getClass()) + ":" + fingerprint;
+        }
+      }
+    }
+    return null;
+  }
+
   /**
    * @return string representation of the factory name.
    */
@@ -2,18 +2,17 @@ package ro.isdc.wro.extensions.model.resource;
 
 import static org.apache.commons.lang3.Validate.notNull;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
-import org.springframework.util.AntPathMatcher;
-
+import ro.isdc.wro.extensions.support.AntPathPatternSet;
 import ro.isdc.wro.model.resource.support.ResourceAuthorizationManager;
 import ro.isdc.wro.util.WroUtil;
 
 
 /**
  * An implementation of {@link ResourceAuthorizationManager} which authorize the uri based on configured list of uri's
- * matched using antPath support.
+ * matched using antPath support. The patterns are compiled into an {@link AntPathPatternSet} when they are set.
  *
  * @author Alex Objelean
  * @since 1.5.0
@@ -21,17 +20,11 @@ import ro.isdc.wro.util.WroUtil;
  */
 public class ConfigurableAntPathPatternsResourceAuthorizationManager
     implements ResourceAuthorizationManager {
-  private final AntPathMatcher matcher = new AntPathMatcher();
-  private List<String> patterns = new ArrayList<String>();
+  private AntPathPatternSet patterns = new AntPathPatternSet(Collections.<String> emptyList());
 
   @Override
   public boolean isAuthorized(final String uri) {
-    for (final String pattern : patterns) {
-      if (matcher.match(pattern, WroUtil.removeQueryString(uri))) {
-        return true;
-      }
-    }
-    return false;
+    return patterns.matches(WroUtil.removeQueryString(uri));
   }
 
   /**
@@ -39,6 +32,6 @@ public class ConfigurableAntPathPatternsResourceAuthorizationManager
    */
   public void setPatterns(final List<String> list) {
     notNull(list);
-    this.patterns = list;
+    this.patterns = new AntPathPatternSet(list);
   }
 }
@@ -9,17 +9,17 @@ import java.util.Arrays;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.AntPathMatcher;
 
 import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.extensions.support.AntPathPatternSet;
 import ro.isdc.wro.model.resource.Resource;
 import ro.isdc.wro.model.resource.processor.decorator.ProcessorDecorator;
 import ro.isdc.wro.util.WroUtil;
 
 
 /**
- * A {@link ProcessorDecorator} with Ant path style support. This processor requires AntPathMatcher provided by spring
- * framework.
+ * A {@link ProcessorDecorator} with Ant path style support. The patterns are compiled once into an
+ * {@link AntPathPatternSet}, which matches the uri of each processed resource against all patterns at once.
  * <p/>
  * The implementation is inspired from <a href="https://github.com/jknack/modern-web-app">mwa</a> project created by
  * Edgar Espina.
@@ -37,9 +37,9 @@ public final class PathPatternProcessorDecorator
   private final String[] patterns;
 
   /**
-   * The path matcher.
+   * The compiled patterns.
    */
-  private final AntPathMatcher matcher;
+  private final AntPathPatternSet patternSet;
 
   /**
    * Shall we include paths?
@@ -58,8 +58,8 @@ public final class PathPatternProcessorDecorator
     super(processor);
     notEmpty(patterns, "A pattern set is required.");
     this.includes = includes;
-    matcher = new AntPathMatcher();
     this.patterns = patterns;
+    patternSet = new AntPathPatternSet(Arrays.asList(patterns));
     LOG.debug("{} patterns {}", includes ? "include" : "exclude", Arrays.toString(patterns));
   }
   
@@ -99,31 +99,11 @@ public final class PathPatternProcessorDecorator
     if (resource != null) {
       final String uri = resource.getUri();
       LOG.debug("matching uri: {}", uri);
-      if (includes) {
-        // Match (p1 OR p2 OR .. pn)
-        for (String pattern : patterns) {
-          if (matcher.match(pattern, uri)) {
-            LOG.debug("Processing resource: {}. Match found: {}",
-                uri, toString());
-            getDecoratedObject().process(resource, reader, writer);
-            return;
-          }
-        }
-      } else {
-        boolean process = true;
-        // Match !(p1 AND p2 AND .. pn)
-        for (String pattern : patterns) {
-          if (matcher.match(pattern, uri)) {
-            process = false;
-            break;
-          }
-        }
-        if (process) {
-          LOG.debug("Processing resource: {}. Match found: {}", uri,
-              toString());
-          getDecoratedObject().process(resource, reader, writer);
-          return;
-        }
+      // includes: match (p1 OR p2 OR .. pn), excludes: match !(p1 OR p2 OR .. pn)
+      if (patternSet.matches(uri) == includes) {
+        LOG.debug("Processing resource: {}. Match found: {}", uri, toString());
+        getDecoratedObject().process(resource, reader, writer);
+        return;
       }
       LOG.debug("Skipping {} from {}. No match found: {}", new Object[] {
           uri, getDecoratedObject(), toString() });
@@ -0,0 +1,263 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.extensions.support;
+
+import static org.apache.commons.lang3.Validate.notNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import ro.isdc.wro.cache.CacheStrategy;
+import ro.isdc.wro.cache.impl.LruMemoryCacheStrategy;
+
+
+/**
+ * A set of Ant path patterns, matched the same way as spring's <code>AntPathMatcher</code> does. The patterns are
+ * compiled into a single trie of path segments, thus a path is matched against all patterns in a single pass over its
+ * segments, instead of being matched against each pattern. Since the same paths are usually matched many times, the
+ * result is cached per path in a bounded cache.
+ * <p/>
+ * Instances are immutable (except the cache, which is thread-safe), thus can be shared between threads.
+ *
+ * @author Alex Objelean
+ * @since 1.7.9
+ */
+public final class AntPathPatternSet {
+  private static final String SEPARATOR = "/";
+  /**
+   * A segment matching zero or more path segments.
+   */
+  private static final String ANY_PATH = "**";
+  private static final String ANY_SEGMENT = "*";
+  /**
+   * The same pattern used by spring to translate a segment into a regular expression.
+   */
+  private static final Pattern GLOB_PATTERN = Pattern.compile("\\?|\\*|\\{((?:\\{[^/]+?\\}|[^/{}]|\\\\[{}])+?)\\}");
+  private static final int CACHE_SIZE = 1000;
+  /**
+   * Root of the patterns starting with a separator. A path starting with a separator can match only these patterns.
+   */
+  private final Node absoluteRoot = new Node(null, false);
+  private final Node relativeRoot = new Node(null, false);
+  private final CacheStrategy<String, Boolean> cache = new LruMemoryCacheStrategy<String, Boolean>(CACHE_SIZE);
+
+  /**
+   * A node of the trie, reached after matching a path segment.
+   */
+  private static final class Node {
+    private final Map<String, Node> literalChildren = new HashMap<String, Node>();
+    private final List<Node> wildcardChildren = new ArrayList<Node>();
+    private Node anyPathChild;
+    /**
+     * The pattern of the segment matched by this node, or null if the node is not a wildcard child.
+     */
+    private final Pattern segmentPattern;
+    /**
+     * True if this node matches any number of segments.
+     */
+    private final boolean anyPath;
+    /**
+     * A pattern without <code>**</code> segments, not ending with separator, ends here.
+     */
+    private boolean end;
+    /**
+     * A pattern without <code>**</code> segments, ending with separator, ends here.
+     */
+    private boolean endWithSeparator;
+    /**
+     * A pattern containing <code>**</code> segments ends here.
+     */
+    private boolean endOfAnyPathPattern;
+    /**
+     * A pattern without <code>**</code> segments ends with a <code>*</code> child of this node. Such pattern
+     * matches a path ending here, if the path ends with separator (ex: <code>/a/*</code> matches <code>/a/</code>).
+     */
+    private boolean endWithAnySegmentChild;
+
+    Node(final Pattern segmentPattern, final boolean anyPath) {
+      this.segmentPattern = segmentPattern;
+      this.anyPath = anyPath;
+    }
+
+    Node getOrCreateChild(final String segment) {
+      if (ANY_PATH.equals(segment)) {
+        if (anyPathChild == null) {
+          anyPathChild = new Node(null, true);
+        }
+        return anyPathChild;
+      }
+      if (!isWildcard(segment)) {
+        Node child = literalChildren.get(segment);
+        if (child == null) {
+          child = new Node(null, false);
+          literalChildren.put(segment, child);
+        }
+        return child;
+      }
+      final Pattern pattern = compileSegment(segment);
+      for (final Node child : wildcardChildren) {
+        if (child.segmentPattern.pattern().equals(pattern.pattern())) {
+          return child;
+        }
+      }
+      final Node child = new Node(pattern, false);
+      wildcardChildren.add(child);
+      return child;
+    }
+  }
+
+  /**
+   * @param patterns
+   *          the ant path patterns to compile.
+   */
+  public AntPathPatternSet(final Collection<String> patterns) {
+    notNull(patterns);
+    for (final String pattern : patterns) {
+      add(pattern);
+    }
+  }
+
+  private void add(final String pattern) {
+    notNull(pattern);
+    final String[] segments = tokenize(pattern);
+    boolean containsAnyPath = false;
+    for (final String segment : segments) {
+      containsAnyPath |= ANY_PATH.equals(segment);
+    }
+    Node parent = null;
+    Node node = pattern.startsWith(SEPARATOR) ? absoluteRoot : relativeRoot;
+    for (final String segment : segments) {
+      parent = node;
+      node = node.getOrCreateChild(segment);
+    }
+    if (containsAnyPath) {
+      node.endOfAnyPathPattern = true;
+    } else {
+      if (pattern.endsWith(SEPARATOR)) {
+        node.endWithSeparator = true;
+      } else {
+        node.end = true;
+      }
+      if (parent != null && ANY_SEGMENT.equals(segments[segments.length - 1])) {
+        parent.endWithAnySegmentChild = true;
+      }
+    }
+  }
+
+  /**
+   * @param path
+   *          the path to match.
+   * @return true if the path matches at least one of the patterns.
+   */
+  public boolean matches(final String path) {
+    notNull(path);
+    Boolean result = cache.get(path);
+    if (result == null) {
+      result = doMatch(path);
+      cache.put(path, result);
+    }
+    return result;
+  }
+
+  private boolean doMatch(final String path) {
+    List<Node> states = new ArrayList<Node>();
+    addState(states, path.startsWith(SEPARATOR) ? absoluteRoot : relativeRoot);
+    for (final String segment : tokenize(path)) {
+      final List<Node> nextStates = new ArrayList<Node>();
+      for (final Node node : states) {
+        if (node.anyPath) {
+          addState(nextStates, node);
+        }
+        final Node literalChild = node.literalChildren.get(segment);
+        if (literalChild != null) {
+          addState(nextStates, literalChild);
+        }
+        for (final Node child : node.wildcardChildren) {
+          if (child.segmentPattern.matcher(segment).matches()) {
+            addState(nextStates, child);
+          }
+        }
+      }
+      if (nextStates.isEmpty()) {
+        return false;
+      }
+      states = nextStates;
+    }
+    final boolean endsWithSeparator = path.endsWith(SEPARATOR);
+    for (final Node node : states) {
+      if (node.endOfAnyPathPattern
+          || (endsWithSeparator ? node.endWithSeparator || node.endWithAnySegmentChild : node.end)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds the node and the nodes reachable without matching any segment.
+   */
+  private static void addState(final List<Node> states, final Node node) {
+    if (!states.contains(node)) {
+      states.add(node);
+      if (node.anyPathChild != null) {
+        addState(states, node.anyPathChild);
+      }
+    }
+  }
+
+  /**
+   * Splits the path into trimmed, non empty segments.
+   */
+  private static String[] tokenize(final String path) {
+    final List<String> segments = new ArrayList<String>();
+    final StringTokenizer tokenizer = new StringTokenizer(path, SEPARATOR);
+    while (tokenizer.hasMoreTokens()) {
+      final String segment = tokenizer.nextToken().trim();
+      if (segment.length() > 0) {
+        segments.add(segment);
+      }
+    }
+    return segments.toArray(new String[segments.size()]);
+  }
+
+  private static boolean isWildcard(final String segment) {
+    return segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0;
+  }
+
+  /**
+   * Translates the segment into a regular expression: <code>?</code> matches one character, <code>*</code> matches
+   * zero or more characters and <code>{name}</code> or <code>{name:regex}</code> matches an uri template variable.
+   */
+  private static Pattern compileSegment(final String segment) {
+    final StringBuilder regex = new StringBuilder();
+    final Matcher matcher = GLOB_PATTERN.matcher(segment);
+    int end = 0;
+    while (matcher.find()) {
+      regex.append(quote(segment, end, matcher.start()));
+      final String match = matcher.group();
+      if ("?".equals(match)) {
+        regex.append('.');
+      } else if ("*".equals(match)) {
+        regex.append(".*");
+      } else {
+        final int colonIndex = match.indexOf(':');
+        regex.append('(').append(colonIndex == -1 ? ".*" : match.substring(colonIndex + 1, match.length() - 1)).append(
+            ')');
+      }
+      end = matcher.end();
+    }
+    regex.append(quote(segment, end, segment.length()));
+    return Pattern.compile(regex.toString());
+  }
+
+  private static String quote(final String value, final int start, final int end) {
+    return start == end ? "" : Pattern.quote(value.substring(start, end));
+  }
+}
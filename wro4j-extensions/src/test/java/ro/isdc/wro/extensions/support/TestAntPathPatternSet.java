@@ -0,0 +1,61 @@
+/**
+ * Copyright Alex Objelean
+ */
+package ro.isdc.wro.extensions.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.util.AntPathMatcher;
+
+
+/**
+ * @author Alex Objelean
+ */
+public class TestAntPathPatternSet {
+  private static final List<String> PATTERNS = Arrays.asList("/static/**/*.js", "/css/*.css", "/img/?.png",
+      "/a/*", "/dir/", "classpath:com/site/**", "/**/{name:[a-c]+}.less", "/x/**/y/**/z");
+  private static final List<String> PATHS = Arrays.asList("/static/app.js", "/static/a/b/app.js", "/static/app.css",
+      "/css/main.css", "/css/a/main.css", "/img/a.png", "/img/ab.png", "/a/", "/a", "/a/b", "/a/b/", "/dir",
+      "/dir/", "classpath:com/site/a/b.js", "com/site/a.js", "/abc.less", "/d/e/cab.less", "/d.less", "/x/y/z",
+      "/x/1/y/2/3/z", "/x/z", "//static//app.js", "");
+
+  @Test(expected = NullPointerException.class)
+  public void cannotCreateWithNullPatterns() {
+    new AntPathPatternSet(null);
+  }
+
+  @Test
+  public void shouldNotMatchAnythingWhenNoPatternsAreProvided() {
+    assertFalse(new AntPathPatternSet(Collections.<String> emptyList()).matches("/any"));
+  }
+
+  @Test
+  public void shouldMatchSameAsSpringAntPathMatcher() {
+    final AntPathPatternSet victim = new AntPathPatternSet(PATTERNS);
+    final AntPathMatcher matcher = new AntPathMatcher();
+    for (final String path : PATHS) {
+      boolean expected = false;
+      for (final String pattern : PATTERNS) {
+        expected |= matcher.match(pattern, path);
+      }
+      assertEquals("matching " + path, expected, victim.matches(path));
+      // cached result
+      assertEquals("matching " + path, expected, victim.matches(path));
+    }
+  }
+
+  @Test
+  public void shouldMatchAnyPathSegmentsCount() {
+    final AntPathPatternSet victim = new AntPathPatternSet(Arrays.asList("/a/**/b"));
+    assertTrue(victim.matches("/a/b"));
+    assertTrue(victim.matches("/a/1/2/b/"));
+    assertFalse(victim.matches("/a/1/2/c"));
+  }
+}
@@ -3,13 +3,14 @@
  */
 package ro.isdc.wro.maven.plugin;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Properties;
@@ -21,19 +22,22 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.AutoCloseInputStream;
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.mockito.Mockito;
 
+import ro.isdc.wro.WroRuntimeException;
+import ro.isdc.wro.cache.CacheKey;
+import ro.isdc.wro.cache.CacheValue;
 import ro.isdc.wro.config.Context;
 import ro.isdc.wro.config.jmx.WroConfiguration;
-import ro.isdc.wro.http.support.DelegatingServletOutputStream;
+import ro.isdc.wro.manager.WroManager;
 import ro.isdc.wro.maven.plugin.support.AggregatedFolderPathResolver;
 import ro.isdc.wro.model.resource.ResourceType;
 import ro.isdc.wro.model.resource.locator.ServletContextUriLocator;
+import ro.isdc.wro.model.resource.support.naming.HashAwareNamingStrategy;
+import ro.isdc.wro.model.resource.support.naming.NamingStrategy;
 import ro.isdc.wro.util.StopWatch;
-import ro.isdc.wro.util.io.UnclosableBufferedInputStream;
 
 
 /**
@@ -193,18 +197,29 @@ public class Wro4jMojo
   }
 
   /**
-   * Encodes a version using some logic.
+   * Encodes a version using some logic. When the naming strategy supports it, the hash already computed for the cached
+   * bundle is reused, otherwise the content is read again in order to compute the version. The cached hash is computed
+   * from the content encoded with the platform charset, thus it is reused only when the bundle is written using the
+   * same charset (otherwise the name would not be the hash of the written file).
    *
    * @param group
    *          the name of the resource to encode.
-   * @param input
-   *          the stream of the result content.
+   * @param cacheValue
+   *          the processed bundle.
+   * @param content
+   *          the encoded content of the processed bundle, as written to the file.
+   * @param encoding
+   *          the charset used to encode the content.
    * @return the name of the resource with the version encoded.
    */
-  private String rename(final String group, final InputStream input)
+  private String rename(final String group, final CacheValue cacheValue, final byte[] content, final String encoding)
       throws Exception {
     try {
-      final String newName = getManagerFactory().create().getNamingStrategy().rename(group, input);
+      final NamingStrategy namingStrategy = getManagerFactory().create().getNamingStrategy();
+      final boolean reuseHash = namingStrategy instanceof HashAwareNamingStrategy
+          && Charset.forName(encoding).equals(Charset.defaultCharset());
+      final String newName = reuseHash ? ((HashAwareNamingStrategy) namingStrategy).renameBundle(group, cacheValue)
+          : namingStrategy.rename(group, new ByteArrayInputStream(content));
       groupNames.setProperty(group, newName);
       return newName;
     } catch (final IOException e) {
@@ -251,61 +266,53 @@ public class Wro4jMojo
    */
   private void processGroup(final String group, final File parentFoder)
       throws Exception {
-    ByteArrayOutputStream resultOutputStream = null;
-    InputStream resultInputStream = null;
-    try {
-      getLog().info("processing group: " + group);
-
-      // mock request
-      final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
-      Mockito.when(request.getContextPath()).thenReturn(normalizeContextPath(contextPath));
-      Mockito.when(request.getRequestURI()).thenReturn(group);
-      // mock response
-      final HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
-      resultOutputStream = new ByteArrayOutputStream();
-      Mockito.when(response.getOutputStream()).thenReturn(new DelegatingServletOutputStream(resultOutputStream));
+    getLog().info("processing group: " + group);
 
-      // init context
-      final WroConfiguration config = Context.get().getConfig();
-      // the maven plugin should ignore empty groups, since it will try to process all types of resources.
-      config.setIgnoreEmptyGroup(true);
-      Context.set(Context.webContext(request, response, Mockito.mock(FilterConfig.class)), config);
+    // mock request
+    final HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(request.getContextPath()).thenReturn(normalizeContextPath(contextPath));
+    Mockito.when(request.getRequestURI()).thenReturn(group);
+    // mock response
+    final HttpServletResponse response = Mockito.mock(HttpServletResponse.class);
 
-      Context.get().setAggregatedFolderPath(getAggregatedPathResolver().resolve());
-      // perform processing
-      getManagerFactory().create().process();
-      // encode version & write result to file
-      resultInputStream = new UnclosableBufferedInputStream(resultOutputStream.toByteArray());
-      final File destinationFile = new File(parentFoder, rename(group, resultInputStream));
-      final File parentFolder = destinationFile.getParentFile();
-      if (!parentFolder.exists()) {
-        // make directories if required
-        parentFolder.mkdirs();
-      }
-      destinationFile.createNewFile();
-      // allow the same stream to be read again
-      resultInputStream.reset();
-      getLog().debug("Created file: " + destinationFile.getName());
+    // init context
+    final WroConfiguration config = Context.get().getConfig();
+    // the maven plugin should ignore empty groups, since it will try to process all types of resources.
+    config.setIgnoreEmptyGroup(true);
+    Context.set(Context.webContext(request, response, Mockito.mock(FilterConfig.class)), config);
 
-      final OutputStream fos = new FileOutputStream(destinationFile);
-      // use reader to detect encoding
-      IOUtils.copy(resultInputStream, fos);
-      fos.close();
+    Context.get().setAggregatedFolderPath(getAggregatedPathResolver().resolve());
+    // perform processing: the processed bundle holds both the content and its hash, so there is no need to buffer the
+    // response and to read it again when the version is encoded.
+    final WroManager manager = getManagerFactory().create();
+    final CacheKey cacheKey = manager.getCacheKeyFactory().create(request);
+    if (cacheKey == null) {
+      throw new WroRuntimeException("Cannot build valid CacheKey from request: " + request.getRequestURI());
+    }
+    final CacheValue cacheValue = manager.getCacheStrategy().get(cacheKey);
+    final String rawContent = cacheValue.getRawContent();
+    final byte[] content = rawContent == null ? new byte[0] : rawContent.getBytes(config.getEncoding());
+    // encode version & write result to file
+    final File destinationFile = new File(parentFoder, rename(group, cacheValue, content, config.getEncoding()));
+    final File parentFolder = destinationFile.getParentFile();
+    if (!parentFolder.exists()) {
+      // make directories if required
+      parentFolder.mkdirs();
+    }
+    if (content.length == 0) {
+      getLog().debug("No content found for group: " + group);
       // delete empty files
-      if (destinationFile.length() == 0) {
-        getLog().debug("No content found for group: " + group);
-        destinationFile.delete();
-      } else {
-        getLog().info("file size: " + destinationFile.getName() + " -> " + destinationFile.length() + " bytes");
-        getLog().info(destinationFile.getAbsolutePath() + " (" + destinationFile.length() + " bytes" + ")");
-      }
-    } finally {
-      if (resultOutputStream != null) {
-        resultOutputStream.close();
-      }
-      if (resultInputStream != null) {
-        resultInputStream.close();
+      destinationFile.delete();
+    } else {
+      final OutputStream fos = new FileOutputStream(destinationFile);
+      try {
+        fos.write(content);
+      } finally {
+        IOUtils.closeQuietly(fos);
       }
+      getLog().debug("Created file: " + destinationFile.getName());
+      getLog().info("file size: " + destinationFile.getName() + " -> " + destinationFile.length() + " bytes");
+      getLog().info(destinationFile.getAbsolutePath() + " (" + destinationFile.length() + " bytes" + ")");
     }
   }
 